@@ -93,6 +93,71 @@ public class SystemProperties {
                     return Boolean.valueOf(booleanAsString);
                 }
 
+                @Override
+                public String buildForJvm(String propertyValue) {
+                    return "-D" + name + "=" + propertyValue;
+                }
+            };
+
+    public static final SystemProperty<Integer> MAX_CAPTURED_SQL_PARAMETER_SIZE =
+            new SystemProperty<Integer>() {
+
+                private final String name = "quickPerfMaxCapturedSqlParameterSize";
+
+                private static final int DEFAULT_MAX_SIZE = 1024;
+
+                @Override
+                public Integer evaluate() {
+                    String maxSizeAsString = System.getProperty(name);
+                    if (maxSizeAsString == null) {
+                        return DEFAULT_MAX_SIZE;
+                    }
+                    try {
+                        return Integer.valueOf(maxSizeAsString.trim());
+                    } catch (NumberFormatException e) {
+                        return DEFAULT_MAX_SIZE;
+                    }
+                }
+
+                @Override
+                public String buildForJvm(String propertyValue) {
+                    return "-D" + name + "=" + propertyValue;
+                }
+            };
+
+    public static final SystemProperty<Boolean> UPDATE_PERF_BASELINES =
+            new SystemProperty<Boolean>() {
+
+                private final String name = "updateQuickPerfBaselines";
+
+                @Override
+                public Boolean evaluate() {
+                    String booleanAsString = System.getProperty(name);
+                    return Boolean.valueOf(booleanAsString);
+                }
+
+                @Override
+                public String buildForJvm(String propertyValue) {
+                    return "-D" + name + "=" + propertyValue;
+                }
+            };
+
+    public static final SystemProperty<String> PERF_BASELINE_FILE =
+            new SystemProperty<String>() {
+
+                private final String name = "quickPerfBaselineFile";
+
+                private static final String DEFAULT_FILE_NAME = "quickperf-baselines.txt";
+
+                @Override
+                public String evaluate() {
+                    String filePath = System.getProperty(name);
+                    if (filePath == null || filePath.trim().isEmpty()) {
+                        return DEFAULT_FILE_NAME;
+                    }
+                    return filePath.trim();
+                }
+
                 @Override
                 public String buildForJvm(String propertyValue) {
                     return "-D" + name + "=" + propertyValue;
@@ -32,6 +32,8 @@ import java.util.*;
 
 public class TestExecutionContext {
 
+    private String testId;
+
     private WorkingFolder workingFolder;
 
     private List<RecordablePerformance> perfRecordersToExecuteBeforeTestMethod = Collections.emptyList();
@@ -54,9 +56,20 @@ public class TestExecutionContext {
 
     private TestExecutionContext() {}
 
+    /**
+     * @deprecated the test id is built from the class declaring the test method, use
+     * {@link #buildNewJvmFrom(QuickPerfConfigs, Class, Method)} to build it from the runtime test class
+     */
+    @Deprecated
+    public static TestExecutionContext buildNewJvmFrom(QuickPerfConfigs quickPerfConfigs
+                                                     , Method testMethod) {
+        return buildNewJvmFrom(quickPerfConfigs, testMethod.getDeclaringClass(), testMethod);
+    }
+
     // TODO: RENAME METHOD AND REFACTOR
     // Used by QuickPerfSpringRunner
     public static TestExecutionContext buildNewJvmFrom(QuickPerfConfigs quickPerfConfigs
+                                                     , Class<?> testClass
                                                      , Method testMethod) {
         SetOfAnnotationConfigs testAnnotationConfigs = quickPerfConfigs.getTestAnnotationConfigs();
         AnnotationsExtractor annotationsExtractor = AnnotationsExtractor.INSTANCE;
@@ -71,6 +84,7 @@ public class TestExecutionContext {
                                                             , isTestMethodToBeLaunchedInASpecificJvm
                                                             , runnerAllocationOffset);
 
+        testExecutionContext.testId = buildTestId(testClass, testMethod);
 
         if(testExecutionContext.jvmOptions == null) {
             List<JvmOption> jvmOptionList = new ArrayList<>();
@@ -85,7 +99,19 @@ public class TestExecutionContext {
 
     }
 
+    /**
+     * @deprecated the test id is built from the class declaring the test method, use
+     * {@link #buildFrom(QuickPerfConfigs, Class, Method, int)} to build it from the runtime test class
+     */
+    @Deprecated
+    public static TestExecutionContext buildFrom( QuickPerfConfigs quickPerfConfigs
+                                                , Method testMethod
+                                                , int runnerAllocationOffset) {
+        return buildFrom(quickPerfConfigs, testMethod.getDeclaringClass(), testMethod, runnerAllocationOffset);
+    }
+
     public static TestExecutionContext buildFrom( QuickPerfConfigs quickPerfConfigs
+                                                , Class<?> testClass
                                                 , Method testMethod
                                                 , int runnerAllocationOffset) {
 
@@ -95,11 +121,18 @@ public class TestExecutionContext {
         Annotation[] perfAnnotations = annotationsExtractor.extractAnnotationsFor(testMethod, testAnnotationConfigs);
         boolean isTestMethodToBeLaunchedInASpecificJvm = testAnnotationConfigs.hasTestMethodToBeLaunchedInASpecificJvmWith(perfAnnotations);
 
-        return buildFrom(quickPerfConfigs
-                       , testAnnotationConfigs
-                       , perfAnnotations
-                       , isTestMethodToBeLaunchedInASpecificJvm
-                       , runnerAllocationOffset);
+        TestExecutionContext testExecutionContext = buildFrom(quickPerfConfigs
+                                                            , testAnnotationConfigs
+                                                            , perfAnnotations
+                                                            , isTestMethodToBeLaunchedInASpecificJvm
+                                                            , runnerAllocationOffset);
+        testExecutionContext.testId = buildTestId(testClass, testMethod);
+        return testExecutionContext;
+    }
+
+    private static String buildTestId(Class<?> testClass, Method testMethod) {
+        // The test class can inherit the test method
+        return testClass.getName() + "." + testMethod.getName();
     }
 
     private static TestExecutionContext buildFrom(QuickPerfConfigs quickPerfConfigs
@@ -244,6 +277,13 @@ public class TestExecutionContext {
         return !testMethodToBeLaunchedInASpecificJvm;
     }
 
+    /**
+     * @return the fully qualified name of the test class followed by the name of the test method
+     */
+    public String getTestId() {
+        return testId;
+    }
+
     public WorkingFolder getWorkingFolder() {
         return workingFolder;
     }
@@ -86,6 +86,9 @@ public class NewJvmTestLauncher {
         command.add(SystemProperties.WORKING_FOLDER
                                     .buildForJvm(workingFolderPath)
                    );
+        command.add(SystemProperties.MAX_CAPTURED_SQL_PARAMETER_SIZE
+                                    .buildForJvm(String.valueOf(SystemProperties.MAX_CAPTURED_SQL_PARAMETER_SIZE.evaluate()))
+                   );
         command.add("-cp");
         command.add(retrieveCurrentClassPath());
         command.add(mainClassToLaunchTest.getCanonicalName());
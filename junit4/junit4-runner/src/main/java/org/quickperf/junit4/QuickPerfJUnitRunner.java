@@ -59,6 +59,7 @@ public class QuickPerfJUnitRunner extends BlockJUnit4ClassRunner {
         int runnerAllocationOffset = findJUnit4AllocationOffset();
 
         testExecutionContext = TestExecutionContext.buildFrom(quickPerfConfigs
+                                                            , test.getClass()
                                                             , testMethod
                                                             , runnerAllocationOffset);
 
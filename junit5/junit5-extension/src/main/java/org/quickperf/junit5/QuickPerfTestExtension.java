@@ -48,6 +48,7 @@ public class QuickPerfTestExtension implements BeforeEachCallback, InvocationInt
     public void beforeEach(ExtensionContext extensionContext) {
         int junit5AllocationOffset = 40;
         testExecutionContext = TestExecutionContext.buildFrom(quickPerfConfigs
+                                                            , extensionContext.getRequiredTestClass()
                                                             , extensionContext.getRequiredTestMethod()
                                                             , junit5AllocationOffset);
     }
@@ -85,12 +85,14 @@ public class QuickPerfSpringRunner extends BlockJUnit4ClassRunner {
         if (       testMethodToBeLaunchedInASpecificJvm
                 && !SystemProperties.TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
             testExecutionContext = TestExecutionContext.buildNewJvmFrom(quickPerfConfigs
+                                                                     , test.getClass()
                                                                      , testMethod);
             return NO_STATEMENT;
         }
 
         int runnerAllocationOffset = 0;
         testExecutionContext = TestExecutionContext.buildFrom(quickPerfConfigs
+                                                            , test.getClass()
                                                             , testMethod
                                                             , runnerAllocationOffset);
 
@@ -85,6 +85,7 @@ public class QuickPerfSpringRunner extends BlockJUnit4ClassRunner {
         if (     testMethodToBeLaunchedInASpecificJvm
              && !SystemProperties.TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
             testExecutionContext = TestExecutionContext.buildNewJvmFrom(quickPerfConfigs
+                                                                      , test.getClass()
                                                                       , testMethod
             );
             return NO_STATEMENT;
@@ -92,6 +93,7 @@ public class QuickPerfSpringRunner extends BlockJUnit4ClassRunner {
 
         int runnerAllocationOffset = 0;
         testExecutionContext = TestExecutionContext.buildFrom(quickPerfConfigs
+                                                            , test.getClass()
                                                             , testMethod
                                                             , runnerAllocationOffset);
 
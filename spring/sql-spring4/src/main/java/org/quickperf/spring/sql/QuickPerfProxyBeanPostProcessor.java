@@ -39,7 +39,7 @@ public class QuickPerfProxyBeanPostProcessor implements BeanPostProcessor, Order
         if (bean instanceof DataSource && !ScopedProxyUtils.isScopedTarget(beanName)) {
             final ProxyFactory factory = new ProxyFactory(bean);
             factory.setProxyTargetClass(true);
-            factory.addAdvice(new ProxyDataSourceInterceptor((DataSource) bean));
+            factory.addAdvice(new ProxyDataSourceInterceptor((DataSource) bean, beanName));
             return factory.getProxy();
         }
         return bean;
@@ -54,10 +54,10 @@ public class QuickPerfProxyBeanPostProcessor implements BeanPostProcessor, Order
 
         private final DataSource datasourceProxy;
 
-        public ProxyDataSourceInterceptor(final DataSource dataSource) {
+        public ProxyDataSourceInterceptor(final DataSource dataSource, final String beanName) {
             this.datasourceProxy =
                     QuickPerfSqlDataSourceBuilder.aDataSourceBuilder()
-                    .buildProxy(dataSource);
+                    .buildProxy(dataSource, beanName);
         }
 
         @Override
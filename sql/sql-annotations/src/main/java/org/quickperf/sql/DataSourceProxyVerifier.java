@@ -11,24 +11,34 @@
 
 package org.quickperf.sql;
 
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Detects data source proxies unexpectedly built several times.
+ * <br><br>
+ * Proxies built with different names wrap different data sources, only several listener identifiers for a same
+ * data source name are so reported.
+ */
 public class DataSourceProxyVerifier {
 
     public static final String SEVERAL_PROXIES_WARNING = "[WARNING] QuickPerf has built several datasource proxies";
 
-    private int listenerIdentifier;
+    private final Map<String, Integer> listenerIdentifierByDataSourceName = new HashMap<>();
 
     private boolean quickPerfBuiltSeveralDataSourceProxies;
 
     public void addListenerIdentifier(int newListenerIdentifier) {
-        initListenerIdentifierIfNotAlreadyInitialized(newListenerIdentifier);
-        if(listenerIdentifier != newListenerIdentifier) {
-            quickPerfBuiltSeveralDataSourceProxies = true;
-        }
+        addListenerIdentifier("", newListenerIdentifier);
     }
 
-    private void initListenerIdentifierIfNotAlreadyInitialized(int newListenerIdentifier) {
-        if(this.listenerIdentifier == 0) {
-            this.listenerIdentifier = newListenerIdentifier;
+    public void addListenerIdentifier(String dataSourceName, int newListenerIdentifier) {
+        String key = dataSourceName == null ? "" : dataSourceName;
+        Integer listenerIdentifier = listenerIdentifierByDataSourceName.get(key);
+        if (listenerIdentifier == null) {
+            listenerIdentifierByDataSourceName.put(key, newListenerIdentifier);
+        } else if (listenerIdentifier != newListenerIdentifier) {
+            quickPerfBuiltSeveralDataSourceProxies = true;
         }
     }
 
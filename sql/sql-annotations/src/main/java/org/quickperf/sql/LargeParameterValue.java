@@ -0,0 +1,112 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import java.io.Serializable;
+
+/**
+ * Compact description of a large bind value, kept by QuickPerf instead of the value itself.
+ * <br><br>
+ * Two large values having the same type, the same length and the same content are described by equal instances, which
+ * allows detecting exactly same queries without retaining the values.
+ */
+public class LargeParameterValue implements Serializable {
+
+    private static final long FNV_64_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_64_PRIME = 0x100000001b3L;
+
+    private final String typeName;
+
+    private final long length;
+
+    private final long hash;
+
+    private LargeParameterValue(String typeName, long length, long hash) {
+        this.typeName = typeName;
+        this.length = length;
+        this.hash = hash;
+    }
+
+    static LargeParameterValue of(byte[] bytes) {
+        long hash = FNV_64_OFFSET_BASIS;
+        for (byte aByte : bytes) {
+            hash = (hash ^ (aByte & 0xff)) * FNV_64_PRIME;
+        }
+        return new LargeParameterValue("byte[]", bytes.length, hash);
+    }
+
+    static LargeParameterValue of(char[] chars) {
+        return of("char[]", new String(chars));
+    }
+
+    static LargeParameterValue of(CharSequence charSequence) {
+        return of(charSequence.getClass().getSimpleName(), charSequence);
+    }
+
+    private static LargeParameterValue of(String typeName, CharSequence charSequence) {
+        long hash = FNV_64_OFFSET_BASIS;
+        for (int i = 0; i < charSequence.length(); i++) {
+            char aChar = charSequence.charAt(i);
+            hash = (hash ^ (aChar & 0xff)) * FNV_64_PRIME;
+            hash = (hash ^ (aChar >>> 8)) * FNV_64_PRIME;
+        }
+        return new LargeParameterValue(typeName, charSequence.length(), hash);
+    }
+
+    /**
+     * The content of a stream can't be read without consuming it, two streams are so only described by equal instances
+     * if they are the same object.
+     *
+     * @param length the length given when the stream was bound, -1 if unknown
+     */
+    static LargeParameterValue ofStream(Object stream, long length) {
+        return new LargeParameterValue(stream.getClass().getSimpleName(), length, System.identityHashCode(stream));
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * @return the number of bytes or characters of the value, -1 if unknown
+     */
+    public long getLength() {
+        return length;
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LargeParameterValue that = (LargeParameterValue) o;
+        return length == that.length
+            && hash == that.hash
+            && typeName.equals(that.typeName);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * typeName.hashCode() + (int) (hash ^ (hash >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        String lengthAsString = length < 0 ? "unknown length" : "length " + length;
+        return "<" + typeName + " of " + lengthAsString + ", hash " + Long.toHexString(hash) + ">";
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.quickperf.SystemProperties;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounds the memory retained by the recorded bind values.
+ * <br><br>
+ * The <code>byte[]</code>, <code>char[]</code> and character sequences longer than the size given by the
+ * <code>quickPerfMaxCapturedSqlParameterSize</code> system property (1024 by default) are replaced by a
+ * {@link LargeParameterValue}. Streams and readers are always replaced, their content being unknown.
+ */
+public class ParameterCapturePolicy {
+
+    public static final ParameterCapturePolicy INSTANCE = new ParameterCapturePolicy();
+
+    private ParameterCapturePolicy() { }
+
+    /**
+     * @return the given queries if none of them has a large bind value, copies of the queries with bounded bind values
+     * otherwise. The given queries are not modified, being shared with the other recorders.
+     */
+    public List<QueryInfo> bound(List<QueryInfo> queries) {
+        int maxSize = SystemProperties.MAX_CAPTURED_SQL_PARAMETER_SIZE.evaluate();
+        if (!hasLargeValue(queries, maxSize)) {
+            return queries;
+        }
+        List<QueryInfo> boundedQueries = new ArrayList<>(queries.size());
+        for (QueryInfo query : queries) {
+            boundedQueries.add(bound(query, maxSize));
+        }
+        return boundedQueries;
+    }
+
+    private boolean hasLargeValue(List<QueryInfo> queries, int maxSize) {
+        for (QueryInfo query : queries) {
+            for (List<ParameterSetOperation> parameters : query.getParametersList()) {
+                for (ParameterSetOperation parameter : parameters) {
+                    Object[] args = parameter.getArgs();
+                    if (args != null && args.length > 1 && isLarge(args[1], maxSize)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private QueryInfo bound(QueryInfo query, int maxSize) {
+        QueryInfo boundedQuery = new QueryInfo(query.getQuery());
+        List<List<ParameterSetOperation>> boundedParametersList = new ArrayList<>(query.getParametersList().size());
+        for (List<ParameterSetOperation> parameters : query.getParametersList()) {
+            List<ParameterSetOperation> boundedParameters = new ArrayList<>(parameters.size());
+            for (ParameterSetOperation parameter : parameters) {
+                boundedParameters.add(bound(parameter, maxSize));
+            }
+            boundedParametersList.add(boundedParameters);
+        }
+        boundedQuery.setParametersList(boundedParametersList);
+        return boundedQuery;
+    }
+
+    private ParameterSetOperation bound(ParameterSetOperation parameter, int maxSize) {
+        Object[] args = parameter.getArgs();
+        if (args == null || args.length < 2 || !isLarge(args[1], maxSize)) {
+            return parameter;
+        }
+        Object[] boundedArgs = args.clone();
+        boundedArgs[1] = describe(args);
+        return new ParameterSetOperation(parameter.getMethod(), boundedArgs);
+    }
+
+    /**
+     * @return the given value if it is not large, its {@link LargeParameterValue} otherwise
+     */
+    public Object bound(Object value) {
+        int maxSize = SystemProperties.MAX_CAPTURED_SQL_PARAMETER_SIZE.evaluate();
+        if (!isLarge(value, maxSize)) {
+            return value;
+        }
+        return describe(new Object[]{null, value});
+    }
+
+    private boolean isLarge(Object value, int maxSize) {
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length > maxSize;
+        }
+        if (value instanceof char[]) {
+            return ((char[]) value).length > maxSize;
+        }
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() > maxSize;
+        }
+        return value instanceof InputStream || value instanceof Reader;
+    }
+
+    private LargeParameterValue describe(Object[] args) {
+        Object value = args[1];
+        if (value instanceof byte[]) {
+            return LargeParameterValue.of((byte[]) value);
+        }
+        if (value instanceof char[]) {
+            return LargeParameterValue.of((char[]) value);
+        }
+        if (value instanceof CharSequence) {
+            return LargeParameterValue.of((CharSequence) value);
+        }
+        long streamLength = args.length > 2 && args[2] instanceof Number ? ((Number) args[2]).longValue() : -1;
+        return LargeParameterValue.ofStream(value, streamLength);
+    }
+
+}
@@ -35,8 +35,9 @@ public class PersistenceSqlRecorder implements SqlRecorder<SqlExecutions> {
 
     @Override
     public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries, int listenerIdentifier) {
-        datasourceProxyVerifier.addListenerIdentifier(listenerIdentifier);
-        sqlRepository.addQueryExecution(execInfo, queries);
+        datasourceProxyVerifier.addListenerIdentifier(execInfo.getDataSourceName(), listenerIdentifier);
+        List<QueryInfo> boundedQueries = ParameterCapturePolicy.INSTANCE.bound(queries);
+        sqlRepository.addQueryExecution(execInfo, boundedQueries);
     }
 
     @Override
@@ -0,0 +1,38 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Retrieves the connection of an execution below the data source proxy, so that the statements executed on it to
+ * analyze the recorded ones (plans, metadata, ...) are not recorded themselves.
+ */
+public class PhysicalConnectionRetriever {
+
+    public static final PhysicalConnectionRetriever INSTANCE = new PhysicalConnectionRetriever();
+
+    private PhysicalConnectionRetriever() { }
+
+    public Connection retrieveConnectionOf(ExecutionInfo executionInfo) throws SQLException {
+        Connection connection = executionInfo.getStatement().getConnection();
+        if (connection instanceof ProxyJdbcObject) {
+            return (Connection) ((ProxyJdbcObject) connection).getTarget();
+        }
+        return connection;
+    }
+
+}
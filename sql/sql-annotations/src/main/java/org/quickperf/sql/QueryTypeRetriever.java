@@ -13,7 +13,6 @@ package org.quickperf.sql;
 
 import net.ttddyy.dsproxy.QueryInfo;
 import net.ttddyy.dsproxy.QueryType;
-import net.ttddyy.dsproxy.listener.QueryUtils;
 
 public class QueryTypeRetriever {
 
@@ -22,15 +21,46 @@ public class QueryTypeRetriever {
     private QueryTypeRetriever() { }
 
     public QueryType typeOf(QueryInfo query) {
-        String queryAsString = query.getQuery();
-        String trimmedQuery = QueryUtils.removeCommentAndWhiteSpace(queryAsString);
+        return SqlLexer.INSTANCE.lex(query.getQuery()).getQueryType();
+    }
 
-        // Because of ttddyy bug
-        if (       trimmedQuery.startsWith("DROP")
-                || trimmedQuery.startsWith("drop")) {
-            return QueryType.OTHER;
+    QueryType typeOf(SqlTokens sqlTokens) {
+        int firstWordIndex = 0;
+        while (sqlTokens.isSymbolAt(firstWordIndex, '(')) {
+            firstWordIndex++;
+        }
+        if (sqlTokens.isWordAt(firstWordIndex, "with")) {
+            return typeOfStatementFollowingCommonTableExpressions(sqlTokens, firstWordIndex + 1);
         }
+        return typeOfStatementStartingWith(sqlTokens, firstWordIndex);
+    }
 
-        return QueryUtils.getQueryType(trimmedQuery);
+    private QueryType typeOfStatementFollowingCommonTableExpressions(SqlTokens sqlTokens, int fromIndex) {
+        for (int i = fromIndex; i < sqlTokens.size(); i++) {
+            if (sqlTokens.depthAt(i) == 0 && !sqlTokens.isSymbolAt(i, ')')) {
+                QueryType queryType = typeOfStatementStartingWith(sqlTokens, i);
+                if (queryType != QueryType.OTHER) {
+                    return queryType;
+                }
+            }
+        }
+        return QueryType.OTHER;
     }
+
+    private QueryType typeOfStatementStartingWith(SqlTokens sqlTokens, int index) {
+        if (sqlTokens.isWordAt(index, "select")) {
+            return QueryType.SELECT;
+        }
+        if (sqlTokens.isWordAt(index, "insert")) {
+            return QueryType.INSERT;
+        }
+        if (sqlTokens.isWordAt(index, "update")) {
+            return QueryType.UPDATE;
+        }
+        if (sqlTokens.isWordAt(index, "delete")) {
+            return QueryType.DELETE;
+        }
+        return QueryType.OTHER;
+    }
+
 }
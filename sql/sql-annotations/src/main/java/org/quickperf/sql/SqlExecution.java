@@ -13,7 +13,6 @@ package org.quickperf.sql;
 
 import net.ttddyy.dsproxy.ExecutionInfo;
 import net.ttddyy.dsproxy.QueryInfo;
-import net.ttddyy.dsproxy.QueryType;
 import net.ttddyy.dsproxy.StatementType;
 import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
 import org.quickperf.sql.formatter.QuickPerfSqlFormatter;
@@ -23,9 +22,6 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.lang.reflect.Method;
-import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -41,47 +37,13 @@ public class SqlExecution implements Externalizable {
     public SqlExecution() {}
 
     public SqlExecution(ExecutionInfo executionInfo, List<QueryInfo> queries) {
-        this.executionInfo = executionInfo;
-        this.queries = queries;
-
-        // Exception with H2 if column count is retrieved from
-        // MaxSelectedColumnsPerMeasureExtractor
-        if (atLeastOneSelect(queries)) {
-            this.columnCount = retrieveNumberOfReturnedColumns(executionInfo);
-        }
-    }
-
-    private boolean atLeastOneSelect(List<QueryInfo> queries) {
-        QueryTypeRetriever queryTypeRetriever = QueryTypeRetriever.INSTANCE;
-        for (QueryInfo query : queries) {
-            QueryType queryType = queryTypeRetriever.typeOf(query);
-            if (queryType == QueryType.SELECT) {
-                return true;
-            }
-        }
-        return false;
+        this(executionInfo, queries, 0);
     }
 
-    private long retrieveNumberOfReturnedColumns(ExecutionInfo executionInfo) {
-        if (dbExceptionHappened(executionInfo) || executeMethodOnStatement(executionInfo)) {
-            return 0;
-        }
-        ResultSet resultSet = (ResultSet) executionInfo.getResult();
-        try {
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            return metaData.getColumnCount();
-        } catch (SQLException e) {
-            e.printStackTrace();
-            return 0;
-        }
-    }
-
-    private boolean dbExceptionHappened(ExecutionInfo executionInfo) {
-        return executionInfo.getResult() == null;
-    }
-
-    private boolean executeMethodOnStatement(ExecutionInfo executionInfo) {
-        return !(executionInfo.getResult() instanceof ResultSet);
+    public SqlExecution(ExecutionInfo executionInfo, List<QueryInfo> queries, long columnCount) {
+        this.executionInfo = executionInfo;
+        this.queries = queries;
+        this.columnCount = columnCount;
     }
 
     public boolean hasQueryFollowing(SqlQueryPredicate sqlQueryPredicate) {
@@ -113,6 +75,7 @@ public class SqlExecution implements Externalizable {
         out.writeUTF(executionInfo.getStatementType().name());
         out.writeBoolean(executionInfo.isBatch());
         out.writeInt(executionInfo.getBatchSize());
+        out.writeLong(executionInfo.getElapsedTime());
     }
 
     private void writeQueries(ObjectOutput out) throws IOException {
@@ -165,7 +128,7 @@ public class SqlExecution implements Externalizable {
         int numberOfArgs = args.length;
         out.writeInt(numberOfArgs);
         for (Object arg : args) {
-            out.writeObject(arg);
+            out.writeObject(ParameterCapturePolicy.INSTANCE.bound(arg));
         }
     }
 
@@ -183,6 +146,7 @@ public class SqlExecution implements Externalizable {
         executionInfo.setStatementType(StatementType.valueOf(in.readUTF()));
         executionInfo.setBatch(in.readBoolean());
         executionInfo.setBatchSize(in.readInt());
+        executionInfo.setElapsedTime(in.readLong());
         return executionInfo;
     }
 
@@ -261,6 +225,10 @@ public class SqlExecution implements Externalizable {
         return columnCount;
     }
     
+    public String getDataSourceName() {
+        return executionInfo.getDataSourceName();
+    }
+
     public long getElapsedTime() {
     	return executionInfo.getElapsedTime();
     }
@@ -35,6 +35,28 @@ public class SqlExecutions implements Iterable<SqlExecution>, ViewablePerfRecord
         sqlExecutions.addLast(sqlExecution);
     }
 
+    public void add(ExecutionInfo execInfo, List<QueryInfo> queries, long columnCount) {
+        SqlExecution sqlExecution = new SqlExecution(execInfo, queries, columnCount);
+        sqlExecutions.addLast(sqlExecution);
+    }
+
+    /**
+     * @return the executions sent through the proxy of the given data source name, all the executions if the name
+     * is empty
+     */
+    public SqlExecutions filterByDataSource(String dataSourceName) {
+        if (dataSourceName.isEmpty()) {
+            return this;
+        }
+        SqlExecutions dataSourceExecutions = new SqlExecutions();
+        for (SqlExecution sqlExecution : sqlExecutions) {
+            if (dataSourceName.equals(sqlExecution.getDataSourceName())) {
+                dataSourceExecutions.sqlExecutions.addLast(sqlExecution);
+            }
+        }
+        return dataSourceExecutions;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -87,30 +109,27 @@ public class SqlExecutions implements Iterable<SqlExecution>, ViewablePerfRecord
 
     }
 
-    private long countUpdatedColumn(String sql) {
-        // UPDATE book SET isbn = ?, title = ? WHERE id = ?
-        int setIndex = sql.toLowerCase().indexOf("set");
-        int whereIndex = sql.toLowerCase().indexOf("where");
-        whereIndex = whereIndex > -1 ? whereIndex : sql.length();
-
-        String sqlSetClause = sql.substring(setIndex, whereIndex);
-        return countUnquotedEquals(sqlSetClause);
-    }
-
     /**
      * Examples :
-     *  - "SET isbn = ?, title = ? " returns 2
-     *  - "SET isbn = '123', title = '1 + 1 = 0' " returns 2
+     *  - "UPDATE book SET isbn = ?, title = ? WHERE id = ?" returns 2
+     *  - "UPDATE book SET isbn = '123', title = '1 + 1 = 0'" returns 2
      */
-    private long countUnquotedEquals(String setClause) {
-        boolean inQuote = false;
+    private long countUpdatedColumn(String sql) {
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(sql);
+        int setIndex = sqlTokens.indexOfWord("set", 0);
+        if (setIndex == -1) {
+            return 0;
+        }
+        int setDepth = sqlTokens.depthAt(setIndex);
         long equalCounter = 0;
-        for (char c : setClause.toCharArray()) {
-            if (c == '\'') {
-               inQuote = !inQuote;
-            }
-            if (!inQuote && c == '=') {
-                equalCounter++;
+        for (int i = setIndex + 1; i < sqlTokens.size(); i++) {
+            if (sqlTokens.depthAt(i) == setDepth) {
+                if (sqlTokens.isWordAt(i, "where")) {
+                    break;
+                }
+                if (sqlTokens.isSymbolAt(i, '=')) {
+                    equalCounter++;
+                }
             }
         }
         return equalCounter;
@@ -141,7 +160,7 @@ public class SqlExecutions implements Iterable<SqlExecution>, ViewablePerfRecord
                 + "[JDBC QUERY EXECUTION (executeQuery, executeBatch, ...)]"
                 + System.lineSeparator()
                 + (noJdbcExecution() ? new DataSourceConfig().getMessage()
-                                     : toString());
+                                     : SqlExecutionsReport.INSTANCE.build(this));
     }
 
     private boolean noJdbcExecution() {
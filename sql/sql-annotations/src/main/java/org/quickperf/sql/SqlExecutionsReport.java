@@ -0,0 +1,181 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import net.ttddyy.dsproxy.QueryInfo;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the listing of the JDBC executions displayed when a SQL annotation fails.
+ * <br><br>
+ * Up to {@value #MAX_LISTED_EXECUTIONS} executions, each execution is listed. Beyond, the executions are grouped
+ * by SQL shape: the {@value #MAX_DISPLAYED_SHAPES} most executed shapes are displayed with their counts, their
+ * timings and a few sample executions, only these samples being formatted. The shapes executed as many times are
+ * displayed in the order of their first execution. The full listing is then streamed to a file of the
+ * <code>quickperf</code> folder of the build folder (<code>target</code> or <code>build</code>) instead of being built
+ * in memory, so that it can be read after the build.
+ */
+class SqlExecutionsReport {
+
+    static final SqlExecutionsReport INSTANCE = new SqlExecutionsReport();
+
+    static final int MAX_LISTED_EXECUTIONS = 50;
+
+    static final int MAX_DISPLAYED_SHAPES = 10;
+
+    private static final int MAX_SAMPLES_PER_SHAPE = 3;
+
+    private SqlExecutionsReport() { }
+
+    String build(SqlExecutions sqlExecutions) {
+        if (sqlExecutions.getNumberOfExecutions() <= MAX_LISTED_EXECUTIONS) {
+            return sqlExecutions.toString();
+        }
+        List<ShapeGroup> shapeGroups = groupByShape(sqlExecutions);
+        return    buildGroupedListing(sqlExecutions.getNumberOfExecutions(), shapeGroups)
+                + System.lineSeparator()
+                + writeFullListing(sqlExecutions);
+    }
+
+    private List<ShapeGroup> groupByShape(SqlExecutions sqlExecutions) {
+        Map<SqlFingerprint, ShapeGroup> shapeGroupByFingerprint = new LinkedHashMap<>();
+        for (SqlExecution sqlExecution : sqlExecutions) {
+            String sql = findFirstSql(sqlExecution);
+            SqlFingerprint fingerprint = SqlFingerprint.of(sql);
+            ShapeGroup shapeGroup = shapeGroupByFingerprint.get(fingerprint);
+            if (shapeGroup == null) {
+                shapeGroup = new ShapeGroup(sql);
+                shapeGroupByFingerprint.put(fingerprint, shapeGroup);
+            }
+            shapeGroup.add(sqlExecution);
+        }
+        List<ShapeGroup> shapeGroups = new ArrayList<>(shapeGroupByFingerprint.values());
+        // The sort being stable, the shapes executed as many times keep the order of their first execution
+        Collections.sort(shapeGroups, new Comparator<ShapeGroup>() {
+            @Override
+            public int compare(ShapeGroup group1, ShapeGroup group2) {
+                return Long.compare(group2.executionCount, group1.executionCount);
+            }
+        });
+        return shapeGroups;
+    }
+
+    private String findFirstSql(SqlExecution sqlExecution) {
+        List<QueryInfo> queries = sqlExecution.getQueries();
+        if (queries == null || queries.isEmpty()) {
+            return "";
+        }
+        return queries.get(0).getQuery();
+    }
+
+    private String buildGroupedListing(int executionCount, List<ShapeGroup> shapeGroups) {
+        int displayedShapeCount = Math.min(shapeGroups.size(), MAX_DISPLAYED_SHAPES);
+        StringBuilder listing = new StringBuilder();
+        listing.append(executionCount).append(" executions of ").append(shapeGroups.size())
+               .append(" SQL shape(s), the ").append(displayedShapeCount).append(" most executed shape(s) being displayed")
+               .append(System.lineSeparator());
+        for (ShapeGroup shapeGroup : shapeGroups.subList(0, displayedShapeCount)) {
+            listing.append(System.lineSeparator())
+                   .append("\t").append(shapeGroup.sql)
+                   .append(System.lineSeparator())
+                   .append("\t").append(shapeGroup.executionCount).append(" execution(s)")
+                   .append(", total time: ").append(shapeGroup.totalElapsedTime).append(" ms")
+                   .append(", max time: ").append(shapeGroup.maxElapsedTime).append(" ms")
+                   .append(System.lineSeparator())
+                   .append("\tSample execution(s):")
+                   .append(System.lineSeparator());
+            for (SqlExecution sample : shapeGroup.samples) {
+                listing.append("\t").append(sample.toString())
+                       .append(System.lineSeparator());
+            }
+        }
+        List<ShapeGroup> otherShapeGroups = shapeGroups.subList(displayedShapeCount, shapeGroups.size());
+        if (!otherShapeGroups.isEmpty()) {
+            long otherExecutionCount = 0;
+            for (ShapeGroup otherShapeGroup : otherShapeGroups) {
+                otherExecutionCount += otherShapeGroup.executionCount;
+            }
+            listing.append(System.lineSeparator())
+                   .append("\t... and ").append(otherShapeGroups.size()).append(" other shape(s)")
+                   .append(" for ").append(otherExecutionCount).append(" execution(s)")
+                   .append(System.lineSeparator());
+        }
+        return listing.toString();
+    }
+
+    private String writeFullListing(SqlExecutions sqlExecutions) {
+        try {
+            Path listingFile = Files.createTempFile(findListingFolder(), "sql-executions-", ".txt");
+            try (Writer writer = Files.newBufferedWriter(listingFile, StandardCharsets.UTF_8)) {
+                for (SqlExecution sqlExecution : sqlExecutions) {
+                    writer.write(sqlExecution.toString());
+                    writer.write(System.lineSeparator());
+                    writer.write(System.lineSeparator());
+                }
+            }
+            return "Full listing of the executions: " + listingFile.toAbsolutePath();
+        } catch (IOException e) {
+            return "Unable to write the full listing of the executions: " + e.getMessage();
+        }
+    }
+
+    private Path findListingFolder() throws IOException {
+        Path buildFolder = Paths.get("");
+        if (Files.isDirectory(Paths.get("target"))) {
+            buildFolder = Paths.get("target");
+        } else if (Files.isDirectory(Paths.get("build"))) {
+            buildFolder = Paths.get("build");
+        }
+        return Files.createDirectories(buildFolder.resolve("quickperf"));
+    }
+
+    private static class ShapeGroup {
+
+        private final String sql;
+
+        private final List<SqlExecution> samples = new ArrayList<>(MAX_SAMPLES_PER_SHAPE);
+
+        private long executionCount;
+
+        private long totalElapsedTime;
+
+        private long maxElapsedTime;
+
+        ShapeGroup(String sql) {
+            this.sql = sql;
+        }
+
+        void add(SqlExecution sqlExecution) {
+            executionCount++;
+            long elapsedTime = sqlExecution.getElapsedTime();
+            totalElapsedTime += elapsedTime;
+            maxElapsedTime = Math.max(maxElapsedTime, elapsedTime);
+            if (samples.size() < MAX_SAMPLES_PER_SHAPE) {
+                samples.add(sqlExecution);
+            }
+        }
+
+    }
+
+}
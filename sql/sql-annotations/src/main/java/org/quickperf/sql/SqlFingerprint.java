@@ -0,0 +1,151 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Literal-normalized form of a SQL statement.
+ * <br><br>
+ * Numeric and string literals are replaced by <code>?</code>, IN-lists are collapsed to
+ * <code>in(?)</code>, comments are removed and keywords are lower-cased. Two statements only
+ * differing by their inline values or by the size of an IN-list so share the same fingerprint.
+ * The replaced literal values are kept to allow comparing executions of a same fingerprint.
+ */
+public class SqlFingerprint {
+
+    private static final String PLACEHOLDER = "?";
+
+    private final String value;
+
+    private final List<String> literals;
+
+    private SqlFingerprint(String value, List<String> literals) {
+        this.value = value;
+        this.literals = literals;
+    }
+
+    public static SqlFingerprint of(String sql) {
+        return SqlLexer.INSTANCE.lex(sql).getFingerprint();
+    }
+
+    static SqlFingerprint of(SqlTokens sqlTokens) {
+        Normalizer normalizer = new Normalizer(sqlTokens);
+        normalizer.normalize();
+        return new SqlFingerprint(normalizer.buildValue(), normalizer.literals);
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public List<String> getLiterals() {
+        return Collections.unmodifiableList(literals);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SqlFingerprint that = (SqlFingerprint) o;
+        return value.equals(that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    private static class Normalizer {
+
+        private final SqlTokens sqlTokens;
+
+        private final List<String> tokens = new ArrayList<>();
+
+        private final List<String> literals = new ArrayList<>();
+
+        Normalizer(SqlTokens sqlTokens) {
+            this.sqlTokens = sqlTokens;
+        }
+
+        void normalize() {
+            for (int i = 0; i < sqlTokens.size(); i++) {
+                switch (sqlTokens.typeAt(i)) {
+                    case STRING_LITERAL:
+                    case NUMERIC_LITERAL:
+                        literals.add(sqlTokens.literalValueAt(i));
+                        tokens.add(PLACEHOLDER);
+                        break;
+                    case PARAMETER:
+                        tokens.add(PLACEHOLDER);
+                        break;
+                    case WORD:
+                        tokens.add(sqlTokens.textAt(i).toLowerCase(Locale.ENGLISH));
+                        break;
+                    default:
+                        if (sqlTokens.isSymbolAt(i, ')')) {
+                            closeParenthesis();
+                        } else {
+                            tokens.add(sqlTokens.textAt(i));
+                        }
+                }
+            }
+        }
+
+        private void closeParenthesis() {
+            int openingPos = tokens.size() - 1;
+            while (openingPos >= 0
+                && (PLACEHOLDER.equals(tokens.get(openingPos)) || ",".equals(tokens.get(openingPos)))) {
+                openingPos--;
+            }
+            boolean placeholderList = openingPos >= 1
+                                   && openingPos < tokens.size() - 1
+                                   && "(".equals(tokens.get(openingPos))
+                                   && "in".equals(tokens.get(openingPos - 1));
+            if (placeholderList) {
+                tokens.subList(openingPos + 1, tokens.size()).clear();
+                tokens.add(PLACEHOLDER);
+            }
+            tokens.add(")");
+        }
+
+        String buildValue() {
+            StringBuilder value = new StringBuilder();
+            String previousToken = null;
+            for (String token : tokens) {
+                if (previousToken != null && spaceIsNeededBetween(previousToken, token)) {
+                    value.append(' ');
+                }
+                value.append(token);
+                previousToken = token;
+            }
+            return value.toString();
+        }
+
+        private boolean spaceIsNeededBetween(String previousToken, String token) {
+            if ("(".equals(previousToken) || ".".equals(previousToken)) {
+                return false;
+            }
+            return !")".equals(token) && !",".equals(token) && !".".equals(token) && !"(".equals(token);
+        }
+
+    }
+
+}
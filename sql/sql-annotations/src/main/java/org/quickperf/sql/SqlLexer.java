@@ -0,0 +1,249 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import org.quickperf.sql.SqlTokens.Type;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Single-pass SQL lexer understanding quotes, comments, identifiers and parameters.
+ * <br><br>
+ * The same statements are executed many times during a test suite, so the tokens are cached
+ * per distinct SQL string.
+ */
+public class SqlLexer {
+
+    public static final SqlLexer INSTANCE = new SqlLexer();
+
+    private static final int MAX_CACHED_STATEMENTS = 2048;
+
+    private final Map<String, SqlTokens> tokensBySql = Collections.synchronizedMap(
+            new LinkedHashMap<String, SqlTokens>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, SqlTokens> eldest) {
+                    return size() > MAX_CACHED_STATEMENTS;
+                }
+            });
+
+    private SqlLexer() { }
+
+    public SqlTokens lex(String sql) {
+        String sqlToLex = sql == null ? "" : sql;
+        SqlTokens tokens = tokensBySql.get(sqlToLex);
+        if (tokens == null) {
+            tokens = new Tokenizer(sqlToLex).tokenize();
+            tokensBySql.put(sqlToLex, tokens);
+        }
+        return tokens;
+    }
+
+    private static class Tokenizer {
+
+        private final String sql;
+
+        private final int length;
+
+        private Type[] types;
+
+        private int[] starts;
+
+        private int[] ends;
+
+        private int[] depths;
+
+        private int size;
+
+        private int depth;
+
+        private int pos;
+
+        Tokenizer(String sql) {
+            this.sql = sql;
+            this.length = sql.length();
+            int capacity = Math.max(8, length / 4);
+            this.types = new Type[capacity];
+            this.starts = new int[capacity];
+            this.ends = new int[capacity];
+            this.depths = new int[capacity];
+        }
+
+        SqlTokens tokenize() {
+            while (pos < length) {
+                char c = sql.charAt(pos);
+                if (Character.isWhitespace(c)) {
+                    pos++;
+                } else if (c == '-' && next() == '-') {
+                    skipLineComment();
+                } else if (c == '/' && next() == '*') {
+                    skipBlockComment();
+                } else if (c == '\'') {
+                    readStringLiteral();
+                } else if (c == '"' || c == '`') {
+                    readQuotedIdentifier(c);
+                } else if (isDigit(c) || (c == '.' && isDigit(next()) && !previousTokenEndsAnIdentifier())) {
+                    readNumber();
+                } else if (c == '?') {
+                    add(Type.PARAMETER, pos, ++pos);
+                } else if ((c == '$' || c == ':') && isParameterNameStart(next())) {
+                    readNamedParameter();
+                } else if (isWordPart(c)) {
+                    readWord();
+                } else {
+                    readSymbol();
+                }
+            }
+            return new SqlTokens(sql, types, starts, ends, depths, size);
+        }
+
+        private char next() {
+            return pos + 1 < length ? sql.charAt(pos + 1) : '\0';
+        }
+
+        private void skipLineComment() {
+            int end = sql.indexOf('\n', pos);
+            pos = end == -1 ? length : end + 1;
+        }
+
+        private void skipBlockComment() {
+            int end = sql.indexOf("*/", pos + 2);
+            pos = end == -1 ? length : end + 2;
+        }
+
+        private void readStringLiteral() {
+            int start = pos;
+            pos++;
+            while (pos < length) {
+                if (sql.charAt(pos) == '\'') {
+                    if (next() != '\'') {
+                        pos++;
+                        break;
+                    }
+                    pos++;
+                }
+                pos++;
+            }
+            add(Type.STRING_LITERAL, start, pos);
+        }
+
+        private void readQuotedIdentifier(char quote) {
+            int start = pos;
+            int end = sql.indexOf(quote, pos + 1);
+            pos = end == -1 ? length : end + 1;
+            add(Type.QUOTED_IDENTIFIER, start, pos);
+        }
+
+        private void readNumber() {
+            int start = pos;
+            while (pos < length && (isDigit(sql.charAt(pos)) || sql.charAt(pos) == '.')) {
+                pos++;
+            }
+            if (pos < length && (sql.charAt(pos) == 'e' || sql.charAt(pos) == 'E')) {
+                int exponentPos = pos + 1;
+                if (exponentPos < length && (sql.charAt(exponentPos) == '+' || sql.charAt(exponentPos) == '-')) {
+                    exponentPos++;
+                }
+                if (exponentPos < length && isDigit(sql.charAt(exponentPos))) {
+                    pos = exponentPos;
+                    while (pos < length && isDigit(sql.charAt(pos))) {
+                        pos++;
+                    }
+                }
+            }
+            add(Type.NUMERIC_LITERAL, start, pos);
+        }
+
+        private void readNamedParameter() {
+            int start = pos;
+            pos++;
+            while (pos < length && isWordPart(sql.charAt(pos))) {
+                pos++;
+            }
+            add(Type.PARAMETER, start, pos);
+        }
+
+        private void readWord() {
+            int start = pos;
+            while (pos < length && isWordPart(sql.charAt(pos))) {
+                pos++;
+            }
+            add(Type.WORD, start, pos);
+        }
+
+        private void readSymbol() {
+            int start = pos;
+            char c = sql.charAt(pos);
+            char next = next();
+            if (   (c == '<' && (next == '=' || next == '>'))
+                || (c == '>' && next == '=')
+                || (c == '!' && next == '=')
+                || (c == '|' && next == '|')
+                || (c == ':' && next == ':')) {
+                pos += 2;
+                add(Type.SYMBOL, start, pos);
+                return;
+            }
+            pos++;
+            if (c == '(') {
+                depth++;
+                add(Type.SYMBOL, start, pos);
+            } else if (c == ')') {
+                add(Type.SYMBOL, start, pos);
+                depth = Math.max(0, depth - 1);
+            } else {
+                add(Type.SYMBOL, start, pos);
+            }
+        }
+
+        private void add(Type type, int start, int end) {
+            if (size == types.length) {
+                int newCapacity = size * 2;
+                types = Arrays.copyOf(types, newCapacity);
+                starts = Arrays.copyOf(starts, newCapacity);
+                ends = Arrays.copyOf(ends, newCapacity);
+                depths = Arrays.copyOf(depths, newCapacity);
+            }
+            types[size] = type;
+            starts[size] = start;
+            ends[size] = end;
+            depths[size] = depth;
+            size++;
+        }
+
+        private boolean previousTokenEndsAnIdentifier() {
+            if (size == 0) {
+                return false;
+            }
+            Type previousType = types[size - 1];
+            return previousType == Type.WORD
+                || previousType == Type.QUOTED_IDENTIFIER
+                || (previousType == Type.SYMBOL && sql.charAt(starts[size - 1]) == ')');
+        }
+
+        private static boolean isParameterNameStart(char c) {
+            return Character.isLetterOrDigit(c) || c == '_';
+        }
+
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
+
+        private static boolean isWordPart(char c) {
+            return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '#' || c == '@';
+        }
+
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import net.ttddyy.dsproxy.QueryType;
+
+/**
+ * Tokens of a SQL statement, produced by {@link SqlLexer}.
+ * <br><br>
+ * Tokens are stored as offsets in the original SQL string, so that no substring is built
+ * unless the text of a token is requested. Comments and white spaces are not kept.
+ */
+public class SqlTokens {
+
+    public enum Type {
+        WORD
+      , QUOTED_IDENTIFIER
+      , STRING_LITERAL
+      , NUMERIC_LITERAL
+      , PARAMETER
+      , SYMBOL
+    }
+
+    private final String sql;
+
+    private final Type[] types;
+
+    private final int[] starts;
+
+    private final int[] ends;
+
+    private final int[] depths;
+
+    private final int size;
+
+    private volatile SqlFingerprint fingerprint;
+
+    private volatile QueryType queryType;
+
+    SqlTokens(String sql, Type[] types, int[] starts, int[] ends, int[] depths, int size) {
+        this.sql = sql;
+        this.types = types;
+        this.starts = starts;
+        this.ends = ends;
+        this.depths = depths;
+        this.size = size;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Type typeAt(int index) {
+        return types[index];
+    }
+
+    public String textAt(int index) {
+        return sql.substring(starts[index], ends[index]);
+    }
+
+    /**
+     * @return the parenthesis depth of the token, a parenthesis having the depth of its content
+     */
+    public int depthAt(int index) {
+        return depths[index];
+    }
+
+    /**
+     * @param lowerCaseWord a word in lower case
+     * @return true if the token is the given word, whatever its case
+     */
+    public boolean isWordAt(int index, String lowerCaseWord) {
+        if (index < 0 || index >= size || types[index] != Type.WORD) {
+            return false;
+        }
+        int length = ends[index] - starts[index];
+        return length == lowerCaseWord.length()
+            && sql.regionMatches(true, starts[index], lowerCaseWord, 0, length);
+    }
+
+    public boolean isSymbolAt(int index, char symbol) {
+        return index >= 0
+            && index < size
+            && types[index] == Type.SYMBOL
+            && ends[index] - starts[index] == 1
+            && sql.charAt(starts[index]) == symbol;
+    }
+
+    public boolean isLiteralAt(int index) {
+        return types[index] == Type.STRING_LITERAL || types[index] == Type.NUMERIC_LITERAL;
+    }
+
+    /**
+     * @return the value of a literal token, without the quotes of a string literal
+     */
+    public String literalValueAt(int index) {
+        if (types[index] != Type.STRING_LITERAL) {
+            return textAt(index);
+        }
+        int start = starts[index] + 1;
+        int end = ends[index];
+        if (end > start && sql.charAt(end - 1) == '\'') {
+            end--;
+        }
+        String value = sql.substring(start, end);
+        return value.indexOf("''") == -1 ? value : value.replace("''", "'");
+    }
+
+    /**
+     * @return the first character of the literal value, <code>'\0'</code> if the value is empty
+     */
+    public char firstLiteralCharAt(int index) {
+        if (types[index] != Type.STRING_LITERAL) {
+            return starts[index] < ends[index] ? sql.charAt(starts[index]) : '\0';
+        }
+        int start = starts[index] + 1;
+        int end = ends[index];
+        if (end > start && sql.charAt(end - 1) == '\'') {
+            end--;
+        }
+        return start < end ? sql.charAt(start) : '\0';
+    }
+
+    public int indexOfWord(String lowerCaseWord, int fromIndex) {
+        for (int i = Math.max(fromIndex, 0); i < size; i++) {
+            if (isWordAt(i, lowerCaseWord)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public SqlFingerprint getFingerprint() {
+        SqlFingerprint result = fingerprint;
+        if (result == null) {
+            result = SqlFingerprint.of(this);
+            fingerprint = result;
+        }
+        return result;
+    }
+
+    public QueryType getQueryType() {
+        QueryType result = queryType;
+        if (result == null) {
+            result = QueryTypeRetriever.INSTANCE.typeOf(this);
+            queryType = result;
+        }
+        return result;
+    }
+
+}
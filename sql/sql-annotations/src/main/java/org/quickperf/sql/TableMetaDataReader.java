@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Reads the metadata of a table, the table name given by a parsed SQL statement being converted to the case of the
+ * identifiers stored by the database.
+ */
+public class TableMetaDataReader {
+
+    public static final TableMetaDataReader INSTANCE = new TableMetaDataReader();
+
+    private TableMetaDataReader() { }
+
+    public String toMetaDataCase(DatabaseMetaData metaData, String table) throws SQLException {
+        if (metaData.storesUpperCaseIdentifiers()) {
+            return table.toUpperCase(Locale.ENGLISH);
+        }
+        if (metaData.storesLowerCaseIdentifiers()) {
+            return table.toLowerCase(Locale.ENGLISH);
+        }
+        return table;
+    }
+
+    public boolean tableExists(DatabaseMetaData metaData, String metaDataTable) throws SQLException {
+        try (ResultSet tables = metaData.getTables(null, null, metaDataTable, null)) {
+            return tables.next();
+        }
+    }
+
+    /**
+     * @return the lower-cased columns of the table, empty if the table is not found in the metadata
+     */
+    public Set<String> findColumns(DatabaseMetaData metaData, String metaDataTable) throws SQLException {
+        Set<String> columns = new HashSet<>();
+        try (ResultSet columnsResultSet = metaData.getColumns(null, null, metaDataTable, null)) {
+            while (columnsResultSet.next()) {
+                columns.add(columnsResultSet.getString("COLUMN_NAME").toLowerCase(Locale.ENGLISH));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * @return the lower-cased columns of the primary key, in their order in the key
+     */
+    public List<String> findPrimaryKeyColumns(DatabaseMetaData metaData, String metaDataTable) throws SQLException {
+        Map<Short, String> columnByKeySeq = new TreeMap<>();
+        try (ResultSet primaryKeys = metaData.getPrimaryKeys(null, null, metaDataTable)) {
+            while (primaryKeys.next()) {
+                String column = primaryKeys.getString("COLUMN_NAME").toLowerCase(Locale.ENGLISH);
+                columnByKeySeq.put(primaryKeys.getShort("KEY_SEQ"), column);
+            }
+        }
+        return new ArrayList<>(columnByKeySeq.values());
+    }
+
+}
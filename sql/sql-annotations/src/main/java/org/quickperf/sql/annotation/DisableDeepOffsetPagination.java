@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The <code>DisableDeepOffsetPagination</code> annotation verifies that the select statements do not skip more rows
+ * than the specified maximum with an <code>OFFSET</code> clause (or with the offset of a MySQL <code>LIMIT</code>
+ * clause). If not, the test will fail.
+ * <br><br>
+ * The offsets given with a bind parameter are retrieved from the parameter values.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;DisableDeepOffsetPagination(maxOffset = 1000)</b>
+ *      public void execute() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ *
+ * @see ExpectBoundedSelects
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface DisableDeepOffsetPagination {
+
+    /**
+     * Specifies the number of rows that can be skipped with an offset.
+     */
+    long maxOffset() default 0;
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The <code>DisableFullRowUpdates</code> annotation verifies that the UPDATE statements don't set all the columns of
+ * their table out of the primary key. The unchanged values are otherwise rewritten, with their write-ahead log
+ * volume, their index maintenance and their triggers.
+ * <br><br>
+ * The columns of a table are read from the database metadata. The tables having a single column out of the primary
+ * key are not checked.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;DisableFullRowUpdates</b>
+ *      public void execute() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ *
+ * @see EnableFullRowUpdates
+ * @see ExpectUpdatedColumn
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface DisableFullRowUpdates {
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The <code>DisablePerRowKeyGeneration</code> annotation verifies that the keys of the inserted rows are not generated
+ * with one database round trip per row. The test will fail if the sequences are called at least as many times as rows
+ * are inserted, at least three rows being inserted, or if an insert retrieving generated keys (<code>IDENTITY</code>
+ * columns) is executed several times out of a JDBC batch.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;DisablePerRowKeyGeneration</b>
+ *      public void execute() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ *
+ * @see EnablePerRowKeyGeneration
+ * @see ExpectJdbcBatching
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface DisablePerRowKeyGeneration {
+}
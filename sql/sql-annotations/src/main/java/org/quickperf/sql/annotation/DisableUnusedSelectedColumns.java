@@ -0,0 +1,47 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The <code>DisableUnusedSelectedColumns</code> annotation verifies that the columns selected by a query are read by
+ * the application with the <code>getXxx</code> methods of the result set. If some columns of a query are never read,
+ * the test will fail.
+ * <br><br>
+ * The read columns are aggregated over all the executions of a same SQL shape. Queries without any fetched row are not
+ * checked.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;DisableUnusedSelectedColumns(tolerance = 2)</b>
+ *      public void execute() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ *
+ * @see EnableUnusedSelectedColumns
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface DisableUnusedSelectedColumns {
+
+    /**
+     * Specifies the number of selected columns of a query that can be left unread.
+     */
+    int tolerance() default 0;
+
+}
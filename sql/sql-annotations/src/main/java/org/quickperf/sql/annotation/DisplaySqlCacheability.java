@@ -0,0 +1,49 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * The <code>DisplaySqlCacheability</code> annotation displays in the console how many selects would be answered by
+ * caches of select results, for the whole test method and for each SQL shape.
+ * <br><br>
+ * The selects and the writes of the test method are replayed in their execution order on least recently used caches
+ * of the given sizes. A select is answered by a cache if a select of the same shape with the same values was executed
+ * before, without write to one of its tables in between. The hit ratio and the number of avoidable round trips show
+ * where a query cache, a second-level cache or an application cache would pay off.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;DisplaySqlCacheability(cacheSizes = {10, 1000})</b>
+ *      public void execute() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ *
+ * @see DisableSameSelects
+ */
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface DisplaySqlCacheability {
+
+    /**
+     * Specifies the numbers of select results held by the simulated caches.
+     */
+    int[] cacheSizes() default {100, 10000};
+
+}
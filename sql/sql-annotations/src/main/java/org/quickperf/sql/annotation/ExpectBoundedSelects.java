@@ -0,0 +1,48 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * The <code>ExpectBoundedSelects</code> annotation verifies that the select statements fetching more rows than the
+ * specified value have a row limit (<code>LIMIT</code>, <code>FETCH FIRST</code>, <code>TOP</code> or
+ * <code>ROWNUM</code>). If not, the test will fail.
+ * <br><br>
+ * The fetched rows are the rows pulled by the application from the result sets.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;ExpectBoundedSelects(maxRowsWithoutLimit = 50)</b>
+ *      public void execute() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ *
+ * @see DisableDeepOffsetPagination
+ * @see ExpectMaxFetchedRows
+ */
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ExpectBoundedSelects {
+
+    /**
+     * Specifies the number of rows that a select without row limit can fetch.
+     */
+    long maxRowsWithoutLimit() default 100;
+
+}
@@ -40,4 +40,11 @@ public @interface ExpectInsert {
 
     int value() default 1;
 
+    /**
+     * Specifies the name of the data source whose statements are counted, as given to
+     * <code>QuickPerfSqlDataSourceBuilder.buildProxy(dataSource, dataSourceName)</code> or as the Spring bean name
+     * of the data source. Note that if left empty, the statements of all the data sources are counted.
+     */
+    String dataSource() default "";
+
 }
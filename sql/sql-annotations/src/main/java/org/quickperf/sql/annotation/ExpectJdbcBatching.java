@@ -21,12 +21,22 @@ import java.lang.annotation.Target;
  * are processed through JDBC batches of <code>batchSize</code> elements.
  *
  * <br><br>
+ * With <code>minEfficiencyPercent</code>, the annotation also verifies that the JDBC batches are filled enough. The
+ * efficiency is the number of inserted, updated or deleted rows divided by the number of rows that the executions
+ * could have processed with full batches. A statement executed out of a batch counts as a batch of one row.
+ *
+ * <br><br>
  * <h3>Example:</h3>
  * <pre>
  *      <b>&#064;ExpectJdbcBatching(batchSize = 30)</b>
  *      public void insert_using_jdbc_batching_system(){
  *          <code>..</code>
  *      }
+ *
+ *      <b>&#064;ExpectJdbcBatching(batchSize = 30, minEfficiencyPercent = 80)</b>
+ *      public void insert_using_well_filled_jdbc_batches(){
+ *          <code>..</code>
+ *      }
  * </pre>
  *
  * <br><br>
@@ -55,4 +65,11 @@ public @interface ExpectJdbcBatching {
      */
     int batchSize() default -1;
 
+    /**
+     * Specifies the minimum batch efficiency, in percent, to cause the test method to fail if the batches are less
+     * filled. The efficiency is computed against <code>batchSize</code> if given, against the largest measured batch
+     * otherwise. A negative value means that the efficiency is not checked.
+     */
+    int minEfficiencyPercent() default -1;
+
 }
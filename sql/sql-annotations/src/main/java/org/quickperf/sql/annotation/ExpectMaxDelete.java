@@ -38,5 +38,12 @@ public @interface ExpectMaxDelete {
      * statements is greater. Note that if left empty, the assumed value will be zero.
      */
     int value() default 0;
+
+    /**
+     * Specifies the name of the data source whose statements are counted, as given to
+     * <code>QuickPerfSqlDataSourceBuilder.buildProxy(dataSource, dataSourceName)</code> or as the Spring bean name
+     * of the data source. Note that if left empty, the statements of all the data sources are counted.
+     */
+    String dataSource() default "";
 	
 }
@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * The <code>ExpectMaxFetchedRows</code> annotation verifies that the number of rows read by the application from a
+ * result set (<code>ResultSet.next()</code> calls) is less than or equal to the specified value. If not, the test will
+ * fail.
+ * <br><br>
+ * A query returning too many rows only looks like one SELECT, this annotation helps to detect unbounded result sets.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;ExpectMaxFetchedRows(value = 50, total = 200)</b>
+ *      public void execute() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ */
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ExpectMaxFetchedRows {
+
+    /**
+     * Specifies the maximum number of rows fetched from the result set of one query. A negative value means that the
+     * rows of each query are not checked.
+     */
+    int value() default -1;
+
+    /**
+     * Specifies the maximum number of rows fetched by all the queries. A negative value means that the total is not
+     * checked.
+     */
+    long total() default -1;
+
+}
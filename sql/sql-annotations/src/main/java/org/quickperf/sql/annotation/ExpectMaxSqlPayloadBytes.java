@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * The <code>ExpectMaxSqlPayloadBytes</code> annotation verifies that the estimated number of bytes exchanged with the
+ * database is less than or equal to the specified values. If not, the test will fail.
+ * <br><br>
+ * The sent bytes are estimated from the SQL texts and the bound parameters. The received bytes are estimated from the
+ * values read by the application with the <code>getXxx</code> methods of the result sets. The protocol overhead of
+ * the database is not taken into account.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;ExpectMaxSqlPayloadBytes(value = 100_000, sent = 10_000)</b>
+ *      public void execute() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ *
+ * @see ExpectMaxParameterBytes
+ */
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ExpectMaxSqlPayloadBytes {
+
+    /**
+     * Specifies the maximum number of bytes sent to and received from the database. A negative value means that this
+     * total is not checked.
+     */
+    long value() default -1;
+
+    /**
+     * Specifies the maximum number of bytes sent to the database. A negative value means that the sent bytes are not
+     * checked.
+     */
+    long sent() default -1;
+
+    /**
+     * Specifies the maximum number of bytes received from the database. A negative value means that the received bytes
+     * are not checked.
+     */
+    long received() default -1;
+
+}
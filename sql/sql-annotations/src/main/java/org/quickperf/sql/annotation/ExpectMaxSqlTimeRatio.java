@@ -0,0 +1,48 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * The <code>ExpectMaxSqlTimeRatio</code> annotation verifies that the share of the test method execution time spent
+ * in JDBC calls is below a maximum. If not, the test will fail.
+ * <br><br>
+ * The SQL time is the time spent by the test method thread in statement executions, in result set iterations and in
+ * connection acquisitions. A test spending most of its time in JDBC calls benefits more from data access
+ * optimizations than from Java code optimizations.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;ExpectMaxSqlTimeRatio(0.5)</b>
+ *      public void execute() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ *
+ * @see DisplaySqlTime
+ */
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ExpectMaxSqlTimeRatio {
+
+    /**
+     * Specifies the maximum ratio of the SQL time to the test method execution time, between 0 and 1.
+     */
+    double value();
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * The <code>ExpectMaxStatementPreparations</code> annotation verifies that the number of prepared and callable
+ * statements prepared by the application is less than or equal to the specified value. If not, the test will fail.
+ * <br><br>
+ * The failure report gives, for each SQL shape, the number of preparations compared to the number of executions and
+ * to the number of distinct SQL texts. A same SQL text prepared several times can indicate a missing or undersized
+ * statement cache, the statement caches being keyed by the exact SQL text.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;ExpectMaxStatementPreparations(5)</b>
+ *      public void execute() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ */
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ExpectMaxStatementPreparations {
+
+    int value();
+
+}
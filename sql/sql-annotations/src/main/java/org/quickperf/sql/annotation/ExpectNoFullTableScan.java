@@ -0,0 +1,48 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * The <code>ExpectNoFullTableScan</code> annotation verifies that the execution plans of the select statements don't
+ * contain full table scans. If not, the test will fail.
+ * <br><br>
+ * Each select shape is explained once by the database, with the parameters of its first execution. The plans are
+ * analyzed with H2 and HSQLDB; other databases can be supported by registering a
+ * {@link org.quickperf.sql.plan.QueryPlanParser}.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;ExpectNoFullTableScan(allowedTables = "COUNTRY")</b>
+ *      public void execute() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ *
+ * @see DisplayQueryPlans
+ */
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ExpectNoFullTableScan {
+
+    /**
+     * Specifies the tables that can be fully scanned, small reference tables for example.
+     */
+    String[] allowedTables() default {};
+
+}
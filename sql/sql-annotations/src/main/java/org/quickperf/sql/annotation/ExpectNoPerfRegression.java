@@ -0,0 +1,51 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * The <code>ExpectNoPerfRegression</code> annotation compares the test execution with the baseline of the test and
+ * makes the test fail if a metric has regressed by more than a tolerance.
+ * <br><br>
+ * The compared metrics are the number of select, insert, update and delete statements, the number of JDBC
+ * executions, the SQL time and the execution time of the test method. The baselines are stored in the
+ * <code>quickperf-baselines.txt</code> file of the working directory, or in the file given by the
+ * <code>quickPerfBaselineFile</code> system property. The first execution of a test writes its baseline. The
+ * baselines are rewritten from the current executions with <code>-DupdateQuickPerfBaselines=true</code>.
+ * <br><br>
+ * Tests can so be put under regression control, as a global annotation for example, without a threshold to write
+ * for each of them.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;ExpectNoPerfRegression(tolerancePercent = 10)</b>
+ *      public void execute() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ */
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ExpectNoPerfRegression {
+
+    /**
+     * Specifies by how many percent a metric can exceed its baseline value.
+     */
+    double tolerancePercent() default 10;
+
+}
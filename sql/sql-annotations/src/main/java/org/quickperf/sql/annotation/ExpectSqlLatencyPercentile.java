@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * The <code>ExpectSqlLatencyPercentile</code> annotation verifies that a percentile of the latency of the SQL
+ * executions is below a maximum. If not, the test will fail.
+ * <br><br>
+ * The latency of each execution is measured with a nanosecond resolution and recorded in a histogram, so that a
+ * single outlier, due to a GC pause for example, doesn't make the test fail when checking the 99th percentile.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;ExpectSqlLatencyPercentile(percentile = 99, maxMicros = 500)</b>
+ *      public void execute() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ *
+ * @see DisplaySqlLatency
+ * @see ExpectMaxQueryExecutionTime
+ */
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ExpectSqlLatencyPercentile {
+
+    /**
+     * Specifies the verified percentile, between 0 and 100.
+     */
+    double percentile() default 99;
+
+    /**
+     * Specifies the maximum latency of the percentile, in microseconds.
+     */
+    long maxMicros();
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * The <code>ExportSqlTrace</code> annotation exports the SQL executions of the test method to a trace file, with
+ * their bind values, their order and the time between them.
+ * <br><br>
+ * The trace file is named after the test method (<code>fully.qualified.TestClass.testMethod.sqltrace</code>). It can
+ * be replayed against a database by several concurrent threads with the <code>SqlTraceReplay</code> tool of the
+ * <code>quick-perf-sql-replay</code> module, in order to measure the throughput and the latency percentiles of the
+ * recorded workload.
+ * <br><br>
+ * The large bind values are only exported with their length, following the
+ * <code>quickPerfMaxCapturedSqlParameterSize</code> system property.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;ExportSqlTrace(directory = "target/sql-traces")</b>
+ *      public void execute() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ */
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ExportSqlTrace {
+
+    String DEFAULT_DIRECTORY = "target/quickperf-sql-traces";
+
+    /**
+     * Specifies the directory of the trace file.
+     */
+    String directory() default DEFAULT_DIRECTORY;
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * The <code>FailFastSqlBudgets</code> annotation stops the test method execution as soon as the number of
+ * statements exceeds a count budget by a factor, instead of waiting for the end of the test method execution to
+ * verify the budget.
+ * <br><br>
+ * The verified budgets are the ones of {@link ExpectSelect}, {@link ExpectMaxSelect}, {@link ExpectInsert},
+ * {@link ExpectMaxInsert}, {@link ExpectUpdate}, {@link ExpectMaxUpdate}, {@link ExpectDelete},
+ * {@link ExpectMaxDelete}, {@link ExpectJdbcQueryExecution} and {@link ExpectMaxJdbcQueryExecution}. A budget of 0 is
+ * handled as a budget of 1. The offending JDBC call throws an <code>AssertionError</code> whose stack trace shows
+ * where the statement comes from.
+ * <br><br>
+ * A loop accidentally executing thousands of statements so fails in a few milliseconds.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;FailFastSqlBudgets(factor = 10)</b>
+ *      <b>&#064;ExpectMaxSelect(5)</b>
+ *      public void execute() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ */
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface FailFastSqlBudgets {
+
+    /**
+     * Specifies by how many times a budget has to be exceeded to stop the test method execution.
+     */
+    int factor() default 10;
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * The <code>SimulateDatabaseLatency</code> annotation delays each round trip to the database, as a network between
+ * the application and the database would do.
+ * <br><br>
+ * A statement execution, a batch execution, a commit and a rollback each count for one round trip. With an in-memory
+ * database, chatty data accesses (N+1 selects, row by row processing, ...) are so made visible in the execution time
+ * of the test method. The number of round trips and the simulated time are displayed in the console.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;SimulateDatabaseLatency(perRoundTripMicros = 500, jitter = 100)</b>
+ *      <b>&#064;ExpectMaxExecutionTime(milliSeconds = 100)</b>
+ *      public void execute() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ *
+ * @see org.quickperf.annotation.ExpectMaxExecutionTime
+ */
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface SimulateDatabaseLatency {
+
+    /**
+     * Specifies the latency added to each round trip, in microseconds.
+     */
+    long perRoundTripMicros();
+
+    /**
+     * Specifies the maximum random variation of the latency of a round trip, in microseconds, added or subtracted
+     * to <code>perRoundTripMicros</code>.
+     */
+    long jitter() default 0;
+
+}
@@ -97,6 +97,10 @@ public class SqlAnnotationBuilder {
             public int batchSize() {
                 return -1;
             }
+            @Override
+            public int minEfficiencyPercent() {
+                return -1;
+            }
         };
     }
 
@@ -113,6 +117,10 @@ public class SqlAnnotationBuilder {
             public int batchSize() {
                 return batchSize;
             }
+            @Override
+            public int minEfficiencyPercent() {
+                return -1;
+            }
         };
     }
 
@@ -129,6 +137,10 @@ public class SqlAnnotationBuilder {
             public int value() {
                 return value;
             }
+            @Override
+            public String dataSource() {
+                return "";
+            }
         };
     }
 
@@ -145,6 +157,10 @@ public class SqlAnnotationBuilder {
             public int value() {
                 return value;
             }
+            @Override
+            public String dataSource() {
+                return "";
+            }
         };
     }
 
@@ -194,6 +210,10 @@ public class SqlAnnotationBuilder {
             public int value() {
                 return value;
             }
+            @Override
+            public String dataSource() {
+                return "";
+            }
         };
     }
 
@@ -210,6 +230,10 @@ public class SqlAnnotationBuilder {
             public int value() {
                 return value;
             }
+            @Override
+            public String dataSource() {
+                return "";
+            }
         };
     }
 
@@ -226,6 +250,10 @@ public class SqlAnnotationBuilder {
             public int value() {
                 return value;
             }
+            @Override
+            public String dataSource() {
+                return "";
+            }
         };
     }
 
@@ -242,6 +270,10 @@ public class SqlAnnotationBuilder {
             public int value() {
                 return value;
             }
+            @Override
+            public String dataSource() {
+                return "";
+            }
         };
     }
 
@@ -258,6 +290,10 @@ public class SqlAnnotationBuilder {
             public int value() {
                 return value;
             }
+            @Override
+            public String dataSource() {
+                return "";
+            }
         };
     }
 
@@ -274,6 +310,10 @@ public class SqlAnnotationBuilder {
             public int value() {
                 return value;
             }
+            @Override
+            public String dataSource() {
+                return "";
+            }
         };
     }
 
@@ -290,6 +330,10 @@ public class SqlAnnotationBuilder {
             public int value() {
                 return value;
             }
+            @Override
+            public String dataSource() {
+                return "";
+            }
         };
     }
 
@@ -379,6 +423,10 @@ public class SqlAnnotationBuilder {
             public int value() {
                 return value;
             }
+            @Override
+            public String dataSource() {
+                return "";
+            }
         };
     }
 
@@ -394,4 +442,401 @@ public class SqlAnnotationBuilder {
         };
     }
 
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.ExpectMaxFetchedRows} annotation.
+     */
+    public static ExpectMaxFetchedRows expectMaxFetchedRows(final int value) {
+        return new ExpectMaxFetchedRows() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ExpectMaxFetchedRows.class;
+            }
+            @Override
+            public int value() {
+                return value;
+            }
+            @Override
+            public long total() {
+                return -1;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.ExpectMaxResultSetIterationTime} annotation.
+     */
+    public static ExpectMaxResultSetIterationTime expectMaxResultSetIterationTime(final int thresholdInMilliSeconds) {
+        return new ExpectMaxResultSetIterationTime() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ExpectMaxResultSetIterationTime.class;
+            }
+            @Override
+            public int thresholdInMilliSeconds() {
+                return thresholdInMilliSeconds;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.DisableUnusedSelectedColumns} annotation.
+     */
+    public static DisableUnusedSelectedColumns disableUnusedSelectedColumns(final int tolerance) {
+        return new DisableUnusedSelectedColumns() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return DisableUnusedSelectedColumns.class;
+            }
+            @Override
+            public int tolerance() {
+                return tolerance;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.ExpectMaxStatementPreparations} annotation.
+     */
+    public static ExpectMaxStatementPreparations expectMaxStatementPreparations(final int value) {
+        return new ExpectMaxStatementPreparations() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ExpectMaxStatementPreparations.class;
+            }
+            @Override
+            public int value() {
+                return value;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.ExpectMaxSqlPayloadBytes} annotation.
+     */
+    public static ExpectMaxSqlPayloadBytes expectMaxSqlPayloadBytes(final long value) {
+        return new ExpectMaxSqlPayloadBytes() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ExpectMaxSqlPayloadBytes.class;
+            }
+            @Override
+            public long value() {
+                return value;
+            }
+            @Override
+            public long sent() {
+                return -1;
+            }
+            @Override
+            public long received() {
+                return -1;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.ExpectMaxParameterBytes} annotation.
+     */
+    public static ExpectMaxParameterBytes expectMaxParameterBytes(final long value) {
+        return new ExpectMaxParameterBytes() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ExpectMaxParameterBytes.class;
+            }
+            @Override
+            public long value() {
+                return value;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.ExpectJdbcBatching} annotation.
+     */
+    public static ExpectJdbcBatching expectJdbcBatching(final int batchSize, final int minEfficiencyPercent) {
+        return new ExpectJdbcBatching() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ExpectJdbcBatching.class;
+            }
+            @Override
+            public int batchSize() {
+                return batchSize;
+            }
+            @Override
+            public int minEfficiencyPercent() {
+                return minEfficiencyPercent;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.DisablePerRowKeyGeneration} annotation.
+     */
+    public static DisablePerRowKeyGeneration disablePerRowKeyGeneration() {
+        return new DisablePerRowKeyGeneration() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return DisablePerRowKeyGeneration.class;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.ExpectMaxDistinctSqlShapes} annotation.
+     */
+    public static ExpectMaxDistinctSqlShapes expectMaxDistinctSqlShapes(final int value) {
+        return new ExpectMaxDistinctSqlShapes() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ExpectMaxDistinctSqlShapes.class;
+            }
+            @Override
+            public int value() {
+                return value;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.DisableUnpaddedInLists} annotation.
+     */
+    public static DisableUnpaddedInLists disableUnpaddedInLists() {
+        return new DisableUnpaddedInLists() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return DisableUnpaddedInLists.class;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.DisableDeepOffsetPagination} annotation.
+     */
+    public static DisableDeepOffsetPagination disableDeepOffsetPagination(final long maxOffset) {
+        return new DisableDeepOffsetPagination() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return DisableDeepOffsetPagination.class;
+            }
+            @Override
+            public long maxOffset() {
+                return maxOffset;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.ExpectBoundedSelects} annotation.
+     */
+    public static ExpectBoundedSelects expectBoundedSelects(final long maxRowsWithoutLimit) {
+        return new ExpectBoundedSelects() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ExpectBoundedSelects.class;
+            }
+            @Override
+            public long maxRowsWithoutLimit() {
+                return maxRowsWithoutLimit;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.ExpectNoFullTableScan} annotation.
+     */
+    public static ExpectNoFullTableScan expectNoFullTableScan(final String... allowedTables) {
+        return new ExpectNoFullTableScan() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ExpectNoFullTableScan.class;
+            }
+            @Override
+            public String[] allowedTables() {
+                return allowedTables;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.ExpectIndexedPredicates} annotation.
+     */
+    public static ExpectIndexedPredicates expectIndexedPredicates() {
+        return new ExpectIndexedPredicates() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ExpectIndexedPredicates.class;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.SimulateDatabaseLatency} annotation.
+     */
+    public static SimulateDatabaseLatency simulateDatabaseLatency(final long perRoundTripMicros, final long jitter) {
+        return new SimulateDatabaseLatency() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return SimulateDatabaseLatency.class;
+            }
+            @Override
+            public long perRoundTripMicros() {
+                return perRoundTripMicros;
+            }
+            @Override
+            public long jitter() {
+                return jitter;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.ExpectSqlLatencyPercentile} annotation.
+     */
+    public static ExpectSqlLatencyPercentile expectSqlLatencyPercentile(final double percentile, final long maxMicros) {
+        return new ExpectSqlLatencyPercentile() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ExpectSqlLatencyPercentile.class;
+            }
+            @Override
+            public double percentile() {
+                return percentile;
+            }
+            @Override
+            public long maxMicros() {
+                return maxMicros;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.FailFastSqlBudgets} annotation.
+     */
+    public static FailFastSqlBudgets failFastSqlBudgets(final int factor) {
+        return new FailFastSqlBudgets() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return FailFastSqlBudgets.class;
+            }
+            @Override
+            public int factor() {
+                return factor;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.ExpectNoPerfRegression} annotation.
+     */
+    public static ExpectNoPerfRegression expectNoPerfRegression(final double tolerancePercent) {
+        return new ExpectNoPerfRegression() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ExpectNoPerfRegression.class;
+            }
+            @Override
+            public double tolerancePercent() {
+                return tolerancePercent;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.ExportSqlTrace} annotation.
+     */
+    public static ExportSqlTrace exportSqlTrace(final String directory) {
+        return new ExportSqlTrace() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ExportSqlTrace.class;
+            }
+            @Override
+            public String directory() {
+                return directory;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.DisplaySqlCacheability} annotation.
+     */
+    public static DisplaySqlCacheability displaySqlCacheability(final int... cacheSizes) {
+        return new DisplaySqlCacheability() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return DisplaySqlCacheability.class;
+            }
+            @Override
+            public int[] cacheSizes() {
+                return cacheSizes;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.DisableSameInserts} annotation.
+     */
+    public static DisableSameInserts disableSameInserts() {
+        return new DisableSameInserts() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return DisableSameInserts.class;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.DisableSameUpdates} annotation.
+     */
+    public static DisableSameUpdates disableSameUpdates() {
+        return new DisableSameUpdates() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return DisableSameUpdates.class;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.DisableSameDeletes} annotation.
+     */
+    public static DisableSameDeletes disableSameDeletes() {
+        return new DisableSameDeletes() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return DisableSameDeletes.class;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.DisableFullRowUpdates} annotation.
+     */
+    public static DisableFullRowUpdates disableFullRowUpdates() {
+        return new DisableFullRowUpdates() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return DisableFullRowUpdates.class;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.sql.annotation.ExpectMaxSqlTimeRatio} annotation.
+     */
+    public static ExpectMaxSqlTimeRatio expectMaxSqlTimeRatio(final double value) {
+        return new ExpectMaxSqlTimeRatio() {
+            @Override
+            public double value() {
+                return value;
+            }
+
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ExpectMaxSqlTimeRatio.class;
+            }
+        };
+    }
+
 }
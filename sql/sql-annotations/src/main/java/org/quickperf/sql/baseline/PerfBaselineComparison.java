@@ -0,0 +1,72 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.baseline;
+
+import org.quickperf.measure.PerfMeasure;
+
+import java.io.File;
+
+/**
+ * Metrics of the test execution and metrics of the baseline they are compared to.
+ */
+public class PerfBaselineComparison implements PerfMeasure<PerfMetrics, Void> {
+
+    private final PerfMetrics perfMetrics;
+
+    private final PerfMetrics baseline;
+
+    private final File baselineFile;
+
+    private final String testId;
+
+    PerfBaselineComparison(PerfMetrics perfMetrics, PerfMetrics baseline, File baselineFile, String testId) {
+        this.perfMetrics = perfMetrics;
+        this.baseline = baseline;
+        this.baselineFile = baselineFile;
+        this.testId = testId;
+    }
+
+    /**
+     * @return false if the test has no baseline yet or if the baseline is to be rewritten
+     */
+    public boolean hasBaseline() {
+        return baseline != null;
+    }
+
+    PerfMetrics getBaseline() {
+        return baseline;
+    }
+
+    File getBaselineFile() {
+        return baselineFile;
+    }
+
+    String getTestId() {
+        return testId;
+    }
+
+    @Override
+    public PerfMetrics getValue() {
+        return perfMetrics;
+    }
+
+    @Override
+    public Void getUnit() {
+        return null;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.baseline;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import org.quickperf.SystemProperties;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.WorkingFolder;
+import org.quickperf.repository.ObjectFileRepository;
+import org.quickperf.sql.QueryTypeRetriever;
+import org.quickperf.sql.SqlRecorder;
+import org.quickperf.sql.SqlRecorderRegistry;
+import org.quickperf.sql.time.ExecutionNanoTime;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the metrics of the test method execution and retrieves the baseline of the test.
+ * <br><br>
+ * No baseline is retrieved when the <code>updateQuickPerfBaselines</code> system property is <code>true</code>,
+ * {@link PerfRegressionVerifier} then writing the metrics as the new baseline. The baseline is read and written by
+ * the JVM running the test runner, the test method being possibly executed in a specific JVM.
+ */
+public class PerfBaselineRecorder implements SqlRecorder<PerfBaselineComparison> {
+
+    private static final String PERF_METRICS_FILE_NAME = "perf-metrics.ser";
+
+    private long selectCount;
+
+    private long insertCount;
+
+    private long updateCount;
+
+    private long deleteCount;
+
+    private long jdbcExecutionCount;
+
+    private long sqlTimeInNs;
+
+    private long startTimeInNs;
+
+    private PerfMetrics perfMetrics;
+
+    @Override
+    public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries, int listenerIdentifier) {
+        jdbcExecutionCount++;
+        sqlTimeInNs += ExecutionNanoTime.INSTANCE.findElapsedNanoTimeOf(execInfo);
+        QueryTypeRetriever queryTypeRetriever = QueryTypeRetriever.INSTANCE;
+        for (QueryInfo query : queries) {
+            QueryType queryType = queryTypeRetriever.typeOf(query);
+            if (queryType == QueryType.SELECT) {
+                selectCount++;
+            } else if (queryType == QueryType.INSERT) {
+                insertCount++;
+            } else if (queryType == QueryType.UPDATE) {
+                updateCount++;
+            } else if (queryType == QueryType.DELETE) {
+                deleteCount++;
+            }
+        }
+    }
+
+    @Override
+    public void startRecording(TestExecutionContext testExecutionContext) {
+        selectCount = 0;
+        insertCount = 0;
+        updateCount = 0;
+        deleteCount = 0;
+        jdbcExecutionCount = 0;
+        sqlTimeInNs = 0;
+        SqlRecorderRegistry.INSTANCE.register(this);
+        startTimeInNs = System.nanoTime();
+    }
+
+    @Override
+    public void stopRecording(TestExecutionContext testExecutionContext) {
+        long executionTimeInNs = System.nanoTime() - startTimeInNs;
+        SqlRecorderRegistry.unregister(this);
+        perfMetrics = new PerfMetrics();
+        perfMetrics.put(PerfMetric.SELECT, selectCount);
+        perfMetrics.put(PerfMetric.INSERT, insertCount);
+        perfMetrics.put(PerfMetric.UPDATE, updateCount);
+        perfMetrics.put(PerfMetric.DELETE, deleteCount);
+        perfMetrics.put(PerfMetric.JDBC_EXECUTION, jdbcExecutionCount);
+        perfMetrics.put(PerfMetric.SQL_TIME, TimeUnit.NANOSECONDS.toMillis(sqlTimeInNs));
+        perfMetrics.put(PerfMetric.EXECUTION_TIME, TimeUnit.NANOSECONDS.toMillis(executionTimeInNs));
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            ObjectFileRepository.INSTANCE.save(workingFolder, PERF_METRICS_FILE_NAME, perfMetrics);
+        }
+    }
+
+    @Override
+    public PerfBaselineComparison findRecord(TestExecutionContext testExecutionContext) {
+
+        PerfMetrics testPerfMetrics = perfMetrics;
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            testPerfMetrics = (PerfMetrics) ObjectFileRepository.INSTANCE.find(workingFolder.getPath(), PERF_METRICS_FILE_NAME);
+        }
+
+        File baselineFile = new File(SystemProperties.PERF_BASELINE_FILE.evaluate()).getAbsoluteFile();
+        String testId = testExecutionContext.getTestId();
+
+        PerfMetrics baseline = SystemProperties.UPDATE_PERF_BASELINES.evaluate()
+                             ? null
+                             : PerfBaselineRepository.INSTANCE.find(baselineFile, testId);
+        return new PerfBaselineComparison(testPerfMetrics, baseline, baselineFile, testId);
+
+    }
+
+    @Override
+    public void cleanResources() { }
+
+}
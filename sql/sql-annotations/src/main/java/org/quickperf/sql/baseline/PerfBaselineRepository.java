@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.baseline;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Stores the baselines of the tests in a text file, one <code>testId=metrics</code> line per test.
+ * <br><br>
+ * The lines are sorted by test id to keep the file diffs small under version control. The file is locked while it
+ * is read or rewritten, test JVMs forked by the build tool being able to use it at the same time: a shared lock
+ * is taken to read it and an exclusive lock to read and rewrite it.
+ */
+class PerfBaselineRepository {
+
+    static final PerfBaselineRepository INSTANCE = new PerfBaselineRepository();
+
+    private static final String HEADER = "# QuickPerf baselines, rewritten with -DupdateQuickPerfBaselines=true";
+
+    private PerfBaselineRepository() { }
+
+    synchronized PerfMetrics find(File baselineFile, String testId) {
+        if (!baselineFile.exists()) {
+            return null;
+        }
+        try (RandomAccessFile file = new RandomAccessFile(baselineFile, "r");
+             FileLock ignored = file.getChannel().lock(0, Long.MAX_VALUE, true)) {
+            String metrics = parse(read(file.getChannel())).get(testId);
+            return metrics == null ? null : PerfMetrics.parse(metrics);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read the QuickPerf baselines of " + baselineFile, e);
+        }
+    }
+
+    synchronized void save(File baselineFile, String testId, PerfMetrics perfMetrics) {
+        try (RandomAccessFile file = new RandomAccessFile(baselineFile, "rw");
+             FileLock ignored = file.getChannel().lock()) {
+            FileChannel channel = file.getChannel();
+            Map<String, String> metricsByTestId = parse(read(channel));
+            metricsByTestId.put(testId, perfMetrics.format());
+            byte[] content = format(metricsByTestId).getBytes(StandardCharsets.UTF_8);
+            channel.truncate(0);
+            channel.write(ByteBuffer.wrap(content), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to write the QuickPerf baselines of " + baselineFile, e);
+        }
+    }
+
+    private String read(FileChannel channel) throws IOException {
+        ByteBuffer content = ByteBuffer.allocate((int) channel.size());
+        while (content.hasRemaining() && channel.read(content, content.position()) != -1) {
+            // Reads until the end of the file
+        }
+        return new String(content.array(), StandardCharsets.UTF_8);
+    }
+
+    private Map<String, String> parse(String content) {
+        Map<String, String> metricsByTestId = new TreeMap<>();
+        for (String line : content.split("\\r?\\n")) {
+            int separatorIndex = line.indexOf('=');
+            if (line.startsWith("#") || separatorIndex == -1) {
+                continue;
+            }
+            metricsByTestId.put(line.substring(0, separatorIndex).trim(), line.substring(separatorIndex + 1).trim());
+        }
+        return metricsByTestId;
+    }
+
+    private String format(Map<String, String> metricsByTestId) {
+        StringBuilder content = new StringBuilder(HEADER).append('\n');
+        for (Map.Entry<String, String> testMetrics : metricsByTestId.entrySet()) {
+            content.append(testMetrics.getKey()).append('=').append(testMetrics.getValue()).append('\n');
+        }
+        return content.toString();
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.baseline;
+
+/**
+ * Metric recorded in the baseline of a test.
+ * <br><br>
+ * The time metrics are only regarded as regressed if they also exceed their baseline by more than a few
+ * tens of milliseconds, short tests having a relative time variation far greater than the tolerance.
+ */
+enum PerfMetric {
+
+      SELECT("select", "select statements", false)
+    , INSERT("insert", "insert statements", false)
+    , UPDATE("update", "update statements", false)
+    , DELETE("delete", "delete statements", false)
+    , JDBC_EXECUTION("jdbcExecution", "JDBC executions", false)
+    , SQL_TIME("sqlTimeMs", "SQL time (ms)", true)
+    , EXECUTION_TIME("executionTimeMs", "execution time (ms)", true);
+
+    private static final long TIME_NOISE_IN_MS = 20;
+
+    private final String key;
+
+    private final String description;
+
+    private final boolean time;
+
+    PerfMetric(String key, String description, boolean time) {
+        this.key = key;
+        this.description = description;
+        this.time = time;
+    }
+
+    static PerfMetric ofKey(String key) {
+        for (PerfMetric perfMetric : values()) {
+            if (perfMetric.key.equals(key)) {
+                return perfMetric;
+            }
+        }
+        return null;
+    }
+
+    boolean regresses(long baselineValue, long value, double tolerancePercent) {
+        double maxValue = baselineValue * (1 + tolerancePercent / 100);
+        if (value <= maxValue) {
+            return false;
+        }
+        return !time || value - baselineValue > TIME_NOISE_IN_MS;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    String getDescription() {
+        return description;
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.baseline;
+
+import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Values of the metrics of a test execution, written in a baseline file as <code>select:2,insert:0,...</code>.
+ */
+public class PerfMetrics implements Serializable {
+
+    private final EnumMap<PerfMetric, Long> valueByMetric = new EnumMap<>(PerfMetric.class);
+
+    void put(PerfMetric perfMetric, long value) {
+        valueByMetric.put(perfMetric, value);
+    }
+
+    /**
+     * @return the value of the metric, <code>null</code> if the metric was not recorded
+     */
+    Long get(PerfMetric perfMetric) {
+        return valueByMetric.get(perfMetric);
+    }
+
+    String format() {
+        StringBuilder formatted = new StringBuilder();
+        for (Map.Entry<PerfMetric, Long> metricValue : valueByMetric.entrySet()) {
+            if (formatted.length() != 0) {
+                formatted.append(',');
+            }
+            formatted.append(metricValue.getKey().getKey()).append(':').append(metricValue.getValue());
+        }
+        return formatted.toString();
+    }
+
+    /**
+     * Unknown metrics and malformed values are ignored, a baseline file written by another QuickPerf version
+     * remaining readable.
+     */
+    static PerfMetrics parse(String formatted) {
+        PerfMetrics perfMetrics = new PerfMetrics();
+        for (String metricValue : formatted.split(",")) {
+            int separatorIndex = metricValue.indexOf(':');
+            if (separatorIndex == -1) {
+                continue;
+            }
+            PerfMetric perfMetric = PerfMetric.ofKey(metricValue.substring(0, separatorIndex).trim());
+            if (perfMetric == null) {
+                continue;
+            }
+            try {
+                long value = Long.parseLong(metricValue.substring(separatorIndex + 1).trim());
+                perfMetrics.put(perfMetric, value);
+            } catch (NumberFormatException e) {
+                // Metric ignored
+            }
+        }
+        return perfMetrics;
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.baseline;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.ExpectNoPerfRegression;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PerfRegressionVerifier implements VerifiablePerformanceIssue<ExpectNoPerfRegression, PerfBaselineComparison> {
+
+    public static final PerfRegressionVerifier INSTANCE = new PerfRegressionVerifier();
+
+    private PerfRegressionVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(ExpectNoPerfRegression annotation, PerfBaselineComparison comparison) {
+
+        if (!comparison.hasBaseline()) {
+            PerfBaselineRepository.INSTANCE.save(comparison.getBaselineFile(), comparison.getTestId(), comparison.getValue());
+            return PerfIssue.NONE;
+        }
+
+        double tolerancePercent = annotation.tolerancePercent();
+        PerfMetrics perfMetrics = comparison.getValue();
+        PerfMetrics baseline = comparison.getBaseline();
+
+        List<String> regressions = new ArrayList<>();
+        for (PerfMetric perfMetric : PerfMetric.values()) {
+            Long baselineValue = baseline.get(perfMetric);
+            Long value = perfMetrics.get(perfMetric);
+            if (baselineValue != null && value != null && perfMetric.regresses(baselineValue, value, tolerancePercent)) {
+                regressions.add(describeRegression(perfMetric, baselineValue, value));
+            }
+        }
+
+        if (regressions.isEmpty()) {
+            return PerfIssue.NONE;
+        }
+
+        return buildPerfIssue(tolerancePercent, regressions, comparison);
+
+    }
+
+    private String describeRegression(PerfMetric perfMetric, long baselineValue, long value) {
+        String increase = baselineValue == 0 ? "no baseline value"
+                                             : "+" + Math.round((value - baselineValue) * 100d / baselineValue) + "%";
+        return "\t" + perfMetric.getDescription() + ": " + baselineValue + " -> " + value + " (" + increase + ")";
+    }
+
+    private PerfIssue buildPerfIssue(double tolerancePercent, List<String> regressions, PerfBaselineComparison comparison) {
+        StringBuilder description = new StringBuilder();
+        description.append("You may think that the test performance has not regressed compared to its baseline")
+                   .append(" (tolerance of ").append(formatPercent(tolerancePercent)).append("%)")
+                   .append(System.lineSeparator())
+                   .append("       ").append("But there ").append(regressions.size() > 1 ? "are" : "is")
+                   .append(" in fact ").append(regressions.size())
+                   .append(regressions.size() > 1 ? " regressed metrics:" : " regressed metric:")
+                   .append(System.lineSeparator());
+        for (String regression : regressions) {
+            description.append(System.lineSeparator()).append(regression);
+        }
+        description.append(System.lineSeparator())
+                   .append(System.lineSeparator())
+                   .append("If the new values are expected, rewrite the baseline of ")
+                   .append(comparison.getBaselineFile())
+                   .append(" with -DupdateQuickPerfBaselines=true.");
+        return new PerfIssue(description.toString());
+    }
+
+    private String formatPercent(double percent) {
+        if (percent == Math.rint(percent)) {
+            return String.valueOf((long) percent);
+        }
+        return String.valueOf(percent);
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.batch;
+
+import java.io.Serializable;
+
+/*
+* Batch executions of the insert, update or delete statements having the same SQL shape.
+*/
+class ShapeBatchStatistics implements Serializable {
+
+    private final String sql;
+
+    private int batchCount;
+
+    private int minRowsPerBatch;
+
+    private int maxRowsPerBatch;
+
+    private long batchedRows;
+
+    private int singletonCount;
+
+    private int batchBreakCount;
+
+    ShapeBatchStatistics(String sql) {
+        this.sql = sql;
+    }
+
+    void addBatch(int rows) {
+        if (batchCount == 0 || rows < minRowsPerBatch) {
+            minRowsPerBatch = rows;
+        }
+        maxRowsPerBatch = Math.max(maxRowsPerBatch, rows);
+        batchedRows += rows;
+        batchCount++;
+    }
+
+    void addSingleton() {
+        singletonCount++;
+    }
+
+    void addBatchBreak() {
+        batchBreakCount++;
+    }
+
+    String getSql() {
+        return sql;
+    }
+
+    int getBatchCount() {
+        return batchCount;
+    }
+
+    int getMinRowsPerBatch() {
+        return minRowsPerBatch;
+    }
+
+    int getMaxRowsPerBatch() {
+        return maxRowsPerBatch;
+    }
+
+    double getAverageRowsPerBatch() {
+        return batchCount == 0 ? 0 : (double) batchedRows / batchCount;
+    }
+
+    /**
+     * @return the number of executions out of a JDBC batch
+     */
+    int getSingletonCount() {
+        return singletonCount;
+    }
+
+    /**
+     * @return the number of times the statement was executed again after the execution of another insert, update or
+     * delete statement on the same connection
+     */
+    int getBatchBreakCount() {
+        return batchBreakCount;
+    }
+
+    long getRows() {
+        return batchedRows + singletonCount;
+    }
+
+    long getExecutionCount() {
+        return batchCount + singletonCount;
+    }
+
+}
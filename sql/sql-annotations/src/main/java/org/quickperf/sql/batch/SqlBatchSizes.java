@@ -15,9 +15,12 @@ import org.quickperf.measure.PerfMeasure;
 import org.quickperf.unit.CountUnit;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /*
-* Different batch sizes of batch executions.
+* Different batch sizes of batch executions, with the batch statistics of each SQL shape.
 */
 class SqlBatchSizes implements PerfMeasure<int[], CountUnit>, Serializable {
 
@@ -25,8 +28,52 @@ class SqlBatchSizes implements PerfMeasure<int[], CountUnit>, Serializable {
 
     private final int[] measuredBatchSizes;
 
+    private final List<ShapeBatchStatistics> shapeBatchStatistics;
+
     SqlBatchSizes(int[] measuredBatchSizes) {
+        this(measuredBatchSizes, Collections.<ShapeBatchStatistics>emptyList());
+    }
+
+    SqlBatchSizes(int[] measuredBatchSizes, List<ShapeBatchStatistics> shapeBatchStatistics) {
         this.measuredBatchSizes = measuredBatchSizes;
+        this.shapeBatchStatistics = new ArrayList<>(shapeBatchStatistics);
+    }
+
+    List<ShapeBatchStatistics> getShapeBatchStatistics() {
+        return Collections.unmodifiableList(shapeBatchStatistics);
+    }
+
+    int findMaxRowsPerBatch() {
+        int maxRowsPerBatch = 0;
+        for (ShapeBatchStatistics statistics : shapeBatchStatistics) {
+            maxRowsPerBatch = Math.max(maxRowsPerBatch, statistics.getMaxRowsPerBatch());
+        }
+        return maxRowsPerBatch;
+    }
+
+    /**
+     * @return the rows of all the shapes divided by the rows that the executions could have processed with full
+     * batches, -1 if no insert, update or delete statement was executed
+     */
+    double computeEfficiency(int batchSize) {
+        long rows = 0;
+        long executionCount = 0;
+        for (ShapeBatchStatistics statistics : shapeBatchStatistics) {
+            rows += statistics.getRows();
+            executionCount += statistics.getExecutionCount();
+        }
+        if (executionCount == 0) {
+            return -1;
+        }
+        return (double) rows / (executionCount * Math.max(batchSize, 1));
+    }
+
+    int countBatchBreaks() {
+        int batchBreakCount = 0;
+        for (ShapeBatchStatistics statistics : shapeBatchStatistics) {
+            batchBreakCount += statistics.getBatchBreakCount();
+        }
+        return batchBreakCount;
     }
 
     @Override
@@ -18,10 +18,17 @@ import org.quickperf.TestExecutionContext;
 import org.quickperf.WorkingFolder;
 import org.quickperf.repository.ObjectFileRepository;
 import org.quickperf.sql.QueryTypeRetriever;
+import org.quickperf.sql.SqlFingerprint;
 import org.quickperf.sql.SqlRecorder;
 import org.quickperf.sql.SqlRecorderRegistry;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class SqlStatementBatchRecorder implements SqlRecorder<SqlBatchSizes> {
 
@@ -33,6 +40,12 @@ public class SqlStatementBatchRecorder implements SqlRecorder<SqlBatchSizes> {
        insert, delete or update sql orders.*/
     private int[] differentBatchSizes = new int[0];
 
+    private final Map<SqlFingerprint, ShapeBatchStatistics> statisticsByFingerprint = new LinkedHashMap<>();
+
+    private final Map<String, SqlFingerprint> lastShapeByConnection = new HashMap<>();
+
+    private final Map<String, Set<SqlFingerprint>> executedShapesByConnection = new HashMap<>();
+
     @Override
     public void startRecording(TestExecutionContext testExecutionContext) {
         SqlRecorderRegistry.INSTANCE.register(this);
@@ -49,7 +62,12 @@ public class SqlStatementBatchRecorder implements SqlRecorder<SqlBatchSizes> {
 
     private void saveCharacteristicsOfBatchExecutions(int[] batchExecutions, WorkingFolder workingFolder) {
         ObjectFileRepository objectFileRepository = ObjectFileRepository.INSTANCE;
-        objectFileRepository.save(workingFolder, BATCH_FILE_NAME, new SqlBatchSizes(batchExecutions));
+        objectFileRepository.save(workingFolder, BATCH_FILE_NAME, buildSqlBatchSizes(batchExecutions));
+    }
+
+    private SqlBatchSizes buildSqlBatchSizes(int[] batchExecutions) {
+        List<ShapeBatchStatistics> shapeBatchStatistics = new ArrayList<>(statisticsByFingerprint.values());
+        return new SqlBatchSizes(batchExecutions, shapeBatchStatistics);
     }
 
     @Override
@@ -62,7 +80,7 @@ public class SqlStatementBatchRecorder implements SqlRecorder<SqlBatchSizes> {
                                                            , BATCH_FILE_NAME);
         }
 
-        return new SqlBatchSizes(differentBatchSizes);
+        return buildSqlBatchSizes(differentBatchSizes);
     }
 
     @Override
@@ -78,6 +96,51 @@ public class SqlStatementBatchRecorder implements SqlRecorder<SqlBatchSizes> {
                 previousStatementsAreBatched = execInfo.isBatch();
             }
         }
+        recordShapeStatistics(execInfo, queries);
+    }
+
+    private void recordShapeStatistics(ExecutionInfo execInfo, List<QueryInfo> queries) {
+
+        Map<SqlFingerprint, Integer> rowsByFingerprint = new LinkedHashMap<>();
+        Map<SqlFingerprint, String> sqlByFingerprint = new HashMap<>();
+        for (QueryInfo query : queries) {
+            if (isRequestTypeInsertOrUpdateOrDeleteType(query)) {
+                SqlFingerprint fingerprint = SqlFingerprint.of(query.getQuery());
+                int rows = execInfo.isBatch() ? Math.max(1, query.getParametersList().size()) : 1;
+                Integer previousRows = rowsByFingerprint.get(fingerprint);
+                rowsByFingerprint.put(fingerprint, previousRows == null ? rows : previousRows + rows);
+                sqlByFingerprint.put(fingerprint, query.getQuery());
+            }
+        }
+
+        for (Map.Entry<SqlFingerprint, Integer> rowsOfFingerprint : rowsByFingerprint.entrySet()) {
+            SqlFingerprint fingerprint = rowsOfFingerprint.getKey();
+            ShapeBatchStatistics statistics = statisticsByFingerprint.get(fingerprint);
+            if (statistics == null) {
+                statistics = new ShapeBatchStatistics(sqlByFingerprint.get(fingerprint));
+                statisticsByFingerprint.put(fingerprint, statistics);
+            }
+            if (execInfo.isBatch()) {
+                statistics.addBatch(rowsOfFingerprint.getValue());
+            } else {
+                statistics.addSingleton();
+            }
+            if (isBatchBreak(execInfo.getConnectionId(), fingerprint)) {
+                statistics.addBatchBreak();
+            }
+        }
+
+    }
+
+    private boolean isBatchBreak(String connectionId, SqlFingerprint fingerprint) {
+        SqlFingerprint lastShape = lastShapeByConnection.put(connectionId, fingerprint);
+        Set<SqlFingerprint> executedShapes = executedShapesByConnection.get(connectionId);
+        if (executedShapes == null) {
+            executedShapes = new HashSet<>();
+            executedShapesByConnection.put(connectionId, executedShapes);
+        }
+        boolean alreadyExecuted = !executedShapes.add(fingerprint);
+        return alreadyExecuted && !fingerprint.equals(lastShape);
     }
 
     private int[] createTableWithNewBatchSize(int batchSize) {
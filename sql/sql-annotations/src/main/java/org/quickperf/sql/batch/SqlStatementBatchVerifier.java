@@ -16,6 +16,8 @@ import org.quickperf.issue.VerifiablePerformanceIssue;
 import org.quickperf.sql.annotation.ExpectJdbcBatching;
 import org.quickperf.sql.framework.JdbcSuggestion;
 
+import java.util.Locale;
+
 public class SqlStatementBatchVerifier implements VerifiablePerformanceIssue<ExpectJdbcBatching, SqlBatchSizes> {
 
     public static final SqlStatementBatchVerifier INSTANCE = new SqlStatementBatchVerifier();
@@ -30,13 +32,76 @@ public class SqlStatementBatchVerifier implements VerifiablePerformanceIssue<Exp
         int[] measuredBatchSizesAsArray = measuredSqlBatchSizes.getValue();
 
         boolean userHasGivenBatchSize = expectedBatchSize != -1;
+        PerfIssue batchSizeIssue;
         if (userHasGivenBatchSize) {
-            return verifyBatchSize(expectedBatchSize
-                                 , measuredBatchSizesAsArray);
+            batchSizeIssue = verifyBatchSize(expectedBatchSize
+                                           , measuredBatchSizesAsArray);
+        } else {
+            batchSizeIssue = verifyThatInsertUpdateDeleteExecutionAreBatched(measuredBatchSizesAsArray);
+        }
+        if (batchSizeIssue != PerfIssue.NONE) {
+            return batchSizeIssue;
         }
 
-        return verifyThatInsertUpdateDeleteExecutionAreBatched(measuredBatchSizesAsArray);
+        if (annotation.minEfficiencyPercent() >= 0) {
+            return verifyEfficiency(annotation, measuredSqlBatchSizes);
+        }
+
+        return PerfIssue.NONE;
+
+    }
+
+    private PerfIssue verifyEfficiency(ExpectJdbcBatching annotation, SqlBatchSizes measuredSqlBatchSizes) {
+
+        int referenceBatchSize = annotation.batchSize() > 0
+                               ? annotation.batchSize()
+                               : measuredSqlBatchSizes.findMaxRowsPerBatch();
+        double efficiency = measuredSqlBatchSizes.computeEfficiency(referenceBatchSize);
+        if (efficiency < 0 || efficiency * 100 >= annotation.minEfficiencyPercent()) {
+            return PerfIssue.NONE;
+        }
+
+        StringBuilder description = new StringBuilder();
+        description.append("You may think that the JDBC batch efficiency is at least <")
+                   .append(annotation.minEfficiencyPercent()).append("%>.")
+                   .append(System.lineSeparator())
+                   .append("But it is <").append(formatPercent(efficiency)).append("> for a batch size of <")
+                   .append(referenceBatchSize).append(">:");
+
+        for (ShapeBatchStatistics statistics : measuredSqlBatchSizes.getShapeBatchStatistics()) {
+            description.append(System.lineSeparator())
+                       .append(System.lineSeparator())
+                       .append("\t").append(statistics.getSql())
+                       .append(System.lineSeparator())
+                       .append("\t").append(formatStatistics(statistics, referenceBatchSize));
+        }
+
+        if (measuredSqlBatchSizes.countBatchBreaks() > 0) {
+            description.append(System.lineSeparator())
+                       .append(System.lineSeparator())
+                       .append("Some batches are broken by the execution of other insert, update or delete statements.")
+                       .append(System.lineSeparator())
+                       .append(JdbcSuggestion.BATCHING.getMessage());
+        }
+
+        return new PerfIssue(description.toString());
+
+    }
+
+    private String formatStatistics(ShapeBatchStatistics statistics, int referenceBatchSize) {
+        double shapeEfficiency = (double) statistics.getRows()
+                               / (statistics.getExecutionCount() * Math.max(referenceBatchSize, 1));
+        return    "<" + statistics.getBatchCount() + "> batches"
+                + " (rows per batch min/avg/max: " + statistics.getMinRowsPerBatch()
+                + "/" + String.format(Locale.ENGLISH, "%.1f", statistics.getAverageRowsPerBatch())
+                + "/" + statistics.getMaxRowsPerBatch() + ")"
+                + ", <" + statistics.getSingletonCount() + "> executions out of batch"
+                + ", <" + statistics.getBatchBreakCount() + "> batch breaks"
+                + ", efficiency " + formatPercent(shapeEfficiency);
+    }
 
+    private String formatPercent(double ratio) {
+        return String.format(Locale.ENGLISH, "%.0f%%", ratio * 100);
     }
 
     private PerfIssue verifyThatInsertUpdateDeleteExecutionAreBatched(int[] measuredBatchSizesAsArray) {
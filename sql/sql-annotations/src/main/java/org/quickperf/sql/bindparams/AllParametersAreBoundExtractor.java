@@ -16,10 +16,8 @@ import org.quickperf.ExtractablePerformanceMeasure;
 import org.quickperf.measure.BooleanMeasure;
 import org.quickperf.sql.SqlExecution;
 import org.quickperf.sql.SqlExecutions;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import org.quickperf.sql.SqlLexer;
+import org.quickperf.sql.SqlTokens;
 
 public class AllParametersAreBoundExtractor implements ExtractablePerformanceMeasure<SqlExecutions, BooleanMeasure> {
 
@@ -41,131 +39,60 @@ public class AllParametersAreBoundExtractor implements ExtractablePerformanceMea
     }
 
     private boolean oneUnbindParameter(QueryInfo query) {
-        final String queryString = query.getQuery();
-        String queryStrippedOfQuotes = stripQuotesContent(queryString);
-        final String queryInLowerCase = queryStrippedOfQuotes.toLowerCase();
-        if (SqlKeyWord.hasConditions(queryInLowerCase)) {
-            List<String> conditions = SqlKeyWord.extractConditions(queryInLowerCase);
-            for (String condition : conditions) {
-                SqlKeyWord sqlKeyWord = SqlKeyWord.wherePartSplitter(condition);
-                if (sqlKeyWord.hasUnBindParameter(condition)) {
-                    return true;
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(query.getQuery());
+        boolean[] conditionPartByDepth = new boolean[sqlTokens.size() + 1];
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            int depth = sqlTokens.depthAt(i);
+            if (sqlTokens.isSymbolAt(i, '(')) {
+                conditionPartByDepth[depth] = conditionPartByDepth[depth - 1];
+            } else if (sqlTokens.typeAt(i) == SqlTokens.Type.WORD) {
+                SqlKeyWord sqlKeyWord = SqlKeyWord.of(sqlTokens, i);
+                if (sqlKeyWord != null) {
+                    conditionPartByDepth[depth] = sqlKeyWord.startsConditionPart;
                 }
+            } else if (conditionPartByDepth[depth] && sqlTokens.isLiteralAt(i)) {
+                return true;
             }
         }
         return false;
     }
 
-    private String stripQuotesContent(final String queryString) {
-        String[] queryElements = queryString.split("");
-        String queryStrippedOfQuotes = "";
-        boolean isBetweenQuotes = false;
-        for (String queryElement : queryElements) {
-            if (queryElement.equals("'")) {
-                isBetweenQuotes = !isBetweenQuotes;
-            } else if (!isBetweenQuotes) {
-                queryStrippedOfQuotes += queryElement;
-            }
-        }
-        return queryStrippedOfQuotes;
-    }
-
     private enum SqlKeyWord {
-        IN("in") {
-            @Override
-            boolean hasUnBindParameter(String andOrPart) {
-                if (isReferencedNestedStatement(andOrPart)) {
-                    return false;
-                }
-                return hasUnBindParameter(IN, andOrPart);
-            }
-        },
-        VALUES("values") {
-            @Override
-            boolean hasUnBindParameter(String andOrPart) {
-                return hasUnBindParameter(VALUES, andOrPart);
-            }
-        },
-        SET("set") {
-            @Override
-            boolean hasUnBindParameter(String andOrPart) {
-                return hasUnBindParameter(SET, andOrPart);
-            }
-        },
-        OTHER("other") {
-            @Override
-            boolean hasUnBindParameter(String andOrPart) {
-                andOrPart = andOrPart.replaceAll(" ", "");
-                if (isReferencedNestedStatement(andOrPart)) {
-                    return false;
-                }
-
-                if(isJoinWithWhereUsed(andOrPart)) {
-                    return false;
-                }
-
-                return isUnbindParameter(andOrPart);
-            }
-
-            // Example WHERE a.title=b.title
-            private boolean isJoinWithWhereUsed(final String andOrPart) {
-                String[] equalParts = andOrPart.split("=");
-                return equalParts[0].contains(".") && equalParts.length == 2 && equalParts[1].contains(".");
-            }
-        };
-
-        private static boolean isUnbindParameter(String parameter) {
-            return !parameter.contains("?");
-        }
+          WHERE("where", true)
+        , HAVING("having", true)
+        , ON("on", true)
+        , SET("set", true)
+        , VALUES("values", true)
+        , SELECT("select", false)
+        , GROUP("group", false)
+        , ORDER("order", false)
+        , LIMIT("limit", false)
+        , OFFSET("offset", false)
+        , FETCH("fetch", false)
+        , UNION("union", false)
+        , INTERSECT("intersect", false)
+        , EXCEPT("except", false)
+        , RETURNING("returning", false)
+        ;
 
         private final String keyWord;
 
-        SqlKeyWord(String keyWord) {
+        private final boolean startsConditionPart;
+
+        SqlKeyWord(String keyWord, boolean startsConditionPart) {
             this.keyWord = keyWord;
+            this.startsConditionPart = startsConditionPart;
         }
 
-        static SqlKeyWord wherePartSplitter(String word) {
+        static SqlKeyWord of(SqlTokens sqlTokens, int index) {
             for (SqlKeyWord sqlKeyWord : SqlKeyWord.values()) {
-                if (word.split(" " + sqlKeyWord.getValue() + " ").length > 1) {
+                if (sqlTokens.isWordAt(index, sqlKeyWord.keyWord)) {
                     return sqlKeyWord;
                 }
             }
-            return SqlKeyWord.OTHER;
-        }
-
-        public String getValue() {
-            return keyWord;
-        }
-
-        static boolean isReferencedNestedStatement(String andOrPart){
-            return andOrPart.contains("select") || andOrPart.contains("delete");
-        }
-
-        static boolean hasConditions(String queryInLowerCase) {
-            return queryInLowerCase.contains("where") || queryInLowerCase.contains("values") || queryInLowerCase.contains("set");
-        }
-
-        static List<String> extractConditions(String queryInLowerCase) {
-            String[] whereParts = queryInLowerCase.split("where");
-            List<String> conditions = new ArrayList<>();
-            for (String wherePart : whereParts) {
-                String[] andOrPart = wherePart.split(" and | or ");
-                Collections.addAll(conditions, andOrPart);
-            }
-            return conditions;
-        }
-
-        static boolean hasUnBindParameter(final SqlKeyWord sqlKeyWord, final String andOrPart) {
-            String[] sqlKeyWordParts = andOrPart.split(sqlKeyWord.getValue());
-            String[] commaParts = sqlKeyWordParts[1].split(",");
-            for (String part : commaParts) {
-                if (isUnbindParameter(part)) {
-                    return true;
-                }
-            }
-            return false;
+            return null;
         }
 
-        abstract boolean hasUnBindParameter(String andOrPart);
     }
-}
\ No newline at end of file
+
+}
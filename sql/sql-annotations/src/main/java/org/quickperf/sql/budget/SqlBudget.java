@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.budget;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import org.quickperf.sql.QueryTypeRetriever;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Number of statements of a type allowed by a count annotation, <code>null</code> type meaning all the JDBC
+ * executions. An empty data source name means that the statements of all the data sources are counted.
+ */
+class SqlBudget {
+
+    private final QueryType queryType;
+
+    private final int budget;
+
+    private final String annotation;
+
+    private final String dataSourceName;
+
+    private long count;
+
+    SqlBudget(QueryType queryType, int budget, String annotation, String dataSourceName) {
+        this.queryType = queryType;
+        this.budget = budget;
+        this.annotation = annotation;
+        this.dataSourceName = dataSourceName;
+    }
+
+    /**
+     * @return the count after adding the execution
+     */
+    long addExecution(ExecutionInfo execInfo, List<QueryInfo> queries) {
+        if (!dataSourceName.isEmpty() && !dataSourceName.equals(execInfo.getDataSourceName())) {
+            return count;
+        }
+        if (queryType == null) {
+            return ++count;
+        }
+        QueryTypeRetriever queryTypeRetriever = QueryTypeRetriever.INSTANCE;
+        for (QueryInfo query : queries) {
+            if (queryTypeRetriever.typeOf(query) == queryType) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the count from which the test execution is stopped, a budget of 0 being handled as a budget of 1
+     */
+    long findFailFastThreshold(int factor) {
+        return (long) Math.max(budget, 1) * factor;
+    }
+
+    String describeStatements() {
+        if (queryType == null) {
+            return "JDBC executions";
+        }
+        return queryType.name().toLowerCase(Locale.ENGLISH) + " statements";
+    }
+
+    String getAnnotation() {
+        return annotation;
+    }
+
+    int getBudget() {
+        return budget;
+    }
+
+}
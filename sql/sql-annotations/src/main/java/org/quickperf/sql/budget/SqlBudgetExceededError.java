@@ -0,0 +1,26 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.budget;
+
+/**
+ * Thrown from the statement execution exceeding a SQL budget by the fail-fast factor.
+ * <br><br>
+ * It is an {@link AssertionError} so that it is not swallowed by application code catching exceptions, its stack
+ * trace being the one of the offending call.
+ */
+public class SqlBudgetExceededError extends AssertionError {
+
+    SqlBudgetExceededError(String message) {
+        super(message);
+    }
+
+}
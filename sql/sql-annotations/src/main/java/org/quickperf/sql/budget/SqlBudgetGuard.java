@@ -0,0 +1,140 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.budget;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.perfrecording.PerfRecord;
+import org.quickperf.sql.SqlRecorder;
+import org.quickperf.sql.SqlRecorderRegistry;
+import org.quickperf.sql.annotation.*;
+import org.quickperf.sql.datasource.DataSourceAttribute;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts the statements during the test method execution and stops it as soon as a count budget
+ * (<code>@ExpectMaxSelect</code>, <code>@ExpectSelect</code>, <code>@ExpectMaxJdbcQueryExecution</code>, ...) is
+ * exceeded by the factor of {@link FailFastSqlBudgets}.
+ * <br><br>
+ * The execution of the offending statement is completed, a {@link SqlBudgetExceededError} being then thrown from
+ * the JDBC call. The budgets are still verified after the test method execution, as without fail-fast.
+ * <br><br>
+ * As with the verifications done after the test method execution, the statements of the threads started by the test
+ * method are counted. The error is then thrown from the JDBC call of the thread exceeding the budget.
+ */
+public class SqlBudgetGuard implements SqlRecorder<PerfRecord> {
+
+    // The null query type of the JDBC execution annotations stands for all the statements
+    private static final Map<Class<? extends Annotation>, QueryType> QUERY_TYPE_BY_BUDGET_ANNOTATION = new HashMap<>();
+
+    static {
+        QUERY_TYPE_BY_BUDGET_ANNOTATION.put(ExpectSelect.class, QueryType.SELECT);
+        QUERY_TYPE_BY_BUDGET_ANNOTATION.put(ExpectMaxSelect.class, QueryType.SELECT);
+        QUERY_TYPE_BY_BUDGET_ANNOTATION.put(ExpectInsert.class, QueryType.INSERT);
+        QUERY_TYPE_BY_BUDGET_ANNOTATION.put(ExpectMaxInsert.class, QueryType.INSERT);
+        QUERY_TYPE_BY_BUDGET_ANNOTATION.put(ExpectUpdate.class, QueryType.UPDATE);
+        QUERY_TYPE_BY_BUDGET_ANNOTATION.put(ExpectMaxUpdate.class, QueryType.UPDATE);
+        QUERY_TYPE_BY_BUDGET_ANNOTATION.put(ExpectDelete.class, QueryType.DELETE);
+        QUERY_TYPE_BY_BUDGET_ANNOTATION.put(ExpectMaxDelete.class, QueryType.DELETE);
+        QUERY_TYPE_BY_BUDGET_ANNOTATION.put(ExpectJdbcQueryExecution.class, null);
+        QUERY_TYPE_BY_BUDGET_ANNOTATION.put(ExpectMaxJdbcQueryExecution.class, null);
+    }
+
+    private final List<SqlBudget> sqlBudgets = new ArrayList<>();
+
+    private int factor;
+
+    private boolean budgetExceeded;
+
+    @Override
+    public synchronized void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries, int listenerIdentifier) {
+        if (budgetExceeded) {
+            return;
+        }
+        for (SqlBudget sqlBudget : sqlBudgets) {
+            verify(sqlBudget, sqlBudget.addExecution(execInfo, queries), queries);
+        }
+    }
+
+    private void verify(SqlBudget sqlBudget, long count, List<QueryInfo> queries) {
+        if (count <= sqlBudget.findFailFastThreshold(factor)) {
+            return;
+        }
+        budgetExceeded = true;
+        String message = "You may think that at most <" + sqlBudget.getBudget() + "> "
+                       + sqlBudget.describeStatements() + " were sent to the database (" + sqlBudget.getAnnotation() + ")"
+                       + System.lineSeparator()
+                       + "       " + "But there are already <" + count + ">, more than " + factor + " times the budget."
+                       + System.lineSeparator()
+                       + System.lineSeparator()
+                       + "The test method execution is stopped by @FailFastSqlBudgets after this statement:"
+                       + System.lineSeparator()
+                       + "\t" + queries.get(0).getQuery();
+        throw new SqlBudgetExceededError(message);
+    }
+
+    @Override
+    public void startRecording(TestExecutionContext testExecutionContext) {
+        sqlBudgets.clear();
+        budgetExceeded = false;
+        for (Annotation perfAnnotation : testExecutionContext.getPerfAnnotations()) {
+            addBudgetOf(perfAnnotation);
+        }
+        SqlRecorderRegistry.INSTANCE.register(this);
+    }
+
+    private void addBudgetOf(Annotation perfAnnotation) {
+        Class<? extends Annotation> annotationType = perfAnnotation.annotationType();
+        if (perfAnnotation instanceof FailFastSqlBudgets) {
+            factor = ((FailFastSqlBudgets) perfAnnotation).factor();
+        } else if (QUERY_TYPE_BY_BUDGET_ANNOTATION.containsKey(annotationType)) {
+            QueryType queryType = QUERY_TYPE_BY_BUDGET_ANNOTATION.get(annotationType);
+            String annotation = "@" + annotationType.getSimpleName();
+            String dataSourceName = DataSourceAttribute.of(perfAnnotation);
+            sqlBudgets.add(new SqlBudget(queryType, budgetOf(perfAnnotation), annotation, dataSourceName));
+        }
+    }
+
+    private int budgetOf(Annotation perfAnnotation) {
+        try {
+            Method valueMethod = perfAnnotation.annotationType().getMethod("value");
+            return (int) valueMethod.invoke(perfAnnotation);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public synchronized void stopRecording(TestExecutionContext testExecutionContext) {
+        SqlRecorderRegistry.unregister(this);
+        // The statements executed after the test method, by threads it started, are not counted
+        sqlBudgets.clear();
+    }
+
+    @Override
+    public PerfRecord findRecord(TestExecutionContext testExecutionContext) {
+        return null;
+    }
+
+    @Override
+    public void cleanResources() { }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.cache;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.DisplaySqlCacheability;
+
+import java.util.Locale;
+
+public class DisplaySqlCacheabilityVerifier implements VerifiablePerformanceIssue<DisplaySqlCacheability, SqlAccessSequence> {
+
+    public static final DisplaySqlCacheabilityVerifier INSTANCE = new DisplaySqlCacheabilityVerifier();
+
+    private DisplaySqlCacheabilityVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(DisplaySqlCacheability annotation, SqlAccessSequence sqlAccessSequence) {
+        int[] cacheSizes = annotation.cacheSizes();
+        SqlCacheability sqlCacheability = SqlCacheSimulator.INSTANCE.simulate(sqlAccessSequence.getAccesses(), cacheSizes);
+        StringBuilder display = new StringBuilder("[QUICK PERF] SQL cacheability of ")
+                .append(sqlCacheability.getSelectCount())
+                .append(" select(s), with LRU caches invalidated by the writes to the selected tables:");
+        for (int cacheIndex = 0; cacheIndex < cacheSizes.length; cacheIndex++) {
+            display.append(System.lineSeparator())
+                   .append(formatCache(cacheSizes[cacheIndex], sqlCacheability.getHitCount(cacheIndex), sqlCacheability.getSelectCount()));
+        }
+        for (ShapeCacheability shapeCacheability : sqlCacheability.getShapeCacheabilities()) {
+            display.append(System.lineSeparator())
+                   .append(System.lineSeparator())
+                   .append("\t").append(shapeCacheability.getSql())
+                   .append(System.lineSeparator())
+                   .append("\t").append(shapeCacheability.getSelectCount()).append(" select(s)");
+            for (int cacheIndex = 0; cacheIndex < cacheSizes.length; cacheIndex++) {
+                display.append(", ")
+                       .append(formatCache(cacheSizes[cacheIndex], shapeCacheability.getHitCount(cacheIndex), shapeCacheability.getSelectCount()));
+            }
+        }
+        System.out.println(display);
+        return PerfIssue.NONE;
+    }
+
+    private String formatCache(int cacheSize, long hitCount, long selectCount) {
+        double hitRatio = selectCount == 0 ? 0 : 100d * hitCount / selectCount;
+        return String.format(Locale.ENGLISH, "cache of %d entries: %.1f%% hit ratio, %d avoidable round trip(s)"
+                            , cacheSize, hitRatio, hitCount);
+    }
+
+}
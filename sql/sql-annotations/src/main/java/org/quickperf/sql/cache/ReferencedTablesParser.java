@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.cache;
+
+import org.quickperf.sql.SqlTokens;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Finds the tables read or written by a statement: the tables following <code>FROM</code>, <code>JOIN</code>,
+ * <code>UPDATE</code>, <code>INTO</code> and <code>TABLE</code>, in the subqueries too. The table names are returned
+ * in lower case and without their schema.
+ */
+class ReferencedTablesParser {
+
+    static final ReferencedTablesParser INSTANCE = new ReferencedTablesParser();
+
+    private static final Set<String> TABLE_INTRODUCERS = new HashSet<>(Arrays.asList("from", "join", "update", "into", "table"));
+
+    private static final Set<String> KEY_WORDS = new HashSet<>(Arrays.asList(
+              "as", "cross", "except", "fetch", "for", "full", "group", "having", "inner", "intersect", "join", "lateral"
+            , "left", "limit", "natural", "offset", "on", "only", "order", "right", "select", "set", "union", "using"
+            , "values", "where", "window"
+    ));
+
+    private ReferencedTablesParser() { }
+
+    Set<String> parseTables(SqlTokens sqlTokens) {
+        Set<String> tables = new LinkedHashSet<>();
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            if (sqlTokens.typeAt(i) != SqlTokens.Type.WORD) {
+                continue;
+            }
+            String lowerCaseWord = sqlTokens.textAt(i).toLowerCase(Locale.ENGLISH);
+            if (!TABLE_INTRODUCERS.contains(lowerCaseWord)) {
+                continue;
+            }
+            int tableIndex = i + 1;
+            while (isIdentifierAt(sqlTokens, tableIndex)) {
+                int tableEnd = tableIndex;
+                while (sqlTokens.isSymbolAt(tableEnd + 1, '.') && isIdentifierAt(sqlTokens, tableEnd + 2)) {
+                    tableEnd += 2;
+                }
+                tables.add(identifierAt(sqlTokens, tableEnd).toLowerCase(Locale.ENGLISH));
+                int nextIndex = sqlTokens.isWordAt(tableEnd + 1, "as") ? tableEnd + 2 : tableEnd + 1;
+                if (isIdentifierAt(sqlTokens, nextIndex)) {
+                    nextIndex++;
+                }
+                if (!"from".equals(lowerCaseWord) || !sqlTokens.isSymbolAt(nextIndex, ',')) {
+                    break;
+                }
+                tableIndex = nextIndex + 1;
+            }
+        }
+        return tables;
+    }
+
+    private boolean isIdentifierAt(SqlTokens sqlTokens, int index) {
+        if (index < 0 || index >= sqlTokens.size()) {
+            return false;
+        }
+        if (sqlTokens.typeAt(index) == SqlTokens.Type.QUOTED_IDENTIFIER) {
+            return true;
+        }
+        return    sqlTokens.typeAt(index) == SqlTokens.Type.WORD
+               && !KEY_WORDS.contains(sqlTokens.textAt(index).toLowerCase(Locale.ENGLISH));
+    }
+
+    private String identifierAt(SqlTokens sqlTokens, int index) {
+        String identifier = sqlTokens.textAt(index);
+        if (sqlTokens.typeAt(index) == SqlTokens.Type.QUOTED_IDENTIFIER && identifier.length() >= 2) {
+            return identifier.substring(1, identifier.length() - 1);
+        }
+        return identifier;
+    }
+
+}
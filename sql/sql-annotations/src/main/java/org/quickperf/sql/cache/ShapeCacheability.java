@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.cache;
+
+/**
+ * Selects of a SQL shape and their hits in each simulated cache.
+ */
+class ShapeCacheability {
+
+    private final String sql;
+
+    private long selectCount;
+
+    private final long[] hitCounts;
+
+    ShapeCacheability(String sql, int cacheCount) {
+        this.sql = sql;
+        this.hitCounts = new long[cacheCount];
+    }
+
+    void recordSelect() {
+        selectCount++;
+    }
+
+    void recordHit(int cacheIndex) {
+        hitCounts[cacheIndex]++;
+    }
+
+    String getSql() {
+        return sql;
+    }
+
+    long getSelectCount() {
+        return selectCount;
+    }
+
+    /**
+     * @return the number of selects answered by the cache, so the number of avoidable round trips
+     */
+    long getHitCount(int cacheIndex) {
+        return hitCounts[cacheIndex];
+    }
+
+}
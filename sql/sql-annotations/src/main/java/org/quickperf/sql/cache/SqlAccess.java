@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.cache;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A read of a select result, identified by the select shape and its values, or a write to tables.
+ */
+class SqlAccess {
+
+    private final String sql;
+
+    private final List<Object> cacheKey;
+
+    private final Set<String> tables;
+
+    private SqlAccess(String sql, List<Object> cacheKey, Set<String> tables) {
+        this.sql = sql;
+        this.cacheKey = cacheKey;
+        this.tables = tables;
+    }
+
+    /**
+     * @param cacheKey the shape of the select followed by its literal and bind values
+     */
+    static SqlAccess read(String sql, List<Object> cacheKey, Set<String> tables) {
+        return new SqlAccess(sql, cacheKey, tables);
+    }
+
+    /**
+     * @param tables the written tables, empty if they are unknown, with a stored procedure call for example
+     */
+    static SqlAccess write(Set<String> tables) {
+        return new SqlAccess(null, null, tables);
+    }
+
+    boolean isRead() {
+        return cacheKey != null;
+    }
+
+    String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return the shape of the select, first element of the cache key
+     */
+    Object getShape() {
+        return cacheKey.get(0);
+    }
+
+    List<Object> getCacheKey() {
+        return cacheKey;
+    }
+
+    Set<String> getTables() {
+        return tables;
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.cache;
+
+import org.quickperf.measure.PerfMeasure;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The selects and the writes of the test method, in their execution order, on which caches are simulated.
+ */
+public class SqlAccessSequence implements PerfMeasure<List<?>, Void> {
+
+    private final List<SqlAccess> accesses;
+
+    SqlAccessSequence(List<SqlAccess> accesses) {
+        this.accesses = accesses;
+    }
+
+    List<SqlAccess> getAccesses() {
+        return accesses;
+    }
+
+    @Override
+    public List<?> getValue() {
+        return Collections.unmodifiableList(accesses);
+    }
+
+    @Override
+    public Void getUnit() {
+        return null;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.cache;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.quickperf.ExtractablePerformanceMeasure;
+import org.quickperf.sql.SqlExecution;
+import org.quickperf.sql.SqlExecutions;
+import org.quickperf.sql.SqlFingerprint;
+import org.quickperf.sql.SqlLexer;
+import org.quickperf.sql.SqlTokens;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Turns the SQL executions into reads and writes of tables.
+ * <br><br>
+ * A select without table, as <code>SELECT 1</code> or a sequence call, is not cacheable and so ignored. A statement
+ * that is neither a select nor a write, as a commit, is ignored too, unless it is a stored procedure call: the tables
+ * written by the procedure being unknown, the call is considered as writing all the tables.
+ */
+public class SqlAccessSequenceExtractor implements ExtractablePerformanceMeasure<SqlExecutions, SqlAccessSequence> {
+
+    public static final SqlAccessSequenceExtractor INSTANCE = new SqlAccessSequenceExtractor();
+
+    private SqlAccessSequenceExtractor() { }
+
+    @Override
+    public SqlAccessSequence extractPerfMeasureFrom(SqlExecutions sqlExecutions) {
+        List<SqlAccess> accesses = new ArrayList<>();
+        for (SqlExecution sqlExecution : sqlExecutions) {
+            for (QueryInfo query : sqlExecution.getQueries()) {
+                addAccessesOf(query, accesses);
+            }
+        }
+        return new SqlAccessSequence(accesses);
+    }
+
+    void addAccessesOf(QueryInfo query, List<SqlAccess> accesses) {
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(query.getQuery());
+        Set<String> tables = ReferencedTablesParser.INSTANCE.parseTables(sqlTokens);
+        QueryType queryType = sqlTokens.getQueryType();
+        if (queryType == QueryType.SELECT) {
+            if (!tables.isEmpty()) {
+                addReads(query, sqlTokens.getFingerprint(), tables, accesses);
+            }
+        } else if (queryType != QueryType.OTHER || !tables.isEmpty() || isProcedureCall(sqlTokens)) {
+            accesses.add(SqlAccess.write(tables));
+        }
+    }
+
+    private void addReads(QueryInfo query, SqlFingerprint fingerprint, Set<String> tables, List<SqlAccess> accesses) {
+        List<List<ParameterSetOperation>> parametersList = query.getParametersList();
+        if (parametersList.isEmpty()) {
+            parametersList = Collections.singletonList(Collections.<ParameterSetOperation>emptyList());
+        }
+        for (List<ParameterSetOperation> parameters : parametersList) {
+            List<Object> cacheKey = new ArrayList<>(1 + fingerprint.getLiterals().size() + parameters.size());
+            cacheKey.add(fingerprint);
+            cacheKey.addAll(fingerprint.getLiterals());
+            for (ParameterSetOperation parameter : parameters) {
+                cacheKey.add(keyOf(parameter));
+            }
+            accesses.add(SqlAccess.read(query.getQuery(), cacheKey, tables));
+        }
+    }
+
+    private Object keyOf(ParameterSetOperation parameter) {
+        Object[] args = parameter.getArgs();
+        if (args == null || args.length < 2) {
+            return null;
+        }
+        Object value = args[1];
+        if (value instanceof byte[]) {
+            // Compared by content
+            return ByteBuffer.wrap((byte[]) value);
+        }
+        return value;
+    }
+
+    private boolean isProcedureCall(SqlTokens sqlTokens) {
+        return    sqlTokens.isSymbolAt(0, '{')
+               || sqlTokens.isWordAt(0, "call")
+               || sqlTokens.isWordAt(0, "exec")
+               || sqlTokens.isWordAt(0, "execute");
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.cache;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replays the selects and the writes on LRU caches of select results.
+ * <br><br>
+ * A select is a hit if the cache holds the result of a select of the same shape with the same values, read after
+ * the last write to one of its tables. Otherwise its result is put in the cache, evicting the least recently used
+ * result if the cache is full.
+ */
+class SqlCacheSimulator {
+
+    static final SqlCacheSimulator INSTANCE = new SqlCacheSimulator();
+
+    private SqlCacheSimulator() { }
+
+    SqlCacheability simulate(List<SqlAccess> accesses, int[] cacheSizes) {
+        Map<Object, ShapeCacheability> cacheabilityByShape = new LinkedHashMap<>();
+        for (SqlAccess access : accesses) {
+            if (access.isRead() && !cacheabilityByShape.containsKey(access.getShape())) {
+                cacheabilityByShape.put(access.getShape(), new ShapeCacheability(access.getSql(), cacheSizes.length));
+            }
+        }
+        for (int cacheSizeIndex = 0; cacheSizeIndex < cacheSizes.length; cacheSizeIndex++) {
+            simulate(accesses, cacheSizes[cacheSizeIndex], cacheSizeIndex, cacheabilityByShape);
+        }
+        return new SqlCacheability(cacheSizes, cacheabilityByShape.values());
+    }
+
+    private void simulate(List<SqlAccess> accesses
+                        , final int cacheSize
+                        , int cacheSizeIndex
+                        , Map<Object, ShapeCacheability> cacheabilityByShape) {
+        Map<List<Object>, Set<String>> tablesByCacheKey = new LinkedHashMap<List<Object>, Set<String>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, Set<String>> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        for (SqlAccess access : accesses) {
+            if (access.isRead()) {
+                ShapeCacheability shapeCacheability = cacheabilityByShape.get(access.getShape());
+                if (cacheSizeIndex == 0) {
+                    shapeCacheability.recordSelect();
+                }
+                if (tablesByCacheKey.get(access.getCacheKey()) != null) {
+                    shapeCacheability.recordHit(cacheSizeIndex);
+                } else {
+                    tablesByCacheKey.put(access.getCacheKey(), access.getTables());
+                }
+            } else {
+                invalidate(tablesByCacheKey, access.getTables());
+            }
+        }
+    }
+
+    private void invalidate(Map<List<Object>, Set<String>> tablesByCacheKey, Set<String> writtenTables) {
+        if (writtenTables.isEmpty()) {
+            tablesByCacheKey.clear();
+            return;
+        }
+        Iterator<Set<String>> cachedTablesIterator = tablesByCacheKey.values().iterator();
+        while (cachedTablesIterator.hasNext()) {
+            if (!Collections.disjoint(cachedTablesIterator.next(), writtenTables)) {
+                cachedTablesIterator.remove();
+            }
+        }
+    }
+
+}
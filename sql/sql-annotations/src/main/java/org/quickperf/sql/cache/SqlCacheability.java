@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Hits of the simulated caches, for all the selects and for each SQL shape.
+ */
+class SqlCacheability {
+
+    private final int[] cacheSizes;
+
+    private final List<ShapeCacheability> shapeCacheabilities;
+
+    SqlCacheability(int[] cacheSizes, Collection<ShapeCacheability> shapeCacheabilities) {
+        this.cacheSizes = cacheSizes;
+        this.shapeCacheabilities = new ArrayList<>(shapeCacheabilities);
+        sortByDecreasingHitsInLastCache(this.shapeCacheabilities);
+    }
+
+    private void sortByDecreasingHitsInLastCache(List<ShapeCacheability> shapeCacheabilities) {
+        if (cacheSizes.length == 0) {
+            return;
+        }
+        final int lastCacheIndex = cacheSizes.length - 1;
+        Collections.sort(shapeCacheabilities, new Comparator<ShapeCacheability>() {
+            @Override
+            public int compare(ShapeCacheability shape1, ShapeCacheability shape2) {
+                return Long.compare(shape2.getHitCount(lastCacheIndex), shape1.getHitCount(lastCacheIndex));
+            }
+        });
+    }
+
+    int[] getCacheSizes() {
+        return cacheSizes;
+    }
+
+    /**
+     * @return the cacheabilities of the SQL shapes, the shapes with the most avoidable round trips in the last cache
+     * first
+     */
+    List<ShapeCacheability> getShapeCacheabilities() {
+        return shapeCacheabilities;
+    }
+
+    long getSelectCount() {
+        long selectCount = 0;
+        for (ShapeCacheability shapeCacheability : shapeCacheabilities) {
+            selectCount += shapeCacheability.getSelectCount();
+        }
+        return selectCount;
+    }
+
+    long getHitCount(int cacheIndex) {
+        long hitCount = 0;
+        for (ShapeCacheability shapeCacheability : shapeCacheabilities) {
+            hitCount += shapeCacheability.getHitCount(cacheIndex);
+        }
+        return hitCount;
+    }
+
+}
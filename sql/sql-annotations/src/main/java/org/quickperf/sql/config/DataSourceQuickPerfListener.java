@@ -16,7 +16,9 @@ import net.ttddyy.dsproxy.QueryInfo;
 import net.ttddyy.dsproxy.listener.QueryExecutionListener;
 import org.quickperf.sql.SqlRecorder;
 import org.quickperf.sql.SqlRecorderRegistry;
+import org.quickperf.sql.budget.SqlBudgetExceededError;
 import org.quickperf.sql.connection.ConnectionListenerRegistry;
+import org.quickperf.sql.time.ExecutionNanoTime;
 
 import java.util.Collection;
 import java.util.List;
@@ -27,17 +29,30 @@ class DataSourceQuickPerfListener implements QueryExecutionListener {
     private final int listenerIdentifier = ThreadLocalRandom.current().nextInt();
 
     @Override
-    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {}
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+        ExecutionNanoTime.INSTANCE.recordStart(executionInfo);
+    }
 
 
     @Override
     @SuppressWarnings("unchecked")
     public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {
 
+        ExecutionNanoTime.INSTANCE.recordEnd(executionInfo);
+
         Collection<SqlRecorder> sqlRecorders = SqlRecorderRegistry.INSTANCE.getSqlRecorders();
 
+        // The other recorders see the execution stopping the test method
+        SqlBudgetExceededError sqlBudgetExceededError = null;
         for (SqlRecorder sqlRecorder : sqlRecorders) {
-            sqlRecorder.addQueryExecution(executionInfo, queries, listenerIdentifier);
+            try {
+                sqlRecorder.addQueryExecution(executionInfo, queries, listenerIdentifier);
+            } catch (SqlBudgetExceededError e) {
+                sqlBudgetExceededError = e;
+            }
+        }
+        if (sqlBudgetExceededError != null) {
+            throw sqlBudgetExceededError;
         }
 
     }
@@ -26,9 +26,20 @@ public class QuickPerfSqlDataSourceBuilder {
     private QuickPerfSqlDataSourceBuilder() {}
 
     public ProxyDataSource buildProxy(DataSource dataSource) {
+        return buildProxy(dataSource, "");
+    }
+
+    /**
+     * Builds a proxy whose SQL executions are attributed to the given data source name. The name can then be
+     * given to the <code>dataSource</code> attribute of the SQL annotations to verify the executions of this data
+     * source only, when a test uses several databases.
+     */
+    public ProxyDataSource buildProxy(DataSource dataSource, String dataSourceName) {
 
         QuickPerfProxyDataSource proxyDataSource = new QuickPerfProxyDataSource();
 
+        proxyDataSource.setDataSourceName(dataSourceName);
+
         ChainListener chainListener = new ChainListener();
 
         DataSourceQuickPerfListener dataSourceQuickPerfListener = new DataSourceQuickPerfListener();
@@ -21,17 +21,21 @@ public class QuickPerfProxyDataSource extends ProxyDataSource {
 
     @Override
     public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
         Connection connection = super.getConnection();
+        long acquisitionTimeInNs = System.nanoTime() - start;
         QuickPerfDatabaseConnection connectionProxy = QuickPerfDatabaseConnection.buildFrom(connection);
-        connectionProxy.getFromTheDatasource();
+        connectionProxy.getFromTheDatasource(acquisitionTimeInNs);
         return connectionProxy;
     }
 
     @Override
     public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
         Connection connection = super.getConnection(username, password);
+        long acquisitionTimeInNs = System.nanoTime() - start;
         QuickPerfDatabaseConnection connectionProxy = QuickPerfDatabaseConnection.buildFrom(connection);
-        connectionProxy.getFromTheDatasource();
+        connectionProxy.getFromTheDatasource(acquisitionTimeInNs);
         return connectionProxy;
     }
 
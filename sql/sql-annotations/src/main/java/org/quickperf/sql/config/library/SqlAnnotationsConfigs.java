@@ -14,14 +14,21 @@ package org.quickperf.sql.config.library;
 import org.quickperf.config.library.AnnotationConfig;
 import org.quickperf.sql.PersistenceSqlRecorder;
 import org.quickperf.sql.annotation.*;
+import org.quickperf.sql.baseline.PerfBaselineRecorder;
+import org.quickperf.sql.baseline.PerfRegressionVerifier;
 import org.quickperf.sql.batch.SqlStatementBatchRecorder;
 import org.quickperf.sql.batch.SqlStatementBatchVerifier;
 import org.quickperf.sql.bindparams.AllParametersAreBoundExtractor;
 import org.quickperf.sql.bindparams.DisableQueriesWithoutBindParametersVerifier;
+import org.quickperf.sql.budget.SqlBudgetGuard;
+import org.quickperf.sql.cache.DisplaySqlCacheabilityVerifier;
+import org.quickperf.sql.cache.SqlAccessSequenceExtractor;
 import org.quickperf.sql.connection.ConnectionLeakListener;
 import org.quickperf.sql.connection.ConnectionLeakVerifier;
 import org.quickperf.sql.connection.ConnectionProfiler;
 import org.quickperf.sql.connection.ProfilingParamsExtractor;
+import org.quickperf.sql.datasource.DataSourceScopedExtractor;
+import org.quickperf.sql.datasource.DataSourceScopedVerifier;
 import org.quickperf.sql.delete.DeleteCountMeasureExtractor;
 import org.quickperf.sql.delete.MaxOfDeletesPerfIssueVerifier;
 import org.quickperf.sql.delete.NumberOfSqlDeletePerfIssueVerifier;
@@ -30,11 +37,32 @@ import org.quickperf.sql.display.DisplaySqlRecorder;
 import org.quickperf.sql.execution.JdbcQueryExecutionVerifier;
 import org.quickperf.sql.execution.MaxJdbcQueryExecutionVerifier;
 import org.quickperf.sql.execution.SqlAnalysisExtractor;
+import org.quickperf.sql.index.IndexCoverageRecorder;
+import org.quickperf.sql.index.IndexedPredicatesVerifier;
 import org.quickperf.sql.insert.InsertCountMeasureExtractor;
 import org.quickperf.sql.insert.InsertNumberPerfIssueVerifier;
 import org.quickperf.sql.insert.MaxOfInsertsPerfIssueVerifier;
+import org.quickperf.sql.insert.key.KeyGenerationRecorder;
+import org.quickperf.sql.insert.key.PerRowKeyGenerationVerifier;
+import org.quickperf.sql.latency.SimulatedLatencyParamsExtractor;
+import org.quickperf.sql.latency.SimulatedLatencyRecorder;
+import org.quickperf.sql.latency.SimulatedLatencyReporter;
 import org.quickperf.sql.like.ContainsLikeWithLeadingWildcardExtractor;
 import org.quickperf.sql.like.HasLikeWithLeadingWildcardVerifier;
+import org.quickperf.sql.payload.MaxParameterBytesVerifier;
+import org.quickperf.sql.payload.MaxSqlPayloadBytesVerifier;
+import org.quickperf.sql.payload.SqlPayloadRecorder;
+import org.quickperf.sql.plan.DisplayQueryPlansVerifier;
+import org.quickperf.sql.plan.NoFullTableScanVerifier;
+import org.quickperf.sql.plan.QueryPlanRecorder;
+import org.quickperf.sql.resultset.FetchedRowsExtractor;
+import org.quickperf.sql.resultset.MaxFetchedRowsVerifier;
+import org.quickperf.sql.resultset.MaxResultSetIterationTimeVerifier;
+import org.quickperf.sql.resultset.ReadColumnsRecorder;
+import org.quickperf.sql.resultset.ResultSetIterationTimeExtractor;
+import org.quickperf.sql.resultset.ResultSetRecorder;
+import org.quickperf.sql.resultset.UnusedSelectedColumnsExtractor;
+import org.quickperf.sql.resultset.UnusedSelectedColumnsVerifier;
 import org.quickperf.sql.select.HasExactlySameSelectVerifier;
 import org.quickperf.sql.select.HasSameSelectTypesWithDiffParamValuesVerifier;
 import org.quickperf.sql.select.MaxOfSelectsPerfIssueVerifier;
@@ -44,10 +72,26 @@ import org.quickperf.sql.select.columns.MaxSelectedColumnsPerMeasureExtractor;
 import org.quickperf.sql.select.columns.MaxSelectedColumnsPerfIssueVerifier;
 import org.quickperf.sql.select.columns.SelectedColumnNumberPerfIssueVerifier;
 import org.quickperf.sql.select.columns.SelectedColumnNumberPerfMeasureExtractor;
+import org.quickperf.sql.select.pagination.BoundedSelectsVerifier;
+import org.quickperf.sql.select.pagination.DeepOffsetPaginationVerifier;
+import org.quickperf.sql.select.pagination.SelectOffsetsExtractor;
+import org.quickperf.sql.select.pagination.UnboundedSelectsExtractor;
+import org.quickperf.sql.shape.MaxDistinctSqlShapesVerifier;
+import org.quickperf.sql.shape.SqlShapesExtractor;
+import org.quickperf.sql.shape.UnpaddedInListsVerifier;
+import org.quickperf.sql.statement.MaxStatementPreparationsVerifier;
 import org.quickperf.sql.statement.NoStatementExtractor;
 import org.quickperf.sql.statement.NoStatementVerifier;
+import org.quickperf.sql.statement.StatementPreparationRecorder;
+import org.quickperf.sql.time.DisplaySqlLatencyVerifier;
+import org.quickperf.sql.time.DisplaySqlTimeVerifier;
+import org.quickperf.sql.time.SqlLatencyPercentileVerifier;
+import org.quickperf.sql.time.SqlLatencyRecorder;
 import org.quickperf.sql.time.SqlQueryExecutionTimeExtractor;
 import org.quickperf.sql.time.SqlQueryMaxExecutionTimeVerifier;
+import org.quickperf.sql.time.SqlTimeRatioVerifier;
+import org.quickperf.sql.time.SqlTimeRecorder;
+import org.quickperf.sql.trace.SqlTraceRecorder;
 import org.quickperf.sql.update.MaxOfUpdatesPerfIssueVerifier;
 import org.quickperf.sql.update.UpdateCountMeasureExtractor;
 import org.quickperf.sql.update.UpdateNumberPerfIssueVerifier;
@@ -55,6 +99,10 @@ import org.quickperf.sql.update.columns.MaxUpdatedColumnsPerMeasureExtractor;
 import org.quickperf.sql.update.columns.MaxUpdatedColumnsPerfIssueVerifier;
 import org.quickperf.sql.update.columns.UpdatedColumnsMeasureExtractor;
 import org.quickperf.sql.update.columns.UpdatedColumnsPerfIssueVerifier;
+import org.quickperf.sql.write.FullRowUpdateRecorder;
+import org.quickperf.sql.write.FullRowUpdateVerifier;
+import org.quickperf.sql.write.SameWritesExtractor;
+import org.quickperf.sql.write.SameWritesVerifier;
 
 class SqlAnnotationsConfigs {
 
@@ -62,14 +110,14 @@ class SqlAnnotationsConfigs {
 
 	static final AnnotationConfig JDBC_QUERY_EXECUTION = new AnnotationConfig.Builder()
 			.perfRecorderClass(PersistenceSqlRecorder.class)
-			.perfMeasureExtractor(SqlAnalysisExtractor.INSTANCE)
-			.perfIssueVerifier(JdbcQueryExecutionVerifier.INSTANCE)
+			.perfMeasureExtractor(new DataSourceScopedExtractor<>(SqlAnalysisExtractor.INSTANCE))
+			.perfIssueVerifier(new DataSourceScopedVerifier<>(JdbcQueryExecutionVerifier.INSTANCE))
 			.build(ExpectJdbcQueryExecution.class);
 
 	static final AnnotationConfig MAX_JDBC_QUERY_EXECUTION = new AnnotationConfig.Builder()
 			.perfRecorderClass(PersistenceSqlRecorder.class)
-			.perfMeasureExtractor(SqlAnalysisExtractor.INSTANCE)
-			.perfIssueVerifier(MaxJdbcQueryExecutionVerifier.INSTANCE)
+			.perfMeasureExtractor(new DataSourceScopedExtractor<>(SqlAnalysisExtractor.INSTANCE))
+			.perfIssueVerifier(new DataSourceScopedVerifier<>(MaxJdbcQueryExecutionVerifier.INSTANCE))
 			.build(ExpectMaxJdbcQueryExecution.class);
 
 	static final AnnotationConfig DISABLE_SAME_SQL_SELECTS = new AnnotationConfig.Builder()
@@ -84,20 +132,20 @@ class SqlAnnotationsConfigs {
 
     static final AnnotationConfig NUMBER_OF_SQL_SELECT = new AnnotationConfig.Builder()
             .perfRecorderClass(PersistenceSqlRecorder.class)
-            .perfMeasureExtractor(SelectAnalysisExtractor.INSTANCE)
-            .perfIssueVerifier(SelectNumberPerfIssueVerifier.INSTANCE)
+            .perfMeasureExtractor(new DataSourceScopedExtractor<>(SelectAnalysisExtractor.INSTANCE))
+            .perfIssueVerifier(new DataSourceScopedVerifier<>(SelectNumberPerfIssueVerifier.INSTANCE))
             .build(ExpectSelect.class);
 
     static final AnnotationConfig MAX_SQL_SELECT = new AnnotationConfig.Builder()
             .perfRecorderClass(PersistenceSqlRecorder.class)
-            .perfMeasureExtractor(SelectAnalysisExtractor.INSTANCE)
-            .perfIssueVerifier(MaxOfSelectsPerfIssueVerifier.INSTANCE)
+            .perfMeasureExtractor(new DataSourceScopedExtractor<>(SelectAnalysisExtractor.INSTANCE))
+            .perfIssueVerifier(new DataSourceScopedVerifier<>(MaxOfSelectsPerfIssueVerifier.INSTANCE))
             .build(ExpectMaxSelect.class);
 
     static final AnnotationConfig MAX_SQL_INSERT = new AnnotationConfig.Builder()
             .perfRecorderClass(PersistenceSqlRecorder.class)
-            .perfMeasureExtractor(InsertCountMeasureExtractor.INSTANCE)
-            .perfIssueVerifier(MaxOfInsertsPerfIssueVerifier.INSTANCE)
+            .perfMeasureExtractor(new DataSourceScopedExtractor<>(InsertCountMeasureExtractor.INSTANCE))
+            .perfIssueVerifier(new DataSourceScopedVerifier<>(MaxOfInsertsPerfIssueVerifier.INSTANCE))
             .build(ExpectMaxInsert.class);
 
     static final AnnotationConfig DISPLAY_ALL_SQL = new AnnotationConfig.Builder()
@@ -130,8 +178,8 @@ class SqlAnnotationsConfigs {
 
     static final AnnotationConfig NUMBER_OF_SQL_INSERT = new AnnotationConfig.Builder()
             .perfRecorderClass(PersistenceSqlRecorder.class)
-            .perfMeasureExtractor(InsertCountMeasureExtractor.INSTANCE)
-            .perfIssueVerifier(InsertNumberPerfIssueVerifier.INSTANCE)
+            .perfMeasureExtractor(new DataSourceScopedExtractor<>(InsertCountMeasureExtractor.INSTANCE))
+            .perfIssueVerifier(new DataSourceScopedVerifier<>(InsertNumberPerfIssueVerifier.INSTANCE))
             .build(ExpectInsert.class);
 
     static final AnnotationConfig SQL_STATEMENTS_BATCHED = new AnnotationConfig.Builder()
@@ -141,20 +189,20 @@ class SqlAnnotationsConfigs {
 
     static final AnnotationConfig NUMBER_OF_SQL_DELETE = new AnnotationConfig.Builder()
             .perfRecorderClass(PersistenceSqlRecorder.class)
-            .perfMeasureExtractor(DeleteCountMeasureExtractor.INSTANCE)
-            .perfIssueVerifier(NumberOfSqlDeletePerfIssueVerifier.INSTANCE)
+            .perfMeasureExtractor(new DataSourceScopedExtractor<>(DeleteCountMeasureExtractor.INSTANCE))
+            .perfIssueVerifier(new DataSourceScopedVerifier<>(NumberOfSqlDeletePerfIssueVerifier.INSTANCE))
             .build(ExpectDelete.class);
 
     static final AnnotationConfig NUMBER_OF_SQL_UPDATE = new AnnotationConfig.Builder()
             .perfRecorderClass(PersistenceSqlRecorder.class)
-            .perfMeasureExtractor(UpdateCountMeasureExtractor.INSTANCE)
-            .perfIssueVerifier(UpdateNumberPerfIssueVerifier.INSTANCE)
+            .perfMeasureExtractor(new DataSourceScopedExtractor<>(UpdateCountMeasureExtractor.INSTANCE))
+            .perfIssueVerifier(new DataSourceScopedVerifier<>(UpdateNumberPerfIssueVerifier.INSTANCE))
             .build(ExpectUpdate.class);
 
 	static final AnnotationConfig MAX_SQL_UPDATE = new AnnotationConfig.Builder()
 			.perfRecorderClass(PersistenceSqlRecorder.class)
-			.perfMeasureExtractor(UpdateCountMeasureExtractor.INSTANCE)
-			.perfIssueVerifier(MaxOfUpdatesPerfIssueVerifier.INSTANCE)
+			.perfMeasureExtractor(new DataSourceScopedExtractor<>(UpdateCountMeasureExtractor.INSTANCE))
+			.perfIssueVerifier(new DataSourceScopedVerifier<>(MaxOfUpdatesPerfIssueVerifier.INSTANCE))
 			.build(ExpectMaxUpdate.class);
 
     static final AnnotationConfig MAX_SELECTED_COLUMNS = new AnnotationConfig.Builder()
@@ -209,8 +257,8 @@ class SqlAnnotationsConfigs {
 	
     static final AnnotationConfig MAX_SQL_DELETE = new AnnotationConfig.Builder()
             .perfRecorderClass(PersistenceSqlRecorder.class)
-            .perfMeasureExtractor(DeleteCountMeasureExtractor.INSTANCE)
-            .perfIssueVerifier(MaxOfDeletesPerfIssueVerifier.INSTANCE)
+            .perfMeasureExtractor(new DataSourceScopedExtractor<>(DeleteCountMeasureExtractor.INSTANCE))
+            .perfIssueVerifier(new DataSourceScopedVerifier<>(MaxOfDeletesPerfIssueVerifier.INSTANCE))
             .build(ExpectMaxDelete.class);
 
 	static final AnnotationConfig EXPECT_NO_CONNECTION_LEAK = new AnnotationConfig.Builder()
@@ -223,4 +271,177 @@ class SqlAnnotationsConfigs {
 			.perfRecorderClass(ConnectionProfiler.class)
 			.build(ProfileConnection.class);
 
+	static final AnnotationConfig EXPECT_MAX_FETCHED_ROWS = new AnnotationConfig.Builder()
+			.perfRecorderClass(ResultSetRecorder.class)
+			.perfMeasureExtractor(FetchedRowsExtractor.INSTANCE)
+			.perfIssueVerifier(MaxFetchedRowsVerifier.INSTANCE)
+			.build(ExpectMaxFetchedRows.class);
+
+	static final AnnotationConfig EXPECT_MAX_RESULT_SET_ITERATION_TIME = new AnnotationConfig.Builder()
+			.perfRecorderClass(ResultSetRecorder.class)
+			.perfMeasureExtractor(ResultSetIterationTimeExtractor.INSTANCE)
+			.perfIssueVerifier(MaxResultSetIterationTimeVerifier.INSTANCE)
+			.build(ExpectMaxResultSetIterationTime.class);
+
+	static final AnnotationConfig DISABLE_UNUSED_SELECTED_COLUMNS = new AnnotationConfig.Builder()
+			.perfRecorderClass(ReadColumnsRecorder.class)
+			.perfMeasureExtractor(UnusedSelectedColumnsExtractor.INSTANCE)
+			.perfIssueVerifier(UnusedSelectedColumnsVerifier.INSTANCE)
+			.build(DisableUnusedSelectedColumns.class);
+
+	static final AnnotationConfig ENABLE_UNUSED_SELECTED_COLUMNS = new AnnotationConfig.Builder()
+			.cancelBehaviorOf(DisableUnusedSelectedColumns.class)
+			.build(EnableUnusedSelectedColumns.class);
+
+	static final AnnotationConfig EXPECT_MAX_STATEMENT_PREPARATIONS = new AnnotationConfig.Builder()
+			.perfRecorderClass(StatementPreparationRecorder.class)
+			.perfIssueVerifier(MaxStatementPreparationsVerifier.INSTANCE)
+			.build(ExpectMaxStatementPreparations.class);
+
+	static final AnnotationConfig EXPECT_MAX_SQL_PAYLOAD_BYTES = new AnnotationConfig.Builder()
+			.perfRecorderClass(SqlPayloadRecorder.class)
+			.perfIssueVerifier(MaxSqlPayloadBytesVerifier.INSTANCE)
+			.build(ExpectMaxSqlPayloadBytes.class);
+
+	static final AnnotationConfig EXPECT_MAX_PARAMETER_BYTES = new AnnotationConfig.Builder()
+			.perfRecorderClass(SqlPayloadRecorder.class)
+			.perfIssueVerifier(MaxParameterBytesVerifier.INSTANCE)
+			.build(ExpectMaxParameterBytes.class);
+
+	static final AnnotationConfig DISABLE_PER_ROW_KEY_GENERATION = new AnnotationConfig.Builder()
+			.perfRecorderClass(KeyGenerationRecorder.class)
+			.perfIssueVerifier(PerRowKeyGenerationVerifier.INSTANCE)
+			.build(DisablePerRowKeyGeneration.class);
+
+	static final AnnotationConfig ENABLE_PER_ROW_KEY_GENERATION = new AnnotationConfig.Builder()
+			.cancelBehaviorOf(DisablePerRowKeyGeneration.class)
+			.build(EnablePerRowKeyGeneration.class);
+
+	static final AnnotationConfig EXPECT_MAX_DISTINCT_SQL_SHAPES = new AnnotationConfig.Builder()
+			.perfRecorderClass(PersistenceSqlRecorder.class)
+			.perfMeasureExtractor(SqlShapesExtractor.INSTANCE)
+			.perfIssueVerifier(MaxDistinctSqlShapesVerifier.INSTANCE)
+			.build(ExpectMaxDistinctSqlShapes.class);
+
+	static final AnnotationConfig DISABLE_UNPADDED_IN_LISTS = new AnnotationConfig.Builder()
+			.perfRecorderClass(PersistenceSqlRecorder.class)
+			.perfMeasureExtractor(SqlShapesExtractor.INSTANCE)
+			.perfIssueVerifier(UnpaddedInListsVerifier.INSTANCE)
+			.build(DisableUnpaddedInLists.class);
+
+	static final AnnotationConfig ENABLE_UNPADDED_IN_LISTS = new AnnotationConfig.Builder()
+			.cancelBehaviorOf(DisableUnpaddedInLists.class)
+			.build(EnableUnpaddedInLists.class);
+
+	static final AnnotationConfig DISABLE_DEEP_OFFSET_PAGINATION = new AnnotationConfig.Builder()
+			.perfRecorderClass(PersistenceSqlRecorder.class)
+			.perfMeasureExtractor(SelectOffsetsExtractor.INSTANCE)
+			.perfIssueVerifier(DeepOffsetPaginationVerifier.INSTANCE)
+			.build(DisableDeepOffsetPagination.class);
+
+	static final AnnotationConfig EXPECT_BOUNDED_SELECTS = new AnnotationConfig.Builder()
+			.perfRecorderClass(ResultSetRecorder.class)
+			.perfMeasureExtractor(UnboundedSelectsExtractor.INSTANCE)
+			.perfIssueVerifier(BoundedSelectsVerifier.INSTANCE)
+			.build(ExpectBoundedSelects.class);
+
+	static final AnnotationConfig EXPECT_NO_FULL_TABLE_SCAN = new AnnotationConfig.Builder()
+			.perfRecorderClass(QueryPlanRecorder.class)
+			.perfIssueVerifier(NoFullTableScanVerifier.INSTANCE)
+			.build(ExpectNoFullTableScan.class);
+
+	static final AnnotationConfig DISPLAY_QUERY_PLANS = new AnnotationConfig.Builder()
+			.perfRecorderClass(QueryPlanRecorder.class)
+			.perfIssueVerifier(DisplayQueryPlansVerifier.INSTANCE)
+			.build(DisplayQueryPlans.class);
+
+	static final AnnotationConfig EXPECT_INDEXED_PREDICATES = new AnnotationConfig.Builder()
+			.perfRecorderClass(IndexCoverageRecorder.class)
+			.perfIssueVerifier(IndexedPredicatesVerifier.INSTANCE)
+			.build(ExpectIndexedPredicates.class);
+
+	static final AnnotationConfig SIMULATE_DATABASE_LATENCY = new AnnotationConfig.Builder()
+			.perfRecorderParamsExtractorFromAnnot(new SimulatedLatencyParamsExtractor())
+			.perfRecorderClass(SimulatedLatencyRecorder.class)
+			.perfIssueVerifier(SimulatedLatencyReporter.INSTANCE)
+			.build(SimulateDatabaseLatency.class);
+
+	static final AnnotationConfig EXPECT_SQL_LATENCY_PERCENTILE = new AnnotationConfig.Builder()
+			.perfRecorderClass(SqlLatencyRecorder.class)
+			.perfIssueVerifier(SqlLatencyPercentileVerifier.INSTANCE)
+			.build(ExpectSqlLatencyPercentile.class);
+
+	static final AnnotationConfig DISPLAY_SQL_LATENCY = new AnnotationConfig.Builder()
+			.perfRecorderClass(SqlLatencyRecorder.class)
+			.perfIssueVerifier(DisplaySqlLatencyVerifier.INSTANCE)
+			.build(DisplaySqlLatency.class);
+
+	static final AnnotationConfig FAIL_FAST_SQL_BUDGETS = new AnnotationConfig.Builder()
+			.perfRecorderClass(SqlBudgetGuard.class)
+			.build(FailFastSqlBudgets.class);
+
+	static final AnnotationConfig EXPECT_NO_PERF_REGRESSION = new AnnotationConfig.Builder()
+			.perfRecorderClass(PerfBaselineRecorder.class)
+			.perfIssueVerifier(PerfRegressionVerifier.INSTANCE)
+			.build(ExpectNoPerfRegression.class);
+
+	static final AnnotationConfig EXPORT_SQL_TRACE = new AnnotationConfig.Builder()
+			.perfRecorderClass(SqlTraceRecorder.class)
+			.build(ExportSqlTrace.class);
+
+	static final AnnotationConfig DISPLAY_SQL_CACHEABILITY = new AnnotationConfig.Builder()
+			.perfRecorderClass(PersistenceSqlRecorder.class)
+			.perfMeasureExtractor(SqlAccessSequenceExtractor.INSTANCE)
+			.perfIssueVerifier(DisplaySqlCacheabilityVerifier.INSTANCE)
+			.build(DisplaySqlCacheability.class);
+
+	static final AnnotationConfig DISABLE_SAME_INSERTS = new AnnotationConfig.Builder()
+			.perfRecorderClass(PersistenceSqlRecorder.class)
+			.perfMeasureExtractor(SameWritesExtractor.INSTANCE)
+			.perfIssueVerifier(SameWritesVerifier.SAME_INSERTS)
+			.build(DisableSameInserts.class);
+
+	static final AnnotationConfig ENABLE_SAME_INSERTS = new AnnotationConfig.Builder()
+			.cancelBehaviorOf(DisableSameInserts.class)
+			.build(EnableSameInserts.class);
+
+	static final AnnotationConfig DISABLE_SAME_UPDATES = new AnnotationConfig.Builder()
+			.perfRecorderClass(PersistenceSqlRecorder.class)
+			.perfMeasureExtractor(SameWritesExtractor.INSTANCE)
+			.perfIssueVerifier(SameWritesVerifier.SAME_UPDATES)
+			.build(DisableSameUpdates.class);
+
+	static final AnnotationConfig ENABLE_SAME_UPDATES = new AnnotationConfig.Builder()
+			.cancelBehaviorOf(DisableSameUpdates.class)
+			.build(EnableSameUpdates.class);
+
+	static final AnnotationConfig DISABLE_SAME_DELETES = new AnnotationConfig.Builder()
+			.perfRecorderClass(PersistenceSqlRecorder.class)
+			.perfMeasureExtractor(SameWritesExtractor.INSTANCE)
+			.perfIssueVerifier(SameWritesVerifier.SAME_DELETES)
+			.build(DisableSameDeletes.class);
+
+	static final AnnotationConfig ENABLE_SAME_DELETES = new AnnotationConfig.Builder()
+			.cancelBehaviorOf(DisableSameDeletes.class)
+			.build(EnableSameDeletes.class);
+
+	static final AnnotationConfig DISABLE_FULL_ROW_UPDATES = new AnnotationConfig.Builder()
+			.perfRecorderClass(FullRowUpdateRecorder.class)
+			.perfIssueVerifier(FullRowUpdateVerifier.INSTANCE)
+			.build(DisableFullRowUpdates.class);
+
+	static final AnnotationConfig ENABLE_FULL_ROW_UPDATES = new AnnotationConfig.Builder()
+			.cancelBehaviorOf(DisableFullRowUpdates.class)
+			.build(EnableFullRowUpdates.class);
+
+	static final AnnotationConfig EXPECT_MAX_SQL_TIME_RATIO = new AnnotationConfig.Builder()
+			.perfRecorderClass(SqlTimeRecorder.class)
+			.perfIssueVerifier(SqlTimeRatioVerifier.INSTANCE)
+			.build(ExpectMaxSqlTimeRatio.class);
+
+	static final AnnotationConfig DISPLAY_SQL_TIME = new AnnotationConfig.Builder()
+			.perfRecorderClass(SqlTimeRecorder.class)
+			.perfIssueVerifier(DisplaySqlTimeVerifier.INSTANCE)
+			.build(DisplaySqlTime.class);
+
 }
@@ -15,11 +15,25 @@ import org.quickperf.RecorderExecutionOrder;
 import org.quickperf.config.library.AnnotationConfig;
 import org.quickperf.config.library.QuickPerfConfigLoader;
 import org.quickperf.sql.PersistenceSqlRecorder;
+import org.quickperf.sql.baseline.PerfBaselineRecorder;
 import org.quickperf.sql.batch.SqlStatementBatchRecorder;
+import org.quickperf.sql.budget.SqlBudgetGuard;
 import org.quickperf.sql.connection.ConnectionLeakListener;
 import org.quickperf.sql.connection.ConnectionProfiler;
 import org.quickperf.sql.display.DisplaySqlOfTestMethodBodyRecorder;
 import org.quickperf.sql.display.DisplaySqlRecorder;
+import org.quickperf.sql.index.IndexCoverageRecorder;
+import org.quickperf.sql.insert.key.KeyGenerationRecorder;
+import org.quickperf.sql.latency.SimulatedLatencyRecorder;
+import org.quickperf.sql.payload.SqlPayloadRecorder;
+import org.quickperf.sql.plan.QueryPlanRecorder;
+import org.quickperf.sql.resultset.ReadColumnsRecorder;
+import org.quickperf.sql.resultset.ResultSetRecorder;
+import org.quickperf.sql.statement.StatementPreparationRecorder;
+import org.quickperf.sql.time.SqlLatencyRecorder;
+import org.quickperf.sql.time.SqlTimeRecorder;
+import org.quickperf.sql.trace.SqlTraceRecorder;
+import org.quickperf.sql.write.FullRowUpdateRecorder;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -59,6 +73,40 @@ public class SqlConfigLoader implements QuickPerfConfigLoader {
                 , SqlAnnotationsConfigs.ENABLE_STATEMENTS
                 , SqlAnnotationsConfigs.EXPECT_NO_CONNECTION_LEAK
                 , SqlAnnotationsConfigs.PROFILE_CONNECTION
+                , SqlAnnotationsConfigs.EXPECT_MAX_FETCHED_ROWS
+                , SqlAnnotationsConfigs.EXPECT_MAX_RESULT_SET_ITERATION_TIME
+                , SqlAnnotationsConfigs.DISABLE_UNUSED_SELECTED_COLUMNS
+                , SqlAnnotationsConfigs.ENABLE_UNUSED_SELECTED_COLUMNS
+                , SqlAnnotationsConfigs.EXPECT_MAX_STATEMENT_PREPARATIONS
+                , SqlAnnotationsConfigs.EXPECT_MAX_SQL_PAYLOAD_BYTES
+                , SqlAnnotationsConfigs.EXPECT_MAX_PARAMETER_BYTES
+                , SqlAnnotationsConfigs.DISABLE_PER_ROW_KEY_GENERATION
+                , SqlAnnotationsConfigs.ENABLE_PER_ROW_KEY_GENERATION
+                , SqlAnnotationsConfigs.EXPECT_MAX_DISTINCT_SQL_SHAPES
+                , SqlAnnotationsConfigs.DISABLE_UNPADDED_IN_LISTS
+                , SqlAnnotationsConfigs.ENABLE_UNPADDED_IN_LISTS
+                , SqlAnnotationsConfigs.DISABLE_DEEP_OFFSET_PAGINATION
+                , SqlAnnotationsConfigs.EXPECT_BOUNDED_SELECTS
+                , SqlAnnotationsConfigs.EXPECT_NO_FULL_TABLE_SCAN
+                , SqlAnnotationsConfigs.DISPLAY_QUERY_PLANS
+                , SqlAnnotationsConfigs.EXPECT_INDEXED_PREDICATES
+                , SqlAnnotationsConfigs.SIMULATE_DATABASE_LATENCY
+                , SqlAnnotationsConfigs.EXPECT_SQL_LATENCY_PERCENTILE
+                , SqlAnnotationsConfigs.DISPLAY_SQL_LATENCY
+                , SqlAnnotationsConfigs.FAIL_FAST_SQL_BUDGETS
+                , SqlAnnotationsConfigs.EXPECT_NO_PERF_REGRESSION
+                , SqlAnnotationsConfigs.EXPORT_SQL_TRACE
+                , SqlAnnotationsConfigs.DISPLAY_SQL_CACHEABILITY
+                , SqlAnnotationsConfigs.DISABLE_SAME_INSERTS
+                , SqlAnnotationsConfigs.ENABLE_SAME_INSERTS
+                , SqlAnnotationsConfigs.DISABLE_SAME_UPDATES
+                , SqlAnnotationsConfigs.ENABLE_SAME_UPDATES
+                , SqlAnnotationsConfigs.DISABLE_SAME_DELETES
+                , SqlAnnotationsConfigs.ENABLE_SAME_DELETES
+                , SqlAnnotationsConfigs.DISABLE_FULL_ROW_UPDATES
+                , SqlAnnotationsConfigs.ENABLE_FULL_ROW_UPDATES
+                , SqlAnnotationsConfigs.EXPECT_MAX_SQL_TIME_RATIO
+                , SqlAnnotationsConfigs.DISPLAY_SQL_TIME
         );
     }
 
@@ -71,6 +119,21 @@ public class SqlConfigLoader implements QuickPerfConfigLoader {
                 , new RecorderExecutionOrder(DisplaySqlRecorder.class, 2001)
                 , new RecorderExecutionOrder(DisplaySqlOfTestMethodBodyRecorder.class, 2002)
                 , new RecorderExecutionOrder(SqlStatementBatchRecorder.class, 2003)
+                , new RecorderExecutionOrder(ResultSetRecorder.class, 2004)
+                , new RecorderExecutionOrder(ReadColumnsRecorder.class, 2005)
+                , new RecorderExecutionOrder(StatementPreparationRecorder.class, 2006)
+                , new RecorderExecutionOrder(SqlPayloadRecorder.class, 2007)
+                , new RecorderExecutionOrder(KeyGenerationRecorder.class, 2008)
+                , new RecorderExecutionOrder(QueryPlanRecorder.class, 2009)
+                , new RecorderExecutionOrder(IndexCoverageRecorder.class, 2010)
+                , new RecorderExecutionOrder(SimulatedLatencyRecorder.class, 2011)
+                , new RecorderExecutionOrder(SqlLatencyRecorder.class, 2012)
+                , new RecorderExecutionOrder(SqlBudgetGuard.class, 2013)
+                , new RecorderExecutionOrder(PerfBaselineRecorder.class, 2014)
+                , new RecorderExecutionOrder(SqlTraceRecorder.class, 2015)
+                , new RecorderExecutionOrder(FullRowUpdateRecorder.class, 2016)
+                // Just before the execution time recorder, the SQL time being compared to the test method execution time
+                , new RecorderExecutionOrder(SqlTimeRecorder.class, 9_999)
 
         );
     }
@@ -84,6 +147,21 @@ public class SqlConfigLoader implements QuickPerfConfigLoader {
                 , new RecorderExecutionOrder(DisplaySqlRecorder.class, 7001)
                 , new RecorderExecutionOrder(DisplaySqlOfTestMethodBodyRecorder.class, 7002)
                 , new RecorderExecutionOrder(SqlStatementBatchRecorder.class, 7003)
+                , new RecorderExecutionOrder(ResultSetRecorder.class, 7004)
+                , new RecorderExecutionOrder(ReadColumnsRecorder.class, 7005)
+                , new RecorderExecutionOrder(StatementPreparationRecorder.class, 7006)
+                , new RecorderExecutionOrder(SqlPayloadRecorder.class, 7007)
+                , new RecorderExecutionOrder(KeyGenerationRecorder.class, 7008)
+                , new RecorderExecutionOrder(QueryPlanRecorder.class, 7009)
+                , new RecorderExecutionOrder(IndexCoverageRecorder.class, 7010)
+                , new RecorderExecutionOrder(SimulatedLatencyRecorder.class, 7011)
+                , new RecorderExecutionOrder(SqlLatencyRecorder.class, 7012)
+                , new RecorderExecutionOrder(SqlBudgetGuard.class, 7013)
+                , new RecorderExecutionOrder(PerfBaselineRecorder.class, 7014)
+                , new RecorderExecutionOrder(SqlTraceRecorder.class, 7015)
+                , new RecorderExecutionOrder(FullRowUpdateRecorder.class, 7016)
+                // Just after the execution time recorder
+                , new RecorderExecutionOrder(SqlTimeRecorder.class, 1001)
         );
     }
 
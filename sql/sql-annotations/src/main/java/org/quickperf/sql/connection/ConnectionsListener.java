@@ -27,6 +27,13 @@ public abstract class ConnectionsListener<R extends PerfRecord> implements Recor
     public void theDatasourceGetsTheConnection(Connection connection) {
     }
 
+    /**
+     * Called after {@link #theDatasourceGetsTheConnection(Connection)} when the time spent by the datasource to provide
+     * the connection is known.
+     */
+    public void connectionAcquired(Connection connection, long acquisitionTimeInNs) {
+    }
+
     public void close(Connection connection){
     }
 
@@ -141,6 +148,35 @@ public abstract class ConnectionsListener<R extends PerfRecord> implements Recor
     public void setNetworkTimeout(Connection connection, Executor executor, int milliseconds) {
     }
 
+    /**
+     * Statements and result sets are only instrumented if at least one registered listener
+     * returns true to this method or to {@link #listensToPreparedStatementExecutions()}.
+     */
+    public boolean listensToResultSets() {
+        return false;
+    }
+
+    /**
+     * The columns read by the application from the result sets are only recorded if at least one registered listener
+     * returns true.
+     */
+    public boolean listensToReadColumns() {
+        return false;
+    }
+
+    public void resultSetOpened(Connection connection, ResultSetIteration resultSetIteration) {
+    }
+
+    public boolean listensToPreparedStatementExecutions() {
+        return false;
+    }
+
+    /**
+     * Called each time a prepared or callable statement is executed, a batch execution counting for one.
+     */
+    public void preparedStatementExecuted(Connection connection, String sql) {
+    }
+
     @Override
     public abstract void startRecording(TestExecutionContext testExecutionContext);
 
@@ -40,12 +40,19 @@ public class QuickPerfDatabaseConnection implements Connection {
         }
     }
 
+    public void getFromTheDatasource(long acquisitionTimeInNs) {
+        getFromTheDatasource();
+        for (ConnectionsListener connectionsListener : connectionsListeners) {
+            connectionsListener.connectionAcquired(this, acquisitionTimeInNs);
+        }
+    }
+
     @Override
     public Statement createStatement() throws SQLException {
         for (ConnectionsListener connectionsListener : connectionsListeners) {
             connectionsListener.createStatement(this);
         }
-        return delegate.createStatement();
+        return instrument(delegate.createStatement(), Statement.class, null);
     }
 
     @Override
@@ -53,7 +60,7 @@ public class QuickPerfDatabaseConnection implements Connection {
         for (ConnectionsListener connectionsListener : connectionsListeners) {
             connectionsListener.prepareStatement(this, sql);
         }
-        return delegate.prepareStatement(sql);
+        return instrument(delegate.prepareStatement(sql), PreparedStatement.class, sql);
     }
 
     @Override
@@ -61,7 +68,7 @@ public class QuickPerfDatabaseConnection implements Connection {
         for (ConnectionsListener connectionsListener : connectionsListeners) {
             connectionsListener.prepareCall(this, sql);
         }
-        return delegate.prepareCall(sql);
+        return instrument(delegate.prepareCall(sql), CallableStatement.class, sql);
     }
 
     @Override
@@ -176,7 +183,7 @@ public class QuickPerfDatabaseConnection implements Connection {
         for (ConnectionsListener connectionsListener : connectionsListeners) {
             connectionsListener.createStatement(this, resultSetType, resultSetConcurrency);
         }
-        return delegate.createStatement(resultSetType, resultSetConcurrency);
+        return instrument(delegate.createStatement(resultSetType, resultSetConcurrency), Statement.class, null);
     }
 
     @Override
@@ -184,7 +191,7 @@ public class QuickPerfDatabaseConnection implements Connection {
         for (ConnectionsListener connectionsListener : connectionsListeners) {
             connectionsListener.prepareStatement(this, sql, resultSetType, resultSetConcurrency);
         }
-        return delegate.prepareStatement(sql, resultSetType, resultSetConcurrency);
+        return instrument(delegate.prepareStatement(sql, resultSetType, resultSetConcurrency), PreparedStatement.class, sql);
     }
 
     @Override
@@ -192,7 +199,7 @@ public class QuickPerfDatabaseConnection implements Connection {
         for (ConnectionsListener connectionsListener : connectionsListeners) {
             connectionsListener.prepareCall(this, sql, resultSetType, resultSetConcurrency);
         }
-        return delegate.prepareCall(sql, resultSetType, resultSetConcurrency);
+        return instrument(delegate.prepareCall(sql, resultSetType, resultSetConcurrency), CallableStatement.class, sql);
     }
 
     @Override
@@ -259,7 +266,7 @@ public class QuickPerfDatabaseConnection implements Connection {
         for (ConnectionsListener connectionsListener : connectionsListeners) {
             connectionsListener.createStatement(this, resultSetType, resultSetConcurrency, resultSetHoldability);
         }
-        return delegate.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability) ;
+        return instrument(delegate.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability), Statement.class, null);
     }
 
     @Override
@@ -267,7 +274,7 @@ public class QuickPerfDatabaseConnection implements Connection {
         for (ConnectionsListener connectionsListener : connectionsListeners) {
             connectionsListener.prepareStatement(this, sql, resultSetType, resultSetConcurrency, resultSetHoldability);
         }
-        return delegate.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability) ;
+        return instrument(delegate.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability), PreparedStatement.class, sql);
     }
 
     @Override
@@ -275,7 +282,7 @@ public class QuickPerfDatabaseConnection implements Connection {
         for (ConnectionsListener connectionsListener : connectionsListeners) {
             connectionsListener.prepareCall(this, sql, resultSetType, resultSetConcurrency, resultSetHoldability);
         }
-        return delegate.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability) ;
+        return instrument(delegate.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability), CallableStatement.class, sql);
     }
 
     @Override
@@ -283,7 +290,7 @@ public class QuickPerfDatabaseConnection implements Connection {
         for (ConnectionsListener connectionsListener : connectionsListeners) {
             connectionsListener.prepareStatement(this, sql, autoGeneratedKeys);
         }
-        return delegate.prepareStatement(sql, autoGeneratedKeys);
+        return instrument(delegate.prepareStatement(sql, autoGeneratedKeys), PreparedStatement.class, sql);
     }
 
     @Override
@@ -291,7 +298,7 @@ public class QuickPerfDatabaseConnection implements Connection {
         for (ConnectionsListener connectionsListener : connectionsListeners) {
             connectionsListener.prepareStatement(this, sql, columnIndexes);
         }
-        return delegate.prepareStatement(sql, columnIndexes);
+        return instrument(delegate.prepareStatement(sql, columnIndexes), PreparedStatement.class, sql);
     }
 
     @Override
@@ -299,7 +306,7 @@ public class QuickPerfDatabaseConnection implements Connection {
         for (ConnectionsListener connectionsListener : connectionsListeners) {
             connectionsListener.prepareStatement(this, sql, columnNames);
         }
-        return delegate.prepareStatement(sql, columnNames);
+        return instrument(delegate.prepareStatement(sql, columnNames), PreparedStatement.class, sql);
     }
 
     @Override
@@ -415,6 +422,23 @@ public class QuickPerfDatabaseConnection implements Connection {
         return delegate.getNetworkTimeout();
     }
 
+    private <T extends Statement> T instrument(T statement, Class<T> statementType, String sql) {
+        if (statement == null || !oneListenerListensToStatements()) {
+            return statement;
+        }
+        return StatementInvocationHandler.instrument(statement, statementType, this, connectionsListeners, sql);
+    }
+
+    private boolean oneListenerListensToStatements() {
+        for (ConnectionsListener connectionsListener : connectionsListeners) {
+            if (   connectionsListener.listensToResultSets()
+                || connectionsListener.listensToPreparedStatementExecutions()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public <T> T unwrap(Class<T> iface) throws SQLException {
         return delegate.unwrap(iface);
@@ -0,0 +1,164 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.connection;
+
+import org.quickperf.sql.payload.ValueByteSizeEstimator;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Instruments a result set to count the fetched rows and to measure the time spent to fetch them.
+ * <br><br>
+ * If asked by the result set iteration, the columns read with the <code>getXxx</code> methods and the estimated
+ * bytes of the read values are also recorded.
+ * The selected column labels are then retrieved from the metadata when the first row is fetched.
+ */
+class ResultSetInvocationHandler implements InvocationHandler {
+
+    private final ResultSet delegate;
+
+    private final Statement statement;
+
+    private final ResultSetIteration resultSetIteration;
+
+    private Map<String, Integer> columnIndexByLabel;
+
+    private final BitSet columnsReadInCurrentRow = new BitSet();
+
+    private ResultSetInvocationHandler(ResultSet delegate, Statement statement, ResultSetIteration resultSetIteration) {
+        this.delegate = delegate;
+        this.statement = statement;
+        this.resultSetIteration = resultSetIteration;
+    }
+
+    static ResultSet instrument(ResultSet resultSet, Statement statement, ResultSetIteration resultSetIteration) {
+        ResultSetInvocationHandler handler = new ResultSetInvocationHandler(resultSet, statement, resultSetIteration);
+        return (ResultSet) Proxy.newProxyInstance(ResultSetInvocationHandler.class.getClassLoader()
+                                                , new Class<?>[]{ResultSet.class}
+                                                , handler);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+        String methodName = method.getName();
+
+        if ("next".equals(methodName)) {
+            long start = System.nanoTime();
+            Boolean rowFetched = (Boolean) invokeDelegate(method, args);
+            resultSetIteration.recordNext(rowFetched, System.nanoTime() - start);
+            if (rowFetched && resultSetIteration.readColumnsAreTracked()) {
+                recordSelectedColumns();
+                columnsReadInCurrentRow.clear();
+            }
+            return rowFetched;
+        }
+        if ("equals".equals(methodName) && args != null && args.length == 1) {
+            return proxy == args[0];
+        }
+        if ("hashCode".equals(methodName) && args == null) {
+            return System.identityHashCode(proxy);
+        }
+        if ("getStatement".equals(methodName)) {
+            return statement;
+        }
+
+        Object result = invokeDelegate(method, args);
+
+        if ("setFetchSize".equals(methodName)) {
+            resultSetIteration.recordFetchSize((Integer) args[0]);
+        } else if (resultSetIteration.readColumnsAreTracked() && isColumnGetter(methodName, args)) {
+            recordReadColumn(args[0], result);
+        }
+
+        return result;
+
+    }
+
+    private boolean isColumnGetter(String methodName, Object[] args) {
+        return    methodName.startsWith("get")
+               && args != null
+               && (args[0] instanceof Integer || args[0] instanceof String);
+    }
+
+    private void recordSelectedColumns() {
+        if (resultSetIteration.selectedColumnsAreKnown()) {
+            return;
+        }
+        try {
+            ResultSetMetaData metaData = delegate.getMetaData();
+            int columnCount = metaData.getColumnCount();
+            List<String> columnLabels = new ArrayList<>(columnCount);
+            columnIndexByLabel = new HashMap<>();
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                String columnLabel = metaData.getColumnLabel(columnIndex);
+                columnLabels.add(columnLabel);
+                String labelKey = columnLabel.toLowerCase(Locale.ENGLISH);
+                if (!columnIndexByLabel.containsKey(labelKey)) {
+                    columnIndexByLabel.put(labelKey, columnIndex);
+                }
+            }
+            resultSetIteration.recordSelectedColumns(columnLabels);
+        } catch (SQLException e) {
+            // The read columns can't be compared to the selected ones
+        }
+    }
+
+    private void recordReadColumn(Object column, Object value) {
+        int columnIndex = column instanceof Integer ? (Integer) column : findColumnIndex((String) column);
+        if (columnIndex > 0 && columnsReadInCurrentRow.get(columnIndex)) {
+            // The value is only transferred once per row
+            return;
+        }
+        if (columnIndex > 0) {
+            columnsReadInCurrentRow.set(columnIndex);
+        }
+        long valueBytes = ValueByteSizeEstimator.INSTANCE.estimateByteSizeOf(value);
+        resultSetIteration.recordReadColumn(columnIndex, valueBytes);
+    }
+
+    private int findColumnIndex(String columnLabel) {
+        if (columnIndexByLabel != null) {
+            Integer columnIndex = columnIndexByLabel.get(columnLabel.toLowerCase(Locale.ENGLISH));
+            if (columnIndex != null) {
+                return columnIndex;
+            }
+        }
+        try {
+            return delegate.findColumn(columnLabel);
+        } catch (SQLException e) {
+            return 0;
+        }
+    }
+
+    private Object invokeDelegate(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.connection;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Rows pulled by the application from a result set, updated by the result set proxy each time
+ * <code>next()</code> is called.
+ */
+public class ResultSetIteration implements Serializable {
+
+    private final String sql;
+
+    private int fetchSize;
+
+    private long fetchedRows;
+
+    private long iterationTimeInNs;
+
+    private final boolean readColumnsAreTracked;
+
+    private List<String> selectedColumnLabels;
+
+    private final BitSet readColumns = new BitSet();
+
+    private long readBytes;
+
+    public ResultSetIteration(String sql, int fetchSize) {
+        this(sql, fetchSize, false);
+    }
+
+    public ResultSetIteration(String sql, int fetchSize, boolean readColumnsAreTracked) {
+        this.sql = sql;
+        this.fetchSize = fetchSize;
+        this.readColumnsAreTracked = readColumnsAreTracked;
+    }
+
+    void recordNext(boolean rowFetched, long durationInNs) {
+        if (rowFetched) {
+            fetchedRows++;
+        }
+        iterationTimeInNs += durationInNs;
+    }
+
+    void recordFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    boolean readColumnsAreTracked() {
+        return readColumnsAreTracked;
+    }
+
+    boolean selectedColumnsAreKnown() {
+        return selectedColumnLabels != null;
+    }
+
+    void recordSelectedColumns(List<String> selectedColumnLabels) {
+        this.selectedColumnLabels = selectedColumnLabels;
+    }
+
+    /**
+     * @param columnIndex the index of the read column, starting from 1 as in JDBC
+     */
+    void recordReadColumn(int columnIndex, long valueBytes) {
+        if (columnIndex > 0) {
+            readColumns.set(columnIndex - 1);
+        }
+        readBytes += valueBytes;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return the fetch size given to the statement or to the result set, 0 if the driver
+     * default is used
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public long getFetchedRows() {
+        return fetchedRows;
+    }
+
+    /**
+     * @return the time spent in <code>next()</code> calls
+     */
+    public long getIterationTimeInNs() {
+        return iterationTimeInNs;
+    }
+
+    /**
+     * @return the labels of the selected columns, empty if the read columns are not tracked or if no row was fetched
+     */
+    public List<String> getSelectedColumnLabels() {
+        if (selectedColumnLabels == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(selectedColumnLabels);
+    }
+
+    /**
+     * @param columnIndex the index of the column, starting from 1 as in JDBC
+     * @return true if a value of the column was read with a <code>getXxx</code> method
+     */
+    public boolean columnIsRead(int columnIndex) {
+        return columnIndex > 0 && readColumns.get(columnIndex - 1);
+    }
+
+    /**
+     * @return the estimated bytes of the values read with the <code>getXxx</code> methods, 0 if the read columns are
+     * not tracked
+     */
+    public long getReadBytes() {
+        return readBytes;
+    }
+
+}
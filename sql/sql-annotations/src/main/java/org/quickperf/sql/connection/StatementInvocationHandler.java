@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.connection;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Collection;
+
+/**
+ * Instruments a statement so that the result sets it returns and the executions of prepared statements notify the
+ * connection listeners.
+ */
+class StatementInvocationHandler implements InvocationHandler {
+
+    private final Statement delegate;
+
+    private final Connection connection;
+
+    private final Collection<ConnectionsListener> connectionsListeners;
+
+    private final boolean prepared;
+
+    private String sql;
+
+    private int fetchSize;
+
+    private StatementInvocationHandler(Statement delegate
+                                     , Connection connection
+                                     , Collection<ConnectionsListener> connectionsListeners
+                                     , String sql) {
+        this.delegate = delegate;
+        this.connection = connection;
+        this.connectionsListeners = connectionsListeners;
+        this.prepared = sql != null;
+        this.sql = sql;
+    }
+
+    static <T extends Statement> T instrument(T statement
+                                            , Class<T> statementType
+                                            , Connection connection
+                                            , Collection<ConnectionsListener> connectionsListeners
+                                            , String sql) {
+        StatementInvocationHandler handler = new StatementInvocationHandler(statement, connection, connectionsListeners, sql);
+        Object proxy = Proxy.newProxyInstance(StatementInvocationHandler.class.getClassLoader()
+                                            , new Class<?>[]{statementType}
+                                            , handler);
+        return statementType.cast(proxy);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+        String methodName = method.getName();
+
+        if ("equals".equals(methodName) && args != null && args.length == 1) {
+            return proxy == args[0];
+        }
+        if ("hashCode".equals(methodName) && args == null) {
+            return System.identityHashCode(proxy);
+        }
+        if ("getConnection".equals(methodName)) {
+            return connection;
+        }
+
+        boolean execution = methodName.startsWith("execute");
+        boolean sqlIsGiven = args != null && args.length > 0 && args[0] instanceof String;
+        if (execution && sqlIsGiven) {
+            sql = (String) args[0];
+        }
+
+        Object result = invokeDelegate(method, args);
+
+        if (execution && prepared && !sqlIsGiven) {
+            notifyPreparedStatementExecution();
+        }
+
+        if ("setFetchSize".equals(methodName)) {
+            fetchSize = (Integer) args[0];
+        } else if (   result instanceof ResultSet
+                   && !"getGeneratedKeys".equals(methodName)
+                   && resultSetsAreListened()) {
+            return instrumentResultSet((ResultSet) result, (Statement) proxy);
+        }
+
+        return result;
+
+    }
+
+    private ResultSet instrumentResultSet(ResultSet resultSet, Statement statementProxy) {
+        ResultSetIteration resultSetIteration = new ResultSetIteration(sql, fetchSize, readColumnsAreListened());
+        for (ConnectionsListener connectionsListener : connectionsListeners) {
+            connectionsListener.resultSetOpened(connection, resultSetIteration);
+        }
+        return ResultSetInvocationHandler.instrument(resultSet, statementProxy, resultSetIteration);
+    }
+
+    private void notifyPreparedStatementExecution() {
+        for (ConnectionsListener connectionsListener : connectionsListeners) {
+            if (connectionsListener.listensToPreparedStatementExecutions()) {
+                connectionsListener.preparedStatementExecuted(connection, sql);
+            }
+        }
+    }
+
+    private boolean resultSetsAreListened() {
+        for (ConnectionsListener connectionsListener : connectionsListeners) {
+            if (connectionsListener.listensToResultSets()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean readColumnsAreListened() {
+        for (ConnectionsListener connectionsListener : connectionsListeners) {
+            if (connectionsListener.listensToReadColumns()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Object invokeDelegate(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.datasource;
+
+import org.quickperf.sql.annotation.*;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Reads the <code>dataSource</code> attribute of the SQL count annotations.
+ */
+public class DataSourceAttribute {
+
+    private DataSourceAttribute() { }
+
+    /**
+     * @return the name of the data source whose executions are verified by the annotation, empty if the annotation
+     * applies to all the data sources
+     */
+    public static String of(Annotation annotation) {
+        if (annotation instanceof ExpectSelect) {
+            return ((ExpectSelect) annotation).dataSource();
+        } else if (annotation instanceof ExpectMaxSelect) {
+            return ((ExpectMaxSelect) annotation).dataSource();
+        } else if (annotation instanceof ExpectInsert) {
+            return ((ExpectInsert) annotation).dataSource();
+        } else if (annotation instanceof ExpectMaxInsert) {
+            return ((ExpectMaxInsert) annotation).dataSource();
+        } else if (annotation instanceof ExpectUpdate) {
+            return ((ExpectUpdate) annotation).dataSource();
+        } else if (annotation instanceof ExpectMaxUpdate) {
+            return ((ExpectMaxUpdate) annotation).dataSource();
+        } else if (annotation instanceof ExpectDelete) {
+            return ((ExpectDelete) annotation).dataSource();
+        } else if (annotation instanceof ExpectMaxDelete) {
+            return ((ExpectMaxDelete) annotation).dataSource();
+        } else if (annotation instanceof ExpectJdbcQueryExecution) {
+            return ((ExpectJdbcQueryExecution) annotation).dataSource();
+        } else if (annotation instanceof ExpectMaxJdbcQueryExecution) {
+            return ((ExpectMaxJdbcQueryExecution) annotation).dataSource();
+        }
+        return "";
+    }
+
+}
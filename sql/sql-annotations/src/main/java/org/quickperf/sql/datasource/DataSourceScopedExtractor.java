@@ -0,0 +1,34 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.datasource;
+
+import org.quickperf.ExtractablePerformanceMeasure;
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.sql.SqlExecutions;
+
+/**
+ * Defers a measure extraction until the data source targeted by the annotation is known.
+ */
+public class DataSourceScopedExtractor<M extends PerfMeasure> implements ExtractablePerformanceMeasure<SqlExecutions, DataSourceScopedMeasure<M>> {
+
+    private final ExtractablePerformanceMeasure<SqlExecutions, M> measureExtractor;
+
+    public DataSourceScopedExtractor(ExtractablePerformanceMeasure<SqlExecutions, M> measureExtractor) {
+        this.measureExtractor = measureExtractor;
+    }
+
+    @Override
+    public DataSourceScopedMeasure<M> extractPerfMeasureFrom(SqlExecutions sqlExecutions) {
+        return new DataSourceScopedMeasure<>(sqlExecutions, measureExtractor);
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.datasource;
+
+import org.quickperf.ExtractablePerformanceMeasure;
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.sql.SqlExecutions;
+
+/**
+ * SQL executions of all the data sources from which the measure of a single data source is extracted on demand.
+ */
+public class DataSourceScopedMeasure<M extends PerfMeasure> implements PerfMeasure<SqlExecutions, Void> {
+
+    private final SqlExecutions sqlExecutions;
+
+    private final ExtractablePerformanceMeasure<SqlExecutions, M> measureExtractor;
+
+    DataSourceScopedMeasure(SqlExecutions sqlExecutions, ExtractablePerformanceMeasure<SqlExecutions, M> measureExtractor) {
+        this.sqlExecutions = sqlExecutions;
+        this.measureExtractor = measureExtractor;
+    }
+
+    /**
+     * @param dataSourceName the data source name, empty to measure the executions of all the data sources
+     */
+    public M measureOf(String dataSourceName) {
+        SqlExecutions dataSourceExecutions = sqlExecutions.filterByDataSource(dataSourceName);
+        return measureExtractor.extractPerfMeasureFrom(dataSourceExecutions);
+    }
+
+    @Override
+    public SqlExecutions getValue() {
+        return sqlExecutions;
+    }
+
+    @Override
+    public Void getUnit() {
+        return null;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.datasource;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.measure.PerfMeasure;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Verifies an annotation against the executions of the data source given by its <code>dataSource</code> attribute.
+ */
+public class DataSourceScopedVerifier<A extends Annotation, M extends PerfMeasure> implements VerifiablePerformanceIssue<A, DataSourceScopedMeasure<M>> {
+
+    private final VerifiablePerformanceIssue<A, M> perfIssueVerifier;
+
+    public DataSourceScopedVerifier(VerifiablePerformanceIssue<A, M> perfIssueVerifier) {
+        this.perfIssueVerifier = perfIssueVerifier;
+    }
+
+    @Override
+    public PerfIssue verifyPerfIssue(A annotation, DataSourceScopedMeasure<M> dataSourceScopedMeasure) {
+
+        String dataSourceName = DataSourceAttribute.of(annotation);
+
+        M measure = dataSourceScopedMeasure.measureOf(dataSourceName);
+
+        PerfIssue perfIssue = perfIssueVerifier.verifyPerfIssue(annotation, measure);
+
+        if (perfIssue == PerfIssue.NONE || dataSourceName.isEmpty()) {
+            return perfIssue;
+        }
+
+        return new PerfIssue(  perfIssue.getDescription()
+                             + System.lineSeparator()
+                             + "       " + "(only the statements of the <" + dataSourceName + "> data source are counted)");
+
+    }
+
+}
@@ -27,6 +27,8 @@ public class DisplaySqlOfTestMethodBodyRecorder implements SqlRecorder<SqlExecut
 
     private final DataSourceProxyVerifier datasourceProxyVerifier = new DataSourceProxyVerifier();
 
+    private final SqlConsoleSink sqlConsoleSink = new SqlConsoleSink();
+
     @Override
     public void startRecording(TestExecutionContext testExecutionContext) {
         SqlRecorderRegistry.INSTANCE.register(this);
@@ -35,6 +37,7 @@ public class DisplaySqlOfTestMethodBodyRecorder implements SqlRecorder<SqlExecut
     @Override
     public void stopRecording(TestExecutionContext testExecutionContext) {
         SqlRecorderRegistry.unregister(this);
+        sqlConsoleSink.flush();
         if(datasourceProxyVerifier.hasQuickPerfBuiltSeveralDataSourceProxies()) {
             System.out.println();
             System.out.println(DataSourceProxyVerifier.SEVERAL_PROXIES_WARNING);
@@ -53,9 +56,9 @@ public class DisplaySqlOfTestMethodBodyRecorder implements SqlRecorder<SqlExecut
 
     @Override
     public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries, int listenerIdentifier) {
-        datasourceProxyVerifier.addListenerIdentifier(listenerIdentifier);
+        datasourceProxyVerifier.addListenerIdentifier(execInfo.getDataSourceName(), listenerIdentifier);
         String sqlQueries = QuickPerfSqlFormatter.INSTANCE.format(execInfo, queries);
-        System.out.println(sqlQueries);
+        sqlConsoleSink.println(sqlQueries);
     }
 
 }
\ No newline at end of file
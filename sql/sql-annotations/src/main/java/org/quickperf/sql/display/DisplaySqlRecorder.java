@@ -26,15 +26,21 @@ public class DisplaySqlRecorder implements SqlRecorder<SqlExecutions> {
 
     private final DataSourceProxyVerifier datasourceProxyVerifier = new DataSourceProxyVerifier();
 
+    private final SqlConsoleSink sqlConsoleSink = new SqlConsoleSink();
+
     public DisplaySqlRecorder() {
         SqlRecorderRegistry.INSTANCE.register(this);
     }
 
     @Override
-    public void startRecording(TestExecutionContext testExecutionContext) {}
+    public void startRecording(TestExecutionContext testExecutionContext) {
+        sqlConsoleSink.flush();
+    }
 
     @Override
-    public void stopRecording(TestExecutionContext testExecutionContext) {}
+    public void stopRecording(TestExecutionContext testExecutionContext) {
+        sqlConsoleSink.flush();
+    }
 
     @Override
     public SqlExecutions findRecord(TestExecutionContext testExecutionContext) {
@@ -43,6 +49,7 @@ public class DisplaySqlRecorder implements SqlRecorder<SqlExecutions> {
 
     @Override
     public void cleanResources() {
+        sqlConsoleSink.flush();
         if(datasourceProxyVerifier.hasQuickPerfBuiltSeveralDataSourceProxies()) {
             System.out.println();
             System.out.println(DataSourceProxyVerifier.SEVERAL_PROXIES_WARNING);
@@ -54,8 +61,8 @@ public class DisplaySqlRecorder implements SqlRecorder<SqlExecutions> {
     @Override
     public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries, int listenerIdentifier) {
         String sqlQueries = QuickPerfSqlFormatter.INSTANCE.format(execInfo, queries);
-        System.out.println(sqlQueries);
-        datasourceProxyVerifier.addListenerIdentifier(listenerIdentifier);
+        sqlConsoleSink.println(sqlQueries);
+        datasourceProxyVerifier.addListenerIdentifier(execInfo.getDataSourceName(), listenerIdentifier);
     }
 
 }
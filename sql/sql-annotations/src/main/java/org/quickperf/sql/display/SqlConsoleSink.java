@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.display;
+
+/**
+ * Buffers the SQL texts to display and writes them to <code>System.out</code> in batches, printing each execution
+ * synchronously slowing down the tests displaying many statements.
+ * <br><br>
+ * The buffer is written once it exceeds {@value #FLUSH_THRESHOLD_IN_CHARS} characters and each time
+ * {@link #flush()} is called.
+ */
+class SqlConsoleSink {
+
+    private static final int FLUSH_THRESHOLD_IN_CHARS = 64 * 1_024;
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    synchronized void println(String text) {
+        buffer.append(text).append(System.lineSeparator());
+        if (buffer.length() > FLUSH_THRESHOLD_IN_CHARS) {
+            flush();
+        }
+    }
+
+    synchronized void flush() {
+        if (buffer.length() == 0) {
+            return;
+        }
+        System.out.print(buffer);
+        System.out.flush();
+        buffer.setLength(0);
+    }
+
+}
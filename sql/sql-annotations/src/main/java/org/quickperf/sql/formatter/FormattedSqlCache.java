@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.formatter;
+
+import org.quickperf.sql.SqlFormatter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of formatted SQL texts, keyed by the raw SQL text.
+ * <br><br>
+ * A same SQL text is often executed thousands of times during a test, formatting it each time being costly with
+ * the formatter of Hibernate. The texts longer than {@value #MAX_CACHED_SQL_LENGTH} characters, mostly long IN-lists
+ * or batches of inlined values, are not cached to keep the memory footprint bounded.
+ */
+class FormattedSqlCache {
+
+    static final int MAX_CACHED_SQL_LENGTH = 8_192;
+
+    private final Map<String, String> formattedSqlBySql;
+
+    FormattedSqlCache(final int capacity) {
+        this.formattedSqlBySql = new LinkedHashMap<String, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    String format(String sql, SqlFormatter sqlFormatter) {
+        if (sql == null || sql.length() > MAX_CACHED_SQL_LENGTH) {
+            return sqlFormatter.formatQuery(sql);
+        }
+        synchronized (formattedSqlBySql) {
+            String formattedSql = formattedSqlBySql.get(sql);
+            if (formattedSql != null) {
+                return formattedSql;
+            }
+        }
+        String formattedSql = sqlFormatter.formatQuery(sql);
+        synchronized (formattedSqlBySql) {
+            formattedSqlBySql.put(sql, formattedSql);
+        }
+        return formattedSql;
+    }
+
+}
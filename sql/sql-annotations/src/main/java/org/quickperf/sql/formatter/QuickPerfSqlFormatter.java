@@ -25,11 +25,13 @@ public class QuickPerfSqlFormatter {
 
     private static final QuickPerfQueryLogEntryCreator PRETTY_QUERY_LOG_ENTRY_CREATOR = new QuickPerfQueryLogEntryCreator();
 
+    private static final FormattedSqlCache FORMATTED_SQL_CACHE = new FormattedSqlCache(1_024);
+
     private static class QuickPerfQueryLogEntryCreator extends DefaultQueryLogEntryCreator {
 
         @Override
         protected String formatQuery(String query) {
-            return QuickPerfSqlFormatter.SQL_FORMATTER.formatQuery(query);
+            return FORMATTED_SQL_CACHE.format(query, QuickPerfSqlFormatter.SQL_FORMATTER);
         }
 
     }
@@ -37,7 +39,8 @@ public class QuickPerfSqlFormatter {
     private QuickPerfSqlFormatter() { }
 
     public String format(ExecutionInfo executionInfo, List<QueryInfo> queries) {
-        final boolean writeDataSourceName = false;
+        String dataSourceName = executionInfo.getDataSourceName();
+        final boolean writeDataSourceName = dataSourceName != null && !dataSourceName.isEmpty();
         final boolean writeConnectionId = false;
         return PRETTY_QUERY_LOG_ENTRY_CREATOR.getLogEntry(executionInfo
                                                         , queries
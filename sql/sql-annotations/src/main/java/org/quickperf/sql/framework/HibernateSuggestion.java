@@ -76,4 +76,54 @@ public enum HibernateSuggestion implements QuickPerfSuggestion {
         }
     },
 
+    PER_ROW_KEY_GENERATION() {
+
+        @Override
+        public String getMessage() {
+            return System.lineSeparator()
+                    + System.lineSeparator()
+                    + "\tWith Hibernate, you may use a sequence generator with a pooled optimizer to fetch several keys per round trip:"
+                    + System.lineSeparator()
+                    + "\t@SequenceGenerator(name = \"...\", sequenceName = \"...\", allocationSize = 50)"
+                    + System.lineSeparator()
+                    + "\tThe allocationSize value has to be the increment of the database sequence."
+                    + System.lineSeparator()
+                    + "\tThe pooled-lo optimizer can be chosen with hibernate.id.optimizer.pooled.preferred Hibernate property."
+                    + System.lineSeparator()
+                    + System.lineSeparator()
+                    + "\tNote that IDENTITY generator disables JDBC batching: https://stackoverflow.com/questions/27697810/hibernate-disabled-insert-batching-when-using-an-identity-identifier"
+                    + System.lineSeparator()
+                    + "\tAbout identifier optimizers: https://vladmihalcea.com/hibernate-hidden-gem-the-pooled-lo-optimizer/";
+        }
+
+    },
+
+    IN_LIST_PADDING() {
+
+        @Override
+        public String getMessage() {
+            return System.lineSeparator()
+                    + System.lineSeparator()
+                    + "\tWith Hibernate, you may set hibernate.query.in_clause_parameter_padding Hibernate property with true."
+                    + System.lineSeparator()
+                    + "\tThe IN-lists are then padded to the next power of two by repeating the last value."
+                    + System.lineSeparator()
+                    + "\tMore details: https://vladmihalcea.com/improve-statement-caching-efficiency-in-clause-parameter-padding/";
+        }
+
+    },
+
+    FULL_ROW_UPDATE() {
+
+        @Override
+        public String getMessage() {
+            return System.lineSeparator()
+                    + System.lineSeparator()
+                    + "\tHibernate sets all the columns of an entity in its UPDATE statements by default."
+                    + System.lineSeparator()
+                    + "\tYou may annotate the entity with @DynamicUpdate to only set the modified columns.";
+        }
+
+    },
+
 }
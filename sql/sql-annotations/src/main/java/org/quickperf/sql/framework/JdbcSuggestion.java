@@ -41,6 +41,57 @@ public enum JdbcSuggestion implements QuickPerfSuggestion {
             }
             return "";
         }
+    },
+
+    PER_ROW_KEY_GENERATION {
+        @Override
+        public String getMessage() {
+            if(SystemProperties.SIMPLIFIED_SQL_DISPLAY.evaluate()) {
+                return "";
+            }
+            if (ClassPath.INSTANCE.containsHibernate()) {
+                return HibernateSuggestion.PER_ROW_KEY_GENERATION.getMessage();
+            }
+            return    System.lineSeparator()
+                    + System.lineSeparator()
+                    + "\tYou may fetch several keys per round trip with a sequence having an increment greater than 1,"
+                    + System.lineSeparator()
+                    + "\tand insert the rows with a JDBC batch.";
+        }
+    },
+
+    IN_LIST_PADDING {
+        @Override
+        public String getMessage() {
+            if(SystemProperties.SIMPLIFIED_SQL_DISPLAY.evaluate()) {
+                return "";
+            }
+            if (ClassPath.INSTANCE.containsHibernate()) {
+                return HibernateSuggestion.IN_LIST_PADDING.getMessage();
+            }
+            return    System.lineSeparator()
+                    + System.lineSeparator()
+                    + "\tYou may pad the IN-lists to a few sizes (powers of two for example) by repeating the last value,"
+                    + System.lineSeparator()
+                    + "\tor bind an array parameter when the database supports it (= ANY(?) with PostgreSQL).";
+        }
+    },
+
+    FULL_ROW_UPDATE {
+        @Override
+        public String getMessage() {
+            if(SystemProperties.SIMPLIFIED_SQL_DISPLAY.evaluate()) {
+                return "";
+            }
+            if (ClassPath.INSTANCE.containsHibernate()) {
+                return HibernateSuggestion.FULL_ROW_UPDATE.getMessage();
+            }
+            return    System.lineSeparator()
+                    + System.lineSeparator()
+                    + "\tYou may only set the modified columns, the unchanged values being otherwise rewritten"
+                    + System.lineSeparator()
+                    + "\t(write-ahead log volume, index maintenance and triggers for nothing).";
+        }
     }
 
 }
@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.index;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.WorkingFolder;
+import org.quickperf.repository.ObjectFileRepository;
+import org.quickperf.sql.PhysicalConnectionRetriever;
+import org.quickperf.sql.SqlFingerprint;
+import org.quickperf.sql.SqlLexer;
+import org.quickperf.sql.SqlRecorder;
+import org.quickperf.sql.SqlRecorderRegistry;
+import org.quickperf.sql.SqlTokens;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Compares, once per statement shape, the columns of the WHERE and JOIN predicates to the indexes of the database.
+ * <br><br>
+ * The index metadata are read on the physical connection of the execution and cached for the test execution by
+ * {@link IndexedColumnsCache}.
+ * The columns of tables not found in the metadata, and the unqualified columns of multi-table statements, are not
+ * checked.
+ */
+public class IndexCoverageRecorder implements SqlRecorder<UnindexedPredicates> {
+
+    private static final String UNINDEXED_PREDICATES_FILE_NAME = "unindexed-predicates.ser";
+
+    private final Set<SqlFingerprint> analyzedFingerprints = new HashSet<>();
+
+    private final List<UnindexedPredicate> unindexedPredicates = new ArrayList<>();
+
+    private final IndexedColumnsCache indexedColumnsCache = new IndexedColumnsCache();
+
+    private UnindexedPredicates record;
+
+    @Override
+    public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries, int listenerIdentifier) {
+        if (!execInfo.isSuccess()) {
+            return;
+        }
+        for (QueryInfo query : queries) {
+            SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(query.getQuery());
+            if (hasPredicates(sqlTokens.getQueryType()) && analyzedFingerprints.add(sqlTokens.getFingerprint())) {
+                analyze(execInfo, query.getQuery(), sqlTokens);
+            }
+        }
+    }
+
+    private boolean hasPredicates(QueryType queryType) {
+        return    queryType == QueryType.SELECT
+               || queryType == QueryType.UPDATE
+               || queryType == QueryType.DELETE;
+    }
+
+    private void analyze(ExecutionInfo execInfo, String sql, SqlTokens sqlTokens) {
+        Set<PredicateColumn> predicateColumns = PredicateColumnExtractor.INSTANCE.extractPredicateColumns(sqlTokens);
+        if (predicateColumns.isEmpty()) {
+            return;
+        }
+        try {
+            DatabaseMetaData metaData = PhysicalConnectionRetriever.INSTANCE.retrieveConnectionOf(execInfo).getMetaData();
+            List<String> unindexedColumns = new ArrayList<>();
+            for (PredicateColumn predicateColumn : predicateColumns) {
+                Set<String> leadingColumns = indexedColumnsCache.findIndexLeadingColumns(metaData, predicateColumn.getTable());
+                String column = predicateColumn.getColumn().toLowerCase(Locale.ENGLISH);
+                if (leadingColumns != null && !leadingColumns.contains(column)) {
+                    unindexedColumns.add(predicateColumn.toString());
+                }
+            }
+            if (!unindexedColumns.isEmpty()) {
+                unindexedPredicates.add(new UnindexedPredicate(sql, unindexedColumns));
+            }
+        } catch (SQLException e) {
+            // The index coverage of this shape is not available
+        }
+    }
+
+    @Override
+    public void startRecording(TestExecutionContext testExecutionContext) {
+        analyzedFingerprints.clear();
+        unindexedPredicates.clear();
+        indexedColumnsCache.clear();
+        SqlRecorderRegistry.INSTANCE.register(this);
+    }
+
+    @Override
+    public void stopRecording(TestExecutionContext testExecutionContext) {
+        SqlRecorderRegistry.unregister(this);
+        record = new UnindexedPredicates(unindexedPredicates);
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            ObjectFileRepository.INSTANCE.save(workingFolder, UNINDEXED_PREDICATES_FILE_NAME, record);
+        }
+    }
+
+    @Override
+    public UnindexedPredicates findRecord(TestExecutionContext testExecutionContext) {
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            return (UnindexedPredicates) ObjectFileRepository.INSTANCE.find(workingFolder.getPath(), UNINDEXED_PREDICATES_FILE_NAME);
+        }
+        return record;
+    }
+
+    @Override
+    public void cleanResources() { }
+
+}
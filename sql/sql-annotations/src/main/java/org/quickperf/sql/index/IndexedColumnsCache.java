@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.index;
+
+import org.quickperf.sql.TableMetaDataReader;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Caches, for each table of a database, the columns leading an index or the primary key.
+ * <br><br>
+ * The metadata of a table are retrieved with <code>DatabaseMetaData.getIndexInfo</code> the first time the table is
+ * met during the test execution, the cache being owned by the recorder of the test. The tables not found in the
+ * metadata are not cached, so that a table created during the test is found later.
+ */
+class IndexedColumnsCache {
+
+    private final Map<String, Set<String>> leadingColumnsByTable = new HashMap<>();
+
+    /**
+     * @return the lower-cased columns leading an index, null if the table is not found in the metadata
+     */
+    Set<String> findIndexLeadingColumns(DatabaseMetaData metaData, String table) throws SQLException {
+        String tableKey = metaData.getURL() + "|" + table.toLowerCase(Locale.ENGLISH);
+        Set<String> leadingColumns = leadingColumnsByTable.get(tableKey);
+        if (leadingColumns == null) {
+            leadingColumns = retrieveIndexLeadingColumns(metaData, table);
+            if (leadingColumns != null) {
+                leadingColumnsByTable.put(tableKey, leadingColumns);
+            }
+        }
+        return leadingColumns;
+    }
+
+    private Set<String> retrieveIndexLeadingColumns(DatabaseMetaData metaData, String table) throws SQLException {
+        TableMetaDataReader tableMetaDataReader = TableMetaDataReader.INSTANCE;
+        String metaDataTable = tableMetaDataReader.toMetaDataCase(metaData, table);
+        if (!tableMetaDataReader.tableExists(metaData, metaDataTable)) {
+            return null;
+        }
+        Set<String> leadingColumns = new HashSet<>();
+        try (ResultSet indexInfo = metaData.getIndexInfo(null, null, metaDataTable, false, true)) {
+            while (indexInfo.next()) {
+                String column = indexInfo.getString("COLUMN_NAME");
+                if (indexInfo.getShort("ORDINAL_POSITION") == 1 && column != null) {
+                    leadingColumns.add(column.toLowerCase(Locale.ENGLISH));
+                }
+            }
+        }
+        List<String> primaryKeyColumns = tableMetaDataReader.findPrimaryKeyColumns(metaData, metaDataTable);
+        if (!primaryKeyColumns.isEmpty()) {
+            leadingColumns.add(primaryKeyColumns.get(0));
+        }
+        return leadingColumns;
+    }
+
+    void clear() {
+        leadingColumnsByTable.clear();
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.index;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.ExpectIndexedPredicates;
+
+public class IndexedPredicatesVerifier implements VerifiablePerformanceIssue<ExpectIndexedPredicates, UnindexedPredicates> {
+
+    public static final IndexedPredicatesVerifier INSTANCE = new IndexedPredicatesVerifier();
+
+    private IndexedPredicatesVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(ExpectIndexedPredicates annotation, UnindexedPredicates unindexedPredicates) {
+
+        if (unindexedPredicates.getValue() == 0) {
+            return PerfIssue.NONE;
+        }
+
+        StringBuilder predicates = new StringBuilder();
+        for (UnindexedPredicate unindexedPredicate : unindexedPredicates.getUnindexedPredicates()) {
+            predicates.append(System.lineSeparator())
+                      .append(System.lineSeparator())
+                      .append("\t").append(unindexedPredicate.getSql())
+                      .append(System.lineSeparator())
+                      .append("\tunindexed columns: ").append(unindexedPredicate.getUnindexedColumns());
+        }
+
+        String description = "You may think that the columns of the WHERE and JOIN predicates are indexed."
+                           + System.lineSeparator()
+                           + "But there are in fact " + unindexedPredicates.getValue()
+                           + " statement(s) comparing columns that are not the leading column of an index..."
+                           + predicates
+                           + System.lineSeparator()
+                           + System.lineSeparator()
+                           + "Perhaps an index is missing. Use @DisplayQueryPlans to display the plans of the selects.";
+        return new PerfIssue(description);
+
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.index;
+
+import java.util.Locale;
+
+/**
+ * Column compared in a WHERE or JOIN ... ON predicate, with the table it belongs to.
+ */
+class PredicateColumn {
+
+    private final String table;
+
+    private final String column;
+
+    PredicateColumn(String table, String column) {
+        this.table = table;
+        this.column = column;
+    }
+
+    String getTable() {
+        return table;
+    }
+
+    String getColumn() {
+        return column;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PredicateColumn that = (PredicateColumn) o;
+        return table.equalsIgnoreCase(that.table) && column.equalsIgnoreCase(that.column);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * table.toLowerCase(Locale.ENGLISH).hashCode() + column.toLowerCase(Locale.ENGLISH).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return table + "." + column;
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.index;
+
+import org.quickperf.sql.SqlTokens;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Extracts from the lexer tokens the columns compared in the WHERE and JOIN ... ON predicates.
+ * <br><br>
+ * A qualified column is attached to the table of its alias. An unqualified column is only kept when the statement
+ * references a single table. Columns only appearing as function arguments are ignored, an index on the column
+ * not being usable for them.
+ */
+class PredicateColumnExtractor {
+
+    static final PredicateColumnExtractor INSTANCE = new PredicateColumnExtractor();
+
+    private static final Set<String> KEY_WORDS = new HashSet<>(Arrays.asList(
+              "all", "and", "as", "asc", "between", "by", "case", "cross", "delete", "desc", "distinct", "else"
+            , "end", "escape", "except", "exists", "false", "fetch", "first", "for", "from", "full", "group", "having"
+            , "in", "inner", "insert", "intersect", "into", "is", "join", "left", "like", "limit", "natural", "next"
+            , "not", "null", "offset", "on", "only", "or", "order", "outer", "right", "rows", "select", "set", "then"
+            , "true", "union", "update", "using", "values", "when", "where", "with"
+    ));
+
+    private static final Set<String> TABLE_INTRODUCERS = new HashSet<>(Arrays.asList("from", "join", "update", "into"));
+
+    private static final Set<String> PREDICATE_STARTS = new HashSet<>(Arrays.asList("where", "on"));
+
+    private static final Set<String> PREDICATE_ENDS = new HashSet<>(Arrays.asList(
+            "select", "from", "join", "inner", "left", "right", "full", "cross", "group", "order", "having", "limit"
+          , "offset", "fetch", "union", "intersect", "except", "returning", "set", "for"
+    ));
+
+    private static final Set<String> COMPARISON_WORDS = new HashSet<>(Arrays.asList("like", "in", "between", "is", "not"));
+
+    private PredicateColumnExtractor() { }
+
+    Set<PredicateColumn> extractPredicateColumns(SqlTokens sqlTokens) {
+        Map<String, String> tableByAlias = new HashMap<>();
+        Set<String> tables = new LinkedHashSet<>();
+        findTables(sqlTokens, tableByAlias, tables);
+
+        Set<PredicateColumn> predicateColumns = new LinkedHashSet<>();
+        boolean inPredicate = false;
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            String lowerCaseWord = lowerCaseWordAt(sqlTokens, i);
+            if (PREDICATE_STARTS.contains(lowerCaseWord)) {
+                inPredicate = true;
+            } else if (PREDICATE_ENDS.contains(lowerCaseWord)) {
+                inPredicate = false;
+            } else if (inPredicate && isIdentifierAt(sqlTokens, i) && !sqlTokens.isSymbolAt(i - 1, '.')) {
+                i = addComparedColumn(sqlTokens, i, tableByAlias, tables, predicateColumns);
+            }
+        }
+        return predicateColumns;
+    }
+
+    private void findTables(SqlTokens sqlTokens, Map<String, String> tableByAlias, Set<String> tables) {
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            String lowerCaseWord = lowerCaseWordAt(sqlTokens, i);
+            if (!TABLE_INTRODUCERS.contains(lowerCaseWord)) {
+                continue;
+            }
+            int tableIndex = i + 1;
+            while (isIdentifierAt(sqlTokens, tableIndex)) {
+                int tableEnd = tableIndex;
+                while (sqlTokens.isSymbolAt(tableEnd + 1, '.') && isIdentifierAt(sqlTokens, tableEnd + 2)) {
+                    tableEnd += 2;
+                }
+                String table = identifierAt(sqlTokens, tableEnd);
+                tables.add(table);
+                tableByAlias.put(table.toLowerCase(Locale.ENGLISH), table);
+                int aliasIndex = sqlTokens.isWordAt(tableEnd + 1, "as") ? tableEnd + 2 : tableEnd + 1;
+                int nextIndex = tableEnd + 1;
+                if (isIdentifierAt(sqlTokens, aliasIndex)) {
+                    tableByAlias.put(identifierAt(sqlTokens, aliasIndex).toLowerCase(Locale.ENGLISH), table);
+                    nextIndex = aliasIndex + 1;
+                }
+                if (!"from".equals(lowerCaseWord) || !sqlTokens.isSymbolAt(nextIndex, ',')) {
+                    break;
+                }
+                tableIndex = nextIndex + 1;
+            }
+        }
+    }
+
+    private int addComparedColumn(SqlTokens sqlTokens
+                                , int start
+                                , Map<String, String> tableByAlias
+                                , Set<String> tables
+                                , Set<PredicateColumn> predicateColumns) {
+        int end = start;
+        while (sqlTokens.isSymbolAt(end + 1, '.') && isIdentifierAt(sqlTokens, end + 2)) {
+            end += 2;
+        }
+        boolean functionCall = sqlTokens.isSymbolAt(end + 1, '(');
+        boolean compared = isComparisonAt(sqlTokens, end + 1) || isComparisonAt(sqlTokens, start - 1);
+        if (functionCall || !compared) {
+            return end;
+        }
+        String column = identifierAt(sqlTokens, end);
+        String table = null;
+        if (end > start) {
+            String qualifier = identifierAt(sqlTokens, end - 2).toLowerCase(Locale.ENGLISH);
+            table = tableByAlias.get(qualifier);
+        } else if (tables.size() == 1) {
+            table = tables.iterator().next();
+        }
+        if (table != null) {
+            predicateColumns.add(new PredicateColumn(table, column));
+        }
+        return end;
+    }
+
+    private boolean isComparisonAt(SqlTokens sqlTokens, int index) {
+        if (index < 0 || index >= sqlTokens.size()) {
+            return false;
+        }
+        if (sqlTokens.typeAt(index) == SqlTokens.Type.SYMBOL) {
+            String symbol = sqlTokens.textAt(index);
+            return symbol.startsWith("=") || symbol.startsWith("<") || symbol.startsWith(">") || symbol.startsWith("!");
+        }
+        return COMPARISON_WORDS.contains(lowerCaseWordAt(sqlTokens, index));
+    }
+
+    private boolean isIdentifierAt(SqlTokens sqlTokens, int index) {
+        if (index < 0 || index >= sqlTokens.size()) {
+            return false;
+        }
+        if (sqlTokens.typeAt(index) == SqlTokens.Type.QUOTED_IDENTIFIER) {
+            return true;
+        }
+        return sqlTokens.typeAt(index) == SqlTokens.Type.WORD && !KEY_WORDS.contains(lowerCaseWordAt(sqlTokens, index));
+    }
+
+    private String identifierAt(SqlTokens sqlTokens, int index) {
+        String identifier = sqlTokens.textAt(index);
+        if (sqlTokens.typeAt(index) == SqlTokens.Type.QUOTED_IDENTIFIER && identifier.length() >= 2) {
+            return identifier.substring(1, identifier.length() - 1);
+        }
+        return identifier;
+    }
+
+    private String lowerCaseWordAt(SqlTokens sqlTokens, int index) {
+        if (sqlTokens.typeAt(index) != SqlTokens.Type.WORD) {
+            return "";
+        }
+        return sqlTokens.textAt(index).toLowerCase(Locale.ENGLISH);
+    }
+
+}
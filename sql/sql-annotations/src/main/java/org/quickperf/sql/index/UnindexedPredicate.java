@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.index;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Statement shape whose WHERE or JOIN predicates compare columns that are not the leading column of an index.
+ */
+public class UnindexedPredicate implements Serializable {
+
+    private final String sql;
+
+    private final List<String> unindexedColumns;
+
+    UnindexedPredicate(String sql, List<String> unindexedColumns) {
+        this.sql = sql;
+        this.unindexedColumns = new ArrayList<>(unindexedColumns);
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return the unindexed columns, formatted as <code>table.column</code>
+     */
+    public List<String> getUnindexedColumns() {
+        return Collections.unmodifiableList(unindexedColumns);
+    }
+
+}
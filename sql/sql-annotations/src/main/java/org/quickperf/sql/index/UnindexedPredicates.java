@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.index;
+
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.unit.CountUnit;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class UnindexedPredicates implements PerfMeasure<Long, CountUnit>, Serializable {
+
+    private final List<UnindexedPredicate> unindexedPredicates;
+
+    UnindexedPredicates(List<UnindexedPredicate> unindexedPredicates) {
+        this.unindexedPredicates = new ArrayList<>(unindexedPredicates);
+    }
+
+    public List<UnindexedPredicate> getUnindexedPredicates() {
+        return Collections.unmodifiableList(unindexedPredicates);
+    }
+
+    /**
+     * @return the number of statement shapes having unindexed predicate columns
+     */
+    @Override
+    public Long getValue() {
+        return (long) unindexedPredicates.size();
+    }
+
+    @Override
+    public CountUnit getUnit() {
+        return CountUnit.COUNT;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.insert.key;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.WorkingFolder;
+import org.quickperf.repository.ObjectFileRepository;
+import org.quickperf.sql.SqlFingerprint;
+import org.quickperf.sql.SqlLexer;
+import org.quickperf.sql.SqlRecorder;
+import org.quickperf.sql.SqlRecorderRegistry;
+import org.quickperf.sql.SqlTokens;
+import org.quickperf.sql.connection.ConnectionListenerRegistry;
+import org.quickperf.sql.connection.ConnectionsListener;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records the sequence calls, the inserted rows and the executions of the inserts prepared to return generated keys.
+ * <br><br>
+ * The inserts returning generated keys are known from the <code>prepareStatement</code> calls of the connection,
+ * their executions from the SQL executions.
+ */
+public class KeyGenerationRecorder extends ConnectionsListener<KeyGenerations> implements SqlRecorder<KeyGenerations> {
+
+    private static final String KEY_GENERATIONS_FILE_NAME = "key-generations.ser";
+
+    private final Map<SqlFingerprint, KeyGenerationShape> sequenceCallsByFingerprint = new LinkedHashMap<>();
+
+    private final Map<SqlFingerprint, KeyGenerationShape> generatedKeyInsertsByFingerprint = new LinkedHashMap<>();
+
+    private final Set<SqlFingerprint> insertsReturningGeneratedKeys = new HashSet<>();
+
+    private long insertedRowCount;
+
+    private KeyGenerations record;
+
+    @Override
+    public void prepareStatement(Connection connection, String sql, int autoGeneratedKeys) {
+        if (autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS) {
+            insertsReturningGeneratedKeys.add(SqlFingerprint.of(sql));
+        }
+    }
+
+    @Override
+    public void prepareStatement(Connection connection, String sql, int[] columnIndexes) {
+        if (columnIndexes != null && columnIndexes.length > 0) {
+            insertsReturningGeneratedKeys.add(SqlFingerprint.of(sql));
+        }
+    }
+
+    @Override
+    public void prepareStatement(Connection connection, String sql, String[] columnNames) {
+        if (columnNames != null && columnNames.length > 0) {
+            insertsReturningGeneratedKeys.add(SqlFingerprint.of(sql));
+        }
+    }
+
+    @Override
+    public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries, int listenerIdentifier) {
+        for (QueryInfo query : queries) {
+            String sql = query.getQuery();
+            SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(sql);
+            SqlFingerprint fingerprint = sqlTokens.getFingerprint();
+            if (sqlTokens.getQueryType() == QueryType.INSERT) {
+                insertedRowCount += execInfo.isBatch() ? Math.max(1, query.getParametersList().size()) : 1;
+                if (!execInfo.isBatch() && insertsReturningGeneratedKeys.contains(fingerprint)) {
+                    findShape(generatedKeyInsertsByFingerprint, fingerprint, sql).addRoundTrip();
+                }
+            } else if (callsASequence(sqlTokens)) {
+                findShape(sequenceCallsByFingerprint, fingerprint, sql).addRoundTrip();
+            }
+        }
+    }
+
+    // Covers nextval('seq') (PostgreSQL), seq.nextval (Oracle), nextval for seq (DB2)
+    // and next value for seq (H2, HSQLDB, SQL Server, Derby)
+    private boolean callsASequence(SqlTokens sqlTokens) {
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            if (sqlTokens.isWordAt(i, "nextval")) {
+                return true;
+            }
+            if (sqlTokens.isWordAt(i, "next") && sqlTokens.isWordAt(i + 1, "value") && sqlTokens.isWordAt(i + 2, "for")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private KeyGenerationShape findShape(Map<SqlFingerprint, KeyGenerationShape> shapesByFingerprint
+                                       , SqlFingerprint fingerprint
+                                       , String sql) {
+        KeyGenerationShape shape = shapesByFingerprint.get(fingerprint);
+        if (shape == null) {
+            shape = new KeyGenerationShape(sql);
+            shapesByFingerprint.put(fingerprint, shape);
+        }
+        return shape;
+    }
+
+    @Override
+    public void startRecording(TestExecutionContext testExecutionContext) {
+        sequenceCallsByFingerprint.clear();
+        generatedKeyInsertsByFingerprint.clear();
+        insertsReturningGeneratedKeys.clear();
+        insertedRowCount = 0;
+        SqlRecorderRegistry.INSTANCE.register(this);
+        ConnectionListenerRegistry.INSTANCE.register(this);
+    }
+
+    @Override
+    public void stopRecording(TestExecutionContext testExecutionContext) {
+        SqlRecorderRegistry.unregister(this);
+        ConnectionListenerRegistry.unregister(this);
+        record = new KeyGenerations(new ArrayList<>(sequenceCallsByFingerprint.values())
+                                  , new ArrayList<>(generatedKeyInsertsByFingerprint.values())
+                                  , insertedRowCount);
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            ObjectFileRepository.INSTANCE.save(workingFolder, KEY_GENERATIONS_FILE_NAME, record);
+        }
+    }
+
+    @Override
+    public KeyGenerations findRecord(TestExecutionContext testExecutionContext) {
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            return (KeyGenerations) ObjectFileRepository.INSTANCE.find(workingFolder.getPath()
+                                                                     , KEY_GENERATIONS_FILE_NAME);
+        }
+        return record;
+    }
+
+    @Override
+    public void cleanResources() { }
+
+}
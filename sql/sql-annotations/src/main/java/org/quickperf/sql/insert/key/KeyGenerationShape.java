@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.insert.key;
+
+import java.io.Serializable;
+
+/**
+ * Database round trips done by the statements having the same SQL shape to generate keys.
+ */
+public class KeyGenerationShape implements Serializable {
+
+    private final String sql;
+
+    private long roundTripCount;
+
+    KeyGenerationShape(String sql) {
+        this.sql = sql;
+    }
+
+    void addRoundTrip() {
+        roundTripCount++;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public long getRoundTripCount() {
+        return roundTripCount;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.insert.key;
+
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.unit.CountUnit;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sequence calls and inserts retrieving generated keys, compared to the number of inserted rows.
+ * <br><br>
+ * Keys are considered as generated row by row when the sequences are called at least as many times as rows are
+ * inserted, at least {@value #MIN_INSERTED_ROW_COUNT_FOR_SEQUENCE_CALLS} rows being inserted, or when an insert
+ * retrieving generated keys is executed several times out of a JDBC batch. Under this row count, the initial sequence
+ * calls of a pooled optimizer, such as the two calls of the Hibernate one, could be taken for calls per row.
+ */
+public class KeyGenerations implements PerfMeasure<Long, CountUnit>, Serializable {
+
+    static final int MIN_INSERTED_ROW_COUNT_FOR_SEQUENCE_CALLS = 3;
+
+    private final List<KeyGenerationShape> sequenceCalls;
+
+    private final List<KeyGenerationShape> generatedKeyInserts;
+
+    private final long insertedRowCount;
+
+    KeyGenerations(List<KeyGenerationShape> sequenceCalls
+                 , List<KeyGenerationShape> generatedKeyInserts
+                 , long insertedRowCount) {
+        this.sequenceCalls = new ArrayList<>(sequenceCalls);
+        this.generatedKeyInserts = new ArrayList<>(generatedKeyInserts);
+        this.insertedRowCount = insertedRowCount;
+    }
+
+    public List<KeyGenerationShape> getSequenceCalls() {
+        return Collections.unmodifiableList(sequenceCalls);
+    }
+
+    public long getSequenceCallCount() {
+        long sequenceCallCount = 0;
+        for (KeyGenerationShape sequenceCall : sequenceCalls) {
+            sequenceCallCount += sequenceCall.getRoundTripCount();
+        }
+        return sequenceCallCount;
+    }
+
+    public long getInsertedRowCount() {
+        return insertedRowCount;
+    }
+
+    public boolean sequencesAreCalledPerRow() {
+        long sequenceCallCount = getSequenceCallCount();
+        return insertedRowCount >= MIN_INSERTED_ROW_COUNT_FOR_SEQUENCE_CALLS && sequenceCallCount >= insertedRowCount;
+    }
+
+    /**
+     * @return the inserts retrieving generated keys executed several times out of a JDBC batch
+     */
+    public List<KeyGenerationShape> getPerRowGeneratedKeyInserts() {
+        List<KeyGenerationShape> perRowGeneratedKeyInserts = new ArrayList<>();
+        for (KeyGenerationShape generatedKeyInsert : generatedKeyInserts) {
+            if (generatedKeyInsert.getRoundTripCount() > 1) {
+                perRowGeneratedKeyInserts.add(generatedKeyInsert);
+            }
+        }
+        return perRowGeneratedKeyInserts;
+    }
+
+    /**
+     * @return the round trips done to generate keys row by row
+     */
+    @Override
+    public Long getValue() {
+        long roundTripCount = sequencesAreCalledPerRow() ? getSequenceCallCount() : 0;
+        for (KeyGenerationShape generatedKeyInsert : getPerRowGeneratedKeyInserts()) {
+            roundTripCount += generatedKeyInsert.getRoundTripCount();
+        }
+        return roundTripCount;
+    }
+
+    @Override
+    public CountUnit getUnit() {
+        return CountUnit.COUNT;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
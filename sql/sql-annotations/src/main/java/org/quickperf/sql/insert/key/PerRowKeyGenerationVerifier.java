@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.insert.key;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.DisablePerRowKeyGeneration;
+import org.quickperf.sql.framework.JdbcSuggestion;
+
+import java.util.List;
+
+public class PerRowKeyGenerationVerifier implements VerifiablePerformanceIssue<DisablePerRowKeyGeneration, KeyGenerations> {
+
+    public static final PerRowKeyGenerationVerifier INSTANCE = new PerRowKeyGenerationVerifier();
+
+    private PerRowKeyGenerationVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(DisablePerRowKeyGeneration annotation, KeyGenerations keyGenerations) {
+
+        List<KeyGenerationShape> perRowGeneratedKeyInserts = keyGenerations.getPerRowGeneratedKeyInserts();
+        if (!keyGenerations.sequencesAreCalledPerRow() && perRowGeneratedKeyInserts.isEmpty()) {
+            return PerfIssue.NONE;
+        }
+
+        StringBuilder description = new StringBuilder();
+        description.append("Keys are generated with one database round trip per inserted row.");
+
+        if (keyGenerations.sequencesAreCalledPerRow()) {
+            description.append(System.lineSeparator())
+                       .append(System.lineSeparator())
+                       .append("<").append(keyGenerations.getSequenceCallCount()).append("> sequence calls for <")
+                       .append(keyGenerations.getInsertedRowCount()).append("> inserted rows:");
+            appendShapes(description, keyGenerations.getSequenceCalls(), "calls");
+        }
+
+        if (!perRowGeneratedKeyInserts.isEmpty()) {
+            description.append(System.lineSeparator())
+                       .append(System.lineSeparator())
+                       .append("Inserts retrieving generated keys are executed out of a JDBC batch:");
+            appendShapes(description, perRowGeneratedKeyInserts, "executions");
+        }
+
+        description.append(JdbcSuggestion.PER_ROW_KEY_GENERATION.getMessage());
+
+        return new PerfIssue(description.toString());
+
+    }
+
+    private void appendShapes(StringBuilder description, List<KeyGenerationShape> shapes, String roundTripLabel) {
+        for (KeyGenerationShape shape : shapes) {
+            description.append(System.lineSeparator())
+                       .append("\t<").append(shape.getRoundTripCount()).append("> ").append(roundTripLabel)
+                       .append(" of ").append(shape.getSql());
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.latency;
+
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.unit.CountUnit;
+
+import java.io.Serializable;
+
+/**
+ * Latency simulated during a test method execution, compared to the execution time of the test method.
+ */
+public class SimulatedLatency implements PerfMeasure<Long, CountUnit>, Serializable {
+
+    private final long roundTrips;
+
+    private final long simulatedTimeInNs;
+
+    private final long testMethodTimeInNs;
+
+    SimulatedLatency(long roundTrips, long simulatedTimeInNs, long testMethodTimeInNs) {
+        this.roundTrips = roundTrips;
+        this.simulatedTimeInNs = simulatedTimeInNs;
+        this.testMethodTimeInNs = testMethodTimeInNs;
+    }
+
+    public long getRoundTrips() {
+        return roundTrips;
+    }
+
+    public long getSimulatedTimeInNs() {
+        return simulatedTimeInNs;
+    }
+
+    /**
+     * @return the execution time of the test method, simulated latency included
+     */
+    public long getTestMethodTimeInNs() {
+        return testMethodTimeInNs;
+    }
+
+    /**
+     * @return the number of simulated round trips
+     */
+    @Override
+    public Long getValue() {
+        return roundTrips;
+    }
+
+    @Override
+    public CountUnit getUnit() {
+        return CountUnit.COUNT;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.latency;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.WorkingFolder;
+import org.quickperf.repository.ObjectFileRepository;
+import org.quickperf.sql.SqlRecorder;
+import org.quickperf.sql.SqlRecorderRegistry;
+import org.quickperf.sql.connection.ConnectionListenerRegistry;
+import org.quickperf.sql.connection.ConnectionsListener;
+
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Delays the thread of the test each time a round trip to the database happens, as a network would do.
+ * <br><br>
+ * A statement execution, a batch execution, a commit and a rollback each count for one round trip. The delay is
+ * spent after the round trip, once the database has answered. It is parked until a deadline rather than slept, so
+ * that delays below the millisecond are respected.
+ * <br><br>
+ * The round trips of concurrent threads are delayed in parallel, as they would be with a connection pool.
+ */
+public class SimulatedLatencyRecorder extends ConnectionsListener<SimulatedLatency> implements SqlRecorder<SimulatedLatency> {
+
+    private static final String SIMULATED_LATENCY_FILE_NAME = "simulated-latency.ser";
+
+    private final long perRoundTripInNs;
+
+    private final long jitterInNs;
+
+    private final AtomicLong roundTrips = new AtomicLong();
+
+    private final AtomicLong simulatedTimeInNs = new AtomicLong();
+
+    private long testMethodStartInNs;
+
+    private SimulatedLatency record;
+
+    public SimulatedLatencyRecorder(SimulatedLatencyParameters simulatedLatencyParameters) {
+        this.perRoundTripInNs = TimeUnit.MICROSECONDS.toNanos(simulatedLatencyParameters.getPerRoundTripMicros());
+        this.jitterInNs = TimeUnit.MICROSECONDS.toNanos(simulatedLatencyParameters.getJitterMicros());
+    }
+
+    @Override
+    public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries, int listenerIdentifier) {
+        simulateRoundTrip();
+    }
+
+    @Override
+    public void commit(Connection connection) {
+        simulateRoundTrip();
+    }
+
+    @Override
+    public void rollback(Connection connection) {
+        simulateRoundTrip();
+    }
+
+    @Override
+    public void rollback(Connection connection, Savepoint savepoint) {
+        simulateRoundTrip();
+    }
+
+    private void simulateRoundTrip() {
+        long latencyInNs = perRoundTripInNs;
+        if (jitterInNs > 0) {
+            latencyInNs += (long) ((2 * ThreadLocalRandom.current().nextDouble() - 1) * jitterInNs);
+        }
+        latencyInNs = Math.max(latencyInNs, 0);
+        long deadline = System.nanoTime() + latencyInNs;
+        for (long remainingNs = latencyInNs; remainingNs > 0; remainingNs = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remainingNs);
+        }
+        roundTrips.incrementAndGet();
+        simulatedTimeInNs.addAndGet(latencyInNs);
+    }
+
+    @Override
+    public void startRecording(TestExecutionContext testExecutionContext) {
+        roundTrips.set(0);
+        simulatedTimeInNs.set(0);
+        SqlRecorderRegistry.INSTANCE.register(this);
+        ConnectionListenerRegistry.INSTANCE.register(this);
+        testMethodStartInNs = System.nanoTime();
+    }
+
+    @Override
+    public void stopRecording(TestExecutionContext testExecutionContext) {
+        long testMethodTimeInNs = System.nanoTime() - testMethodStartInNs;
+        SqlRecorderRegistry.unregister(this);
+        ConnectionListenerRegistry.unregister(this);
+        record = new SimulatedLatency(roundTrips.get(), simulatedTimeInNs.get(), testMethodTimeInNs);
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            ObjectFileRepository.INSTANCE.save(workingFolder, SIMULATED_LATENCY_FILE_NAME, record);
+        }
+    }
+
+    @Override
+    public SimulatedLatency findRecord(TestExecutionContext testExecutionContext) {
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            return (SimulatedLatency) ObjectFileRepository.INSTANCE.find(workingFolder.getPath(), SIMULATED_LATENCY_FILE_NAME);
+        }
+        return record;
+    }
+
+    @Override
+    public void cleanResources() { }
+
+}
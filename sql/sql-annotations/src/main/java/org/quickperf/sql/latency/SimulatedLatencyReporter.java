@@ -0,0 +1,48 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.latency;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.SimulateDatabaseLatency;
+
+import java.util.Locale;
+
+public class SimulatedLatencyReporter implements VerifiablePerformanceIssue<SimulateDatabaseLatency, SimulatedLatency> {
+
+    public static final SimulatedLatencyReporter INSTANCE = new SimulatedLatencyReporter();
+
+    private static final double NANOSECONDS_PER_MILLISECOND = 1_000_000d;
+
+    private SimulatedLatencyReporter() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(SimulateDatabaseLatency annotation, SimulatedLatency simulatedLatency) {
+        long testMethodTimeInNs = simulatedLatency.getTestMethodTimeInNs();
+        long simulatedTimeInNs = simulatedLatency.getSimulatedTimeInNs();
+        long realTimeInNs = Math.max(testMethodTimeInNs - simulatedTimeInNs, 0);
+        String report = String.format(Locale.ENGLISH
+                , "[QUICK PERF] Simulated database latency: %d round trip(s) of %d us (jitter %d us)"
+                + "%n\tsimulated latency: %.1f ms"
+                + "%n\ttest method time without simulated latency: %.1f ms"
+                + "%n\ttest method time with simulated latency: %.1f ms"
+                , simulatedLatency.getRoundTrips()
+                , annotation.perRoundTripMicros()
+                , annotation.jitter()
+                , simulatedTimeInNs / NANOSECONDS_PER_MILLISECOND
+                , realTimeInNs / NANOSECONDS_PER_MILLISECOND
+                , testMethodTimeInNs / NANOSECONDS_PER_MILLISECOND);
+        System.out.println(report);
+        return PerfIssue.NONE;
+    }
+
+}
@@ -16,6 +16,8 @@ import org.quickperf.ExtractablePerformanceMeasure;
 import org.quickperf.measure.BooleanMeasure;
 import org.quickperf.sql.SqlExecution;
 import org.quickperf.sql.SqlExecutions;
+import org.quickperf.sql.SqlLexer;
+import org.quickperf.sql.SqlTokens;
 
 public class ContainsLikeWithLeadingWildcardExtractor implements ExtractablePerformanceMeasure<SqlExecutions, BooleanMeasure> {
 
@@ -37,12 +39,27 @@ public class ContainsLikeWithLeadingWildcardExtractor implements ExtractablePerf
     }
 
     private boolean searchLikeWithLeadingWildcardOn(QueryInfo queryInfo) {
-        String query = queryInfo.getQuery();
-        String queryInLowerCase = query.toLowerCase();
-        String queryInLowerCaseWithoutWhiteSpaces = queryInLowerCase.replace(" ", "");
-        return     queryInLowerCaseWithoutWhiteSpaces.contains("like'%")
-                || queryInLowerCaseWithoutWhiteSpaces.contains("like'_")
-                ;
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(queryInfo.getQuery());
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            if (     (sqlTokens.isWordAt(i, "like") || sqlTokens.isWordAt(i, "ilike"))
+                  && patternStartsWithWildcard(sqlTokens, i + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Examples: LIKE '%Ja', LIKE '%' || ?, LIKE CONCAT('%', ?)
+    private boolean patternStartsWithWildcard(SqlTokens sqlTokens, int patternIndex) {
+        int index = patternIndex;
+        if (sqlTokens.isWordAt(index, "concat") && sqlTokens.isSymbolAt(index + 1, '(')) {
+            index += 2;
+        }
+        if (index >= sqlTokens.size() || sqlTokens.typeAt(index) != SqlTokens.Type.STRING_LITERAL) {
+            return false;
+        }
+        char firstChar = sqlTokens.firstLiteralCharAt(index);
+        return firstChar == '%' || firstChar == '_';
     }
 
 }
@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.payload;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.ExpectMaxParameterBytes;
+
+public class MaxParameterBytesVerifier implements VerifiablePerformanceIssue<ExpectMaxParameterBytes, SqlPayloads> {
+
+    public static final MaxParameterBytesVerifier INSTANCE = new MaxParameterBytesVerifier();
+
+    private MaxParameterBytesVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(ExpectMaxParameterBytes annotation, SqlPayloads sqlPayloads) {
+
+        ShapePayload maxParameterPayload = null;
+        for (ShapePayload shapePayload : sqlPayloads.getShapePayloads()) {
+            if (   maxParameterPayload == null
+                || shapePayload.getMaxParameterBytesOfOneExecution() > maxParameterPayload.getMaxParameterBytesOfOneExecution()) {
+                maxParameterPayload = shapePayload;
+            }
+        }
+
+        if (   maxParameterPayload == null
+            || maxParameterPayload.getMaxParameterBytesOfOneExecution() <= annotation.value()) {
+            return PerfIssue.NONE;
+        }
+
+        String description = "You may think that at most <" + annotation.value() + "> bytes of parameters were bound to a query execution."
+                           + System.lineSeparator()
+                           + "But about <" + maxParameterPayload.getMaxParameterBytesOfOneExecution() + "> bytes were bound to:"
+                           + System.lineSeparator()
+                           + "\t" + maxParameterPayload.getSql()
+                           + System.lineSeparator()
+                           + System.lineSeparator()
+                           + "Perhaps the query binds a huge IN-list or a large binary or text value.";
+        return new PerfIssue(description);
+
+    }
+
+}
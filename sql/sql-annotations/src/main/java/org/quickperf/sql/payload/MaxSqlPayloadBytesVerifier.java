@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.payload;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.ExpectMaxSqlPayloadBytes;
+
+import java.util.Comparator;
+import java.util.List;
+
+public class MaxSqlPayloadBytesVerifier implements VerifiablePerformanceIssue<ExpectMaxSqlPayloadBytes, SqlPayloads> {
+
+    public static final MaxSqlPayloadBytesVerifier INSTANCE = new MaxSqlPayloadBytesVerifier();
+
+    private static final int MAX_NUMBER_OF_REPORTED_SHAPES = 10;
+
+    private static final Comparator<ShapePayload> MOST_BYTES_FIRST = new Comparator<ShapePayload>() {
+        @Override
+        public int compare(ShapePayload payload1, ShapePayload payload2) {
+            return Long.compare(payload2.getTotalBytes(), payload1.getTotalBytes());
+        }
+    };
+
+    private MaxSqlPayloadBytesVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(ExpectMaxSqlPayloadBytes annotation, SqlPayloads sqlPayloads) {
+
+        if (annotation.value() >= 0 && sqlPayloads.getValue() > annotation.value()) {
+            return buildPerfIssue("exchanged with", annotation.value(), sqlPayloads.getValue(), sqlPayloads);
+        }
+
+        if (annotation.sent() >= 0 && sqlPayloads.getSentBytes() > annotation.sent()) {
+            return buildPerfIssue("sent to", annotation.sent(), sqlPayloads.getSentBytes(), sqlPayloads);
+        }
+
+        if (annotation.received() >= 0 && sqlPayloads.getReceivedBytes() > annotation.received()) {
+            return buildPerfIssue("received from", annotation.received(), sqlPayloads.getReceivedBytes(), sqlPayloads);
+        }
+
+        return PerfIssue.NONE;
+
+    }
+
+    private PerfIssue buildPerfIssue(String direction, long expectedBytes, long actualBytes, SqlPayloads sqlPayloads) {
+
+        StringBuilder description = new StringBuilder();
+        description.append("You may think that at most <").append(expectedBytes).append("> bytes were ")
+                   .append(direction).append(" the database.")
+                   .append(System.lineSeparator())
+                   .append("But there are in fact about <").append(actualBytes).append(">...");
+
+        List<ShapePayload> shapePayloads = sqlPayloads.sortShapePayloadsBy(MOST_BYTES_FIRST);
+        int numberOfReportedShapes = Math.min(shapePayloads.size(), MAX_NUMBER_OF_REPORTED_SHAPES);
+        for (ShapePayload shapePayload : shapePayloads.subList(0, numberOfReportedShapes)) {
+            description.append(System.lineSeparator())
+                       .append(System.lineSeparator())
+                       .append("\t").append(shapePayload.getSql())
+                       .append(System.lineSeparator())
+                       .append("\t<").append(shapePayload.getSentBytes()).append("> bytes sent (<")
+                       .append(shapePayload.getParameterBytes()).append("> of parameters) and <")
+                       .append(shapePayload.getReceivedBytes()).append("> bytes received by <")
+                       .append(shapePayload.getExecutionCount()).append("> executions");
+        }
+        if (shapePayloads.size() > numberOfReportedShapes) {
+            description.append(System.lineSeparator())
+                       .append(System.lineSeparator())
+                       .append("\t... and <").append(shapePayloads.size() - numberOfReportedShapes)
+                       .append("> other SQL shapes");
+        }
+
+        description.append(System.lineSeparator())
+                   .append(System.lineSeparator())
+                   .append("Perhaps some queries bind huge IN-lists or large binary or text values, or select wide columns.");
+
+        return new PerfIssue(description.toString());
+
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.payload;
+
+import java.io.Serializable;
+
+/**
+ * Estimated bytes exchanged with the database by the executions of a same SQL shape.
+ */
+public class ShapePayload implements Serializable {
+
+    private final String sql;
+
+    private long executionCount;
+
+    private long sqlBytes;
+
+    private long parameterBytes;
+
+    private long maxParameterBytesOfOneExecution;
+
+    private long receivedBytes;
+
+    ShapePayload(String sql) {
+        this.sql = sql;
+    }
+
+    void addExecution(long sqlBytes, long parameterBytes) {
+        executionCount++;
+        this.sqlBytes += sqlBytes;
+        this.parameterBytes += parameterBytes;
+    }
+
+    void addParameterBytesOfOneExecution(long parameterBytes) {
+        maxParameterBytesOfOneExecution = Math.max(maxParameterBytesOfOneExecution, parameterBytes);
+    }
+
+    void addReceivedBytes(long receivedBytes) {
+        this.receivedBytes += receivedBytes;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public long getExecutionCount() {
+        return executionCount;
+    }
+
+    /**
+     * @return the bytes of the SQL texts and of the parameters
+     */
+    public long getSentBytes() {
+        return sqlBytes + parameterBytes;
+    }
+
+    public long getParameterBytes() {
+        return parameterBytes;
+    }
+
+    /**
+     * @return the maximum bytes of the parameters bound for one execution, a batch being made of several executions
+     */
+    public long getMaxParameterBytesOfOneExecution() {
+        return maxParameterBytesOfOneExecution;
+    }
+
+    /**
+     * @return the bytes of the values read by the application from the result sets
+     */
+    public long getReceivedBytes() {
+        return receivedBytes;
+    }
+
+    public long getTotalBytes() {
+        return getSentBytes() + receivedBytes;
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.payload;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.WorkingFolder;
+import org.quickperf.repository.ObjectFileRepository;
+import org.quickperf.sql.SqlFingerprint;
+import org.quickperf.sql.SqlRecorder;
+import org.quickperf.sql.SqlRecorderRegistry;
+import org.quickperf.sql.connection.ConnectionListenerRegistry;
+import org.quickperf.sql.connection.ConnectionsListener;
+import org.quickperf.sql.connection.ResultSetIteration;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimates the bytes sent to the database from the executed queries and their parameters, and the bytes received
+ * from the values read by the application in the result sets.
+ */
+public class SqlPayloadRecorder extends ConnectionsListener<SqlPayloads> implements SqlRecorder<SqlPayloads> {
+
+    private static final String SQL_PAYLOADS_FILE_NAME = "sql-payloads.ser";
+
+    private final Map<SqlFingerprint, ShapePayload> payloadsByFingerprint = new LinkedHashMap<>();
+
+    private final List<ResultSetIteration> resultSetIterations = new ArrayList<>();
+
+    private SqlPayloads record;
+
+    @Override
+    public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries, int listenerIdentifier) {
+        ValueByteSizeEstimator byteSizeEstimator = ValueByteSizeEstimator.INSTANCE;
+        for (QueryInfo query : queries) {
+            String sql = query.getQuery();
+            ShapePayload shapePayload = findShapePayload(sql);
+            long parameterBytes = 0;
+            for (List<ParameterSetOperation> parameters : query.getParametersList()) {
+                long parameterBytesOfOneExecution = 0;
+                for (ParameterSetOperation parameter : parameters) {
+                    parameterBytesOfOneExecution += byteSizeEstimator.estimateByteSizeOf(parameter);
+                }
+                shapePayload.addParameterBytesOfOneExecution(parameterBytesOfOneExecution);
+                parameterBytes += parameterBytesOfOneExecution;
+            }
+            shapePayload.addExecution(sql.length(), parameterBytes);
+        }
+    }
+
+    private ShapePayload findShapePayload(String sql) {
+        SqlFingerprint fingerprint = SqlFingerprint.of(sql);
+        ShapePayload shapePayload = payloadsByFingerprint.get(fingerprint);
+        if (shapePayload == null) {
+            shapePayload = new ShapePayload(sql);
+            payloadsByFingerprint.put(fingerprint, shapePayload);
+        }
+        return shapePayload;
+    }
+
+    @Override
+    public boolean listensToResultSets() {
+        return true;
+    }
+
+    @Override
+    public boolean listensToReadColumns() {
+        return true;
+    }
+
+    @Override
+    public void resultSetOpened(Connection connection, ResultSetIteration resultSetIteration) {
+        resultSetIterations.add(resultSetIteration);
+    }
+
+    @Override
+    public void startRecording(TestExecutionContext testExecutionContext) {
+        payloadsByFingerprint.clear();
+        resultSetIterations.clear();
+        SqlRecorderRegistry.INSTANCE.register(this);
+        ConnectionListenerRegistry.INSTANCE.register(this);
+    }
+
+    @Override
+    public void stopRecording(TestExecutionContext testExecutionContext) {
+        SqlRecorderRegistry.unregister(this);
+        ConnectionListenerRegistry.unregister(this);
+        for (ResultSetIteration resultSetIteration : resultSetIterations) {
+            if (resultSetIteration.getSql() != null) {
+                ShapePayload shapePayload = findShapePayload(resultSetIteration.getSql());
+                shapePayload.addReceivedBytes(resultSetIteration.getReadBytes());
+            }
+        }
+        record = new SqlPayloads(new ArrayList<>(payloadsByFingerprint.values()));
+        payloadsByFingerprint.clear();
+        resultSetIterations.clear();
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            ObjectFileRepository.INSTANCE.save(workingFolder, SQL_PAYLOADS_FILE_NAME, record);
+        }
+    }
+
+    @Override
+    public SqlPayloads findRecord(TestExecutionContext testExecutionContext) {
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            return (SqlPayloads) ObjectFileRepository.INSTANCE.find(workingFolder.getPath()
+                                                                  , SQL_PAYLOADS_FILE_NAME);
+        }
+        return record;
+    }
+
+    @Override
+    public void cleanResources() { }
+
+}
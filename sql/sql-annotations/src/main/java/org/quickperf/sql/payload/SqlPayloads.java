@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.payload;
+
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.unit.CountUnit;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Estimated bytes exchanged with the database, per SQL shape.
+ */
+public class SqlPayloads implements PerfMeasure<Long, CountUnit>, Serializable {
+
+    private final List<ShapePayload> shapePayloads;
+
+    SqlPayloads(List<ShapePayload> shapePayloads) {
+        this.shapePayloads = new ArrayList<>(shapePayloads);
+    }
+
+    public List<ShapePayload> getShapePayloads() {
+        return Collections.unmodifiableList(shapePayloads);
+    }
+
+    public List<ShapePayload> sortShapePayloadsBy(Comparator<ShapePayload> comparator) {
+        List<ShapePayload> sortedShapePayloads = new ArrayList<>(shapePayloads);
+        Collections.sort(sortedShapePayloads, comparator);
+        return sortedShapePayloads;
+    }
+
+    public long getSentBytes() {
+        long sentBytes = 0;
+        for (ShapePayload shapePayload : shapePayloads) {
+            sentBytes += shapePayload.getSentBytes();
+        }
+        return sentBytes;
+    }
+
+    public long getReceivedBytes() {
+        long receivedBytes = 0;
+        for (ShapePayload shapePayload : shapePayloads) {
+            receivedBytes += shapePayload.getReceivedBytes();
+        }
+        return receivedBytes;
+    }
+
+    /**
+     * @return the sent and received bytes
+     */
+    @Override
+    public Long getValue() {
+        return getSentBytes() + getReceivedBytes();
+    }
+
+    @Override
+    public CountUnit getUnit() {
+        return CountUnit.COUNT;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.payload;
+
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Estimates the number of bytes needed to transfer a value between the application and the database.
+ * <br><br>
+ * The estimation is based on the Java value and not on the wire protocol of the database: characters are counted as
+ * one byte and the protocol overhead is ignored.
+ */
+public class ValueByteSizeEstimator {
+
+    public static final ValueByteSizeEstimator INSTANCE = new ValueByteSizeEstimator();
+
+    private ValueByteSizeEstimator() { }
+
+    public long estimateByteSizeOf(ParameterSetOperation parameterSetOperation) {
+        Object[] args = parameterSetOperation.getArgs();
+        boolean nullValue = "setNull".equals(parameterSetOperation.getMethod().getName());
+        if (nullValue || args == null || args.length < 2) {
+            return 0;
+        }
+        Object value = args[1];
+        boolean streamWithLength =    (value instanceof InputStream || value instanceof Reader)
+                                   && args.length > 2
+                                   && args[2] instanceof Number;
+        if (streamWithLength) {
+            return ((Number) args[2]).longValue();
+        }
+        return estimateByteSizeOf(value);
+    }
+
+    public long estimateByteSizeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        if (value instanceof char[]) {
+            return ((char[]) value).length;
+        }
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length();
+        }
+        if (value instanceof Boolean || value instanceof Byte) {
+            return 1;
+        }
+        if (value instanceof Short) {
+            return 2;
+        }
+        if (value instanceof Integer || value instanceof Float) {
+            return 4;
+        }
+        if (value instanceof Long || value instanceof Double || value instanceof Date) {
+            return 8;
+        }
+        if (value instanceof BigInteger) {
+            return ((BigInteger) value).bitLength() / 8 + 1;
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).unscaledValue().bitLength() / 8 + 1 + 4;
+        }
+        if (value instanceof UUID) {
+            return 16;
+        }
+        if (value instanceof Blob) {
+            return lengthOf((Blob) value);
+        }
+        if (value instanceof Clob) {
+            return lengthOf((Clob) value);
+        }
+        if (value instanceof InputStream || value instanceof Reader) {
+            // Unknown length
+            return 0;
+        }
+        return String.valueOf(value).length();
+    }
+
+    private long lengthOf(Blob blob) {
+        try {
+            return blob.length();
+        } catch (SQLException e) {
+            return 0;
+        }
+    }
+
+    private long lengthOf(Clob clob) {
+        try {
+            return clob.length();
+        } catch (SQLException e) {
+            return 0;
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.plan;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.DisplayQueryPlans;
+
+public class DisplayQueryPlansVerifier implements VerifiablePerformanceIssue<DisplayQueryPlans, QueryPlans> {
+
+    public static final DisplayQueryPlansVerifier INSTANCE = new DisplayQueryPlansVerifier();
+
+    private DisplayQueryPlansVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(DisplayQueryPlans annotation, QueryPlans queryPlans) {
+        StringBuilder display = new StringBuilder("[QUICK PERF] Query plans:");
+        for (QueryPlan queryPlan : queryPlans.getQueryPlans()) {
+            display.append(System.lineSeparator())
+                   .append(System.lineSeparator())
+                   .append(queryPlan.getSql())
+                   .append(System.lineSeparator())
+                   .append(queryPlan.getPlan());
+        }
+        System.out.println(display);
+        return PerfIssue.NONE;
+    }
+
+}
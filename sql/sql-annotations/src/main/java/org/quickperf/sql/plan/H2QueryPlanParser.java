@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.plan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the plans given by H2, a full table scan being written as a comment after the table:
+ * <pre>
+ * FROM PUBLIC.BOOK
+ *     &#47;* PUBLIC.BOOK.tableScan *&#47;
+ * </pre>
+ */
+class H2QueryPlanParser implements QueryPlanParser {
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\*\\s*([\\w.\"]+)\\.tableScan");
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "H2".equalsIgnoreCase(databaseProductName);
+    }
+
+    @Override
+    public String buildExplainSql(String sql) {
+        return "EXPLAIN " + sql;
+    }
+
+    @Override
+    public List<String> findFullyScannedTables(String plan) {
+        List<String> fullyScannedTables = new ArrayList<>();
+        Matcher tableScanMatcher = TABLE_SCAN.matcher(plan);
+        while (tableScanMatcher.find()) {
+            fullyScannedTables.add(tableScanMatcher.group(1));
+        }
+        return fullyScannedTables;
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.plan;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the plans given by HSQLDB, each range variable giving its table and its access:
+ * <pre>
+ *   table=BOOK
+ *   cardinality=0
+ *   access=FULL SCAN
+ * </pre>
+ */
+class HsqldbQueryPlanParser implements QueryPlanParser {
+
+    private static final String TABLE_PREFIX = "table=";
+
+    private static final String FULL_SCAN = "access=FULL SCAN";
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "HSQL Database Engine".equalsIgnoreCase(databaseProductName);
+    }
+
+    @Override
+    public String buildExplainSql(String sql) {
+        return "EXPLAIN PLAN FOR " + sql;
+    }
+
+    @Override
+    public List<String> findFullyScannedTables(String plan) {
+        List<String> fullyScannedTables = new ArrayList<>();
+        String currentTable = null;
+        for (String line : plan.split("\\r?\\n")) {
+            String trimmedLine = line.trim();
+            if (trimmedLine.startsWith(TABLE_PREFIX)) {
+                currentTable = trimmedLine.substring(TABLE_PREFIX.length());
+            } else if (trimmedLine.startsWith(FULL_SCAN) && currentTable != null) {
+                fullyScannedTables.add(currentTable);
+                currentTable = null;
+            }
+        }
+        return fullyScannedTables;
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.plan;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.ExpectNoFullTableScan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+public class NoFullTableScanVerifier implements VerifiablePerformanceIssue<ExpectNoFullTableScan, QueryPlans> {
+
+    public static final NoFullTableScanVerifier INSTANCE = new NoFullTableScanVerifier();
+
+    private NoFullTableScanVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(ExpectNoFullTableScan annotation, QueryPlans queryPlans) {
+
+        List<String> allowedTables = toLowerCase(annotation.allowedTables());
+
+        StringBuilder scans = new StringBuilder();
+        for (QueryPlan queryPlan : queryPlans.findPlansWithFullTableScans()) {
+            List<String> fullyScannedTables = findNotAllowedTables(queryPlan, allowedTables);
+            if (!fullyScannedTables.isEmpty()) {
+                scans.append(System.lineSeparator())
+                     .append(System.lineSeparator())
+                     .append("\t").append(queryPlan.getSql())
+                     .append(System.lineSeparator())
+                     .append("\tfully scanned tables: ").append(fullyScannedTables);
+            }
+        }
+
+        if (scans.length() == 0) {
+            return PerfIssue.NONE;
+        }
+
+        String description = "You may think that the selects don't fully scan tables."
+                           + System.lineSeparator()
+                           + "But the execution plans contain full table scans..."
+                           + scans
+                           + System.lineSeparator()
+                           + System.lineSeparator()
+                           + "Perhaps an index is missing. Use @DisplayQueryPlans to display the plans.";
+        return new PerfIssue(description);
+
+    }
+
+    private List<String> findNotAllowedTables(QueryPlan queryPlan, List<String> allowedTables) {
+        List<String> notAllowedTables = new ArrayList<>();
+        for (String table : queryPlan.getFullyScannedTables()) {
+            String lowerCaseTable = table.toLowerCase(Locale.ENGLISH);
+            String tableWithoutSchema = lowerCaseTable.substring(lowerCaseTable.lastIndexOf('.') + 1);
+            if (!allowedTables.contains(lowerCaseTable) && !allowedTables.contains(tableWithoutSchema)) {
+                notAllowedTables.add(table);
+            }
+        }
+        return notAllowedTables;
+    }
+
+    private List<String> toLowerCase(String[] tables) {
+        List<String> lowerCaseTables = new ArrayList<>(tables.length);
+        for (String table : Arrays.asList(tables)) {
+            lowerCaseTables.add(table.toLowerCase(Locale.ENGLISH));
+        }
+        return lowerCaseTables;
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.plan;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Execution plan of a select shape, explained with the parameters of its first execution.
+ */
+public class QueryPlan implements Serializable {
+
+    private final String sql;
+
+    private final String plan;
+
+    private final List<String> fullyScannedTables;
+
+    QueryPlan(String sql, String plan, List<String> fullyScannedTables) {
+        this.sql = sql;
+        this.plan = plan;
+        this.fullyScannedTables = new ArrayList<>(fullyScannedTables);
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public String getPlan() {
+        return plan;
+    }
+
+    public List<String> getFullyScannedTables() {
+        return Collections.unmodifiableList(fullyScannedTables);
+    }
+
+}
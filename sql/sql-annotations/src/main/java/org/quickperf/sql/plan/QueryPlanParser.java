@@ -0,0 +1,35 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.plan;
+
+import java.util.List;
+
+/**
+ * Asks a database for the execution plan of a statement and finds the tables fully scanned by this plan.
+ * <br><br>
+ * A parser can be added for another database with {@link QueryPlanParsers#register(QueryPlanParser)}.
+ */
+public interface QueryPlanParser {
+
+    /**
+     * @param databaseProductName the product name given by the database metadata
+     */
+    boolean supports(String databaseProductName);
+
+    String buildExplainSql(String sql);
+
+    /**
+     * @return the names of the tables fully scanned by the plan, in the order of the plan
+     */
+    List<String> findFullyScannedTables(String plan);
+
+}
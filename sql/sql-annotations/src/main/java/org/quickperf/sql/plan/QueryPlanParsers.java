@@ -0,0 +1,47 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.plan;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class QueryPlanParsers {
+
+    public static final QueryPlanParsers INSTANCE = new QueryPlanParsers();
+
+    private final List<QueryPlanParser> queryPlanParsers = new CopyOnWriteArrayList<>();
+
+    private QueryPlanParsers() {
+        queryPlanParsers.add(new H2QueryPlanParser());
+        queryPlanParsers.add(new HsqldbQueryPlanParser());
+    }
+
+    /**
+     * Registers a parser, taking precedence over the already registered ones.
+     */
+    public void register(QueryPlanParser queryPlanParser) {
+        queryPlanParsers.add(0, queryPlanParser);
+    }
+
+    /**
+     * @return the parser supporting the database, null if the plans of the database can't be analyzed
+     */
+    public QueryPlanParser findParserFor(String databaseProductName) {
+        for (QueryPlanParser queryPlanParser : queryPlanParsers) {
+            if (queryPlanParser.supports(databaseProductName)) {
+                return queryPlanParser;
+            }
+        }
+        return null;
+    }
+
+}
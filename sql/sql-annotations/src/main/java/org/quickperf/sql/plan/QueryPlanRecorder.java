@@ -0,0 +1,142 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.plan;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.WorkingFolder;
+import org.quickperf.repository.ObjectFileRepository;
+import org.quickperf.sql.PhysicalConnectionRetriever;
+import org.quickperf.sql.SqlFingerprint;
+import org.quickperf.sql.SqlLexer;
+import org.quickperf.sql.SqlRecorder;
+import org.quickperf.sql.SqlRecorderRegistry;
+import org.quickperf.sql.SqlTokens;
+
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Explains each select shape once, with the parameters of its first execution.
+ * <br><br>
+ * The plan is asked on the physical connection of the execution, so that the <code>EXPLAIN</code> statements are
+ * not recorded. The shapes executed on a database without
+ * {@link QueryPlanParser} are ignored.
+ */
+public class QueryPlanRecorder implements SqlRecorder<QueryPlans> {
+
+    private static final String QUERY_PLANS_FILE_NAME = "query-plans.ser";
+
+    private final Set<SqlFingerprint> explainedFingerprints = new HashSet<>();
+
+    private final List<QueryPlan> queryPlans = new ArrayList<>();
+
+    private QueryPlans record;
+
+    @Override
+    public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries, int listenerIdentifier) {
+        if (!execInfo.isSuccess() || queries.size() != 1) {
+            return;
+        }
+        QueryInfo query = queries.get(0);
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(query.getQuery());
+        if (sqlTokens.getQueryType() != QueryType.SELECT || !explainedFingerprints.add(sqlTokens.getFingerprint())) {
+            return;
+        }
+        try {
+            Connection connection = PhysicalConnectionRetriever.INSTANCE.retrieveConnectionOf(execInfo);
+            String databaseProductName = connection.getMetaData().getDatabaseProductName();
+            QueryPlanParser queryPlanParser = QueryPlanParsers.INSTANCE.findParserFor(databaseProductName);
+            if (queryPlanParser != null) {
+                String plan = explain(connection, queryPlanParser.buildExplainSql(query.getQuery()), query);
+                queryPlans.add(new QueryPlan(query.getQuery(), plan, queryPlanParser.findFullyScannedTables(plan)));
+            }
+        } catch (SQLException | ReflectiveOperationException e) {
+            // The plan of this shape is not available
+        }
+    }
+
+    private String explain(Connection connection, String explainSql, QueryInfo query)
+            throws SQLException, IllegalAccessException, InvocationTargetException {
+        try (PreparedStatement explainStatement = connection.prepareStatement(explainSql)) {
+            for (ParameterSetOperation parameter : findParametersOfFirstExecution(query)) {
+                parameter.getMethod().invoke(explainStatement, parameter.getArgs());
+            }
+            try (ResultSet planResultSet = explainStatement.executeQuery()) {
+                return readPlan(planResultSet);
+            }
+        }
+    }
+
+    private List<ParameterSetOperation> findParametersOfFirstExecution(QueryInfo query) {
+        List<List<ParameterSetOperation>> parametersList = query.getParametersList();
+        if (parametersList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return parametersList.get(0);
+    }
+
+    private String readPlan(ResultSet planResultSet) throws SQLException {
+        int columnCount = planResultSet.getMetaData().getColumnCount();
+        StringBuilder plan = new StringBuilder();
+        while (planResultSet.next()) {
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                if (plan.length() > 0) {
+                    plan.append(System.lineSeparator());
+                }
+                plan.append(planResultSet.getString(columnIndex));
+            }
+        }
+        return plan.toString();
+    }
+
+    @Override
+    public void startRecording(TestExecutionContext testExecutionContext) {
+        explainedFingerprints.clear();
+        queryPlans.clear();
+        SqlRecorderRegistry.INSTANCE.register(this);
+    }
+
+    @Override
+    public void stopRecording(TestExecutionContext testExecutionContext) {
+        SqlRecorderRegistry.unregister(this);
+        record = new QueryPlans(queryPlans);
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            ObjectFileRepository.INSTANCE.save(workingFolder, QUERY_PLANS_FILE_NAME, record);
+        }
+    }
+
+    @Override
+    public QueryPlans findRecord(TestExecutionContext testExecutionContext) {
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            return (QueryPlans) ObjectFileRepository.INSTANCE.find(workingFolder.getPath(), QUERY_PLANS_FILE_NAME);
+        }
+        return record;
+    }
+
+    @Override
+    public void cleanResources() { }
+
+}
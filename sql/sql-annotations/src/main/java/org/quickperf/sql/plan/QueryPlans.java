@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.plan;
+
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.unit.CountUnit;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class QueryPlans implements PerfMeasure<Long, CountUnit>, Serializable {
+
+    private final List<QueryPlan> queryPlans;
+
+    QueryPlans(List<QueryPlan> queryPlans) {
+        this.queryPlans = new ArrayList<>(queryPlans);
+    }
+
+    public List<QueryPlan> getQueryPlans() {
+        return Collections.unmodifiableList(queryPlans);
+    }
+
+    public List<QueryPlan> findPlansWithFullTableScans() {
+        List<QueryPlan> plansWithFullTableScans = new ArrayList<>();
+        for (QueryPlan queryPlan : queryPlans) {
+            if (!queryPlan.getFullyScannedTables().isEmpty()) {
+                plansWithFullTableScans.add(queryPlan);
+            }
+        }
+        return plansWithFullTableScans;
+    }
+
+    /**
+     * @return the number of plans containing full table scans
+     */
+    @Override
+    public Long getValue() {
+        return (long) findPlansWithFullTableScans().size();
+    }
+
+    @Override
+    public CountUnit getUnit() {
+        return CountUnit.COUNT;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
@@ -16,6 +16,7 @@ import net.ttddyy.dsproxy.QueryInfo;
 import org.quickperf.WorkingFolder;
 import org.quickperf.repository.ObjectFileRepository;
 import org.quickperf.sql.SqlExecutions;
+import org.quickperf.sql.select.columns.SelectedColumnCounter;
 
 import java.io.File;
 import java.util.List;
@@ -24,12 +25,16 @@ class SqlFileRepository implements SqlRepository {
 
     private static final String SQL_FILE_NAME = "sql.ser";
 
-    private final SqlMemoryRepository sqlMemoryRepository = new SqlMemoryRepository();
+    private final SqlMemoryRepository sqlMemoryRepository;
 
     private boolean flushed;
 
     private final ObjectFileRepository objectFileRepository = ObjectFileRepository.getInstance();
 
+    SqlFileRepository(SelectedColumnCounter selectedColumnCounter) {
+        this.sqlMemoryRepository = new SqlMemoryRepository(selectedColumnCounter);
+    }
+
     @Override
     public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries) {
         sqlMemoryRepository.addQueryExecution(execInfo, queries);
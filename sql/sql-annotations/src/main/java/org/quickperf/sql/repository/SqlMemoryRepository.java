@@ -15,6 +15,7 @@ import net.ttddyy.dsproxy.ExecutionInfo;
 import net.ttddyy.dsproxy.QueryInfo;
 import org.quickperf.WorkingFolder;
 import org.quickperf.sql.SqlExecutions;
+import org.quickperf.sql.select.columns.SelectedColumnCounter;
 
 import java.util.List;
 
@@ -22,9 +23,20 @@ class SqlMemoryRepository implements SqlRepository{
 
     private SqlExecutions sqlExecutions = new SqlExecutions();
 
+    private final SelectedColumnCounter selectedColumnCounter;
+
+    SqlMemoryRepository(SelectedColumnCounter selectedColumnCounter) {
+        this.selectedColumnCounter = selectedColumnCounter;
+    }
+
     @Override
     public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries) {
-        sqlExecutions.add(execInfo, queries);
+        if (selectedColumnCounter == null) {
+            sqlExecutions.add(execInfo, queries);
+        } else {
+            long columnCount = selectedColumnCounter.countSelectedColumns(execInfo, queries);
+            sqlExecutions.add(execInfo, queries, columnCount);
+        }
     }
 
     @Override
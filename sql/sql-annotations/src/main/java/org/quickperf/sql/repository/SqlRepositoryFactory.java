@@ -12,16 +12,25 @@
 package org.quickperf.sql.repository;
 
 import org.quickperf.TestExecutionContext;
+import org.quickperf.sql.select.columns.SelectedColumnCounter;
 
 public class SqlRepositoryFactory {
 
     private SqlRepositoryFactory() {}
 
     public static SqlRepository getSqlRepository(TestExecutionContext testExecutionContext) {
+        SelectedColumnCounter selectedColumnCounter = buildSelectedColumnCounterIfNeeded(testExecutionContext);
         if(testExecutionContext.testExecutionUsesTwoJVMs()) {
-            return new SqlFileRepository();
+            return new SqlFileRepository(selectedColumnCounter);
         }
-        return new SqlMemoryRepository();
+        return new SqlMemoryRepository(selectedColumnCounter);
+    }
+
+    private static SelectedColumnCounter buildSelectedColumnCounterIfNeeded(TestExecutionContext testExecutionContext) {
+        if(SelectedColumnCounter.isNeededFor(testExecutionContext)) {
+            return new SelectedColumnCounter();
+        }
+        return null;
     }
 
 }
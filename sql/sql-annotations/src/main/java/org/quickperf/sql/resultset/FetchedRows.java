@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.resultset;
+
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.unit.CountUnit;
+
+/*
+* Rows fetched by the application from the result sets.
+*/
+public class FetchedRows implements PerfMeasure<Long, CountUnit> {
+
+    private final long maxRowsOfOneQuery;
+
+    private final String sqlWithMaxRows;
+
+    private final long totalRows;
+
+    FetchedRows(long maxRowsOfOneQuery, String sqlWithMaxRows, long totalRows) {
+        this.maxRowsOfOneQuery = maxRowsOfOneQuery;
+        this.sqlWithMaxRows = sqlWithMaxRows;
+        this.totalRows = totalRows;
+    }
+
+    public long getMaxRowsOfOneQuery() {
+        return maxRowsOfOneQuery;
+    }
+
+    public String getSqlWithMaxRows() {
+        return sqlWithMaxRows;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    @Override
+    public Long getValue() {
+        return totalRows;
+    }
+
+    @Override
+    public CountUnit getUnit() {
+        return CountUnit.COUNT;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
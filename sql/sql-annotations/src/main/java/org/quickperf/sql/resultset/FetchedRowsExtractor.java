@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.resultset;
+
+import org.quickperf.ExtractablePerformanceMeasure;
+import org.quickperf.sql.connection.ResultSetIteration;
+
+public class FetchedRowsExtractor implements ExtractablePerformanceMeasure<ResultSetIterations, FetchedRows> {
+
+    public static final FetchedRowsExtractor INSTANCE = new FetchedRowsExtractor();
+
+    private FetchedRowsExtractor() { }
+
+    @Override
+    public FetchedRows extractPerfMeasureFrom(ResultSetIterations resultSetIterations) {
+
+        long maxRowsOfOneQuery = 0;
+        String sqlWithMaxRows = null;
+        long totalRows = 0;
+
+        for (ResultSetIteration resultSetIteration : resultSetIterations) {
+            long fetchedRows = resultSetIteration.getFetchedRows();
+            if (fetchedRows > maxRowsOfOneQuery) {
+                maxRowsOfOneQuery = fetchedRows;
+                sqlWithMaxRows = resultSetIteration.getSql();
+            }
+            totalRows += fetchedRows;
+        }
+
+        return new FetchedRows(maxRowsOfOneQuery, sqlWithMaxRows, totalRows);
+
+    }
+
+}
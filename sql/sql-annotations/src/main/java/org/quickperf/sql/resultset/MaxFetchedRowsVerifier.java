@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.resultset;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.ExpectMaxFetchedRows;
+
+public class MaxFetchedRowsVerifier implements VerifiablePerformanceIssue<ExpectMaxFetchedRows, FetchedRows> {
+
+    public static final MaxFetchedRowsVerifier INSTANCE = new MaxFetchedRowsVerifier();
+
+    private MaxFetchedRowsVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(ExpectMaxFetchedRows annotation, FetchedRows fetchedRows) {
+
+        int maxRowsPerQuery = annotation.value();
+        if (maxRowsPerQuery >= 0 && fetchedRows.getMaxRowsOfOneQuery() > maxRowsPerQuery) {
+            String description = "You may think that at most <" + maxRowsPerQuery + "> rows were fetched by a query."
+                               + System.lineSeparator()
+                               + "But <" + fetchedRows.getMaxRowsOfOneQuery() + "> rows were fetched by:"
+                               + System.lineSeparator()
+                               + "\t" + fetchedRows.getSqlWithMaxRows()
+                               + System.lineSeparator()
+                               + System.lineSeparator()
+                               + "Perhaps the query is not bounded (WHERE clause, pagination, ...).";
+            return new PerfIssue(description);
+        }
+
+        long maxTotalRows = annotation.total();
+        if (maxTotalRows >= 0 && fetchedRows.getTotalRows() > maxTotalRows) {
+            String description = "You may think that at most <" + maxTotalRows + "> rows were fetched by all the queries."
+                               + System.lineSeparator()
+                               + "But there are in fact <" + fetchedRows.getTotalRows() + ">...";
+            return new PerfIssue(description);
+        }
+
+        return PerfIssue.NONE;
+
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.resultset;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.ExpectMaxResultSetIterationTime;
+import org.quickperf.time.ExecutionTime;
+
+import java.util.concurrent.TimeUnit;
+
+public class MaxResultSetIterationTimeVerifier implements VerifiablePerformanceIssue<ExpectMaxResultSetIterationTime, ExecutionTime> {
+
+    public static final MaxResultSetIterationTimeVerifier INSTANCE = new MaxResultSetIterationTimeVerifier();
+
+    private MaxResultSetIterationTimeVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(ExpectMaxResultSetIterationTime annotation, ExecutionTime iterationTime) {
+
+        ExecutionTime maxExpectedIterationTime = new ExecutionTime(annotation.thresholdInMilliSeconds(), TimeUnit.MILLISECONDS);
+
+        if (iterationTime.isGreaterThan(maxExpectedIterationTime)) {
+            String description =
+                    "Result set iteration time expected to be less than <" + maxExpectedIterationTime + ">"
+                  + System.lineSeparator()
+                  + "\tAt least one result set has a greater iteration time. The greater iteration time is <" + iterationTime + ">";
+            return new PerfIssue(description);
+        }
+
+        return PerfIssue.NONE;
+
+    }
+
+}
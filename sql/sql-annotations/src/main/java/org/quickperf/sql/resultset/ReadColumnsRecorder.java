@@ -0,0 +1,30 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.resultset;
+
+/**
+ * Records the result set iterations together with the columns read by the application.
+ */
+public class ReadColumnsRecorder extends ResultSetRecorder {
+
+    private static final String READ_COLUMNS_FILE_NAME = "read-columns.ser";
+
+    public ReadColumnsRecorder() {
+        super(READ_COLUMNS_FILE_NAME);
+    }
+
+    @Override
+    public boolean listensToReadColumns() {
+        return true;
+    }
+
+}
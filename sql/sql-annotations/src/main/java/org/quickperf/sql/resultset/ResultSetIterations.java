@@ -0,0 +1,35 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.resultset;
+
+import org.quickperf.perfrecording.PerfRecord;
+import org.quickperf.sql.connection.ResultSetIteration;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public class ResultSetIterations implements PerfRecord, Iterable<ResultSetIteration>, Serializable {
+
+    private final List<ResultSetIteration> resultSetIterations;
+
+    ResultSetIterations(List<ResultSetIteration> resultSetIterations) {
+        this.resultSetIterations = new ArrayList<>(resultSetIterations);
+    }
+
+    @Override
+    public Iterator<ResultSetIteration> iterator() {
+        return resultSetIterations.iterator();
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.resultset;
+
+import org.quickperf.TestExecutionContext;
+import org.quickperf.WorkingFolder;
+import org.quickperf.repository.ObjectFileRepository;
+import org.quickperf.sql.connection.ConnectionListenerRegistry;
+import org.quickperf.sql.connection.ConnectionsListener;
+import org.quickperf.sql.connection.ResultSetIteration;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ResultSetRecorder extends ConnectionsListener<ResultSetIterations> {
+
+    private static final String RESULT_SET_ITERATIONS_FILE_NAME = "result-set-iterations.ser";
+
+    private final String recordFileName;
+
+    private final List<ResultSetIteration> resultSetIterations = new ArrayList<>();
+
+    private ResultSetIterations record;
+
+    public ResultSetRecorder() {
+        this(RESULT_SET_ITERATIONS_FILE_NAME);
+    }
+
+    ResultSetRecorder(String recordFileName) {
+        this.recordFileName = recordFileName;
+    }
+
+    @Override
+    public boolean listensToResultSets() {
+        return true;
+    }
+
+    @Override
+    public void resultSetOpened(Connection connection, ResultSetIteration resultSetIteration) {
+        resultSetIterations.add(resultSetIteration);
+    }
+
+    @Override
+    public void startRecording(TestExecutionContext testExecutionContext) {
+        resultSetIterations.clear();
+        ConnectionListenerRegistry.INSTANCE.register(this);
+    }
+
+    @Override
+    public void stopRecording(TestExecutionContext testExecutionContext) {
+        ConnectionListenerRegistry.unregister(this);
+        record = new ResultSetIterations(resultSetIterations);
+        resultSetIterations.clear();
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            ObjectFileRepository.INSTANCE.save(workingFolder, recordFileName, record);
+        }
+    }
+
+    @Override
+    public ResultSetIterations findRecord(TestExecutionContext testExecutionContext) {
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            return (ResultSetIterations) ObjectFileRepository.INSTANCE.find(workingFolder.getPath()
+                                                                          , recordFileName);
+        }
+        return record;
+    }
+
+    @Override
+    public void cleanResources() { }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.resultset;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Selected columns of a SQL shape, with the ones never read by the application.
+ */
+public class SelectedColumnUsage {
+
+    private final String sql;
+
+    private final List<String> selectedColumnLabels;
+
+    private final List<String> unusedColumnLabels;
+
+    SelectedColumnUsage(String sql, List<String> selectedColumnLabels, List<String> unusedColumnLabels) {
+        this.sql = sql;
+        this.selectedColumnLabels = selectedColumnLabels;
+        this.unusedColumnLabels = unusedColumnLabels;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public int getSelectedColumnCount() {
+        return selectedColumnLabels.size();
+    }
+
+    public List<String> getUnusedColumnLabels() {
+        return Collections.unmodifiableList(unusedColumnLabels);
+    }
+
+    public int getUnusedColumnCount() {
+        return unusedColumnLabels.size();
+    }
+
+}
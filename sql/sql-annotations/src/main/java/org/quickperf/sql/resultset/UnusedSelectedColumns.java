@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.resultset;
+
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.unit.CountUnit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Selected columns never read by the application, per SQL shape.
+ */
+public class UnusedSelectedColumns implements PerfMeasure<Integer, CountUnit> {
+
+    private final List<SelectedColumnUsage> selectedColumnUsages;
+
+    UnusedSelectedColumns(List<SelectedColumnUsage> selectedColumnUsages) {
+        this.selectedColumnUsages = selectedColumnUsages;
+    }
+
+    public List<SelectedColumnUsage> findUsagesWithMoreUnusedColumnsThan(int tolerance) {
+        List<SelectedColumnUsage> usagesOverTolerance = new ArrayList<>();
+        for (SelectedColumnUsage selectedColumnUsage : selectedColumnUsages) {
+            if (selectedColumnUsage.getUnusedColumnCount() > tolerance) {
+                usagesOverTolerance.add(selectedColumnUsage);
+            }
+        }
+        return usagesOverTolerance;
+    }
+
+    /**
+     * @return the maximum number of unused columns of a SQL shape
+     */
+    @Override
+    public Integer getValue() {
+        int maxUnusedColumnCount = 0;
+        for (SelectedColumnUsage selectedColumnUsage : selectedColumnUsages) {
+            maxUnusedColumnCount = Math.max(maxUnusedColumnCount, selectedColumnUsage.getUnusedColumnCount());
+        }
+        return maxUnusedColumnCount;
+    }
+
+    @Override
+    public CountUnit getUnit() {
+        return CountUnit.COUNT;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
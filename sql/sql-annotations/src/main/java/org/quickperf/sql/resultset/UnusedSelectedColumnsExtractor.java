@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.resultset;
+
+import org.quickperf.ExtractablePerformanceMeasure;
+import org.quickperf.sql.SqlFingerprint;
+import org.quickperf.sql.connection.ResultSetIteration;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A column is unused if it is not read by any result set of the same SQL shape. Result sets without fetched rows
+ * are ignored, the application having no value to read.
+ */
+public class UnusedSelectedColumnsExtractor implements ExtractablePerformanceMeasure<ResultSetIterations, UnusedSelectedColumns> {
+
+    public static final UnusedSelectedColumnsExtractor INSTANCE = new UnusedSelectedColumnsExtractor();
+
+    private UnusedSelectedColumnsExtractor() { }
+
+    @Override
+    public UnusedSelectedColumns extractPerfMeasureFrom(ResultSetIterations resultSetIterations) {
+
+        Map<SqlFingerprint, ShapeColumnReads> readsByFingerprint = new LinkedHashMap<>();
+
+        for (ResultSetIteration resultSetIteration : resultSetIterations) {
+            List<String> selectedColumnLabels = resultSetIteration.getSelectedColumnLabels();
+            if (resultSetIteration.getSql() == null || selectedColumnLabels.isEmpty()) {
+                continue;
+            }
+            SqlFingerprint fingerprint = SqlFingerprint.of(resultSetIteration.getSql());
+            ShapeColumnReads shapeColumnReads = readsByFingerprint.get(fingerprint);
+            if (shapeColumnReads == null) {
+                shapeColumnReads = new ShapeColumnReads(resultSetIteration.getSql(), selectedColumnLabels);
+                readsByFingerprint.put(fingerprint, shapeColumnReads);
+            }
+            shapeColumnReads.add(resultSetIteration);
+        }
+
+        List<SelectedColumnUsage> selectedColumnUsages = new ArrayList<>(readsByFingerprint.size());
+        for (ShapeColumnReads shapeColumnReads : readsByFingerprint.values()) {
+            selectedColumnUsages.add(shapeColumnReads.toSelectedColumnUsage());
+        }
+        return new UnusedSelectedColumns(selectedColumnUsages);
+
+    }
+
+    private static class ShapeColumnReads {
+
+        private final String sql;
+
+        private final List<String> selectedColumnLabels;
+
+        private final BitSet readColumns = new BitSet();
+
+        ShapeColumnReads(String sql, List<String> selectedColumnLabels) {
+            this.sql = sql;
+            this.selectedColumnLabels = selectedColumnLabels;
+        }
+
+        void add(ResultSetIteration resultSetIteration) {
+            for (int columnIndex = 1; columnIndex <= selectedColumnLabels.size(); columnIndex++) {
+                if (resultSetIteration.columnIsRead(columnIndex)) {
+                    readColumns.set(columnIndex - 1);
+                }
+            }
+        }
+
+        SelectedColumnUsage toSelectedColumnUsage() {
+            List<String> unusedColumnLabels = new ArrayList<>();
+            for (int i = 0; i < selectedColumnLabels.size(); i++) {
+                if (!readColumns.get(i)) {
+                    unusedColumnLabels.add(selectedColumnLabels.get(i));
+                }
+            }
+            return new SelectedColumnUsage(sql, selectedColumnLabels, unusedColumnLabels);
+        }
+
+    }
+
+}
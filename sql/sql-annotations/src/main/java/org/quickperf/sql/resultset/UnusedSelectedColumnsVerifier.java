@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.resultset;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.DisableUnusedSelectedColumns;
+
+import java.util.List;
+
+public class UnusedSelectedColumnsVerifier implements VerifiablePerformanceIssue<DisableUnusedSelectedColumns, UnusedSelectedColumns> {
+
+    public static final UnusedSelectedColumnsVerifier INSTANCE = new UnusedSelectedColumnsVerifier();
+
+    private UnusedSelectedColumnsVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(DisableUnusedSelectedColumns annotation, UnusedSelectedColumns unusedSelectedColumns) {
+
+        int tolerance = annotation.tolerance();
+        List<SelectedColumnUsage> usagesOverTolerance = unusedSelectedColumns.findUsagesWithMoreUnusedColumnsThan(tolerance);
+        if (usagesOverTolerance.isEmpty()) {
+            return PerfIssue.NONE;
+        }
+
+        StringBuilder description = new StringBuilder();
+        description.append("You may think that the application reads the selected columns");
+        if (tolerance > 0) {
+            description.append(" (at most <").append(tolerance).append("> unused columns per query)");
+        }
+        description.append(".").append(System.lineSeparator());
+        description.append("But some selected columns are never read:");
+        for (SelectedColumnUsage usage : usagesOverTolerance) {
+            description.append(System.lineSeparator())
+                       .append(System.lineSeparator())
+                       .append("\t").append(usage.getSql())
+                       .append(System.lineSeparator())
+                       .append("\t<").append(usage.getUnusedColumnCount()).append("> of the <")
+                       .append(usage.getSelectedColumnCount()).append("> selected columns are never read: ")
+                       .append(joinWithComma(usage.getUnusedColumnLabels()));
+        }
+        description.append(System.lineSeparator())
+                   .append(System.lineSeparator())
+                   .append("Perhaps you could only select the columns needed by the use case (DTO projection, ...).");
+        return new PerfIssue(description.toString());
+
+    }
+
+    private String joinWithComma(List<String> columnLabels) {
+        StringBuilder joined = new StringBuilder();
+        for (String columnLabel : columnLabels) {
+            if (joined.length() > 0) {
+                joined.append(", ");
+            }
+            joined.append(columnLabel);
+        }
+        return joined.toString();
+    }
+
+}
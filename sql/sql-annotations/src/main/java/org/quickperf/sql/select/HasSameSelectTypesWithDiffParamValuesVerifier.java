@@ -13,6 +13,7 @@ package org.quickperf.sql.select;
 
 import org.quickperf.issue.PerfIssue;
 import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.SqlFingerprint;
 import org.quickperf.sql.annotation.DisableSameSelectTypesWithDifferentParamValues;
 import org.quickperf.sql.select.analysis.SelectAnalysis;
 import org.quickperf.sql.select.analysis.SelectAnalysis.SameSelectTypesWithDifferentParamValues;
@@ -32,6 +33,12 @@ public class HasSameSelectTypesWithDiffParamValuesVerifier implements Verifiable
 
         if(sameSelectTypesWithDifferentParamValues.evaluate()) {
             String description =  "Same SELECT types with different parameter values";
+            SqlFingerprint fingerprint = sameSelectTypesWithDifferentParamValues.getFingerprint();
+            if(fingerprint != null) {
+                description += System.lineSeparator()
+                             + System.lineSeparator()
+                             + "SQL fingerprint: " + fingerprint;
+            }
             description += sameSelectTypesWithDifferentParamValues.getSuggestionToFixIt();
             return new PerfIssue(description);
         }
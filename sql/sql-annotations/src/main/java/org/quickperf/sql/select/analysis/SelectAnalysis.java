@@ -13,6 +13,7 @@ package org.quickperf.sql.select.analysis;
 
 import org.quickperf.SystemProperties;
 import org.quickperf.measure.PerfMeasure;
+import org.quickperf.sql.SqlFingerprint;
 import org.quickperf.sql.framework.ClassPath;
 import org.quickperf.sql.framework.HibernateSuggestion;
 import org.quickperf.sql.framework.JdbcSuggestion;
@@ -32,14 +33,30 @@ public class SelectAnalysis implements PerfMeasure {
 
         private final boolean value;
 
+        private final SqlFingerprint fingerprint;
+
         public SameSelectTypesWithDifferentParamValues(boolean value) {
             this.value = value;
+            this.fingerprint = null;
+        }
+
+        public SameSelectTypesWithDifferentParamValues(SqlFingerprint fingerprint) {
+            this.value = fingerprint != null;
+            this.fingerprint = fingerprint;
         }
 
         public boolean evaluate() {
             return value;
         }
 
+        /**
+         * @return the fingerprint of the first SELECT type executed with different parameter
+         * values, <code>null</code> if unknown
+         */
+        public SqlFingerprint getFingerprint() {
+            return fingerprint;
+        }
+
         public String getSuggestionToFixIt() {
             return getSuggestionToFIxNPlusOneSelect();
         }
@@ -78,6 +95,14 @@ public class SelectAnalysis implements PerfMeasure {
         this.sameSelectTypesWithDifferentParamValues = new SameSelectTypesWithDifferentParamValues(sameSelectTypesWithDifferentParamValues);
     }
 
+    public SelectAnalysis(int selectNumber
+                        , int sameSelectsNumber
+                        , SqlFingerprint sameSelectTypesWithDifferentParamValues) {
+        this.selectNumber = new Count(selectNumber);
+        this.sameSelectsNumber = new Count(sameSelectsNumber);
+        this.sameSelectTypesWithDifferentParamValues = new SameSelectTypesWithDifferentParamValues(sameSelectTypesWithDifferentParamValues);
+    }
+
     public Count getSelectNumber() {
         return selectNumber;
     }
@@ -17,6 +17,7 @@ import org.quickperf.ExtractablePerformanceMeasure;
 import org.quickperf.sql.QueryTypeRetriever;
 import org.quickperf.sql.SqlExecution;
 import org.quickperf.sql.SqlExecutions;
+import org.quickperf.sql.SqlFingerprint;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -34,7 +35,7 @@ public class SelectAnalysisExtractor implements ExtractablePerformanceMeasure<Sq
 
         int selectNumber = sqlExecutions.retrieveQueryNumberOfType(QueryType.SELECT);
 
-        boolean sameSelectTypesWithDifferentParamValues = false;
+        SqlFingerprint sameSelectTypesWithDifferentParamValues = null;
 
         int sameSelectsNumber = 0;
 
@@ -42,17 +43,19 @@ public class SelectAnalysisExtractor implements ExtractablePerformanceMeasure<Sq
         for (SqlExecution sqlExecution : sqlExecutions) {
             for (QueryInfo query : sqlExecution.getQueries()) {
                 if (isSelectType(query)) {
-                    if (!sameSelectTypesWithDifferentParamValues
-                     && sqlSelects.sameSqlQueryWithDifferentParams(query)) {
-                        sameSelectTypesWithDifferentParamValues = true;
+                    SqlFingerprint fingerprint = SqlFingerprint.of(query.getQuery());
+                    List<Object> params = retrieveParamsOf(query, fingerprint);
+                    if (sameSelectTypesWithDifferentParamValues == null
+                     && sqlSelects.sameSqlQueryWithDifferentParams(fingerprint, params)) {
+                        sameSelectTypesWithDifferentParamValues = fingerprint;
                     }
-                    if( sqlSelects.exactlySameSqlQueryExists(query)) {
+                    if( sqlSelects.exactlySameSqlQueryExists(fingerprint, params)) {
                         if(sameSelectsNumber == 0) {
                             sameSelectsNumber = 1;
                         }
                         sameSelectsNumber++;
                     }
-                    sqlSelects.add(query);
+                    sqlSelects.add(fingerprint, params);
                 }
 
             }
@@ -65,6 +68,12 @@ public class SelectAnalysisExtractor implements ExtractablePerformanceMeasure<Sq
 
     }
 
+    private List<Object> retrieveParamsOf(QueryInfo query, SqlFingerprint fingerprint) {
+        List<Object> params = new ArrayList<Object>(fingerprint.getLiterals());
+        params.addAll(QueryParamsExtractor.INSTANCE.getParamsOf(query));
+        return params;
+    }
+
     private boolean isSelectType(QueryInfo query) {
         QueryType queryType = QueryTypeRetriever.INSTANCE.typeOf(query);
         return QueryType.SELECT.equals(queryType);
@@ -72,37 +81,31 @@ public class SelectAnalysisExtractor implements ExtractablePerformanceMeasure<Sq
 
     private static class SqlSelects {
 
-        private final Map<String, ParamsCalls> callsParamsByQuery = new HashMap<>();
+        private final Map<SqlFingerprint, ParamsCalls> callsParamsByQuery = new HashMap<>();
 
-        void add(QueryInfo query) {
-            String queryAsString = query.getQuery();
-            ParamsCalls paramsCalls = callsParamsByQuery.get(queryAsString);
+        void add(SqlFingerprint fingerprint, List<Object> params) {
+            ParamsCalls paramsCalls = callsParamsByQuery.get(fingerprint);
             if (paramsCalls == null) {
                 paramsCalls = new ParamsCalls();
             }
-            List<Object> paramsList = QueryParamsExtractor.INSTANCE.getParamsOf(query);
-            paramsCalls.addParams(paramsList);
-            callsParamsByQuery.put(queryAsString, paramsCalls);
+            paramsCalls.addParams(params);
+            callsParamsByQuery.put(fingerprint, paramsCalls);
         }
 
-        boolean sameSqlQueryWithDifferentParams(QueryInfo query) {
-            String queryAsString = query.getQuery();
-            ParamsCalls paramsCalls = callsParamsByQuery.get(queryAsString);
+        boolean sameSqlQueryWithDifferentParams(SqlFingerprint fingerprint, List<Object> params) {
+            ParamsCalls paramsCalls = callsParamsByQuery.get(fingerprint);
             if (paramsCalls == null) {
                 return false;
             }
-            List<Object> paramsList = QueryParamsExtractor.INSTANCE.getParamsOf(query);
-            return !paramsCalls.alreadySameParamsCalled(paramsList);
+            return !paramsCalls.alreadySameParamsCalled(params);
         }
 
-        boolean exactlySameSqlQueryExists(QueryInfo query) {
-            String queryAsString = query.getQuery();
-            ParamsCalls paramsCalls = callsParamsByQuery.get(queryAsString);
+        boolean exactlySameSqlQueryExists(SqlFingerprint fingerprint, List<Object> params) {
+            ParamsCalls paramsCalls = callsParamsByQuery.get(fingerprint);
             if (paramsCalls == null) {
                 return false;
             }
-            List<Object> paramsList = QueryParamsExtractor.INSTANCE.getParamsOf(query);
-            return paramsCalls.alreadySameParamsCalled(paramsList);
+            return paramsCalls.alreadySameParamsCalled(params);
         }
 
         private static class ParamsCalls {
@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.select.columns;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.sql.QueryTypeRetriever;
+import org.quickperf.sql.SqlFingerprint;
+import org.quickperf.sql.annotation.ExpectMaxSelectedColumn;
+import org.quickperf.sql.annotation.ExpectSelectedColumn;
+
+import java.lang.annotation.Annotation;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Retrieves the number of columns selected by an execution from the result set metadata.
+ * <br><br>
+ * The metadata is requested once per SQL fingerprint, some drivers doing a round trip or
+ * allocating a lot to provide it.
+ */
+public class SelectedColumnCounter {
+
+    private final Map<SqlFingerprint, Long> columnCountByFingerprint = new HashMap<>();
+
+    public static boolean isNeededFor(TestExecutionContext testExecutionContext) {
+        for (Annotation perfAnnotation : testExecutionContext.getPerfAnnotations()) {
+            if (   perfAnnotation instanceof ExpectSelectedColumn
+                || perfAnnotation instanceof ExpectMaxSelectedColumn) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Exception with H2 if column count is retrieved from
+    // MaxSelectedColumnsPerMeasureExtractor, the result set
+    // being closed
+    public long countSelectedColumns(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+
+        QueryInfo select = findFirstSelect(queries);
+        if (select == null) {
+            return 0;
+        }
+
+        SqlFingerprint fingerprint = SqlFingerprint.of(select.getQuery());
+        Long cachedColumnCount = columnCountByFingerprint.get(fingerprint);
+        if (cachedColumnCount != null) {
+            return cachedColumnCount;
+        }
+
+        long columnCount = retrieveNumberOfReturnedColumns(executionInfo);
+        if (columnCount > 0) {
+            columnCountByFingerprint.put(fingerprint, columnCount);
+        }
+        return columnCount;
+
+    }
+
+    private QueryInfo findFirstSelect(List<QueryInfo> queries) {
+        QueryTypeRetriever queryTypeRetriever = QueryTypeRetriever.INSTANCE;
+        for (QueryInfo query : queries) {
+            QueryType queryType = queryTypeRetriever.typeOf(query);
+            if (queryType == QueryType.SELECT) {
+                return query;
+            }
+        }
+        return null;
+    }
+
+    private long retrieveNumberOfReturnedColumns(ExecutionInfo executionInfo) {
+        if (dbExceptionHappened(executionInfo) || executeMethodOnStatement(executionInfo)) {
+            return 0;
+        }
+        ResultSet resultSet = (ResultSet) executionInfo.getResult();
+        try {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            return metaData.getColumnCount();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return 0;
+        }
+    }
+
+    private boolean dbExceptionHappened(ExecutionInfo executionInfo) {
+        return executionInfo.getResult() == null;
+    }
+
+    private boolean executeMethodOnStatement(ExecutionInfo executionInfo) {
+        return !(executionInfo.getResult() instanceof ResultSet);
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.select.pagination;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.ExpectBoundedSelects;
+
+import java.util.List;
+import java.util.Map;
+
+public class BoundedSelectsVerifier implements VerifiablePerformanceIssue<ExpectBoundedSelects, SelectShapeMaximums> {
+
+    public static final BoundedSelectsVerifier INSTANCE = new BoundedSelectsVerifier();
+
+    private BoundedSelectsVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(ExpectBoundedSelects annotation, SelectShapeMaximums maxFetchedRows) {
+
+        List<Map.Entry<String, Long>> unboundedSelects = maxFetchedRows.findMaximumsGreaterThan(annotation.maxRowsWithoutLimit());
+        if (unboundedSelects.isEmpty()) {
+            return PerfIssue.NONE;
+        }
+
+        StringBuilder description = new StringBuilder();
+        description.append("You may think that the selects fetching more than <").append(annotation.maxRowsWithoutLimit())
+                   .append("> rows have a row limit.")
+                   .append(System.lineSeparator())
+                   .append("But <").append(unboundedSelects.size()).append("> selects have no LIMIT, FETCH FIRST, TOP or ROWNUM clause...");
+        for (Map.Entry<String, Long> unboundedSelect : unboundedSelects) {
+            description.append(System.lineSeparator())
+                       .append(System.lineSeparator())
+                       .append("\t").append(unboundedSelect.getKey())
+                       .append(System.lineSeparator())
+                       .append("\t<").append(unboundedSelect.getValue()).append("> fetched rows");
+        }
+        description.append(System.lineSeparator())
+                   .append(System.lineSeparator())
+                   .append("The number of fetched rows may grow with the production data.");
+
+        return new PerfIssue(description.toString());
+
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.select.pagination;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.DisableDeepOffsetPagination;
+
+import java.util.List;
+import java.util.Map;
+
+public class DeepOffsetPaginationVerifier implements VerifiablePerformanceIssue<DisableDeepOffsetPagination, SelectShapeMaximums> {
+
+    public static final DeepOffsetPaginationVerifier INSTANCE = new DeepOffsetPaginationVerifier();
+
+    private DeepOffsetPaginationVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(DisableDeepOffsetPagination annotation, SelectShapeMaximums maxOffsets) {
+
+        List<Map.Entry<String, Long>> deepOffsets = maxOffsets.findMaximumsGreaterThan(annotation.maxOffset());
+        if (deepOffsets.isEmpty()) {
+            return PerfIssue.NONE;
+        }
+
+        StringBuilder description = new StringBuilder();
+        description.append("You may think that at most <").append(annotation.maxOffset())
+                   .append("> rows are skipped with an offset.")
+                   .append(System.lineSeparator())
+                   .append("But <").append(maxOffsets.getValue()).append("> rows are skipped...");
+        for (Map.Entry<String, Long> deepOffset : deepOffsets) {
+            description.append(System.lineSeparator())
+                       .append(System.lineSeparator())
+                       .append("\t").append(deepOffset.getKey())
+                       .append(System.lineSeparator())
+                       .append("\toffset of <").append(deepOffset.getValue()).append("> rows");
+        }
+        description.append(System.lineSeparator())
+                   .append(System.lineSeparator())
+                   .append("The database reads and discards the skipped rows, the cost of a page grows with its depth.")
+                   .append(System.lineSeparator())
+                   .append("You may use keyset pagination instead (WHERE id > :lastSeenId ORDER BY id): ")
+                   .append("https://use-the-index-luke.com/no-offset");
+
+        return new PerfIssue(description.toString());
+
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.select.pagination;
+
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.quickperf.sql.SqlTokens;
+
+import java.util.List;
+
+/**
+ * Finds the row limit and the offset of a select statement from its <code>LIMIT</code>, <code>OFFSET</code>,
+ * <code>FETCH FIRST/NEXT</code> and <code>TOP</code> clauses, or from a <code>ROWNUM</code> condition.
+ * <br><br>
+ * Only the clauses of the outer statement are taken into account, a limited sub-query not bounding the rows returned
+ * to the application.
+ */
+public class RowLimitParser {
+
+    public static final RowLimitParser INSTANCE = new RowLimitParser();
+
+    public static final long NO_OFFSET = -1;
+
+    private RowLimitParser() { }
+
+    public boolean hasRowLimit(SqlTokens sqlTokens) {
+        if (sqlTokens.size() == 0) {
+            return false;
+        }
+        int statementDepth = sqlTokens.depthAt(0);
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            if (sqlTokens.isWordAt(i, "rownum")) {
+                return true;
+            }
+            if (sqlTokens.depthAt(i) != statementDepth) {
+                continue;
+            }
+            if (   sqlTokens.isWordAt(i, "limit")
+                || (sqlTokens.isWordAt(i, "top") && sqlTokens.isWordAt(i - 1, "select"))
+                || (sqlTokens.isWordAt(i, "fetch") && (sqlTokens.isWordAt(i + 1, "first") || sqlTokens.isWordAt(i + 1, "next")))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param parameters the parameters bound to the statement, to find the offset given with a bind parameter
+     * @return the number of skipped rows, {@link #NO_OFFSET} if there is no offset or if its value is unknown
+     */
+    public long findOffset(SqlTokens sqlTokens, List<ParameterSetOperation> parameters) {
+        if (sqlTokens.size() == 0) {
+            return NO_OFFSET;
+        }
+        int statementDepth = sqlTokens.depthAt(0);
+        for (int i = 0; i < sqlTokens.size() - 1; i++) {
+            if (sqlTokens.depthAt(i) != statementDepth) {
+                continue;
+            }
+            if (sqlTokens.isWordAt(i, "offset")) {
+                return findValueAt(sqlTokens, i + 1, parameters);
+            }
+            boolean mySqlOffset = sqlTokens.isWordAt(i, "limit") && sqlTokens.isSymbolAt(i + 2, ',');
+            if (mySqlOffset) {
+                return findValueAt(sqlTokens, i + 1, parameters);
+            }
+        }
+        return NO_OFFSET;
+    }
+
+    private long findValueAt(SqlTokens sqlTokens, int index, List<ParameterSetOperation> parameters) {
+        if (sqlTokens.typeAt(index) == SqlTokens.Type.NUMERIC_LITERAL) {
+            try {
+                return Long.parseLong(sqlTokens.textAt(index));
+            } catch (NumberFormatException e) {
+                return NO_OFFSET;
+            }
+        }
+        if (sqlTokens.typeAt(index) == SqlTokens.Type.PARAMETER && "?".equals(sqlTokens.textAt(index))) {
+            return findParameterValue(countPositionalParameters(sqlTokens, index) + 1, parameters);
+        }
+        return NO_OFFSET;
+    }
+
+    private int countPositionalParameters(SqlTokens sqlTokens, int endIndex) {
+        int parameterCount = 0;
+        for (int i = 0; i < endIndex; i++) {
+            if (sqlTokens.typeAt(i) == SqlTokens.Type.PARAMETER && "?".equals(sqlTokens.textAt(i))) {
+                parameterCount++;
+            }
+        }
+        return parameterCount;
+    }
+
+    private long findParameterValue(int parameterIndex, List<ParameterSetOperation> parameters) {
+        for (ParameterSetOperation parameter : parameters) {
+            Object[] args = parameter.getArgs();
+            if (   args != null
+                && args.length > 1
+                && Integer.valueOf(parameterIndex).equals(args[0])
+                && args[1] instanceof Number) {
+                return ((Number) args[1]).longValue();
+            }
+        }
+        return NO_OFFSET;
+    }
+
+}
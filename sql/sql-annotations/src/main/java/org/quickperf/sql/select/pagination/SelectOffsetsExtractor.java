@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.select.pagination;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.quickperf.ExtractablePerformanceMeasure;
+import org.quickperf.sql.SqlExecution;
+import org.quickperf.sql.SqlExecutions;
+import org.quickperf.sql.SqlFingerprint;
+import org.quickperf.sql.SqlLexer;
+import org.quickperf.sql.SqlTokens;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Extracts the greatest offset of each select shape.
+ */
+public class SelectOffsetsExtractor implements ExtractablePerformanceMeasure<SqlExecutions, SelectShapeMaximums> {
+
+    public static final SelectOffsetsExtractor INSTANCE = new SelectOffsetsExtractor();
+
+    private SelectOffsetsExtractor() { }
+
+    @Override
+    public SelectShapeMaximums extractPerfMeasureFrom(SqlExecutions sqlExecutions) {
+        Map<SqlFingerprint, String> sqlByFingerprint = new HashMap<>();
+        Map<String, Long> maxOffsetBySql = new LinkedHashMap<>();
+        for (SqlExecution sqlExecution : sqlExecutions) {
+            for (QueryInfo query : sqlExecution.getQueries()) {
+                SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(query.getQuery());
+                if (sqlTokens.getQueryType() != QueryType.SELECT) {
+                    continue;
+                }
+                long offset = findMaxOffset(sqlTokens, query);
+                if (offset == RowLimitParser.NO_OFFSET) {
+                    continue;
+                }
+                SqlFingerprint fingerprint = sqlTokens.getFingerprint();
+                String sql = sqlByFingerprint.get(fingerprint);
+                if (sql == null) {
+                    sql = query.getQuery();
+                    sqlByFingerprint.put(fingerprint, sql);
+                }
+                Long previousMaxOffset = maxOffsetBySql.get(sql);
+                if (previousMaxOffset == null || offset > previousMaxOffset) {
+                    maxOffsetBySql.put(sql, offset);
+                }
+            }
+        }
+        return new SelectShapeMaximums(maxOffsetBySql);
+    }
+
+    private long findMaxOffset(SqlTokens sqlTokens, QueryInfo query) {
+        List<List<ParameterSetOperation>> parametersList = query.getParametersList();
+        if (parametersList.isEmpty()) {
+            return RowLimitParser.INSTANCE.findOffset(sqlTokens, Collections.<ParameterSetOperation>emptyList());
+        }
+        long maxOffset = RowLimitParser.NO_OFFSET;
+        for (List<ParameterSetOperation> parameters : parametersList) {
+            maxOffset = Math.max(maxOffset, RowLimitParser.INSTANCE.findOffset(sqlTokens, parameters));
+        }
+        return maxOffset;
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.select.pagination;
+
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.unit.CountUnit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maximum of a count (skipped rows, fetched rows, ...) for each SQL shape of select statements.
+ */
+public class SelectShapeMaximums implements PerfMeasure<Long, CountUnit> {
+
+    private static final Comparator<Map.Entry<String, Long>> GREATEST_FIRST = new Comparator<Map.Entry<String, Long>>() {
+        @Override
+        public int compare(Map.Entry<String, Long> maximum1, Map.Entry<String, Long> maximum2) {
+            return Long.compare(maximum2.getValue(), maximum1.getValue());
+        }
+    };
+
+    private final Map<String, Long> maximumBySql;
+
+    SelectShapeMaximums(Map<String, Long> maximumBySql) {
+        this.maximumBySql = new LinkedHashMap<>(maximumBySql);
+    }
+
+    /**
+     * @param threshold the value to exceed
+     * @return the SQL shapes having a maximum greater than the threshold, the greatest first
+     */
+    public List<Map.Entry<String, Long>> findMaximumsGreaterThan(long threshold) {
+        List<Map.Entry<String, Long>> maximums = new ArrayList<>();
+        for (Map.Entry<String, Long> maximumOfSql : maximumBySql.entrySet()) {
+            if (maximumOfSql.getValue() > threshold) {
+                maximums.add(maximumOfSql);
+            }
+        }
+        Collections.sort(maximums, GREATEST_FIRST);
+        return maximums;
+    }
+
+    @Override
+    public Long getValue() {
+        long maximum = 0;
+        for (Long maximumOfSql : maximumBySql.values()) {
+            maximum = Math.max(maximum, maximumOfSql);
+        }
+        return maximum;
+    }
+
+    @Override
+    public CountUnit getUnit() {
+        return CountUnit.COUNT;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.select.pagination;
+
+import org.quickperf.ExtractablePerformanceMeasure;
+import org.quickperf.sql.SqlFingerprint;
+import org.quickperf.sql.SqlLexer;
+import org.quickperf.sql.SqlTokens;
+import org.quickperf.sql.connection.ResultSetIteration;
+import org.quickperf.sql.resultset.ResultSetIterations;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Extracts the greatest number of rows fetched by each select shape having no row limit.
+ */
+public class UnboundedSelectsExtractor implements ExtractablePerformanceMeasure<ResultSetIterations, SelectShapeMaximums> {
+
+    public static final UnboundedSelectsExtractor INSTANCE = new UnboundedSelectsExtractor();
+
+    private UnboundedSelectsExtractor() { }
+
+    @Override
+    public SelectShapeMaximums extractPerfMeasureFrom(ResultSetIterations resultSetIterations) {
+        Map<SqlFingerprint, String> sqlByFingerprint = new HashMap<>();
+        Map<String, Long> maxFetchedRowsBySql = new LinkedHashMap<>();
+        for (ResultSetIteration resultSetIteration : resultSetIterations) {
+            if (resultSetIteration.getSql() == null) {
+                continue;
+            }
+            SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(resultSetIteration.getSql());
+            if (RowLimitParser.INSTANCE.hasRowLimit(sqlTokens)) {
+                continue;
+            }
+            SqlFingerprint fingerprint = sqlTokens.getFingerprint();
+            String sql = sqlByFingerprint.get(fingerprint);
+            if (sql == null) {
+                sql = resultSetIteration.getSql();
+                sqlByFingerprint.put(fingerprint, sql);
+            }
+            Long previousMaxFetchedRows = maxFetchedRowsBySql.get(sql);
+            long fetchedRows = resultSetIteration.getFetchedRows();
+            if (previousMaxFetchedRows == null || fetchedRows > previousMaxFetchedRows) {
+                maxFetchedRowsBySql.put(sql, fetchedRows);
+            }
+        }
+        return new SelectShapeMaximums(maxFetchedRowsBySql);
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.shape;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.ExpectMaxDistinctSqlShapes;
+import org.quickperf.sql.framework.JdbcSuggestion;
+
+public class MaxDistinctSqlShapesVerifier implements VerifiablePerformanceIssue<ExpectMaxDistinctSqlShapes, SqlShapes> {
+
+    public static final MaxDistinctSqlShapesVerifier INSTANCE = new MaxDistinctSqlShapesVerifier();
+
+    private static final int MAX_DISPLAYED_SHAPES = 10;
+
+    private MaxDistinctSqlShapesVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(ExpectMaxDistinctSqlShapes annotation, SqlShapes sqlShapes) {
+
+        long distinctTextCount = sqlShapes.getDistinctTextCount();
+        if (distinctTextCount <= annotation.value()) {
+            return PerfIssue.NONE;
+        }
+
+        StringBuilder description = new StringBuilder();
+        description.append("You may think that at most <").append(annotation.value())
+                   .append("> distinct SQL statements were executed.")
+                   .append(System.lineSeparator())
+                   .append("But there are in fact <").append(distinctTextCount).append("> for <")
+                   .append(sqlShapes.getShapes().size()).append("> SQL shapes...");
+
+        int displayedShapes = 0;
+        for (SqlShape shape : sqlShapes.getShapes()) {
+            if (displayedShapes == MAX_DISPLAYED_SHAPES) {
+                break;
+            }
+            description.append(System.lineSeparator())
+                       .append(System.lineSeparator())
+                       .append("\t").append(shape.getSql())
+                       .append(System.lineSeparator())
+                       .append("\t<").append(shape.getDistinctTextCount()).append("> distinct statements");
+            if (shape.getInListArities().size() > 1) {
+                description.append(" with IN-list sizes ").append(shape.getInListArities());
+            }
+            displayedShapes++;
+        }
+
+        if (!sqlShapes.getShapesWithUnpaddedInLists().isEmpty()) {
+            description.append(System.lineSeparator())
+                       .append(System.lineSeparator())
+                       .append("Some statements only differ by the size of their IN-lists.")
+                       .append(JdbcSuggestion.IN_LIST_PADDING.getMessage());
+        }
+
+        return new PerfIssue(description.toString());
+
+    }
+
+}
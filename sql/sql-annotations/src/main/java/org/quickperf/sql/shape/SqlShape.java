@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.shape;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Distinct SQL texts sharing a same fingerprint, with the IN-list arities leading to these texts.
+ */
+public class SqlShape {
+
+    private final String sql;
+
+    private final Set<String> texts = new LinkedHashSet<>();
+
+    private final Set<List<Integer>> inListArities = new LinkedHashSet<>();
+
+    SqlShape(String sql) {
+        this.sql = sql;
+    }
+
+    void addText(String text, List<Integer> inListAritiesOfText) {
+        texts.add(text);
+        if (!inListAritiesOfText.isEmpty()) {
+            inListArities.add(inListAritiesOfText);
+        }
+    }
+
+    /**
+     * @return the first executed text having this shape
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    public int getDistinctTextCount() {
+        return texts.size();
+    }
+
+    /**
+     * @return the different combinations of IN-list sizes, one list of sizes per combination
+     */
+    public List<List<Integer>> getInListArities() {
+        return Collections.unmodifiableList(new ArrayList<>(inListArities));
+    }
+
+    /**
+     * @return true if the IN-lists have several sizes, some of them not being padded to a power of two
+     */
+    public boolean hasUnpaddedInLists() {
+        if (inListArities.size() < 2) {
+            return false;
+        }
+        for (List<Integer> arities : inListArities) {
+            for (Integer arity : arities) {
+                if (Integer.bitCount(arity) != 1) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.shape;
+
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.unit.CountUnit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Distinct SQL texts executed during the test, grouped by fingerprint.
+ * <br><br>
+ * Each distinct text needs its own entry in the plan cache of the database and in the statement cache of the
+ * driver or of the connection pool.
+ */
+public class SqlShapes implements PerfMeasure<Long, CountUnit> {
+
+    private static final Comparator<SqlShape> MOST_TEXTS_FIRST = new Comparator<SqlShape>() {
+        @Override
+        public int compare(SqlShape shape1, SqlShape shape2) {
+            return Integer.compare(shape2.getDistinctTextCount(), shape1.getDistinctTextCount());
+        }
+    };
+
+    private final List<SqlShape> shapes;
+
+    SqlShapes(List<SqlShape> shapes) {
+        this.shapes = new ArrayList<>(shapes);
+        Collections.sort(this.shapes, MOST_TEXTS_FIRST);
+    }
+
+    /**
+     * @return the shapes, the ones having the most distinct texts first
+     */
+    public List<SqlShape> getShapes() {
+        return Collections.unmodifiableList(shapes);
+    }
+
+    public long getDistinctTextCount() {
+        long distinctTextCount = 0;
+        for (SqlShape shape : shapes) {
+            distinctTextCount += shape.getDistinctTextCount();
+        }
+        return distinctTextCount;
+    }
+
+    public List<SqlShape> getShapesWithUnpaddedInLists() {
+        List<SqlShape> shapesWithUnpaddedInLists = new ArrayList<>();
+        for (SqlShape shape : shapes) {
+            if (shape.hasUnpaddedInLists()) {
+                shapesWithUnpaddedInLists.add(shape);
+            }
+        }
+        return shapesWithUnpaddedInLists;
+    }
+
+    @Override
+    public Long getValue() {
+        return getDistinctTextCount();
+    }
+
+    @Override
+    public CountUnit getUnit() {
+        return CountUnit.COUNT;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
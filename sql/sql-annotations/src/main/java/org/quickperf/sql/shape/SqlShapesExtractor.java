@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.shape;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import org.quickperf.ExtractablePerformanceMeasure;
+import org.quickperf.sql.SqlExecution;
+import org.quickperf.sql.SqlExecutions;
+import org.quickperf.sql.SqlFingerprint;
+import org.quickperf.sql.SqlLexer;
+import org.quickperf.sql.SqlTokens;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SqlShapesExtractor implements ExtractablePerformanceMeasure<SqlExecutions, SqlShapes> {
+
+    public static final SqlShapesExtractor INSTANCE = new SqlShapesExtractor();
+
+    private SqlShapesExtractor() { }
+
+    @Override
+    public SqlShapes extractPerfMeasureFrom(SqlExecutions sqlExecutions) {
+        Map<SqlFingerprint, SqlShape> shapesByFingerprint = new LinkedHashMap<>();
+        for (SqlExecution sqlExecution : sqlExecutions) {
+            for (QueryInfo query : sqlExecution.getQueries()) {
+                String sql = query.getQuery();
+                SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(sql);
+                SqlFingerprint fingerprint = sqlTokens.getFingerprint();
+                SqlShape shape = shapesByFingerprint.get(fingerprint);
+                if (shape == null) {
+                    shape = new SqlShape(sql);
+                    shapesByFingerprint.put(fingerprint, shape);
+                }
+                shape.addText(sql, findInListArities(sqlTokens));
+            }
+        }
+        return new SqlShapes(new ArrayList<>(shapesByFingerprint.values()));
+    }
+
+    /**
+     * @return the number of elements of each IN-list made of parameters or literals, in the order of the statement
+     */
+    static List<Integer> findInListArities(SqlTokens sqlTokens) {
+        List<Integer> inListArities = new ArrayList<>();
+        for (int i = 0; i < sqlTokens.size() - 1; i++) {
+            if (sqlTokens.isWordAt(i, "in") && sqlTokens.isSymbolAt(i + 1, '(')) {
+                int arity = countListElements(sqlTokens, i + 2);
+                if (arity > 0) {
+                    inListArities.add(arity);
+                }
+            }
+        }
+        return inListArities;
+    }
+
+    private static int countListElements(SqlTokens sqlTokens, int firstElementIndex) {
+        int arity = 0;
+        for (int i = firstElementIndex; i < sqlTokens.size(); i += 2) {
+            boolean value = sqlTokens.typeAt(i) == SqlTokens.Type.PARAMETER || sqlTokens.isLiteralAt(i);
+            if (!value) {
+                return 0;
+            }
+            arity++;
+            if (sqlTokens.isSymbolAt(i + 1, ')')) {
+                return arity;
+            }
+            if (!sqlTokens.isSymbolAt(i + 1, ',')) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+}
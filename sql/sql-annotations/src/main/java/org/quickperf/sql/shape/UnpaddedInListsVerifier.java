@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.shape;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.DisableUnpaddedInLists;
+import org.quickperf.sql.framework.JdbcSuggestion;
+
+import java.util.List;
+
+public class UnpaddedInListsVerifier implements VerifiablePerformanceIssue<DisableUnpaddedInLists, SqlShapes> {
+
+    public static final UnpaddedInListsVerifier INSTANCE = new UnpaddedInListsVerifier();
+
+    private UnpaddedInListsVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(DisableUnpaddedInLists annotation, SqlShapes sqlShapes) {
+
+        List<SqlShape> shapesWithUnpaddedInLists = sqlShapes.getShapesWithUnpaddedInLists();
+        if (shapesWithUnpaddedInLists.isEmpty()) {
+            return PerfIssue.NONE;
+        }
+
+        StringBuilder description = new StringBuilder();
+        description.append("Statements only differing by the size of their IN-lists are executed.")
+                   .append(System.lineSeparator())
+                   .append("Each size needs its own entry in the database plan cache and in the statement cache.");
+
+        for (SqlShape shape : shapesWithUnpaddedInLists) {
+            description.append(System.lineSeparator())
+                       .append(System.lineSeparator())
+                       .append("\t").append(shape.getSql())
+                       .append(System.lineSeparator())
+                       .append("\t<").append(shape.getDistinctTextCount()).append("> distinct statements")
+                       .append(" with IN-list sizes ").append(shape.getInListArities());
+        }
+
+        description.append(JdbcSuggestion.IN_LIST_PADDING.getMessage());
+
+        return new PerfIssue(description.toString());
+
+    }
+
+}
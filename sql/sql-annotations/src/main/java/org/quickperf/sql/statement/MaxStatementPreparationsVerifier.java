@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.statement;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.SqlFingerprint;
+import org.quickperf.sql.annotation.ExpectMaxStatementPreparations;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class MaxStatementPreparationsVerifier implements VerifiablePerformanceIssue<ExpectMaxStatementPreparations, StatementPreparations> {
+
+    public static final MaxStatementPreparationsVerifier INSTANCE = new MaxStatementPreparationsVerifier();
+
+    private static final Comparator<ShapeGroup> MOST_PREPARED_FIRST = new Comparator<ShapeGroup>() {
+        @Override
+        public int compare(ShapeGroup shapeGroup1, ShapeGroup shapeGroup2) {
+            return Long.compare(shapeGroup2.preparationCount, shapeGroup1.preparationCount);
+        }
+    };
+
+    private MaxStatementPreparationsVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(ExpectMaxStatementPreparations annotation, StatementPreparations statementPreparations) {
+
+        long preparationCount = statementPreparations.getPreparationCount();
+        if (preparationCount <= annotation.value()) {
+            return PerfIssue.NONE;
+        }
+
+        StringBuilder description = new StringBuilder();
+        description.append("You may think that at most <").append(annotation.value()).append("> statements were prepared.")
+                   .append(System.lineSeparator())
+                   .append("But there are in fact <").append(preparationCount).append("> for <")
+                   .append(statementPreparations.getExecutionCount()).append("> executions...");
+
+        for (ShapeGroup shapeGroup : groupByShape(statementPreparations)) {
+            if (shapeGroup.preparationCount == 0) {
+                continue;
+            }
+            description.append(System.lineSeparator())
+                       .append(System.lineSeparator())
+                       .append("\t").append(shapeGroup.sql)
+                       .append(System.lineSeparator())
+                       .append("\t<").append(shapeGroup.preparationCount).append("> preparations for <")
+                       .append(shapeGroup.executionCount).append("> executions of <")
+                       .append(shapeGroup.sqlCount).append("> distinct SQL texts");
+        }
+
+        if (statementPreparations.getRepeatedPreparationCount() > 0) {
+            description.append(System.lineSeparator())
+                       .append(System.lineSeparator())
+                       .append("<").append(statementPreparations.getRepeatedPreparationCount())
+                       .append("> preparations repeat the exact SQL text of a statement already prepared during the test.")
+                       .append(System.lineSeparator())
+                       .append("If they are done on the same physical connections, perhaps the statement cache of the JDBC driver")
+                       .append(" or of the connection pool is disabled or undersized")
+                       .append(" (PostgreSQL preparedStatementCacheQueries, MySQL prepStmtCacheSize, Oracle implicit statement cache, ...).");
+        }
+
+        return new PerfIssue(description.toString());
+
+    }
+
+    private List<ShapeGroup> groupByShape(StatementPreparations statementPreparations) {
+        Map<SqlFingerprint, ShapeGroup> shapeGroupByFingerprint = new LinkedHashMap<>();
+        for (SqlPreparations sqlPreparations : statementPreparations.getSqlPreparations()) {
+            SqlFingerprint fingerprint = SqlFingerprint.of(sqlPreparations.getSql());
+            ShapeGroup shapeGroup = shapeGroupByFingerprint.get(fingerprint);
+            if (shapeGroup == null) {
+                shapeGroup = new ShapeGroup(sqlPreparations.getSql());
+                shapeGroupByFingerprint.put(fingerprint, shapeGroup);
+            }
+            shapeGroup.add(sqlPreparations);
+        }
+        List<ShapeGroup> shapeGroups = new ArrayList<>(shapeGroupByFingerprint.values());
+        Collections.sort(shapeGroups, MOST_PREPARED_FIRST);
+        return shapeGroups;
+    }
+
+    private static class ShapeGroup {
+
+        private final String sql;
+
+        private long preparationCount;
+
+        private long executionCount;
+
+        private int sqlCount;
+
+        ShapeGroup(String sql) {
+            this.sql = sql;
+        }
+
+        void add(SqlPreparations sqlPreparations) {
+            preparationCount += sqlPreparations.getPreparationCount();
+            executionCount += sqlPreparations.getExecutionCount();
+            sqlCount++;
+        }
+
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.statement;
+
+import java.io.Serializable;
+
+/**
+ * Preparations and executions of the prepared statements having the same SQL text.
+ */
+public class SqlPreparations implements Serializable {
+
+    private final String sql;
+
+    private final long preparationCount;
+
+    private final long executionCount;
+
+    SqlPreparations(String sql, long preparationCount, long executionCount) {
+        this.sql = sql;
+        this.preparationCount = preparationCount;
+        this.executionCount = executionCount;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public long getPreparationCount() {
+        return preparationCount;
+    }
+
+    public long getExecutionCount() {
+        return executionCount;
+    }
+
+    /**
+     * @return the number of preparations of the SQL text after its first preparation
+     */
+    public long getRepeatedPreparationCount() {
+        return Math.max(preparationCount - 1, 0);
+    }
+
+}
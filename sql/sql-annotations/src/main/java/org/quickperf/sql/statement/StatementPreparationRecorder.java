@@ -0,0 +1,162 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.statement;
+
+import org.quickperf.TestExecutionContext;
+import org.quickperf.WorkingFolder;
+import org.quickperf.repository.ObjectFileRepository;
+import org.quickperf.sql.connection.ConnectionListenerRegistry;
+import org.quickperf.sql.connection.ConnectionsListener;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts, per SQL text, the preparations of prepared and callable statements and their executions.
+ * <br><br>
+ * The statement caches of the JDBC drivers and of the connection pools are keyed by the exact SQL text, so SQL texts
+ * differing only by their literals or by the size of their IN lists are counted apart. The connections are not
+ * compared: the ones returned by a connection pool to the application don't tell which physical connection, and so
+ * which statement cache, is used.
+ */
+public class StatementPreparationRecorder extends ConnectionsListener<StatementPreparations> {
+
+    private static final String STATEMENT_PREPARATIONS_FILE_NAME = "statement-preparations.ser";
+
+    private final Map<String, SqlCounter> countersBySql = new LinkedHashMap<>();
+
+    private StatementPreparations record;
+
+    @Override
+    public void prepareStatement(Connection connection, String sql) {
+        recordPreparation(sql);
+    }
+
+    @Override
+    public void prepareStatement(Connection connection, String sql, int resultSetType, int resultSetConcurrency) {
+        recordPreparation(sql);
+    }
+
+    @Override
+    public void prepareStatement(Connection connection, String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) {
+        recordPreparation(sql);
+    }
+
+    @Override
+    public void prepareStatement(Connection connection, String sql, int autoGeneratedKeys) {
+        recordPreparation(sql);
+    }
+
+    @Override
+    public void prepareStatement(Connection connection, String sql, int[] columnIndexes) {
+        recordPreparation(sql);
+    }
+
+    @Override
+    public void prepareStatement(Connection connection, String sql, String[] columnNames) {
+        recordPreparation(sql);
+    }
+
+    @Override
+    public void prepareCall(Connection connection, String sql) {
+        recordPreparation(sql);
+    }
+
+    @Override
+    public void prepareCall(Connection connection, String sql, int resultSetType, int resultSetConcurrency) {
+        recordPreparation(sql);
+    }
+
+    @Override
+    public void prepareCall(Connection connection, String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) {
+        recordPreparation(sql);
+    }
+
+    @Override
+    public boolean listensToPreparedStatementExecutions() {
+        return true;
+    }
+
+    @Override
+    public void preparedStatementExecuted(Connection connection, String sql) {
+        findCounter(sql).executionCount++;
+    }
+
+    private void recordPreparation(String sql) {
+        findCounter(sql).preparationCount++;
+    }
+
+    private SqlCounter findCounter(String sql) {
+        SqlCounter sqlCounter = countersBySql.get(sql);
+        if (sqlCounter == null) {
+            sqlCounter = new SqlCounter(sql);
+            countersBySql.put(sql, sqlCounter);
+        }
+        return sqlCounter;
+    }
+
+    @Override
+    public void startRecording(TestExecutionContext testExecutionContext) {
+        countersBySql.clear();
+        ConnectionListenerRegistry.INSTANCE.register(this);
+    }
+
+    @Override
+    public void stopRecording(TestExecutionContext testExecutionContext) {
+        ConnectionListenerRegistry.unregister(this);
+        List<SqlPreparations> sqlPreparations = new ArrayList<>(countersBySql.size());
+        for (SqlCounter sqlCounter : countersBySql.values()) {
+            sqlPreparations.add(sqlCounter.toSqlPreparations());
+        }
+        record = new StatementPreparations(sqlPreparations);
+        countersBySql.clear();
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            ObjectFileRepository.INSTANCE.save(workingFolder, STATEMENT_PREPARATIONS_FILE_NAME, record);
+        }
+    }
+
+    @Override
+    public StatementPreparations findRecord(TestExecutionContext testExecutionContext) {
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            return (StatementPreparations) ObjectFileRepository.INSTANCE.find(workingFolder.getPath()
+                                                                            , STATEMENT_PREPARATIONS_FILE_NAME);
+        }
+        return record;
+    }
+
+    @Override
+    public void cleanResources() { }
+
+    private static class SqlCounter {
+
+        private final String sql;
+
+        private long preparationCount;
+
+        private long executionCount;
+
+        SqlCounter(String sql) {
+            this.sql = sql;
+        }
+
+        SqlPreparations toSqlPreparations() {
+            return new SqlPreparations(sql, preparationCount, executionCount);
+        }
+
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.statement;
+
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.unit.CountUnit;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class StatementPreparations implements PerfMeasure<Long, CountUnit>, Serializable {
+
+    private final List<SqlPreparations> sqlPreparations;
+
+    StatementPreparations(List<SqlPreparations> sqlPreparations) {
+        this.sqlPreparations = new ArrayList<>(sqlPreparations);
+    }
+
+    public List<SqlPreparations> getSqlPreparations() {
+        return Collections.unmodifiableList(sqlPreparations);
+    }
+
+    public long getPreparationCount() {
+        long preparationCount = 0;
+        for (SqlPreparations preparations : sqlPreparations) {
+            preparationCount += preparations.getPreparationCount();
+        }
+        return preparationCount;
+    }
+
+    public long getExecutionCount() {
+        long executionCount = 0;
+        for (SqlPreparations preparations : sqlPreparations) {
+            executionCount += preparations.getExecutionCount();
+        }
+        return executionCount;
+    }
+
+    public long getRepeatedPreparationCount() {
+        long repeatedPreparationCount = 0;
+        for (SqlPreparations preparations : sqlPreparations) {
+            repeatedPreparationCount += preparations.getRepeatedPreparationCount();
+        }
+        return repeatedPreparationCount;
+    }
+
+    @Override
+    public Long getValue() {
+        return getPreparationCount();
+    }
+
+    @Override
+    public CountUnit getUnit() {
+        return CountUnit.COUNT;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
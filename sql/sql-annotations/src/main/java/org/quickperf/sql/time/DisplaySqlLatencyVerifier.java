@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.time;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.DisplaySqlLatency;
+
+public class DisplaySqlLatencyVerifier implements VerifiablePerformanceIssue<DisplaySqlLatency, SqlLatencies> {
+
+    public static final DisplaySqlLatencyVerifier INSTANCE = new DisplaySqlLatencyVerifier();
+
+    private final LatencyFormatter latencyFormatter = LatencyFormatter.INSTANCE;
+
+    private DisplaySqlLatencyVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(DisplaySqlLatency annotation, SqlLatencies sqlLatencies) {
+        StringBuilder display = new StringBuilder("[QUICK PERF] SQL latency:")
+                .append(System.lineSeparator())
+                .append(latencyFormatter.formatSummary(sqlLatencies.getHistogram()));
+        for (ShapeLatency shapeLatency : sqlLatencies.getShapeLatencies()) {
+            display.append(System.lineSeparator())
+                   .append(System.lineSeparator())
+                   .append("\t").append(shapeLatency.getSql())
+                   .append(System.lineSeparator())
+                   .append("\t").append(latencyFormatter.formatSummary(shapeLatency.getHistogram()));
+        }
+        System.out.println(display);
+        return PerfIssue.NONE;
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.time;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the execution time of the statements with a nanosecond resolution, <code>ExecutionInfo.getElapsedTime()</code>
+ * being in milliseconds.
+ * <br><br>
+ * The start is stored in the execution info before the execution, the elapsed time just after it, before any
+ * SQL recorder is notified.
+ */
+public class ExecutionNanoTime {
+
+    public static final ExecutionNanoTime INSTANCE = new ExecutionNanoTime();
+
+    private static final String START_NANO_TIME = "quickperf.startNanoTime";
+
+    private static final String ELAPSED_NANO_TIME = "quickperf.elapsedNanoTime";
+
+    private ExecutionNanoTime() { }
+
+    public void recordStart(ExecutionInfo executionInfo) {
+        executionInfo.addCustomValue(START_NANO_TIME, System.nanoTime());
+    }
+
+    public void recordEnd(ExecutionInfo executionInfo) {
+        Long startNanoTime = executionInfo.getCustomValue(START_NANO_TIME, Long.class);
+        if (startNanoTime != null) {
+            executionInfo.addCustomValue(ELAPSED_NANO_TIME, System.nanoTime() - startNanoTime);
+        }
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} value at the execution start, estimated from the elapsed time if the
+     * execution was not measured
+     */
+    public long findStartNanoTimeOf(ExecutionInfo executionInfo) {
+        Long startNanoTime = executionInfo.getCustomValue(START_NANO_TIME, Long.class);
+        if (startNanoTime != null) {
+            return startNanoTime;
+        }
+        return System.nanoTime() - findElapsedNanoTimeOf(executionInfo);
+    }
+
+    /**
+     * @return the elapsed time in nanoseconds, converted from the elapsed time in milliseconds if the execution was
+     * not measured
+     */
+    public long findElapsedNanoTimeOf(ExecutionInfo executionInfo) {
+        Long elapsedNanoTime = executionInfo.getCustomValue(ELAPSED_NANO_TIME, Long.class);
+        if (elapsedNanoTime != null) {
+            return elapsedNanoTime;
+        }
+        return TimeUnit.MILLISECONDS.toNanos(executionInfo.getElapsedTime());
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.time;
+
+import java.util.Locale;
+
+class LatencyFormatter {
+
+    static final LatencyFormatter INSTANCE = new LatencyFormatter();
+
+    private static final String MICRO_SECONDS = "\u00B5s";
+
+    private LatencyFormatter() { }
+
+    String format(long latencyInNs) {
+        return String.format(Locale.ENGLISH, "%.1f %s", latencyInNs / 1000d, MICRO_SECONDS);
+    }
+
+    String formatSummary(LatencyHistogram histogram) {
+        return    "count: " + histogram.getCount()
+                + ", p50: " + format(histogram.findPercentileInNs(50))
+                + ", p90: " + format(histogram.findPercentileInNs(90))
+                + ", p99: " + format(histogram.findPercentileInNs(99))
+                + ", max: " + format(histogram.getMaxInNs())
+                + ", total: " + format(histogram.getTotalInNs());
+    }
+
+}
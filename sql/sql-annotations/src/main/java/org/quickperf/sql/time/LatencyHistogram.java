@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.time;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Log-linear histogram of latencies in nanoseconds.
+ * <br><br>
+ * Each power of two is split in 32 buckets of equal width, so that a recorded latency is known with a relative
+ * error below 1/32 whatever its magnitude. The bucket counts are allocated up to the highest recorded latency:
+ * a few hundred integers are enough for latencies up to a second.
+ */
+public class LatencyHistogram implements Serializable {
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private int[] counts = new int[2 * SUB_BUCKET_COUNT];
+
+    private long count;
+
+    private long totalInNs;
+
+    private long maxInNs;
+
+    public void record(long latencyInNs) {
+        long latency = Math.max(latencyInNs, 0);
+        int bucketIndex = bucketIndexOf(latency);
+        if (bucketIndex >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(bucketIndex + 1, 2 * counts.length));
+        }
+        counts[bucketIndex]++;
+        count++;
+        totalInNs += latency;
+        maxInNs = Math.max(maxInNs, latency);
+    }
+
+    /**
+     * Adds the latencies recorded by another histogram, to merge the histograms of several threads for example.
+     */
+    public void add(LatencyHistogram histogram) {
+        if (histogram.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, histogram.counts.length);
+        }
+        for (int bucketIndex = 0; bucketIndex < histogram.counts.length; bucketIndex++) {
+            counts[bucketIndex] += histogram.counts[bucketIndex];
+        }
+        count += histogram.count;
+        totalInNs += histogram.totalInNs;
+        maxInNs = Math.max(maxInNs, histogram.maxInNs);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalInNs() {
+        return totalInNs;
+    }
+
+    public long getMaxInNs() {
+        return maxInNs;
+    }
+
+    /**
+     * @param percentile a percentile between 0 and 100
+     * @return the highest latency of the bucket reaching the percentile, never more than the max recorded latency,
+     * 0 if nothing was recorded
+     */
+    public long findPercentileInNs(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max((long) Math.ceil(percentile / 100 * count), 1);
+        long cumulatedCount = 0;
+        for (int bucketIndex = 0; bucketIndex < counts.length; bucketIndex++) {
+            cumulatedCount += counts[bucketIndex];
+            if (cumulatedCount >= rank) {
+                return Math.min(highestLatencyOf(bucketIndex), maxInNs);
+            }
+        }
+        return maxInNs;
+    }
+
+    static int bucketIndexOf(long latency) {
+        if (latency < SUB_BUCKET_COUNT) {
+            return (int) latency;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(latency) - SUB_BUCKET_BITS;
+        int subBucketIndex = (int) (latency >> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucketIndex;
+    }
+
+    static long highestLatencyOf(int bucketIndex) {
+        if (bucketIndex < 2 * SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+        long lowestLatency = (long) (SUB_BUCKET_COUNT + bucketIndex % SUB_BUCKET_COUNT) << shift;
+        return lowestLatency + (1L << shift) - 1;
+    }
+
+}
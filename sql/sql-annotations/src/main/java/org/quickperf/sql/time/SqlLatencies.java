@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.time;
+
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.unit.CountUnit;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class SqlLatencies implements PerfMeasure<Long, CountUnit>, Serializable {
+
+    private final LatencyHistogram histogram;
+
+    private final List<ShapeLatency> shapeLatencies;
+
+    SqlLatencies(LatencyHistogram histogram, Collection<ShapeLatency> shapeLatencies) {
+        this.histogram = histogram;
+        this.shapeLatencies = new ArrayList<>(shapeLatencies);
+    }
+
+    /**
+     * @return the latencies of all the executions
+     */
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * @return the latencies per shape, in the order of the first execution of each shape
+     */
+    public List<ShapeLatency> getShapeLatencies() {
+        return new ArrayList<>(shapeLatencies);
+    }
+
+    /**
+     * @return the number of executions
+     */
+    @Override
+    public Long getValue() {
+        return histogram.getCount();
+    }
+
+    @Override
+    public CountUnit getUnit() {
+        return CountUnit.COUNT;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
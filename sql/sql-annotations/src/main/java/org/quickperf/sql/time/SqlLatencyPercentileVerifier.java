@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.time;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.ExpectSqlLatencyPercentile;
+
+import java.util.concurrent.TimeUnit;
+
+public class SqlLatencyPercentileVerifier implements VerifiablePerformanceIssue<ExpectSqlLatencyPercentile, SqlLatencies> {
+
+    public static final SqlLatencyPercentileVerifier INSTANCE = new SqlLatencyPercentileVerifier();
+
+    private final LatencyFormatter latencyFormatter = LatencyFormatter.INSTANCE;
+
+    private SqlLatencyPercentileVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(ExpectSqlLatencyPercentile annotation, SqlLatencies sqlLatencies) {
+
+        double percentile = annotation.percentile();
+        long maxLatencyInNs = TimeUnit.MICROSECONDS.toNanos(annotation.maxMicros());
+
+        long percentileLatencyInNs = sqlLatencies.getHistogram().findPercentileInNs(percentile);
+        if (percentileLatencyInNs <= maxLatencyInNs) {
+            return PerfIssue.NONE;
+        }
+
+        StringBuilder slowShapes = new StringBuilder();
+        for (ShapeLatency shapeLatency : sqlLatencies.getShapeLatencies()) {
+            LatencyHistogram shapeHistogram = shapeLatency.getHistogram();
+            if (shapeHistogram.findPercentileInNs(percentile) > maxLatencyInNs) {
+                slowShapes.append(System.lineSeparator())
+                          .append(System.lineSeparator())
+                          .append("\t").append(shapeLatency.getSql())
+                          .append(System.lineSeparator())
+                          .append("\t").append(latencyFormatter.formatSummary(shapeHistogram));
+            }
+        }
+
+        String percentileAsString = percentile == Math.rint(percentile) ? String.valueOf((long) percentile)
+                                                                        : String.valueOf(percentile);
+        String description = "You may think that the p" + percentileAsString + " SQL latency is at most "
+                           + latencyFormatter.format(maxLatencyInNs) + "."
+                           + System.lineSeparator()
+                           + "But it is in fact " + latencyFormatter.format(percentileLatencyInNs)
+                           + " over " + sqlLatencies.getValue() + " execution(s)."
+                           + System.lineSeparator()
+                           + latencyFormatter.formatSummary(sqlLatencies.getHistogram())
+                           + (slowShapes.length() > 0 ? System.lineSeparator() + System.lineSeparator()
+                                                        + "Shapes exceeding the latency:" + slowShapes
+                                                      : "");
+        return new PerfIssue(description);
+
+    }
+
+}
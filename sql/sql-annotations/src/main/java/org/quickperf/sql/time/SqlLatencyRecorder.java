@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.time;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.WorkingFolder;
+import org.quickperf.repository.ObjectFileRepository;
+import org.quickperf.sql.SqlFingerprint;
+import org.quickperf.sql.SqlRecorder;
+import org.quickperf.sql.SqlRecorderRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the latency of each execution, in nanoseconds, in a histogram of the test method and in a histogram of
+ * the shape of the execution.
+ */
+public class SqlLatencyRecorder implements SqlRecorder<SqlLatencies> {
+
+    private static final String SQL_LATENCIES_FILE_NAME = "sql-latencies.ser";
+
+    private LatencyHistogram histogram = new LatencyHistogram();
+
+    private final Map<SqlFingerprint, ShapeLatency> shapeLatencyByFingerprint = new LinkedHashMap<>();
+
+    private SqlLatencies record;
+
+    @Override
+    public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries, int listenerIdentifier) {
+        if (queries.isEmpty()) {
+            return;
+        }
+        long latencyInNs = ExecutionNanoTime.INSTANCE.findElapsedNanoTimeOf(execInfo);
+        histogram.record(latencyInNs);
+        String sql = queries.get(0).getQuery();
+        SqlFingerprint fingerprint = SqlFingerprint.of(sql);
+        ShapeLatency shapeLatency = shapeLatencyByFingerprint.get(fingerprint);
+        if (shapeLatency == null) {
+            shapeLatency = new ShapeLatency(sql);
+            shapeLatencyByFingerprint.put(fingerprint, shapeLatency);
+        }
+        shapeLatency.getHistogram().record(latencyInNs);
+    }
+
+    @Override
+    public void startRecording(TestExecutionContext testExecutionContext) {
+        histogram = new LatencyHistogram();
+        shapeLatencyByFingerprint.clear();
+        SqlRecorderRegistry.INSTANCE.register(this);
+    }
+
+    @Override
+    public void stopRecording(TestExecutionContext testExecutionContext) {
+        SqlRecorderRegistry.unregister(this);
+        record = new SqlLatencies(histogram, shapeLatencyByFingerprint.values());
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            ObjectFileRepository.INSTANCE.save(workingFolder, SQL_LATENCIES_FILE_NAME, record);
+        }
+    }
+
+    @Override
+    public SqlLatencies findRecord(TestExecutionContext testExecutionContext) {
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            return (SqlLatencies) ObjectFileRepository.INSTANCE.find(workingFolder.getPath(), SQL_LATENCIES_FILE_NAME);
+        }
+        return record;
+    }
+
+    @Override
+    public void cleanResources() { }
+
+}
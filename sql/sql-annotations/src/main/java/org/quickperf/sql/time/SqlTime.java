@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.time;
+
+import org.quickperf.measure.PerfMeasure;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time spent inside JDBC calls by the test method thread, compared to the execution time of the test method.
+ */
+public class SqlTime implements PerfMeasure<Long, TimeUnit>, Serializable {
+
+    private final long executionTimeInNs;
+
+    private final long statementExecutionTimeInNs;
+
+    private final long jdbcExecutionCount;
+
+    private final long resultSetIterationTimeInNs;
+
+    private final long resultSetCount;
+
+    private final long connectionAcquisitionTimeInNs;
+
+    private final long connectionCount;
+
+    SqlTime(long executionTimeInNs
+          , long statementExecutionTimeInNs, long jdbcExecutionCount
+          , long resultSetIterationTimeInNs, long resultSetCount
+          , long connectionAcquisitionTimeInNs, long connectionCount) {
+        this.executionTimeInNs = executionTimeInNs;
+        this.statementExecutionTimeInNs = statementExecutionTimeInNs;
+        this.jdbcExecutionCount = jdbcExecutionCount;
+        this.resultSetIterationTimeInNs = resultSetIterationTimeInNs;
+        this.resultSetCount = resultSetCount;
+        this.connectionAcquisitionTimeInNs = connectionAcquisitionTimeInNs;
+        this.connectionCount = connectionCount;
+    }
+
+    public long getExecutionTimeInNs() {
+        return executionTimeInNs;
+    }
+
+    public long getStatementExecutionTimeInNs() {
+        return statementExecutionTimeInNs;
+    }
+
+    public long getJdbcExecutionCount() {
+        return jdbcExecutionCount;
+    }
+
+    /**
+     * @return the time spent in the <code>next()</code> calls of the result sets
+     */
+    public long getResultSetIterationTimeInNs() {
+        return resultSetIterationTimeInNs;
+    }
+
+    public long getResultSetCount() {
+        return resultSetCount;
+    }
+
+    public long getConnectionAcquisitionTimeInNs() {
+        return connectionAcquisitionTimeInNs;
+    }
+
+    public long getConnectionCount() {
+        return connectionCount;
+    }
+
+    /**
+     * @return the SQL time divided by the execution time of the test method, between 0 and 1
+     */
+    public double getRatio() {
+        if (executionTimeInNs == 0) {
+            return 0;
+        }
+        return Math.min(1, (double) getValue() / executionTimeInNs);
+    }
+
+    /**
+     * @return the SQL time in nanoseconds
+     */
+    @Override
+    public Long getValue() {
+        return statementExecutionTimeInNs + resultSetIterationTimeInNs + connectionAcquisitionTimeInNs;
+    }
+
+    @Override
+    public TimeUnit getUnit() {
+        return TimeUnit.NANOSECONDS;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.time;
+
+import java.util.Locale;
+
+class SqlTimeFormatter {
+
+    static final SqlTimeFormatter INSTANCE = new SqlTimeFormatter();
+
+    private SqlTimeFormatter() { }
+
+    String formatRatio(double ratio) {
+        return String.format(Locale.ENGLISH, "%.1f%%", ratio * 100);
+    }
+
+    String formatBreakdown(SqlTime sqlTime) {
+        return    "SQL time: " + formatInMillis(sqlTime.getValue())
+                + " (" + formatRatio(sqlTime.getRatio()) + " of the test method execution time)"
+                + System.lineSeparator()
+                + "\t" + "statement executions: " + formatInMillis(sqlTime.getStatementExecutionTimeInNs())
+                + " (" + sqlTime.getJdbcExecutionCount() + " JDBC execution(s))"
+                + System.lineSeparator()
+                + "\t" + "result set iterations: " + formatInMillis(sqlTime.getResultSetIterationTimeInNs())
+                + " (" + sqlTime.getResultSetCount() + " result set(s))"
+                + System.lineSeparator()
+                + "\t" + "connection acquisitions: " + formatInMillis(sqlTime.getConnectionAcquisitionTimeInNs())
+                + " (" + sqlTime.getConnectionCount() + " connection(s))";
+    }
+
+    private String formatInMillis(long timeInNs) {
+        return String.format(Locale.ENGLISH, "%.1f ms", timeInNs / 1_000_000d);
+    }
+
+}
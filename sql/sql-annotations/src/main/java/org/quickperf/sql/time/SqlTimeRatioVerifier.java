@@ -0,0 +1,45 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.time;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.ExpectMaxSqlTimeRatio;
+
+public class SqlTimeRatioVerifier implements VerifiablePerformanceIssue<ExpectMaxSqlTimeRatio, SqlTime> {
+
+    public static final SqlTimeRatioVerifier INSTANCE = new SqlTimeRatioVerifier();
+
+    private final SqlTimeFormatter sqlTimeFormatter = SqlTimeFormatter.INSTANCE;
+
+    private SqlTimeRatioVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(ExpectMaxSqlTimeRatio annotation, SqlTime sqlTime) {
+
+        double maxRatio = annotation.value();
+        if (sqlTime.getRatio() <= maxRatio) {
+            return PerfIssue.NONE;
+        }
+
+        String description = "You may think that at most " + sqlTimeFormatter.formatRatio(maxRatio)
+                           + " of the test method execution time is spent in JDBC calls."
+                           + System.lineSeparator()
+                           + "       " + "But it is " + sqlTimeFormatter.formatRatio(sqlTime.getRatio()) + "."
+                           + System.lineSeparator()
+                           + System.lineSeparator()
+                           + sqlTimeFormatter.formatBreakdown(sqlTime);
+        return new PerfIssue(description);
+
+    }
+
+}
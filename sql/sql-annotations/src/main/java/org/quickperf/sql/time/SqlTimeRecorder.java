@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.time;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.WorkingFolder;
+import org.quickperf.repository.ObjectFileRepository;
+import org.quickperf.sql.SqlRecorder;
+import org.quickperf.sql.SqlRecorderRegistry;
+import org.quickperf.sql.connection.ConnectionListenerRegistry;
+import org.quickperf.sql.connection.ConnectionsListener;
+import org.quickperf.sql.connection.ResultSetIteration;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sums the time spent by the test method thread in statement executions, in result set iterations and in connection
+ * acquisitions, and measures the execution time of the test method.
+ * <br><br>
+ * The JDBC calls of the other threads are ignored, their time possibly overlapping the one of the test method thread.
+ */
+public class SqlTimeRecorder extends ConnectionsListener<SqlTime> implements SqlRecorder<SqlTime> {
+
+    private static final String SQL_TIME_FILE_NAME = "sql-time.ser";
+
+    private final List<ResultSetIteration> resultSetIterations = new ArrayList<>();
+
+    private long statementExecutionTimeInNs;
+
+    private long jdbcExecutionCount;
+
+    private long connectionAcquisitionTimeInNs;
+
+    private long connectionCount;
+
+    private Thread testMethodThread;
+
+    private long startTimeInNs;
+
+    private SqlTime record;
+
+    @Override
+    public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries, int listenerIdentifier) {
+        if (Thread.currentThread() != testMethodThread) {
+            return;
+        }
+        jdbcExecutionCount++;
+        statementExecutionTimeInNs += ExecutionNanoTime.INSTANCE.findElapsedNanoTimeOf(execInfo);
+    }
+
+    @Override
+    public boolean listensToResultSets() {
+        return true;
+    }
+
+    @Override
+    public void resultSetOpened(Connection connection, ResultSetIteration resultSetIteration) {
+        if (Thread.currentThread() == testMethodThread) {
+            resultSetIterations.add(resultSetIteration);
+        }
+    }
+
+    @Override
+    public void connectionAcquired(Connection connection, long acquisitionTimeInNs) {
+        if (Thread.currentThread() == testMethodThread) {
+            connectionCount++;
+            connectionAcquisitionTimeInNs += acquisitionTimeInNs;
+        }
+    }
+
+    @Override
+    public void startRecording(TestExecutionContext testExecutionContext) {
+        resultSetIterations.clear();
+        statementExecutionTimeInNs = 0;
+        jdbcExecutionCount = 0;
+        connectionAcquisitionTimeInNs = 0;
+        connectionCount = 0;
+        testMethodThread = Thread.currentThread();
+        SqlRecorderRegistry.INSTANCE.register(this);
+        ConnectionListenerRegistry.INSTANCE.register(this);
+        startTimeInNs = System.nanoTime();
+    }
+
+    @Override
+    public void stopRecording(TestExecutionContext testExecutionContext) {
+        long executionTimeInNs = System.nanoTime() - startTimeInNs;
+        SqlRecorderRegistry.unregister(this);
+        ConnectionListenerRegistry.unregister(this);
+        testMethodThread = null;
+        long resultSetIterationTimeInNs = 0;
+        for (ResultSetIteration resultSetIteration : resultSetIterations) {
+            resultSetIterationTimeInNs += resultSetIteration.getIterationTimeInNs();
+        }
+        record = new SqlTime(executionTimeInNs
+                           , statementExecutionTimeInNs, jdbcExecutionCount
+                           , resultSetIterationTimeInNs, resultSetIterations.size()
+                           , connectionAcquisitionTimeInNs, connectionCount);
+        resultSetIterations.clear();
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            ObjectFileRepository.INSTANCE.save(workingFolder, SQL_TIME_FILE_NAME, record);
+        }
+    }
+
+    @Override
+    public SqlTime findRecord(TestExecutionContext testExecutionContext) {
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            return (SqlTime) ObjectFileRepository.INSTANCE.find(workingFolder.getPath(), SQL_TIME_FILE_NAME);
+        }
+        return record;
+    }
+
+    @Override
+    public void cleanResources() { }
+
+}
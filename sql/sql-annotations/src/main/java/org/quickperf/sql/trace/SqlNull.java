@@ -0,0 +1,33 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.trace;
+
+/**
+ * Null bind value, with the SQL type given to <code>setNull</code> if any.
+ */
+public class SqlNull {
+
+    private final Integer sqlType;
+
+    public SqlNull(Integer sqlType) {
+        this.sqlType = sqlType;
+    }
+
+    /**
+     * @return the {@link java.sql.Types} value given to <code>setNull</code>, <code>null</code> if the value was bound
+     * with <code>setObject</code>
+     */
+    public Integer getSqlType() {
+        return sqlType;
+    }
+
+}
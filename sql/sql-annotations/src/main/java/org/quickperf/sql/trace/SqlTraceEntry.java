@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.trace;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A JDBC execution of a SQL trace.
+ * <br><br>
+ * A batch execution has one query per batched statement or per batched set of bind values.
+ */
+public class SqlTraceEntry {
+
+    public enum Kind {
+
+        STATEMENT('S'), PREPARED('P'), CALLABLE('C');
+
+        private final char code;
+
+        Kind(char code) {
+            this.code = code;
+        }
+
+        char getCode() {
+            return code;
+        }
+
+        static Kind ofCode(char code) {
+            for (Kind kind : values()) {
+                if (kind.code == code) {
+                    return kind;
+                }
+            }
+            throw new IllegalArgumentException("Unknown SQL trace execution kind: " + code);
+        }
+
+    }
+
+    private final long gapInMicros;
+
+    private final Kind kind;
+
+    private final boolean batch;
+
+    private final List<SqlTraceQuery> queries;
+
+    public SqlTraceEntry(long gapInMicros, Kind kind, boolean batch, List<SqlTraceQuery> queries) {
+        this.gapInMicros = gapInMicros;
+        this.kind = kind;
+        this.batch = batch;
+        this.queries = queries;
+    }
+
+    /**
+     * @return the time between the start of the previous execution and the start of this one, 0 for the first
+     * execution
+     */
+    public long getGapInMicros() {
+        return gapInMicros;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public boolean isBatch() {
+        return batch;
+    }
+
+    public List<SqlTraceQuery> getQueries() {
+        return Collections.unmodifiableList(queries);
+    }
+
+}
@@ -0,0 +1,285 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.trace;
+
+import org.quickperf.sql.LargeParameterValue;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads and writes SQL trace files.
+ * <br><br>
+ * A trace file is a UTF-8 text file with one line per execution: the gap in microseconds since the previous
+ * execution, the execution kind (<code>S</code>, <code>P</code> or <code>C</code>, followed by <code>B</code> for a
+ * batch), the SQL text and the bind values, separated by tabulations. The next statements or sets of bind values of a
+ * batch are written on continuation lines starting with <code>+</code>.
+ * <br><br>
+ * A bind value is prefixed by its type: <code>s</code> string, <code>i</code> integer, <code>l</code> long,
+ * <code>d</code> double, <code>f</code> float, <code>m</code> decimal, <code>b</code> boolean, <code>T</code>
+ * timestamp, <code>D</code> date, <code>t</code> time, <code>x</code> hexadecimal bytes, <code>n</code> null followed
+ * by the SQL type if any. The large values not kept by QuickPerf are written with their length only
+ * (<code>Lb</code> bytes, <code>Lc</code> characters) and replayed with generated content.
+ */
+public class SqlTraceFormat {
+
+    public static final SqlTraceFormat INSTANCE = new SqlTraceFormat();
+
+    public static final String FILE_EXTENSION = ".sqltrace";
+
+    private static final String HEADER = "# QuickPerf SQL trace 1";
+
+    private static final String CONTINUATION = "+";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private SqlTraceFormat() { }
+
+    public void write(File traceFile, List<SqlTraceEntry> entries) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(traceFile), StandardCharsets.UTF_8))) {
+            writer.write(HEADER);
+            writer.write('\n');
+            for (SqlTraceEntry entry : entries) {
+                write(entry, writer);
+            }
+        }
+    }
+
+    private void write(SqlTraceEntry entry, Writer writer) throws IOException {
+        List<SqlTraceQuery> queries = entry.getQueries();
+        for (int i = 0; i < queries.size(); i++) {
+            if (i == 0) {
+                writer.write(String.valueOf(entry.getGapInMicros()));
+                writer.write('\t');
+                writer.write(entry.getKind().getCode());
+                if (entry.isBatch()) {
+                    writer.write('B');
+                }
+            } else {
+                writer.write(CONTINUATION);
+            }
+            SqlTraceQuery query = queries.get(i);
+            writer.write('\t');
+            writer.write(escape(query.getSql()));
+            for (Object parameter : query.getParameters()) {
+                writer.write('\t');
+                writer.write(encode(parameter));
+            }
+            writer.write('\n');
+        }
+    }
+
+    public List<SqlTraceEntry> read(File traceFile) throws IOException {
+        List<SqlTraceEntry> entries = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(traceFile), StandardCharsets.UTF_8))) {
+            String line;
+            long gapInMicros = 0;
+            SqlTraceEntry.Kind kind = null;
+            boolean batch = false;
+            List<SqlTraceQuery> queries = null;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\t", -1);
+                boolean continuation = CONTINUATION.equals(fields[0]);
+                int sqlIndex = continuation ? 1 : 2;
+                if (!continuation) {
+                    if (queries != null) {
+                        entries.add(new SqlTraceEntry(gapInMicros, kind, batch, queries));
+                    }
+                    gapInMicros = Long.parseLong(fields[0]);
+                    kind = SqlTraceEntry.Kind.ofCode(fields[1].charAt(0));
+                    batch = fields[1].length() > 1 && fields[1].charAt(1) == 'B';
+                    queries = new ArrayList<>();
+                } else if (queries == null) {
+                    throw new IOException("Continuation line without execution in " + traceFile + ": " + line);
+                }
+                List<Object> parameters = new ArrayList<>(fields.length - sqlIndex - 1);
+                for (int i = sqlIndex + 1; i < fields.length; i++) {
+                    parameters.add(decode(fields[i]));
+                }
+                queries.add(new SqlTraceQuery(unescape(fields[sqlIndex]), parameters));
+            }
+            if (queries != null) {
+                entries.add(new SqlTraceEntry(gapInMicros, kind, batch, queries));
+            }
+        }
+        return entries;
+    }
+
+    String encode(Object value) {
+        if (value == null) {
+            return "n";
+        }
+        if (value instanceof SqlNull) {
+            Integer sqlType = ((SqlNull) value).getSqlType();
+            return sqlType == null ? "n" : "n" + sqlType;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return "i" + value;
+        }
+        if (value instanceof Long) {
+            return "l" + value;
+        }
+        if (value instanceof Double) {
+            return "d" + value;
+        }
+        if (value instanceof Float) {
+            return "f" + value;
+        }
+        if (value instanceof BigDecimal) {
+            return "m" + value;
+        }
+        if (value instanceof Boolean) {
+            return "b" + value;
+        }
+        if (value instanceof Timestamp) {
+            Timestamp timestamp = (Timestamp) value;
+            return "T" + timestamp.getTime() + ":" + timestamp.getNanos();
+        }
+        if (value instanceof Date) {
+            return "D" + ((Date) value).getTime();
+        }
+        if (value instanceof Time) {
+            return "t" + ((Time) value).getTime();
+        }
+        if (value instanceof java.util.Date) {
+            return "T" + ((java.util.Date) value).getTime() + ":0";
+        }
+        if (value instanceof byte[]) {
+            return "x" + toHex((byte[]) value);
+        }
+        if (value instanceof char[]) {
+            return "s" + escape(new String((char[]) value));
+        }
+        if (value instanceof LargeParameterValue) {
+            return encode((LargeParameterValue) value);
+        }
+        return "s" + escape(value.toString());
+    }
+
+    private String encode(LargeParameterValue largeValue) {
+        if (largeValue.getLength() < 0) {
+            return "n";
+        }
+        String typeName = largeValue.getTypeName();
+        boolean bytes = "byte[]".equals(typeName) || typeName.endsWith("Stream");
+        return (bytes ? "Lb" : "Lc") + largeValue.getLength();
+    }
+
+    Object decode(String encodedValue) {
+        char type = encodedValue.charAt(0);
+        String value = encodedValue.substring(1);
+        switch (type) {
+            case 'n':
+                return new SqlNull(value.isEmpty() ? null : Integer.valueOf(value));
+            case 'i':
+                return Integer.valueOf(value);
+            case 'l':
+                return Long.valueOf(value);
+            case 'd':
+                return Double.valueOf(value);
+            case 'f':
+                return Float.valueOf(value);
+            case 'm':
+                return new BigDecimal(value);
+            case 'b':
+                return Boolean.valueOf(value);
+            case 'T':
+                int separatorIndex = value.indexOf(':');
+                Timestamp timestamp = new Timestamp(Long.parseLong(value.substring(0, separatorIndex)));
+                timestamp.setNanos(Integer.parseInt(value.substring(separatorIndex + 1)));
+                return timestamp;
+            case 'D':
+                return new Date(Long.parseLong(value));
+            case 't':
+                return new Time(Long.parseLong(value));
+            case 'x':
+                return fromHex(value);
+            case 'L':
+                int length = Integer.parseInt(value.substring(1));
+                if (value.charAt(0) == 'b') {
+                    return new byte[length];
+                }
+                char[] chars = new char[length];
+                Arrays.fill(chars, 'x');
+                return new String(chars);
+            case 's':
+                return unescape(value);
+            default:
+                throw new IllegalArgumentException("Unknown SQL trace value type: " + encodedValue);
+        }
+    }
+
+    private String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char aChar = text.charAt(i);
+            switch (aChar) {
+                case '\\': escaped.append("\\\\"); break;
+                case '\t': escaped.append("\\t"); break;
+                case '\n': escaped.append("\\n"); break;
+                case '\r': escaped.append("\\r"); break;
+                default: escaped.append(aChar);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private String unescape(String text) {
+        if (text.indexOf('\\') == -1) {
+            return text;
+        }
+        StringBuilder unescaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char aChar = text.charAt(i);
+            if (aChar != '\\' || i == text.length() - 1) {
+                unescaped.append(aChar);
+                continue;
+            }
+            char escapedChar = text.charAt(++i);
+            switch (escapedChar) {
+                case 't': unescaped.append('\t'); break;
+                case 'n': unescaped.append('\n'); break;
+                case 'r': unescaped.append('\r'); break;
+                default: unescaped.append(escapedChar);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    private String toHex(byte[] bytes) {
+        char[] hex = new char[2 * bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            hex[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+        return new String(hex);
+    }
+
+    private byte[] fromHex(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.trace;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.StatementType;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.perfrecording.PerfRecord;
+import org.quickperf.sql.ParameterCapturePolicy;
+import org.quickperf.sql.SqlRecorder;
+import org.quickperf.sql.SqlRecorderRegistry;
+import org.quickperf.sql.annotation.ExportSqlTrace;
+import org.quickperf.sql.time.ExecutionNanoTime;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Records the SQL executions of the test method, with their bind values and the time between them, and exports them
+ * to a {@link SqlTraceFormat} file named after the test method.
+ * <br><br>
+ * Only the statements executed by the thread of the test method are recorded, so that the trace of a test method
+ * running in parallel doesn't contain the statements of another one.
+ */
+public class SqlTraceRecorder implements SqlRecorder<PerfRecord> {
+
+    private static final Comparator<ParameterSetOperation> BY_PARAMETER_INDEX = new Comparator<ParameterSetOperation>() {
+        @Override
+        public int compare(ParameterSetOperation parameter1, ParameterSetOperation parameter2) {
+            return Integer.compare(indexOf(parameter1), indexOf(parameter2));
+        }
+    };
+
+    private final List<SqlTraceEntry> entries = new ArrayList<>();
+
+    private long previousStartNanoTime;
+
+    private File directory;
+
+    private Thread testMethodThread;
+
+    @Override
+    public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries, int listenerIdentifier) {
+        if (queries.isEmpty() || Thread.currentThread() != testMethodThread) {
+            return;
+        }
+        long startNanoTime = ExecutionNanoTime.INSTANCE.findStartNanoTimeOf(execInfo);
+        long gapInMicros = entries.isEmpty() ? 0 : Math.max(0, (startNanoTime - previousStartNanoTime) / 1000);
+        previousStartNanoTime = startNanoTime;
+        List<SqlTraceQuery> traceQueries = new ArrayList<>();
+        for (QueryInfo query : ParameterCapturePolicy.INSTANCE.bound(queries)) {
+            addTraceQueries(query, traceQueries);
+        }
+        entries.add(new SqlTraceEntry(gapInMicros, kindOf(execInfo), execInfo.isBatch(), traceQueries));
+    }
+
+    private void addTraceQueries(QueryInfo query, List<SqlTraceQuery> traceQueries) {
+        List<List<ParameterSetOperation>> parametersList = query.getParametersList();
+        if (parametersList.isEmpty()) {
+            traceQueries.add(new SqlTraceQuery(query.getQuery(), Collections.emptyList()));
+            return;
+        }
+        for (List<ParameterSetOperation> parameters : parametersList) {
+            traceQueries.add(new SqlTraceQuery(query.getQuery(), valuesOf(parameters)));
+        }
+    }
+
+    private List<Object> valuesOf(List<ParameterSetOperation> parameters) {
+        List<ParameterSetOperation> sortedParameters = new ArrayList<>(parameters);
+        Collections.sort(sortedParameters, BY_PARAMETER_INDEX);
+        List<Object> values = new ArrayList<>(sortedParameters.size());
+        for (ParameterSetOperation parameter : sortedParameters) {
+            Object[] args = parameter.getArgs();
+            if ("setNull".equals(parameter.getMethod().getName())) {
+                values.add(new SqlNull(args.length > 1 ? (Integer) args[1] : null));
+            } else {
+                values.add(args.length > 1 ? args[1] : null);
+            }
+        }
+        return values;
+    }
+
+    private static int indexOf(ParameterSetOperation parameter) {
+        Object[] args = parameter.getArgs();
+        return args != null && args.length > 0 && args[0] instanceof Integer ? (Integer) args[0] : Integer.MAX_VALUE;
+    }
+
+    private SqlTraceEntry.Kind kindOf(ExecutionInfo execInfo) {
+        StatementType statementType = execInfo.getStatementType();
+        if (statementType == StatementType.PREPARED) {
+            return SqlTraceEntry.Kind.PREPARED;
+        }
+        if (statementType == StatementType.CALLABLE) {
+            return SqlTraceEntry.Kind.CALLABLE;
+        }
+        return SqlTraceEntry.Kind.STATEMENT;
+    }
+
+    @Override
+    public void startRecording(TestExecutionContext testExecutionContext) {
+        entries.clear();
+        directory = findDirectory(testExecutionContext.getPerfAnnotations());
+        testMethodThread = Thread.currentThread();
+        SqlRecorderRegistry.INSTANCE.register(this);
+    }
+
+    private File findDirectory(Annotation[] perfAnnotations) {
+        for (Annotation perfAnnotation : perfAnnotations) {
+            if (perfAnnotation instanceof ExportSqlTrace) {
+                return new File(((ExportSqlTrace) perfAnnotation).directory());
+            }
+        }
+        return new File(ExportSqlTrace.DEFAULT_DIRECTORY);
+    }
+
+    @Override
+    public void stopRecording(TestExecutionContext testExecutionContext) {
+        SqlRecorderRegistry.unregister(this);
+        testMethodThread = null;
+        File traceFile = new File(directory, testExecutionContext.getTestId() + SqlTraceFormat.FILE_EXTENSION);
+        try {
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                throw new IOException("Unable to create " + directory);
+            }
+            SqlTraceFormat.INSTANCE.write(traceFile, entries);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to export the SQL trace to " + traceFile, e);
+        }
+    }
+
+    @Override
+    public PerfRecord findRecord(TestExecutionContext testExecutionContext) {
+        return null;
+    }
+
+    @Override
+    public void cleanResources() {
+        entries.clear();
+    }
+
+}
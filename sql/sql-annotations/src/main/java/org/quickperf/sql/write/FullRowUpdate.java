@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.write;
+
+import java.io.Serializable;
+
+/**
+ * UPDATE statement shape setting all the columns of its table, the primary key excepted.
+ */
+public class FullRowUpdate implements Serializable {
+
+    private final String sql;
+
+    private final String table;
+
+    private final int setColumnCount;
+
+    private int executionCount;
+
+    FullRowUpdate(String sql, String table, int setColumnCount) {
+        this.sql = sql;
+        this.table = table;
+        this.setColumnCount = setColumnCount;
+    }
+
+    void addExecutions(int executionCount) {
+        this.executionCount += executionCount;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public int getSetColumnCount() {
+        return setColumnCount;
+    }
+
+    public int getExecutionCount() {
+        return executionCount;
+    }
+
+}
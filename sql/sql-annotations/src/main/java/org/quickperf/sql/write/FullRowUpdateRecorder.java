@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.write;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.WorkingFolder;
+import org.quickperf.repository.ObjectFileRepository;
+import org.quickperf.sql.PhysicalConnectionRetriever;
+import org.quickperf.sql.SqlFingerprint;
+import org.quickperf.sql.SqlLexer;
+import org.quickperf.sql.SqlRecorder;
+import org.quickperf.sql.SqlRecorderRegistry;
+import org.quickperf.sql.SqlTokens;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compares, once per UPDATE statement shape, the columns of the SET clause to the columns of the updated table.
+ * <br><br>
+ * The column metadata are read on the physical connection of the execution and cached by {@link TableColumnsCache}
+ * during the test execution. The tables not found in the metadata, and the tables having a single column out of the
+ * primary key, are not checked.
+ */
+public class FullRowUpdateRecorder implements SqlRecorder<FullRowUpdates> {
+
+    private static final String FULL_ROW_UPDATES_FILE_NAME = "full-row-updates.ser";
+
+    private final Set<SqlFingerprint> analyzedFingerprints = new HashSet<>();
+
+    private final Map<SqlFingerprint, FullRowUpdate> fullRowUpdateByFingerprint = new LinkedHashMap<>();
+
+    private final TableColumnsCache tableColumnsCache = new TableColumnsCache();
+
+    private FullRowUpdates record;
+
+    @Override
+    public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries, int listenerIdentifier) {
+        if (!execInfo.isSuccess()) {
+            return;
+        }
+        for (QueryInfo query : queries) {
+            SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(query.getQuery());
+            if (sqlTokens.getQueryType() != QueryType.UPDATE) {
+                continue;
+            }
+            SqlFingerprint fingerprint = sqlTokens.getFingerprint();
+            if (analyzedFingerprints.add(fingerprint)) {
+                analyze(execInfo, query.getQuery(), sqlTokens);
+            }
+            FullRowUpdate fullRowUpdate = fullRowUpdateByFingerprint.get(fingerprint);
+            if (fullRowUpdate != null) {
+                fullRowUpdate.addExecutions(Math.max(query.getParametersList().size(), 1));
+            }
+        }
+    }
+
+    private void analyze(ExecutionInfo execInfo, String sql, SqlTokens sqlTokens) {
+        UpdatedColumnsParser updatedColumnsParser = UpdatedColumnsParser.INSTANCE;
+        String table = updatedColumnsParser.findTable(sqlTokens);
+        if (table == null) {
+            return;
+        }
+        try {
+            DatabaseMetaData metaData = PhysicalConnectionRetriever.INSTANCE.retrieveConnectionOf(execInfo).getMetaData();
+            Set<String> nonKeyColumns = tableColumnsCache.findNonKeyColumns(metaData, table);
+            Set<String> setColumns = updatedColumnsParser.findSetColumns(sqlTokens);
+            if (nonKeyColumns != null && nonKeyColumns.size() > 1 && setColumns.containsAll(nonKeyColumns)) {
+                FullRowUpdate fullRowUpdate = new FullRowUpdate(sql, table, setColumns.size());
+                fullRowUpdateByFingerprint.put(sqlTokens.getFingerprint(), fullRowUpdate);
+            }
+        } catch (SQLException e) {
+            // The columns of this shape can't be compared to the table ones
+        }
+    }
+
+    @Override
+    public void startRecording(TestExecutionContext testExecutionContext) {
+        analyzedFingerprints.clear();
+        fullRowUpdateByFingerprint.clear();
+        tableColumnsCache.clear();
+        SqlRecorderRegistry.INSTANCE.register(this);
+    }
+
+    @Override
+    public void stopRecording(TestExecutionContext testExecutionContext) {
+        SqlRecorderRegistry.unregister(this);
+        record = new FullRowUpdates(fullRowUpdateByFingerprint.values());
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            ObjectFileRepository.INSTANCE.save(workingFolder, FULL_ROW_UPDATES_FILE_NAME, record);
+        }
+    }
+
+    @Override
+    public FullRowUpdates findRecord(TestExecutionContext testExecutionContext) {
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            return (FullRowUpdates) ObjectFileRepository.INSTANCE.find(workingFolder.getPath(), FULL_ROW_UPDATES_FILE_NAME);
+        }
+        return record;
+    }
+
+    @Override
+    public void cleanResources() { }
+
+}
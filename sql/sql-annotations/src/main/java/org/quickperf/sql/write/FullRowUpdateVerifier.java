@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.write;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.DisableFullRowUpdates;
+import org.quickperf.sql.framework.JdbcSuggestion;
+
+public class FullRowUpdateVerifier implements VerifiablePerformanceIssue<DisableFullRowUpdates, FullRowUpdates> {
+
+    public static final FullRowUpdateVerifier INSTANCE = new FullRowUpdateVerifier();
+
+    private FullRowUpdateVerifier() { }
+
+    @Override
+    public PerfIssue verifyPerfIssue(DisableFullRowUpdates annotation, FullRowUpdates fullRowUpdates) {
+
+        if (fullRowUpdates.getValue() == 0) {
+            return PerfIssue.NONE;
+        }
+
+        StringBuilder description = new StringBuilder();
+        description.append("You may think that the UPDATE statements only set the modified columns.")
+                   .append(System.lineSeparator())
+                   .append("       ").append("But <").append(fullRowUpdates.getValue())
+                   .append("> UPDATE statement(s) set all the columns of their table out of the primary key:");
+
+        for (FullRowUpdate fullRowUpdate : fullRowUpdates.getFullRowUpdates()) {
+            description.append(System.lineSeparator())
+                       .append(System.lineSeparator())
+                       .append("\t<").append(fullRowUpdate.getExecutionCount()).append("> executions of ")
+                       .append(fullRowUpdate.getSql())
+                       .append(System.lineSeparator())
+                       .append("\t  ").append(fullRowUpdate.getSetColumnCount()).append(" columns of ")
+                       .append(fullRowUpdate.getTable()).append(" are set");
+        }
+
+        description.append(JdbcSuggestion.FULL_ROW_UPDATE.getMessage());
+
+        return new PerfIssue(description.toString());
+
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.write;
+
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.unit.CountUnit;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class FullRowUpdates implements PerfMeasure<Long, CountUnit>, Serializable {
+
+    private final List<FullRowUpdate> fullRowUpdates;
+
+    FullRowUpdates(Collection<FullRowUpdate> fullRowUpdates) {
+        this.fullRowUpdates = new ArrayList<>(fullRowUpdates);
+    }
+
+    public List<FullRowUpdate> getFullRowUpdates() {
+        return Collections.unmodifiableList(fullRowUpdates);
+    }
+
+    /**
+     * @return the number of UPDATE statement shapes setting all the columns of their table
+     */
+    @Override
+    public Long getValue() {
+        return (long) fullRowUpdates.size();
+    }
+
+    @Override
+    public CountUnit getUnit() {
+        return CountUnit.COUNT;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.write;
+
+import net.ttddyy.dsproxy.QueryType;
+import org.quickperf.measure.PerfMeasure;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The insert, update and delete statements executed several times with the same values.
+ */
+public class SameWrites implements PerfMeasure<List<SameWriteGroup>, Void> {
+
+    private final List<SameWriteGroup> sameInserts;
+
+    private final List<SameWriteGroup> sameUpdates;
+
+    private final List<SameWriteGroup> sameDeletes;
+
+    SameWrites(List<SameWriteGroup> sameInserts, List<SameWriteGroup> sameUpdates, List<SameWriteGroup> sameDeletes) {
+        this.sameInserts = sameInserts;
+        this.sameUpdates = sameUpdates;
+        this.sameDeletes = sameDeletes;
+    }
+
+    /**
+     * @return the groups of statements of the given type executed at least twice with the same values, in the order
+     * of their first execution
+     */
+    public List<SameWriteGroup> findGroupsOf(QueryType queryType) {
+        if (queryType == QueryType.INSERT) {
+            return Collections.unmodifiableList(sameInserts);
+        }
+        if (queryType == QueryType.UPDATE) {
+            return Collections.unmodifiableList(sameUpdates);
+        }
+        if (queryType == QueryType.DELETE) {
+            return Collections.unmodifiableList(sameDeletes);
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<SameWriteGroup> getValue() {
+        List<SameWriteGroup> sameWrites = new ArrayList<>(sameInserts);
+        sameWrites.addAll(sameUpdates);
+        sameWrites.addAll(sameDeletes);
+        return sameWrites;
+    }
+
+    @Override
+    public Void getUnit() {
+        return null;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+}
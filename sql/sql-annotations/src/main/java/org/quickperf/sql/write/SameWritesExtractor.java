@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.write;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.quickperf.ExtractablePerformanceMeasure;
+import org.quickperf.sql.SqlExecution;
+import org.quickperf.sql.SqlExecutions;
+import org.quickperf.sql.SqlFingerprint;
+import org.quickperf.sql.SqlLexer;
+import org.quickperf.sql.SqlTokens;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups the insert, update and delete statements by SQL shape, literal values and bind values. Each set of bind
+ * values of a batch is counted as one execution.
+ */
+public class SameWritesExtractor implements ExtractablePerformanceMeasure<SqlExecutions, SameWrites> {
+
+    public static final SameWritesExtractor INSTANCE = new SameWritesExtractor();
+
+    private SameWritesExtractor() { }
+
+    @Override
+    public SameWrites extractPerfMeasureFrom(SqlExecutions sqlExecutions) {
+        Map<List<Object>, SameWriteGroup> insertGroups = new LinkedHashMap<>();
+        Map<List<Object>, SameWriteGroup> updateGroups = new LinkedHashMap<>();
+        Map<List<Object>, SameWriteGroup> deleteGroups = new LinkedHashMap<>();
+        for (SqlExecution sqlExecution : sqlExecutions) {
+            for (QueryInfo query : sqlExecution.getQueries()) {
+                SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(query.getQuery());
+                QueryType queryType = sqlTokens.getQueryType();
+                if (queryType == QueryType.INSERT) {
+                    addExecutions(query, sqlTokens.getFingerprint(), insertGroups);
+                } else if (queryType == QueryType.UPDATE) {
+                    addExecutions(query, sqlTokens.getFingerprint(), updateGroups);
+                } else if (queryType == QueryType.DELETE) {
+                    addExecutions(query, sqlTokens.getFingerprint(), deleteGroups);
+                }
+            }
+        }
+        return new SameWrites(findSameWrites(insertGroups), findSameWrites(updateGroups), findSameWrites(deleteGroups));
+    }
+
+    private void addExecutions(QueryInfo query, SqlFingerprint fingerprint, Map<List<Object>, SameWriteGroup> groups) {
+        List<List<ParameterSetOperation>> parametersList = query.getParametersList();
+        if (parametersList.isEmpty()) {
+            parametersList = Collections.singletonList(Collections.<ParameterSetOperation>emptyList());
+        }
+        for (List<ParameterSetOperation> parameters : parametersList) {
+            List<Object> parameterValues = new ArrayList<>(parameters.size());
+            List<Object> groupKey = new ArrayList<>(1 + fingerprint.getLiterals().size() + parameters.size());
+            groupKey.add(fingerprint);
+            groupKey.addAll(fingerprint.getLiterals());
+            for (ParameterSetOperation parameter : parameters) {
+                Object value = valueOf(parameter);
+                parameterValues.add(value);
+                // The byte arrays are compared by content
+                groupKey.add(value instanceof byte[] ? ByteBuffer.wrap((byte[]) value) : value);
+            }
+            SameWriteGroup group = groups.get(groupKey);
+            if (group == null) {
+                group = new SameWriteGroup(query.getQuery(), parameterValues);
+                groups.put(groupKey, group);
+            }
+            group.addExecution();
+        }
+    }
+
+    private Object valueOf(ParameterSetOperation parameter) {
+        Object[] args = parameter.getArgs();
+        if (args == null || args.length < 2 || "setNull".equals(parameter.getMethod().getName())) {
+            return null;
+        }
+        return args[1];
+    }
+
+    private List<SameWriteGroup> findSameWrites(Map<List<Object>, SameWriteGroup> groups) {
+        List<SameWriteGroup> sameWrites = new ArrayList<>();
+        for (SameWriteGroup group : groups.values()) {
+            if (group.getExecutionCount() > 1) {
+                sameWrites.add(group);
+            }
+        }
+        return sameWrites;
+    }
+
+}
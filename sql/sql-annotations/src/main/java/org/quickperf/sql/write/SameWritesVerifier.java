@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.write;
+
+import net.ttddyy.dsproxy.QueryType;
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+import org.quickperf.sql.annotation.DisableSameDeletes;
+import org.quickperf.sql.annotation.DisableSameInserts;
+import org.quickperf.sql.annotation.DisableSameUpdates;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+public class SameWritesVerifier<A extends Annotation> implements VerifiablePerformanceIssue<A, SameWrites> {
+
+    public static final SameWritesVerifier<DisableSameInserts> SAME_INSERTS = new SameWritesVerifier<>(QueryType.INSERT);
+
+    public static final SameWritesVerifier<DisableSameUpdates> SAME_UPDATES = new SameWritesVerifier<>(QueryType.UPDATE);
+
+    public static final SameWritesVerifier<DisableSameDeletes> SAME_DELETES = new SameWritesVerifier<>(QueryType.DELETE);
+
+    private final QueryType queryType;
+
+    private SameWritesVerifier(QueryType queryType) {
+        this.queryType = queryType;
+    }
+
+    @Override
+    public PerfIssue verifyPerfIssue(A annotation, SameWrites sameWrites) {
+
+        List<SameWriteGroup> sameWriteGroups = sameWrites.findGroupsOf(queryType);
+        if (sameWriteGroups.isEmpty()) {
+            return PerfIssue.NONE;
+        }
+
+        StringBuilder description = new StringBuilder();
+        description.append("You may think that the same ").append(queryType).append(" statement is not executed several times with the same values.")
+                   .append(System.lineSeparator())
+                   .append("       ").append("But <").append(sameWriteGroups.size()).append("> ").append(queryType)
+                   .append(" statement(s) were executed several times with the same values:");
+
+        for (SameWriteGroup sameWriteGroup : sameWriteGroups) {
+            description.append(System.lineSeparator())
+                       .append(System.lineSeparator())
+                       .append("\t<").append(sameWriteGroup.getExecutionCount()).append("> executions of ")
+                       .append(sameWriteGroup.getSql());
+            if (!sameWriteGroup.getParameters().isEmpty()) {
+                description.append(System.lineSeparator())
+                           .append("\t  with the values ").append(sameWriteGroup.getParameters());
+            }
+        }
+
+        return new PerfIssue(description.toString());
+
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.write;
+
+import org.quickperf.sql.TableMetaDataReader;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Caches, for each table of a database, the columns that are not part of the primary key.
+ * <br><br>
+ * The metadata of a table are retrieved with <code>DatabaseMetaData.getColumns</code> the first time the table is
+ * met during the test execution, the cache being owned by the recorder of the test. The tables not found in the
+ * metadata are not cached, so that a table created during the test is found later.
+ */
+class TableColumnsCache {
+
+    private final Map<String, Set<String>> nonKeyColumnsByTable = new HashMap<>();
+
+    /**
+     * @return the lower-cased columns not belonging to the primary key, null if the table is not found in the metadata
+     */
+    Set<String> findNonKeyColumns(DatabaseMetaData metaData, String table) throws SQLException {
+        String tableKey = metaData.getURL() + "|" + table.toLowerCase(Locale.ENGLISH);
+        Set<String> nonKeyColumns = nonKeyColumnsByTable.get(tableKey);
+        if (nonKeyColumns == null) {
+            nonKeyColumns = retrieveNonKeyColumns(metaData, table);
+            if (nonKeyColumns != null) {
+                nonKeyColumnsByTable.put(tableKey, nonKeyColumns);
+            }
+        }
+        return nonKeyColumns;
+    }
+
+    private Set<String> retrieveNonKeyColumns(DatabaseMetaData metaData, String table) throws SQLException {
+        TableMetaDataReader tableMetaDataReader = TableMetaDataReader.INSTANCE;
+        String metaDataTable = tableMetaDataReader.toMetaDataCase(metaData, table);
+        Set<String> nonKeyColumns = tableMetaDataReader.findColumns(metaData, metaDataTable);
+        if (nonKeyColumns.isEmpty()) {
+            return null;
+        }
+        nonKeyColumns.removeAll(tableMetaDataReader.findPrimaryKeyColumns(metaData, metaDataTable));
+        return nonKeyColumns;
+    }
+
+    void clear() {
+        nonKeyColumnsByTable.clear();
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.write;
+
+import org.quickperf.sql.SqlTokens;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Finds the table of an UPDATE statement and the columns of its SET clause, in lower case and without qualifier.
+ */
+class UpdatedColumnsParser {
+
+    static final UpdatedColumnsParser INSTANCE = new UpdatedColumnsParser();
+
+    private UpdatedColumnsParser() { }
+
+    /**
+     * @return the updated table, null if not found
+     */
+    String findTable(SqlTokens sqlTokens) {
+        int updateIndex = sqlTokens.indexOfWord("update", 0);
+        int tableEnd = updateIndex + 1;
+        if (updateIndex == -1 || !isIdentifierAt(sqlTokens, tableEnd)) {
+            return null;
+        }
+        while (sqlTokens.isSymbolAt(tableEnd + 1, '.') && isIdentifierAt(sqlTokens, tableEnd + 2)) {
+            tableEnd += 2;
+        }
+        return identifierAt(sqlTokens, tableEnd);
+    }
+
+    Set<String> findSetColumns(SqlTokens sqlTokens) {
+        Set<String> setColumns = new LinkedHashSet<>();
+        int setIndex = sqlTokens.indexOfWord("set", 0);
+        if (setIndex == -1) {
+            return setColumns;
+        }
+        int setDepth = sqlTokens.depthAt(setIndex);
+        boolean columnExpected = true;
+        for (int i = setIndex + 1; i < sqlTokens.size(); i++) {
+            if (sqlTokens.depthAt(i) != setDepth) {
+                continue;
+            }
+            if (sqlTokens.isWordAt(i, "where") || sqlTokens.isWordAt(i, "from") || sqlTokens.isWordAt(i, "returning")) {
+                break;
+            }
+            if (sqlTokens.isSymbolAt(i, ',')) {
+                columnExpected = true;
+            } else if (columnExpected && isIdentifierAt(sqlTokens, i)) {
+                int columnEnd = i;
+                while (sqlTokens.isSymbolAt(columnEnd + 1, '.') && isIdentifierAt(sqlTokens, columnEnd + 2)) {
+                    columnEnd += 2;
+                }
+                setColumns.add(identifierAt(sqlTokens, columnEnd));
+                columnExpected = false;
+                i = columnEnd;
+            } else {
+                columnExpected = false;
+            }
+        }
+        return setColumns;
+    }
+
+    private boolean isIdentifierAt(SqlTokens sqlTokens, int index) {
+        if (index < 0 || index >= sqlTokens.size()) {
+            return false;
+        }
+        return    sqlTokens.typeAt(index) == SqlTokens.Type.WORD
+               || sqlTokens.typeAt(index) == SqlTokens.Type.QUOTED_IDENTIFIER;
+    }
+
+    private String identifierAt(SqlTokens sqlTokens, int index) {
+        String identifier = sqlTokens.textAt(index);
+        if (sqlTokens.typeAt(index) == SqlTokens.Type.QUOTED_IDENTIFIER && identifier.length() >= 2) {
+            identifier = identifier.substring(1, identifier.length() - 1);
+        }
+        return identifier.toLowerCase(Locale.ENGLISH);
+    }
+
+}
@@ -45,4 +45,18 @@ public class DataSourceProxyVerifierTest {
 
     }
 
-}
\ No newline at end of file
+    @Test public void
+    quick_perf_has_NOT_built_several_data_source_proxies_if_listener_identifiers_of_different_data_sources() {
+
+        DataSourceProxyVerifier dataSourceProxyVerifier = new DataSourceProxyVerifier();
+
+        dataSourceProxyVerifier.addListenerIdentifier("orders", 1);
+        dataSourceProxyVerifier.addListenerIdentifier("audit", 2);
+        dataSourceProxyVerifier.addListenerIdentifier("orders", 1);
+
+        assertThat(dataSourceProxyVerifier.hasQuickPerfBuiltSeveralDataSourceProxies())
+        .isFalse();
+
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParameterCapturePolicyTest {
+
+    private final ParameterCapturePolicy parameterCapturePolicy = ParameterCapturePolicy.INSTANCE;
+
+    @Test public void
+    should_keep_queries_without_large_values() throws NoSuchMethodException {
+
+        // GIVEN
+        List<QueryInfo> queries = aQueryWithParameter(setStringMethod(), "title");
+
+        // WHEN
+        List<QueryInfo> boundedQueries = parameterCapturePolicy.bound(queries);
+
+        // THEN
+        assertThat(boundedQueries).isSameAs(queries);
+
+    }
+
+    @Test public void
+    should_replace_a_large_value_by_a_descriptor_without_modifying_the_query() throws NoSuchMethodException {
+
+        // GIVEN
+        byte[] largeBytes = new byte[2048];
+        List<QueryInfo> queries = aQueryWithParameter(setBytesMethod(), largeBytes);
+
+        // WHEN
+        List<QueryInfo> boundedQueries = parameterCapturePolicy.bound(queries);
+
+        // THEN
+        Object boundedValue = boundedQueries.get(0).getParametersList().get(0).get(0).getArgs()[1];
+        assertThat(boundedValue).isInstanceOf(LargeParameterValue.class);
+        LargeParameterValue largeParameterValue = (LargeParameterValue) boundedValue;
+        assertThat(largeParameterValue.getTypeName()).isEqualTo("byte[]");
+        assertThat(largeParameterValue.getLength()).isEqualTo(2048);
+
+        Object originalValue = queries.get(0).getParametersList().get(0).get(0).getArgs()[1];
+        assertThat(originalValue).isSameAs(largeBytes);
+
+    }
+
+    @Test public void
+    should_describe_same_large_values_with_equal_descriptors() {
+
+        // GIVEN
+        byte[] largeBytes1 = new byte[2048];
+        byte[] largeBytes2 = new byte[2048];
+        byte[] otherLargeBytes = new byte[2048];
+        otherLargeBytes[1000] = 1;
+
+        // WHEN
+        Object descriptor1 = parameterCapturePolicy.bound(largeBytes1);
+        Object descriptor2 = parameterCapturePolicy.bound(largeBytes2);
+        Object otherDescriptor = parameterCapturePolicy.bound(otherLargeBytes);
+
+        // THEN
+        assertThat(descriptor1).isEqualTo(descriptor2);
+        assertThat(descriptor1).isNotEqualTo(otherDescriptor);
+
+    }
+
+    @Test public void
+    should_always_replace_streams() throws NoSuchMethodException {
+
+        // GIVEN
+        InputStream stream = new ByteArrayInputStream(new byte[10]);
+        Method setBinaryStream = PreparedStatement.class.getMethod("setBinaryStream", int.class, InputStream.class, long.class);
+        ParameterSetOperation parameter = new ParameterSetOperation(setBinaryStream, new Object[]{1, stream, 10L});
+        List<QueryInfo> queries = aQueryWithParameters(parameter);
+
+        // WHEN
+        List<QueryInfo> boundedQueries = parameterCapturePolicy.bound(queries);
+
+        // THEN
+        Object boundedValue = boundedQueries.get(0).getParametersList().get(0).get(0).getArgs()[1];
+        assertThat(boundedValue).isInstanceOf(LargeParameterValue.class);
+        assertThat(((LargeParameterValue) boundedValue).getLength()).isEqualTo(10);
+
+    }
+
+    private List<QueryInfo> aQueryWithParameter(Method method, Object value) {
+        return aQueryWithParameters(new ParameterSetOperation(method, new Object[]{1, value}));
+    }
+
+    private List<QueryInfo> aQueryWithParameters(ParameterSetOperation parameter) {
+        QueryInfo query = new QueryInfo("INSERT INTO Document (content) VALUES (?)");
+        List<List<ParameterSetOperation>> parametersList = singletonList(Collections.singletonList(parameter));
+        query.setParametersList(parametersList);
+        return singletonList(query);
+    }
+
+    private Method setStringMethod() throws NoSuchMethodException {
+        return PreparedStatement.class.getMethod("setString", int.class, String.class);
+    }
+
+    private Method setBytesMethod() throws NoSuchMethodException {
+        return PreparedStatement.class.getMethod("setBytes", int.class, byte[].class);
+    }
+
+}
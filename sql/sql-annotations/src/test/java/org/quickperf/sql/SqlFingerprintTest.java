@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2020 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlFingerprintTest {
+
+    @Test public void
+    should_replace_numeric_and_string_literals() {
+
+        // GIVEN
+        String sql = "SELECT * FROM Book b WHERE b.id = 42 AND b.title='Don''t panic' AND b.price > 1.5e2";
+
+        // WHEN
+        SqlFingerprint fingerprint = SqlFingerprint.of(sql);
+
+        // THEN
+        assertThat(fingerprint.getValue()).isEqualTo("select * from book b where b.id = ? and b.title = ? and b.price > ?");
+        assertThat(fingerprint.getLiterals()).containsExactly("42", "Don't panic", "1.5e2");
+
+    }
+
+    @Test public void
+    should_give_same_fingerprint_to_queries_only_differing_by_literals_and_formatting() {
+
+        // GIVEN
+        String sql1 = "select isbn from Book where id=1";
+        String sql2 = "SELECT isbn\n  FROM Book -- a comment\n WHERE id = 2";
+
+        // WHEN
+        SqlFingerprint fingerprint1 = SqlFingerprint.of(sql1);
+        SqlFingerprint fingerprint2 = SqlFingerprint.of(sql2);
+
+        // THEN
+        assertThat(fingerprint1).isEqualTo(fingerprint2);
+
+    }
+
+    @Test public void
+    should_collapse_in_lists() {
+
+        // GIVEN
+        String sql1 = "select * from Book where id in (1, 2, 3)";
+        String sql2 = "select * from Book where id IN (?, ?)";
+
+        // WHEN
+        SqlFingerprint fingerprint1 = SqlFingerprint.of(sql1);
+        SqlFingerprint fingerprint2 = SqlFingerprint.of(sql2);
+
+        // THEN
+        assertThat(fingerprint1.getValue()).isEqualTo("select * from book where id in(?)");
+        assertThat(fingerprint1).isEqualTo(fingerprint2);
+
+    }
+
+    @Test public void
+    should_keep_identifiers_containing_digits() {
+
+        // GIVEN
+        String sql = "select t1.col2 from table1 t1 where t1.id = 10";
+
+        // WHEN
+        SqlFingerprint fingerprint = SqlFingerprint.of(sql);
+
+        // THEN
+        assertThat(fingerprint.getValue()).isEqualTo("select t1.col2 from table1 t1 where t1.id = ?");
+
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2020 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import net.ttddyy.dsproxy.QueryType;
+import org.junit.Test;
+import org.quickperf.sql.SqlTokens.Type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlLexerTest {
+
+    @Test public void
+    should_tokenize_quotes_comments_and_parameters() {
+
+        // GIVEN
+        String sql = "/* comment */ SELECT \"b\".title FROM book b -- where id = 1\n WHERE b.title = 'it''s' AND b.id = ?";
+
+        // WHEN
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(sql);
+
+        // THEN
+        assertThat(sqlTokens.size()).isEqualTo(19);
+        assertThat(sqlTokens.isWordAt(0, "select")).isTrue();
+        assertThat(sqlTokens.typeAt(1)).isEqualTo(Type.QUOTED_IDENTIFIER);
+        assertThat(sqlTokens.isWordAt(7, "where")).isTrue();
+        assertThat(sqlTokens.typeAt(12)).isEqualTo(Type.STRING_LITERAL);
+        assertThat(sqlTokens.literalValueAt(12)).isEqualTo("it's");
+        assertThat(sqlTokens.typeAt(18)).isEqualTo(Type.PARAMETER);
+
+    }
+
+    @Test public void
+    should_give_the_first_char_of_literal_values() {
+
+        // GIVEN
+        String sql = "select * from book where title like '' or title like '%a' or title like '''a'";
+
+        // WHEN
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(sql);
+
+        // THEN
+        int emptyLiteralIndex = sqlTokens.indexOfWord("like", 0) + 1;
+        assertThat(sqlTokens.typeAt(emptyLiteralIndex)).isEqualTo(Type.STRING_LITERAL);
+        assertThat(sqlTokens.firstLiteralCharAt(emptyLiteralIndex)).isEqualTo('\0');
+        int wildcardLiteralIndex = sqlTokens.indexOfWord("like", emptyLiteralIndex) + 1;
+        assertThat(sqlTokens.firstLiteralCharAt(wildcardLiteralIndex)).isEqualTo('%');
+        int quoteLiteralIndex = sqlTokens.indexOfWord("like", wildcardLiteralIndex) + 1;
+        assertThat(sqlTokens.firstLiteralCharAt(quoteLiteralIndex)).isEqualTo('\'');
+
+    }
+
+    @Test public void
+    should_give_parenthesis_depth() {
+
+        // GIVEN
+        String sql = "select * from book where id in (select id from author)";
+
+        // WHEN
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(sql);
+
+        // THEN
+        int nestedSelectIndex = sqlTokens.indexOfWord("select", 1);
+        assertThat(sqlTokens.depthAt(nestedSelectIndex)).isEqualTo(1);
+        assertThat(sqlTokens.depthAt(sqlTokens.size() - 1)).isEqualTo(1);
+        assertThat(sqlTokens.depthAt(0)).isZero();
+
+    }
+
+    @Test public void
+    should_cache_tokens_per_sql_string() {
+
+        // GIVEN
+        String sql = "select isbn from book";
+
+        // WHEN
+        SqlTokens sqlTokens1 = SqlLexer.INSTANCE.lex(sql);
+        SqlTokens sqlTokens2 = SqlLexer.INSTANCE.lex(new String(sql));
+
+        // THEN
+        assertThat(sqlTokens1).isSameAs(sqlTokens2);
+
+    }
+
+    @Test public void
+    should_retrieve_query_type() {
+
+        assertThat(SqlLexer.INSTANCE.lex("-- comment\n select 1").getQueryType()).isEqualTo(QueryType.SELECT);
+        assertThat(SqlLexer.INSTANCE.lex("(select 1) union (select 2)").getQueryType()).isEqualTo(QueryType.SELECT);
+        assertThat(SqlLexer.INSTANCE.lex("with t as (select 1) delete from book").getQueryType()).isEqualTo(QueryType.DELETE);
+        assertThat(SqlLexer.INSTANCE.lex("UPDATE book SET title = ?").getQueryType()).isEqualTo(QueryType.UPDATE);
+        assertThat(SqlLexer.INSTANCE.lex("drop table book").getQueryType()).isEqualTo(QueryType.OTHER);
+
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.baseline;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PerfBaselineRepositoryTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test public void
+    should_write_the_baselines_sorted_by_test_id() throws IOException {
+
+        // GIVEN
+        File baselineFile = new File(temporaryFolder.getRoot(), "quickperf-baselines.txt");
+        PerfBaselineRepository perfBaselineRepository = PerfBaselineRepository.INSTANCE;
+
+        // WHEN
+        perfBaselineRepository.save(baselineFile, "org.Test.b", PerfMetrics.parse("select:2"));
+        perfBaselineRepository.save(baselineFile, "org.Test.a", PerfMetrics.parse("select:5,insert:1"));
+        perfBaselineRepository.save(baselineFile, "org.Test.b", PerfMetrics.parse("select:1"));
+
+        // THEN
+        String content = new String(Files.readAllBytes(baselineFile.toPath()), StandardCharsets.UTF_8);
+        assertThat(content).endsWith("org.Test.a=select:5,insert:1\norg.Test.b=select:1\n");
+        assertThat(perfBaselineRepository.find(baselineFile, "org.Test.a").format()).isEqualTo("select:5,insert:1");
+        assertThat(perfBaselineRepository.find(baselineFile, "org.Test.c")).isNull();
+
+    }
+
+}
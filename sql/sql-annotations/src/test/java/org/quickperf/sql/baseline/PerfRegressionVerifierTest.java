@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.baseline;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.sql.annotation.ExpectNoPerfRegression;
+import org.quickperf.sql.annotation.SqlAnnotationBuilder;
+
+import java.io.File;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PerfRegressionVerifierTest {
+
+    private static final String TEST_ID = "org.quickperf.AClass.a_test";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test public void
+    should_return_a_perf_issue_listing_the_metrics_exceeding_the_baseline_tolerance() {
+
+        // GIVEN
+        PerfMetrics baseline = PerfMetrics.parse("select:2,insert:0,jdbcExecution:10,sqlTimeMs:3");
+        PerfMetrics perfMetrics = PerfMetrics.parse("select:3,insert:1,jdbcExecution:11,sqlTimeMs:6");
+        File baselineFile = new File(temporaryFolder.getRoot(), "quickperf-baselines.txt");
+        PerfBaselineComparison comparison = new PerfBaselineComparison(perfMetrics, baseline, baselineFile, TEST_ID);
+        ExpectNoPerfRegression annotation = SqlAnnotationBuilder.expectNoPerfRegression(10);
+
+        // WHEN
+        PerfIssue perfIssue = PerfRegressionVerifier.INSTANCE.verifyPerfIssue(annotation, comparison);
+
+        // THEN
+        assertThat(perfIssue.getDescription())
+                .contains("(tolerance of 10%)")
+                .contains("But there are in fact 2 regressed metrics:")
+                .contains("select statements: 2 -> 3 (+50%)")
+                .contains("insert statements: 0 -> 1 (no baseline value)")
+                .doesNotContain("JDBC executions") // 10% more
+                .doesNotContain("SQL time"); // Under the time noise
+    }
+
+    @Test public void
+    should_return_no_perf_issue_and_write_the_baseline_if_the_test_has_no_baseline() {
+
+        // GIVEN
+        PerfMetrics perfMetrics = PerfMetrics.parse("select:3");
+        File baselineFile = new File(temporaryFolder.getRoot(), "quickperf-baselines.txt");
+        PerfBaselineComparison comparison = new PerfBaselineComparison(perfMetrics, null, baselineFile, TEST_ID);
+        ExpectNoPerfRegression annotation = SqlAnnotationBuilder.expectNoPerfRegression(0);
+
+        // WHEN
+        PerfIssue perfIssue = PerfRegressionVerifier.INSTANCE.verifyPerfIssue(annotation, comparison);
+
+        // THEN
+        assertThat(perfIssue).isEqualTo(PerfIssue.NONE);
+        PerfMetrics baseline = PerfBaselineRepository.INSTANCE.find(baselineFile, TEST_ID);
+        assertThat(baseline.format()).isEqualTo("select:3");
+
+    }
+
+    @Test public void
+    should_ignore_the_unknown_metrics_of_a_baseline() {
+
+        // WHEN
+        PerfMetrics perfMetrics = PerfMetrics.parse("select:3,heapAllocation:1000,update:x,delete:1");
+
+        // THEN
+        assertThat(perfMetrics.format()).isEqualTo("select:3,delete:1");
+
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.cache;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.Test;
+import org.quickperf.sql.SqlLexer;
+
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlCacheSimulatorTest {
+
+    private static final String SELECT_BOOK = "select * from book where id = ?";
+
+    private static final String COUNT_AUTHORS = "select count(*) from author";
+
+    @Test public void
+    should_count_the_selects_answered_by_lru_caches_invalidated_by_writes() throws NoSuchMethodException {
+
+        // GIVEN
+        List<SqlAccess> accesses = new ArrayList<>();
+        addAccessesOf(accesses, SELECT_BOOK, 1L);
+        addAccessesOf(accesses, SELECT_BOOK, 1L);
+        addAccessesOf(accesses, SELECT_BOOK, 2L);
+        addAccessesOf(accesses, SELECT_BOOK, 1L);
+        addAccessesOf(accesses, COUNT_AUTHORS);
+        addAccessesOf(accesses, "update book set title = ? where id = ?", "Title", 1L);
+        addAccessesOf(accesses, SELECT_BOOK, 1L);
+        addAccessesOf(accesses, COUNT_AUTHORS);
+
+        // WHEN
+        SqlCacheability sqlCacheability = SqlCacheSimulator.INSTANCE.simulate(accesses, new int[]{1, 10});
+
+        // THEN
+        assertThat(sqlCacheability.getSelectCount()).isEqualTo(7);
+        assertThat(sqlCacheability.getHitCount(0)).isEqualTo(1);
+        assertThat(sqlCacheability.getHitCount(1)).isEqualTo(3);
+
+        List<ShapeCacheability> shapeCacheabilities = sqlCacheability.getShapeCacheabilities();
+        assertThat(shapeCacheabilities).hasSize(2);
+        ShapeCacheability bookSelects = shapeCacheabilities.get(0);
+        assertThat(bookSelects.getSql()).isEqualTo(SELECT_BOOK);
+        assertThat(bookSelects.getSelectCount()).isEqualTo(5);
+        assertThat(bookSelects.getHitCount(0)).isEqualTo(1);
+        assertThat(bookSelects.getHitCount(1)).isEqualTo(2);
+        ShapeCacheability authorCounts = shapeCacheabilities.get(1);
+        assertThat(authorCounts.getHitCount(0)).isZero();
+        assertThat(authorCounts.getHitCount(1)).isEqualTo(1);
+
+    }
+
+    @Test public void
+    should_invalidate_all_the_cached_selects_after_a_procedure_call() throws NoSuchMethodException {
+
+        // GIVEN
+        List<SqlAccess> accesses = new ArrayList<>();
+        addAccessesOf(accesses, COUNT_AUTHORS);
+        addAccessesOf(accesses, "commit");
+        addAccessesOf(accesses, COUNT_AUTHORS);
+        addAccessesOf(accesses, "{call archive_books()}");
+        addAccessesOf(accesses, COUNT_AUTHORS);
+        addAccessesOf(accesses, "select 1");
+
+        // WHEN
+        SqlCacheability sqlCacheability = SqlCacheSimulator.INSTANCE.simulate(accesses, new int[]{10});
+
+        // THEN
+        assertThat(sqlCacheability.getSelectCount()).isEqualTo(3);
+        assertThat(sqlCacheability.getHitCount(0)).isEqualTo(1);
+
+    }
+
+    @Test public void
+    should_find_the_tables_of_a_statement() {
+
+        // GIVEN
+        String sql = "select b.id from shop.book b, \"Author\" as a join editor e on e.id = a.editor_id"
+                   + " where b.id in (select book_id from sale)";
+
+        // WHEN
+        List<String> tables = new ArrayList<>(ReferencedTablesParser.INSTANCE.parseTables(SqlLexer.INSTANCE.lex(sql)));
+
+        // THEN
+        assertThat(tables).containsExactly("book", "author", "editor", "sale");
+
+    }
+
+    private void addAccessesOf(List<SqlAccess> accesses, String sql, Object... parameterValues) throws NoSuchMethodException {
+        QueryInfo query = new QueryInfo(sql);
+        if (parameterValues.length > 0) {
+            Method setObject = PreparedStatement.class.getMethod("setObject", int.class, Object.class);
+            List<ParameterSetOperation> parameters = new ArrayList<>();
+            for (int i = 0; i < parameterValues.length; i++) {
+                parameters.add(new ParameterSetOperation(setObject, new Object[]{i + 1, parameterValues[i]}));
+            }
+            query.setParametersList(Collections.singletonList(parameters));
+        }
+        SqlAccessSequenceExtractor.INSTANCE.addAccessesOf(query, accesses);
+    }
+
+}
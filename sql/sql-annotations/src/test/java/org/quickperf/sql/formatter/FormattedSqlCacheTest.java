@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.formatter;
+
+import org.junit.Test;
+import org.quickperf.sql.SqlFormatter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FormattedSqlCacheTest {
+
+    private static class CountingSqlFormatter implements SqlFormatter {
+
+        private final List<String> formattedQueries = new ArrayList<>();
+
+        @Override
+        public String formatQuery(String query) {
+            formattedQueries.add(query);
+            return query.toUpperCase();
+        }
+
+    }
+
+    @Test public void
+    should_format_a_repeated_sql_text_once() {
+
+        // GIVEN
+        FormattedSqlCache formattedSqlCache = new FormattedSqlCache(2);
+        CountingSqlFormatter sqlFormatter = new CountingSqlFormatter();
+
+        // WHEN
+        formattedSqlCache.format("select * from book", sqlFormatter);
+        String formattedSql = formattedSqlCache.format("select * from book", sqlFormatter);
+
+        // THEN
+        assertThat(formattedSql).isEqualTo("SELECT * FROM BOOK");
+        assertThat(sqlFormatter.formattedQueries).containsExactly("select * from book");
+
+    }
+
+    @Test public void
+    should_evict_the_least_recently_used_sql_text() {
+
+        // GIVEN
+        FormattedSqlCache formattedSqlCache = new FormattedSqlCache(2);
+        CountingSqlFormatter sqlFormatter = new CountingSqlFormatter();
+        formattedSqlCache.format("select 1", sqlFormatter);
+        formattedSqlCache.format("select 2", sqlFormatter);
+        formattedSqlCache.format("select 1", sqlFormatter);
+
+        // WHEN
+        formattedSqlCache.format("select 3", sqlFormatter);
+        formattedSqlCache.format("select 1", sqlFormatter);
+        formattedSqlCache.format("select 2", sqlFormatter);
+
+        // THEN
+        assertThat(sqlFormatter.formattedQueries).containsExactly("select 1", "select 2", "select 3", "select 2");
+
+    }
+
+}
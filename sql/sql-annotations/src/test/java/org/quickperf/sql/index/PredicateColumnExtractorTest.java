@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.index;
+
+import org.junit.Test;
+import org.quickperf.sql.SqlLexer;
+import org.quickperf.sql.SqlTokens;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class PredicateColumnExtractorTest {
+
+    @Test public void
+    should_attach_the_qualified_columns_to_the_tables_of_their_aliases() {
+
+        // GIVEN
+        String sql = "SELECT b.title, a.name FROM Book b INNER JOIN Author AS a ON a.id = b.author_id"
+                   + " WHERE b.isbn = ? AND a.name LIKE ? ORDER BY b.title";
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(sql);
+
+        // WHEN
+        Set<PredicateColumn> predicateColumns = PredicateColumnExtractor.INSTANCE.extractPredicateColumns(sqlTokens);
+
+        // THEN
+        assertThat(predicateColumns).extracting("table", "column")
+                                    .containsExactly(tuple("Author", "id")
+                                                   , tuple("Book", "author_id")
+                                                   , tuple("Book", "isbn")
+                                                   , tuple("Author", "name"));
+
+    }
+
+    @Test public void
+    should_attach_the_unqualified_columns_to_the_single_table_of_the_statement() {
+
+        // GIVEN
+        String sql = "UPDATE \"Book\" SET title = ? WHERE isbn IN (?, ?) AND id >= 10";
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(sql);
+
+        // WHEN
+        Set<PredicateColumn> predicateColumns = PredicateColumnExtractor.INSTANCE.extractPredicateColumns(sqlTokens);
+
+        // THEN
+        assertThat(predicateColumns).extracting("table", "column")
+                                    .containsExactly(tuple("Book", "isbn"), tuple("Book", "id"));
+
+    }
+
+    @Test public void
+    should_ignore_function_arguments_and_ambiguous_columns() {
+
+        // GIVEN
+        String sql = "SELECT * FROM Book, Author WHERE lower(Book.title) = ? AND name = ?";
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(sql);
+
+        // WHEN
+        Set<PredicateColumn> predicateColumns = PredicateColumnExtractor.INSTANCE.extractPredicateColumns(sqlTokens);
+
+        // THEN
+        assertThat(predicateColumns).isEmpty();
+
+    }
+
+}
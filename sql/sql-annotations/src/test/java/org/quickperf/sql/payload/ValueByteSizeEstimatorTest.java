@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.payload;
+
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ValueByteSizeEstimatorTest {
+
+    private final ValueByteSizeEstimator estimator = ValueByteSizeEstimator.INSTANCE;
+
+    @Test public void
+    should_estimate_the_byte_size_of_values() {
+
+        // GIVEN
+        byte[] bytes = new byte[300];
+
+        // WHEN
+        long nullSize = estimator.estimateByteSizeOf((Object) null);
+        long bytesSize = estimator.estimateByteSizeOf(bytes);
+        long stringSize = estimator.estimateByteSizeOf("title");
+        long longSize = estimator.estimateByteSizeOf(5L);
+        long timestampSize = estimator.estimateByteSizeOf(new Timestamp(0));
+        long bigDecimalSize = estimator.estimateByteSizeOf(new BigDecimal("12.50"));
+
+        // THEN
+        assertThat(nullSize).isZero();
+        assertThat(bytesSize).isEqualTo(300);
+        assertThat(stringSize).isEqualTo(5);
+        assertThat(longSize).isEqualTo(8);
+        assertThat(timestampSize).isEqualTo(8);
+        assertThat(bigDecimalSize).isEqualTo(6);
+
+    }
+
+    @Test public void
+    should_use_the_given_length_of_a_stream_parameter() throws NoSuchMethodException {
+
+        // GIVEN
+        InputStream stream = new ByteArrayInputStream(new byte[0]);
+        ParameterSetOperation parameterSetOperation = new ParameterSetOperation(
+                java.sql.PreparedStatement.class.getMethod("setBinaryStream", int.class, InputStream.class, long.class)
+              , new Object[]{1, stream, 2048L});
+
+        // WHEN
+        long parameterSize = estimator.estimateByteSizeOf(parameterSetOperation);
+
+        // THEN
+        assertThat(parameterSize).isEqualTo(2048);
+
+    }
+
+}
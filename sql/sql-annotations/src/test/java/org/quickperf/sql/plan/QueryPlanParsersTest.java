@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.plan;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryPlanParsersTest {
+
+    @Test public void
+    should_find_the_tables_fully_scanned_in_a_h2_plan() {
+
+        // GIVEN
+        QueryPlanParser h2QueryPlanParser = QueryPlanParsers.INSTANCE.findParserFor("H2");
+        String plan = "SELECT\n"
+                    + "    B.ID,\n"
+                    + "    A.NAME\n"
+                    + "FROM PUBLIC.BOOK B\n"
+                    + "    /* PUBLIC.BOOK.tableScan */\n"
+                    + "INNER JOIN PUBLIC.AUTHOR A\n"
+                    + "    /* PUBLIC.PRIMARY_KEY_7: ID = B.AUTHOR_ID */\n"
+                    + "    ON 1=1\n"
+                    + "WHERE B.TITLE = ?1";
+
+        // WHEN
+        List<String> fullyScannedTables = h2QueryPlanParser.findFullyScannedTables(plan);
+
+        // THEN
+        assertThat(fullyScannedTables).containsExactly("PUBLIC.BOOK");
+
+    }
+
+    @Test public void
+    should_find_the_tables_fully_scanned_in_a_hsqldb_plan() {
+
+        // GIVEN
+        QueryPlanParser hsqldbQueryPlanParser = QueryPlanParsers.INSTANCE.findParserFor("HSQL Database Engine");
+        String plan = "isDistinctSelect=[false]\n"
+                    + "[range variable 1\n"
+                    + "  join type=INNER\n"
+                    + "  table=BOOK\n"
+                    + "  cardinality=0\n"
+                    + "  access=FULL SCAN\n"
+                    + "  join condition = [index=SYS_IDX_SYS_PK_10092_10093\n"
+                    + "  ]\n"
+                    + "[range variable 2\n"
+                    + "  join type=INNER\n"
+                    + "  table=AUTHOR\n"
+                    + "  cardinality=0\n"
+                    + "  access=INDEX PRED\n";
+
+        // WHEN
+        List<String> fullyScannedTables = hsqldbQueryPlanParser.findFullyScannedTables(plan);
+
+        // THEN
+        assertThat(fullyScannedTables).containsExactly("BOOK");
+
+    }
+
+    @Test public void
+    should_not_find_a_parser_for_an_unknown_database() {
+
+        // WHEN
+        QueryPlanParser queryPlanParser = QueryPlanParsers.INSTANCE.findParserFor("Unknown database");
+
+        // THEN
+        assertThat(queryPlanParser).isNull();
+
+    }
+
+}
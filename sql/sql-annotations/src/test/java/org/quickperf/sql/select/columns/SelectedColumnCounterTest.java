@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2020 the original author or authors.
+ */
+
+package org.quickperf.sql.select.columns;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class SelectedColumnCounterTest {
+
+    @Test public void
+    should_retrieve_metadata_once_per_sql_shape() throws SQLException {
+
+        // GIVEN
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(3);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        ExecutionInfo execInfo = mock(ExecutionInfo.class);
+        when(execInfo.getResult()).thenReturn(resultSet);
+
+        SelectedColumnCounter selectedColumnCounter = new SelectedColumnCounter();
+
+        // WHEN
+        long columnCount1 = selectedColumnCounter.countSelectedColumns(execInfo, aQuery("SELECT id, title, isbn FROM Book WHERE id = 1"));
+        long columnCount2 = selectedColumnCounter.countSelectedColumns(execInfo, aQuery("SELECT id, title, isbn FROM Book WHERE id = 2"));
+
+        // THEN
+        assertThat(columnCount1).isEqualTo(3);
+        assertThat(columnCount2).isEqualTo(3);
+        verify(resultSet, times(1)).getMetaData();
+
+    }
+
+    @Test public void
+    should_not_retrieve_metadata_without_select() {
+
+        // GIVEN
+        ExecutionInfo execInfo = mock(ExecutionInfo.class);
+        SelectedColumnCounter selectedColumnCounter = new SelectedColumnCounter();
+
+        // WHEN
+        long columnCount = selectedColumnCounter.countSelectedColumns(execInfo, aQuery("UPDATE Book SET title = ?"));
+
+        // THEN
+        assertThat(columnCount).isZero();
+        verify(execInfo, never()).getResult();
+
+    }
+
+    private List<QueryInfo> aQuery(String sql) {
+        QueryInfo queryInfo = mock(QueryInfo.class);
+        when(queryInfo.getQuery()).thenReturn(sql);
+        return singletonList(queryInfo);
+    }
+
+}
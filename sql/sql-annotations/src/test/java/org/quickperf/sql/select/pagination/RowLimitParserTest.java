@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.select.pagination;
+
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.Test;
+import org.quickperf.sql.SqlLexer;
+import org.quickperf.sql.SqlTokens;
+
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RowLimitParserTest {
+
+    private final RowLimitParser rowLimitParser = RowLimitParser.INSTANCE;
+
+    @Test public void
+    should_find_an_offset_given_with_a_literal() {
+
+        // GIVEN
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex("SELECT * FROM Book ORDER BY id OFFSET 200 ROWS FETCH NEXT 10 ROWS ONLY");
+
+        // WHEN
+        long offset = rowLimitParser.findOffset(sqlTokens, Collections.<ParameterSetOperation>emptyList());
+
+        // THEN
+        assertThat(offset).isEqualTo(200);
+        assertThat(rowLimitParser.hasRowLimit(sqlTokens)).isTrue();
+
+    }
+
+    @Test public void
+    should_find_an_offset_given_with_a_bind_parameter() throws NoSuchMethodException {
+
+        // GIVEN
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex("SELECT * FROM Book WHERE title = ? LIMIT ? OFFSET ?");
+        List<ParameterSetOperation> parameters = Arrays.asList(setString(1, "title"), setInt(2, 10), setInt(3, 500));
+
+        // WHEN
+        long offset = rowLimitParser.findOffset(sqlTokens, parameters);
+
+        // THEN
+        assertThat(offset).isEqualTo(500);
+
+    }
+
+    @Test public void
+    should_find_the_offset_of_a_my_sql_limit_clause() {
+
+        // GIVEN
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex("SELECT * FROM Book LIMIT 40, 20");
+
+        // WHEN
+        long offset = rowLimitParser.findOffset(sqlTokens, Collections.<ParameterSetOperation>emptyList());
+
+        // THEN
+        assertThat(offset).isEqualTo(40);
+
+    }
+
+    @Test public void
+    should_not_consider_a_limited_sub_query_as_a_row_limit() {
+
+        // GIVEN
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex("SELECT * FROM Book WHERE id IN (SELECT id FROM Book LIMIT 10 OFFSET 5)");
+
+        // WHEN
+        boolean rowLimit = rowLimitParser.hasRowLimit(sqlTokens);
+        long offset = rowLimitParser.findOffset(sqlTokens, Collections.<ParameterSetOperation>emptyList());
+
+        // THEN
+        assertThat(rowLimit).isFalse();
+        assertThat(offset).isEqualTo(RowLimitParser.NO_OFFSET);
+
+    }
+
+    @Test public void
+    should_find_top_and_rownum_row_limits() {
+
+        // GIVEN
+        SqlTokens top = SqlLexer.INSTANCE.lex("SELECT TOP 10 * FROM Book");
+        SqlTokens rownum = SqlLexer.INSTANCE.lex("SELECT * FROM (SELECT * FROM Book) WHERE ROWNUM <= ?");
+
+        // WHEN
+        boolean topIsRowLimit = rowLimitParser.hasRowLimit(top);
+        boolean rownumIsRowLimit = rowLimitParser.hasRowLimit(rownum);
+
+        // THEN
+        assertThat(topIsRowLimit).isTrue();
+        assertThat(rownumIsRowLimit).isTrue();
+
+    }
+
+    private ParameterSetOperation setString(int index, String value) throws NoSuchMethodException {
+        Method setString = PreparedStatement.class.getMethod("setString", int.class, String.class);
+        return new ParameterSetOperation(setString, new Object[]{index, value});
+    }
+
+    private ParameterSetOperation setInt(int index, int value) throws NoSuchMethodException {
+        Method setInt = PreparedStatement.class.getMethod("setInt", int.class, int.class);
+        return new ParameterSetOperation(setInt, new Object[]{index, value});
+    }
+
+}
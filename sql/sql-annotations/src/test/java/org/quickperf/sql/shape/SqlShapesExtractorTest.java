@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.shape;
+
+import org.junit.Test;
+import org.quickperf.sql.SqlLexer;
+import org.quickperf.sql.SqlTokens;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlShapesExtractorTest {
+
+    @Test public void
+    should_find_the_size_of_each_in_list() {
+
+        // GIVEN
+        String sql = "SELECT * FROM Book WHERE id IN (?, ?, ?) AND isbn in ('a', 'b') OR title IN(?)";
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(sql);
+
+        // WHEN
+        List<Integer> inListArities = SqlShapesExtractor.findInListArities(sqlTokens);
+
+        // THEN
+        assertThat(inListArities).containsExactly(3, 2, 1);
+
+    }
+
+    @Test public void
+    should_ignore_sub_queries_and_row_values() {
+
+        // GIVEN
+        String sql = "SELECT * FROM Book WHERE id IN (SELECT id FROM Author) AND (id, isbn) IN ((?, ?), (?, ?))";
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex(sql);
+
+        // WHEN
+        List<Integer> inListArities = SqlShapesExtractor.findInListArities(sqlTokens);
+
+        // THEN
+        assertThat(inListArities).isEmpty();
+
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.time;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyHistogramTest {
+
+    @Test public void
+    should_not_let_a_single_outlier_drive_the_99th_percentile() {
+
+        // GIVEN
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 199; i++) {
+            histogram.record(100_000);
+        }
+        histogram.record(250_000_000);
+
+        // WHEN
+        long p99InNs = histogram.findPercentileInNs(99);
+
+        // THEN
+        assertThat(p99InNs).isCloseTo(100_000, within(100_000L / 32));
+        assertThat(histogram.getMaxInNs()).isEqualTo(250_000_000);
+        assertThat(histogram.getCount()).isEqualTo(200);
+        assertThat(histogram.getTotalInNs()).isEqualTo(199 * 100_000L + 250_000_000);
+
+    }
+
+    @Test public void
+    should_keep_a_relative_error_below_one_thirty_second_whatever_the_latency() {
+
+        for (long latency = 1; latency < Long.MAX_VALUE / 4; latency = latency * 3 + 7) {
+
+            // WHEN
+            int bucketIndex = LatencyHistogram.bucketIndexOf(latency);
+            long highestLatencyOfBucket = LatencyHistogram.highestLatencyOf(bucketIndex);
+
+            // THEN
+            assertThat(highestLatencyOfBucket).isGreaterThanOrEqualTo(latency);
+            assertThat((double) (highestLatencyOfBucket - latency) / latency).isLessThan(1d / 32);
+
+        }
+
+    }
+
+    @Test public void
+    should_return_zero_if_nothing_was_recorded() {
+
+        // GIVEN
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // WHEN
+        long p50InNs = histogram.findPercentileInNs(50);
+
+        // THEN
+        assertThat(p50InNs).isZero();
+
+    }
+
+}
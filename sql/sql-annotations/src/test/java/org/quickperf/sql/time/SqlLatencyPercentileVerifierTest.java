@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.time;
+
+import org.junit.Test;
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.sql.annotation.ExpectSqlLatencyPercentile;
+import org.quickperf.sql.annotation.SqlAnnotationBuilder;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlLatencyPercentileVerifierTest {
+
+    @Test public void
+    should_return_a_perf_issue_listing_the_shapes_exceeding_the_percentile_latency() {
+
+        // GIVEN
+        ShapeLatency fastShape = new ShapeLatency("select * from Book where id = 1");
+        ShapeLatency slowShape = new ShapeLatency("select * from Book where title = 'Book'");
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 10; i++) {
+            fastShape.getHistogram().record(50_000);
+            slowShape.getHistogram().record(2_000_000);
+            histogram.record(50_000);
+            histogram.record(2_000_000);
+        }
+        SqlLatencies sqlLatencies = new SqlLatencies(histogram, Arrays.asList(fastShape, slowShape));
+        ExpectSqlLatencyPercentile annotation = SqlAnnotationBuilder.expectSqlLatencyPercentile(90, 1_000);
+
+        // WHEN
+        PerfIssue perfIssue = SqlLatencyPercentileVerifier.INSTANCE.verifyPerfIssue(annotation, sqlLatencies);
+
+        // THEN
+        assertThat(perfIssue.getDescription())
+                .contains("You may think that the p90 SQL latency is at most 1000.0 µs.")
+                .contains("But it is in fact 2000.0 µs over 20 execution(s).")
+                .contains("select * from Book where title = 'Book'")
+                .doesNotContain("select * from Book where id = 1");
+
+    }
+
+    @Test public void
+    should_not_return_a_perf_issue_if_the_percentile_latency_is_below_the_max() {
+
+        // GIVEN
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(50_000);
+        SqlLatencies sqlLatencies = new SqlLatencies(histogram, Arrays.<ShapeLatency>asList());
+        ExpectSqlLatencyPercentile annotation = SqlAnnotationBuilder.expectSqlLatencyPercentile(99, 100);
+
+        // WHEN
+        PerfIssue perfIssue = SqlLatencyPercentileVerifier.INSTANCE.verifyPerfIssue(annotation, sqlLatencies);
+
+        // THEN
+        assertThat(perfIssue).isEqualTo(PerfIssue.NONE);
+
+    }
+
+}
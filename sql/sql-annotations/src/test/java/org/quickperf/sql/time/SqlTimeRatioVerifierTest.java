@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.time;
+
+import org.junit.Test;
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.sql.annotation.ExpectMaxSqlTimeRatio;
+import org.quickperf.sql.annotation.SqlAnnotationBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlTimeRatioVerifierTest {
+
+    @Test public void
+    should_return_a_perf_issue_detailing_the_sql_time_if_its_ratio_exceeds_the_max() {
+
+        // GIVEN
+        SqlTime sqlTime = new SqlTime(10_000_000
+                                    , 5_000_000, 4
+                                    , 1_000_000, 2
+                                    , 500_000, 1);
+        ExpectMaxSqlTimeRatio annotation = SqlAnnotationBuilder.expectMaxSqlTimeRatio(0.5);
+
+        // WHEN
+        PerfIssue perfIssue = SqlTimeRatioVerifier.INSTANCE.verifyPerfIssue(annotation, sqlTime);
+
+        // THEN
+        assertThat(perfIssue.getDescription())
+                .contains("You may think that at most 50.0% of the test method execution time is spent in JDBC calls.")
+                .contains("But it is 65.0%.")
+                .contains("SQL time: 6.5 ms (65.0% of the test method execution time)")
+                .contains("statement executions: 5.0 ms (4 JDBC execution(s))")
+                .contains("result set iterations: 1.0 ms (2 result set(s))")
+                .contains("connection acquisitions: 0.5 ms (1 connection(s))");
+
+    }
+
+    @Test public void
+    should_not_return_a_perf_issue_if_the_sql_time_ratio_is_below_the_max() {
+
+        // GIVEN
+        SqlTime sqlTime = new SqlTime(10_000_000
+                                    , 2_000_000, 1
+                                    , 0, 0
+                                    , 0, 0);
+        ExpectMaxSqlTimeRatio annotation = SqlAnnotationBuilder.expectMaxSqlTimeRatio(0.5);
+
+        // WHEN
+        PerfIssue perfIssue = SqlTimeRatioVerifier.INSTANCE.verifyPerfIssue(annotation, sqlTime);
+
+        // THEN
+        assertThat(perfIssue).isEqualTo(PerfIssue.NONE);
+
+    }
+
+}
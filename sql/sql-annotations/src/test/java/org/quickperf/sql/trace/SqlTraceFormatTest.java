@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.trace;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.quickperf.sql.LargeParameterValue;
+import org.quickperf.sql.ParameterCapturePolicy;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlTraceFormatTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test public void
+    should_read_the_written_executions() throws IOException {
+
+        // GIVEN
+        Timestamp timestamp = new Timestamp(1600000000123L);
+        timestamp.setNanos(123456789);
+        SqlTraceQuery select = new SqlTraceQuery("select *\n\tfrom book where title = ? and price < ?"
+                                               , Arrays.<Object>asList("It's\ta \\ title", new BigDecimal("12.50")));
+        SqlTraceQuery firstInsert = new SqlTraceQuery("insert into book values (?, ?, ?, ?, ?)"
+                                                    , Arrays.<Object>asList(1L, null, new SqlNull(Types.VARCHAR), timestamp, new byte[]{1, -2}));
+        SqlTraceQuery secondInsert = new SqlTraceQuery("insert into book values (?, ?, ?, ?, ?)"
+                                                     , Arrays.<Object>asList(2L, 3, true, 1.5d, ""));
+        List<SqlTraceEntry> entries = Arrays.asList(
+                  new SqlTraceEntry(0, SqlTraceEntry.Kind.PREPARED, false, Collections.singletonList(select))
+                , new SqlTraceEntry(1500, SqlTraceEntry.Kind.PREPARED, true, Arrays.asList(firstInsert, secondInsert))
+                , new SqlTraceEntry(20, SqlTraceEntry.Kind.STATEMENT, false, Collections.singletonList(new SqlTraceQuery("commit", Collections.emptyList()))));
+        File traceFile = temporaryFolder.newFile("test.sqltrace");
+
+        // WHEN
+        SqlTraceFormat.INSTANCE.write(traceFile, entries);
+        List<SqlTraceEntry> readEntries = SqlTraceFormat.INSTANCE.read(traceFile);
+
+        // THEN
+        assertThat(readEntries).hasSize(3);
+
+        SqlTraceEntry readSelect = readEntries.get(0);
+        assertThat(readSelect.getKind()).isEqualTo(SqlTraceEntry.Kind.PREPARED);
+        assertThat(readSelect.isBatch()).isFalse();
+        assertThat(readSelect.getQueries().get(0).getSql()).isEqualTo(select.getSql());
+        assertThat(readSelect.getQueries().get(0).getParameters()).isEqualTo(select.getParameters());
+
+        SqlTraceEntry readInsert = readEntries.get(1);
+        assertThat(readInsert.getGapInMicros()).isEqualTo(1500);
+        assertThat(readInsert.isBatch()).isTrue();
+        assertThat(readInsert.getQueries()).hasSize(2);
+        List<Object> firstInsertParameters = readInsert.getQueries().get(0).getParameters();
+        assertThat(firstInsertParameters.get(0)).isEqualTo(1L);
+        assertThat(((SqlNull) firstInsertParameters.get(1)).getSqlType()).isNull();
+        assertThat(((SqlNull) firstInsertParameters.get(2)).getSqlType()).isEqualTo(Types.VARCHAR);
+        assertThat(firstInsertParameters.get(3)).isEqualTo(timestamp);
+        assertThat((byte[]) firstInsertParameters.get(4)).containsExactly(1, -2);
+        assertThat(readInsert.getQueries().get(1).getParameters()).containsExactly(2L, 3, true, 1.5d, "");
+
+        SqlTraceEntry readCommit = readEntries.get(2);
+        assertThat(readCommit.getKind()).isEqualTo(SqlTraceEntry.Kind.STATEMENT);
+        assertThat(readCommit.getQueries().get(0).getSql()).isEqualTo("commit");
+        assertThat(readCommit.getQueries().get(0).getParameters()).isEmpty();
+
+    }
+
+    @Test public void
+    should_replace_a_large_value_by_a_generated_value_of_the_same_length() {
+
+        // GIVEN
+        SqlTraceFormat sqlTraceFormat = SqlTraceFormat.INSTANCE;
+        char[] text = new char[5000];
+        Arrays.fill(text, 'a');
+        Object largeText = ParameterCapturePolicy.INSTANCE.bound(new String(text));
+
+        // WHEN
+        String encodedValue = sqlTraceFormat.encode(largeText);
+        Object replayedValue = sqlTraceFormat.decode(encodedValue);
+
+        // THEN
+        assertThat(largeText).isInstanceOf(LargeParameterValue.class);
+        assertThat(encodedValue).isEqualTo("Lc5000");
+        assertThat((String) replayedValue).hasSize(5000);
+
+    }
+
+}
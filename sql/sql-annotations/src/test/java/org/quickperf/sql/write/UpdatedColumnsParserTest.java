@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.write;
+
+import org.junit.Test;
+import org.quickperf.sql.SqlLexer;
+import org.quickperf.sql.SqlTokens;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UpdatedColumnsParserTest {
+
+    private final UpdatedColumnsParser parser = UpdatedColumnsParser.INSTANCE;
+
+    @Test public void
+    should_find_the_table_and_the_set_columns_of_an_update() {
+
+        // GIVEN
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex("UPDATE library.Book SET isbn = ?, b.\"TITLE\" = upper(?, 'a,b') WHERE id = ?");
+
+        // WHEN
+        String table = parser.findTable(sqlTokens);
+
+        // THEN
+        assertThat(table).isEqualTo("book");
+        assertThat(parser.findSetColumns(sqlTokens)).containsExactly("isbn", "title");
+
+    }
+
+    @Test public void
+    should_not_find_set_columns_without_set_clause() {
+
+        // GIVEN
+        SqlTokens sqlTokens = SqlLexer.INSTANCE.lex("DELETE FROM book WHERE id = ?");
+
+        // WHEN
+        String table = parser.findTable(sqlTokens);
+
+        // THEN
+        assertThat(table).isNull();
+        assertThat(parser.findSetColumns(sqlTokens)).isEmpty();
+
+    }
+
+}
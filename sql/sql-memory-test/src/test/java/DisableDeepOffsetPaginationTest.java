@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.jvm.allocation.AllocationUnit;
+import org.quickperf.jvm.annotations.HeapSize;
+import org.quickperf.sql.annotation.DisableDeepOffsetPagination;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class DisableDeepOffsetPaginationTest {
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodSkippingManyRows extends SqlTestBase {
+
+        @DisableDeepOffsetPagination(maxOffset = 100)
+        @Test
+        public void select_a_deep_page() {
+            EntityManager em = emf.createEntityManager();
+            Query query = em.createQuery("FROM Book b ORDER BY b.id")
+                            .setFirstResult(500)
+                            .setMaxResults(10);
+            query.getResultList();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_the_offset_is_greater_than_expected() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodSkippingManyRows.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("You may think that at most <100> rows are skipped with an offset.")
+                .contains("offset of <500> rows")
+                .contains("keyset pagination");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodSkippingFewRowsInASpecificJvm extends SqlTestBase {
+
+        @HeapSize(value = 20, unit = AllocationUnit.MEGA_BYTE)
+        @DisableDeepOffsetPagination(maxOffset = 100)
+        @Test
+        public void select_a_first_page() {
+            EntityManager em = emf.createEntityManager();
+            Query query = em.createQuery("FROM Book b ORDER BY b.id")
+                            .setFirstResult(20)
+                            .setMaxResults(10);
+            query.getResultList();
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_the_offset_is_less_than_expected_in_a_specific_jvm() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodSkippingFewRowsInASpecificJvm.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.DisableFullRowUpdates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class DisableFullRowUpdatesTest {
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class TitleModifiedWithAnEntityUpdate extends SqlTestBase {
+
+        @DisableFullRowUpdates
+        @Test
+        public void modify_the_title_of_a_book() {
+            Book book = new Book();
+            book.setTitle("Manon");
+            book.setIsbn("12");
+            executeInATransaction(entityManager -> entityManager.persist(book));
+            executeInATransaction(entityManager -> entityManager.find(Book.class, book.getId()).setTitle("Lescaut"));
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_an_update_sets_all_the_columns_of_the_table() {
+
+        // GIVEN
+        Class<?> testClass = TitleModifiedWithAnEntityUpdate.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+        assertThat(printableResult.toString())
+                .contains("But <1> UPDATE statement(s) set all the columns of their table out of the primary key")
+                .contains("2 columns of book are set")
+                .contains("@DynamicUpdate");
+
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.jvm.allocation.AllocationUnit;
+import org.quickperf.jvm.annotations.HeapSize;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.DisablePerRowKeyGeneration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class DisablePerRowKeyGenerationTest {
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodCallingTheSequenceForEachRow extends SqlTestBase {
+
+        @DisablePerRowKeyGeneration
+        @Test
+        public void insert_three_books() {
+            executeInATransaction(entityManager -> {
+                for (int i = 0; i < 3; i++) {
+                    Book book = new Book();
+                    book.setTitle("Book " + i);
+                    entityManager.persist(book);
+                }
+            });
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_the_sequence_is_called_for_each_inserted_row() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodCallingTheSequenceForEachRow.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("Keys are generated with one database round trip per inserted row.")
+                .contains("<3> sequence calls for <3> inserted rows:")
+                .contains("hibernate_sequence")
+                .contains("allocationSize");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodInsertingTwoRows extends SqlTestBase {
+
+        @DisablePerRowKeyGeneration
+        @Test
+        public void insert_two_books() {
+            executeInATransaction(entityManager -> {
+                for (int i = 0; i < 2; i++) {
+                    Book book = new Book();
+                    book.setTitle("Book " + i);
+                    entityManager.persist(book);
+                }
+            });
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_too_few_rows_are_inserted_to_tell_sequence_calls_per_row_from_initial_pooled_calls() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodInsertingTwoRows.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodInsertingOneRow extends SqlTestBase {
+
+        @DisablePerRowKeyGeneration
+        @Test
+        public void insert_one_book() {
+            executeInATransaction(entityManager -> {
+                Book book = new Book();
+                book.setTitle("Book");
+                entityManager.persist(book);
+            });
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_one_row_is_inserted() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodInsertingOneRow.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodRetrievingGeneratedKeysOutOfBatchInASpecificJvm extends SqlTestBase {
+
+        @HeapSize(value = 20, unit = AllocationUnit.MEGA_BYTE)
+        @DisablePerRowKeyGeneration
+        @Test
+        public void insert_two_books_returning_generated_keys() throws SQLException {
+            Connection connection = getConnection();
+            String insert = "insert into Book (id, title) values (?, ?)";
+            try (PreparedStatement statement = connection.prepareStatement(insert, Statement.RETURN_GENERATED_KEYS)) {
+                for (long id = 1; id <= 2; id++) {
+                    statement.setLong(1, id);
+                    statement.setString(2, "Book " + id);
+                    statement.executeUpdate();
+                }
+            }
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_inserts_retrieving_generated_keys_are_not_batched_in_a_specific_jvm() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodRetrievingGeneratedKeysOutOfBatchInASpecificJvm.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("Inserts retrieving generated keys are executed out of a JDBC batch:")
+                .contains("<2> executions of insert into Book (id, title) values (?, ?)")
+                .doesNotContain("sequence calls");
+
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.sql.annotation.DisableSameDeletes;
+import org.quickperf.sql.annotation.EnableSameDeletes;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class DisableSameDeletesTest {
+
+    public static class SqlTestBaseDeletingBooks extends SqlTestBase {
+
+        void deleteTwoBooks(long secondId) {
+            EntityManager em = emf.createEntityManager();
+            em.getTransaction().begin();
+            for (long id : new long[] {40, secondId}) {
+                Query nativeQuery = em.createNativeQuery("DELETE FROM book WHERE id = :id")
+                                      .setParameter("id", id);
+                nativeQuery.executeUpdate();
+            }
+            em.getTransaction().commit();
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class SameDeleteExecutedTwice extends SqlTestBaseDeletingBooks {
+
+        @DisableSameDeletes
+        @Test
+        public void execute_the_same_delete_twice() {
+            deleteTwoBooks(40);
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_the_same_delete_is_executed_several_times_with_the_same_values() {
+
+        // GIVEN
+        Class<?> testClass = SameDeleteExecutedTwice.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+        assertThat(printableResult.toString())
+                .contains("But <1> DELETE statement(s) were executed several times with the same values")
+                .contains("<2> executions of DELETE FROM book WHERE id = ?")
+                .contains("with the values [40]");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class DeletesWithDifferentValues extends SqlTestBaseDeletingBooks {
+
+        @DisableSameDeletes
+        @Test
+        public void execute_the_same_delete_with_different_values() {
+            deleteTwoBooks(41);
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_the_same_delete_is_executed_with_different_values() {
+
+        // GIVEN
+        Class<?> testClass = DeletesWithDifferentValues.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    @DisableSameDeletes
+    public static class SameDeletesEnabledOnAMethod extends SqlTestBaseDeletingBooks {
+
+        @EnableSameDeletes
+        @Test
+        public void execute_the_same_delete_twice() {
+            deleteTwoBooks(40);
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_the_same_deletes_are_enabled() {
+
+        // GIVEN
+        Class<?> testClass = SameDeletesEnabledOnAMethod.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.sql.annotation.DisableSameInserts;
+import org.quickperf.sql.annotation.EnableSameInserts;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class DisableSameInsertsTest {
+
+    public static class SqlTestBaseInsertingBookEvents extends SqlTestBase {
+
+        void insertTwoBookEvents(String secondEvent) {
+            EntityManager em = emf.createEntityManager();
+            em.getTransaction().begin();
+            em.createNativeQuery("CREATE TABLE book_event (event VARCHAR(50))").executeUpdate();
+            for (String event : new String[] {"read", secondEvent}) {
+                Query nativeQuery = em.createNativeQuery("INSERT INTO book_event (event) VALUES (:event)")
+                                      .setParameter("event", event);
+                nativeQuery.executeUpdate();
+            }
+            em.getTransaction().commit();
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class SameInsertExecutedTwice extends SqlTestBaseInsertingBookEvents {
+
+        @DisableSameInserts
+        @Test
+        public void execute_the_same_insert_twice() {
+            insertTwoBookEvents("read");
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_the_same_insert_is_executed_several_times_with_the_same_values() {
+
+        // GIVEN
+        Class<?> testClass = SameInsertExecutedTwice.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+        assertThat(printableResult.toString())
+                .contains("But <1> INSERT statement(s) were executed several times with the same values")
+                .contains("<2> executions of INSERT INTO book_event (event) VALUES (?)")
+                .contains("with the values [read]");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class InsertsWithDifferentValues extends SqlTestBaseInsertingBookEvents {
+
+        @DisableSameInserts
+        @Test
+        public void execute_the_same_insert_with_different_values() {
+            insertTwoBookEvents("lent");
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_the_same_insert_is_executed_with_different_values() {
+
+        // GIVEN
+        Class<?> testClass = InsertsWithDifferentValues.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    @DisableSameInserts
+    public static class SameInsertsEnabledOnAMethod extends SqlTestBaseInsertingBookEvents {
+
+        @EnableSameInserts
+        @Test
+        public void execute_the_same_insert_twice() {
+            insertTwoBookEvents("read");
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_the_same_inserts_are_enabled() {
+
+        // GIVEN
+        Class<?> testClass = SameInsertsEnabledOnAMethod.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+}
@@ -105,4 +105,42 @@ public class DisableSameSelectTypesWithDifferentParamValuesTest {
 
     }
 
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class TwoSameSelectTypesWithDifferentInlineLiterals extends SqlTestBase {
+
+        @Test
+        @DisableSameSelectTypesWithDifferentParamValues
+        public void execute_two_same_select_types_with_diff_inline_literals() {
+
+            EntityManager em = emf.createEntityManager();
+
+            Query query = em.createNativeQuery("SELECT isbn FROM Book WHERE id = 2");
+            query.getResultList();
+
+            Query query2 = em.createNativeQuery("SELECT isbn FROM Book WHERE id=1");
+            query2.getResultList();
+
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_two_same_select_types_with_diff_inline_literals() {
+
+        // GIVEN
+        Class<?> testClass = TwoSameSelectTypesWithDifferentInlineLiterals.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        String testResult = printableResult.toString();
+        assertThat(testResult)
+                .contains("Same SELECT types with different parameter values")
+                .contains("SQL fingerprint: select isbn from book where id = ?");
+
+    }
+
 }
@@ -13,6 +13,8 @@ import org.junit.Test;
 import org.junit.experimental.results.PrintableResult;
 import org.junit.runner.RunWith;
 import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.jvm.allocation.AllocationUnit;
+import org.quickperf.jvm.annotations.HeapSize;
 import org.quickperf.sql.Book;
 import org.quickperf.sql.annotation.DisableSameSelects;
 
@@ -192,4 +194,79 @@ public class DisableSameSelectsTest {
 
     }
 
+    public static class SqlTestBaseSelectingByLargeTitle extends SqlTestBase {
+
+        void selectBooksByTitlesOf2000Characters(char titleCharacter1, char titleCharacter2) {
+            EntityManager em = emf.createEntityManager();
+            String hqlQuery = "FROM " + Book.class.getCanonicalName() + " b WHERE b.title=:titleParam";
+            for (char titleCharacter : new char[]{titleCharacter1, titleCharacter2}) {
+                Query query = em.createQuery(hqlQuery);
+                query.setParameter("titleParam", aTitleOf2000(titleCharacter));
+                query.getResultList();
+            }
+        }
+
+        private String aTitleOf2000(char titleCharacter) {
+            StringBuilder title = new StringBuilder();
+            for (int i = 0; i < 2000; i++) {
+                title.append(titleCharacter);
+            }
+            return title.toString();
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingTwoSameSelectsWithALargeParamValueInASpecificJvm extends SqlTestBaseSelectingByLargeTitle {
+
+        @HeapSize(value = 20, unit = AllocationUnit.MEGA_BYTE)
+        @Test
+        @DisableSameSelects
+        public void execute_two_same_selects_with_a_large_param_value() {
+            selectBooksByTitlesOf2000Characters('a', 'a');
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_two_same_selects_with_a_large_param_value_in_a_specific_jvm() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingTwoSameSelectsWithALargeParamValueInASpecificJvm.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString()).contains("Same SELECT statements");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingTwoSelectsWithDifferentLargeParamValues extends SqlTestBaseSelectingByLargeTitle {
+
+        @Test
+        @DisableSameSelects
+        public void execute_two_selects_with_different_large_param_values() {
+            selectBooksByTitlesOf2000Characters('a', 'b');
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_two_selects_with_different_large_param_values() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingTwoSelectsWithDifferentLargeParamValues.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
 }
@@ -0,0 +1,133 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.sql.annotation.DisableSameUpdates;
+import org.quickperf.sql.annotation.EnableSameUpdates;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class DisableSameUpdatesTest {
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class SameUpdateExecutedTwice extends SqlTestBase {
+
+        @DisableSameUpdates
+        @Test
+        public void execute_the_same_update_twice() {
+            EntityManager em = emf.createEntityManager();
+            em.getTransaction().begin();
+            for (int i = 0; i < 2; i++) {
+                Query nativeQuery = em.createNativeQuery("UPDATE book SET title = :title WHERE id = :id")
+                                      .setParameter("title", "Manon")
+                                      .setParameter("id", 40);
+                nativeQuery.executeUpdate();
+            }
+            em.getTransaction().commit();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_the_same_update_is_executed_several_times_with_the_same_values() {
+
+        // GIVEN
+        Class<?> testClass = SameUpdateExecutedTwice.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+        assertThat(printableResult.toString())
+                .contains("But <1> UPDATE statement(s) were executed several times with the same values")
+                .contains("<2> executions of UPDATE book SET title = ? WHERE id = ?")
+                .contains("with the values [Manon, 40]");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class UpdatesWithDifferentValues extends SqlTestBase {
+
+        @DisableSameUpdates
+        @Test
+        public void execute_the_same_update_with_different_values() {
+            EntityManager em = emf.createEntityManager();
+            em.getTransaction().begin();
+            for (int i = 0; i < 2; i++) {
+                Query nativeQuery = em.createNativeQuery("UPDATE book SET title = :title WHERE id = :id")
+                                      .setParameter("title", "Manon")
+                                      .setParameter("id", i);
+                nativeQuery.executeUpdate();
+            }
+            em.getTransaction().commit();
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_the_same_update_is_executed_with_different_values() {
+
+        // GIVEN
+        Class<?> testClass = UpdatesWithDifferentValues.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    @DisableSameUpdates
+    public static class SameUpdatesEnabledOnAMethod extends SqlTestBase {
+
+        @EnableSameUpdates
+        @Test
+        public void execute_the_same_update_twice() {
+            EntityManager em = emf.createEntityManager();
+            em.getTransaction().begin();
+            for (int i = 0; i < 2; i++) {
+                Query nativeQuery = em.createNativeQuery("UPDATE book SET title = :title WHERE id = :id")
+                                      .setParameter("title", "Manon")
+                                      .setParameter("id", 40);
+                nativeQuery.executeUpdate();
+            }
+            em.getTransaction().commit();
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_the_same_updates_are_enabled() {
+
+        // GIVEN
+        Class<?> testClass = SameUpdatesEnabledOnAMethod.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.sql.annotation.DisableUnpaddedInLists;
+import org.quickperf.sql.annotation.ExpectMaxDistinctSqlShapes;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class DisableUnpaddedInListsTest {
+
+    public static class SqlTestBaseSelectingBooksByIds extends SqlTestBase {
+
+        void selectBooksWithOneTwoAndThreeIds() {
+            EntityManager em = emf.createEntityManager();
+            for (int idCount = 1; idCount <= 3; idCount++) {
+                List<Long> ids = new ArrayList<>();
+                for (long id = 1; id <= idCount; id++) {
+                    ids.add(id);
+                }
+                Query query = em.createQuery("FROM Book b WHERE b.id IN :ids");
+                query.setParameter("ids", ids);
+                query.getResultList();
+            }
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodExecutingInListsOfDifferentSizes extends SqlTestBaseSelectingBooksByIds {
+
+        @DisableUnpaddedInLists
+        @Test
+        public void select_books() {
+            selectBooksWithOneTwoAndThreeIds();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_in_lists_are_not_padded() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodExecutingInListsOfDifferentSizes.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("Statements only differing by the size of their IN-lists are executed.")
+                .contains("<3> distinct statements with IN-list sizes [[1], [2], [3]]")
+                .contains("hibernate.query.in_clause_parameter_padding");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodExecutingPaddedInLists extends SqlTestBaseSelectingBooksByIds {
+
+        @Override
+        protected Properties getHibernateProperties() {
+            Properties hibernateProperties = super.getHibernateProperties();
+            hibernateProperties.setProperty("hibernate.query.in_clause_parameter_padding", "true");
+            return hibernateProperties;
+        }
+
+        @DisableUnpaddedInLists
+        @Test
+        public void select_books() {
+            selectBooksWithOneTwoAndThreeIds();
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_in_lists_are_padded() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodExecutingPaddedInLists.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodExecutingMoreDistinctStatementsThanExpected extends SqlTestBaseSelectingBooksByIds {
+
+        @ExpectMaxDistinctSqlShapes(2)
+        @Test
+        public void select_books() {
+            selectBooksWithOneTwoAndThreeIds();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_the_number_of_distinct_statements_is_greater_than_expected() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodExecutingMoreDistinctStatementsThanExpected.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("You may think that at most <2> distinct SQL statements were executed.")
+                .contains("But there are in fact <3> for <1> SQL shapes...")
+                .contains("Some statements only differ by the size of their IN-lists.");
+
+    }
+
+}
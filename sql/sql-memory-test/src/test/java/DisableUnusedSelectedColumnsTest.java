@@ -0,0 +1,169 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.jvm.allocation.AllocationUnit;
+import org.quickperf.jvm.annotations.HeapSize;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.DisableUnusedSelectedColumns;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class DisableUnusedSelectedColumnsTest {
+
+    public static class SqlTestBaseWithABook extends SqlTestBase {
+
+        void insertABook() {
+            executeInATransaction(entityManager -> {
+                Book book = new Book();
+                book.setTitle("Book");
+                book.setIsbn("isbn");
+                entityManager.persist(book);
+            });
+        }
+
+        void selectAllColumnsAndOnlyReadTitles() {
+            try (Connection connection = getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("select * from Book")) {
+                while (resultSet.next()) {
+                    resultSet.getString("title");
+                }
+            } catch (SQLException sqlException) {
+                throw new IllegalStateException(sqlException);
+            }
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class OnlyTitleReadFromSelectedColumns extends SqlTestBaseWithABook {
+
+        @DisableUnusedSelectedColumns
+        @Test
+        public void select_all_columns_and_only_read_titles() {
+            insertABook();
+            selectAllColumnsAndOnlyReadTitles();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_selected_columns_are_not_read() {
+
+        // GIVEN
+        Class<?> testClass = OnlyTitleReadFromSelectedColumns.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("But some selected columns are never read:")
+                .contains("<2> of the <3> selected columns are never read: ID, ISBN");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class OnlyTitleReadFromSelectedColumnsWithTolerance extends SqlTestBaseWithABook {
+
+        @DisableUnusedSelectedColumns(tolerance = 2)
+        @Test
+        public void select_all_columns_and_only_read_titles() {
+            insertABook();
+            selectAllColumnsAndOnlyReadTitles();
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_unused_columns_are_within_the_tolerance() {
+
+        // GIVEN
+        Class<?> testClass = OnlyTitleReadFromSelectedColumnsWithTolerance.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class EntitiesLoadedWithHibernate extends SqlTestBaseWithABook {
+
+        @DisableUnusedSelectedColumns
+        @Test
+        public void select_books() {
+            insertABook();
+            EntityManager em = emf.createEntityManager();
+            Query query = em.createQuery("FROM " + Book.class.getCanonicalName());
+            query.getResultList();
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_all_the_selected_columns_are_read() {
+
+        // GIVEN
+        Class<?> testClass = EntitiesLoadedWithHibernate.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class OnlyTitleReadFromSelectedColumnsInASpecificJvm extends SqlTestBaseWithABook {
+
+        @HeapSize(value = 20, unit = AllocationUnit.MEGA_BYTE)
+        @DisableUnusedSelectedColumns
+        @Test
+        public void select_all_columns_and_only_read_titles() {
+            insertABook();
+            selectAllColumnsAndOnlyReadTitles();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_selected_columns_are_not_read_in_a_specific_jvm() {
+
+        // GIVEN
+        Class<?> testClass = OnlyTitleReadFromSelectedColumnsInASpecificJvm.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+    }
+
+}
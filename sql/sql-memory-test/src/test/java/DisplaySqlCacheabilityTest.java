@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.DisplaySqlCacheability;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class DisplaySqlCacheabilityTest {
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class SameBooksSelectedSeveralTimes extends SqlTestBase {
+
+        @DisplaySqlCacheability(cacheSizes = {1, 10})
+        @Test
+        public void select_books() {
+            for (long id = 1; id <= 3; id++) {
+                EntityManager em = emf.createEntityManager();
+                em.find(Book.class, 1L);
+                em.find(Book.class, id);
+                em.close();
+            }
+        }
+
+    }
+
+    @Test public void
+    should_display_the_cacheability_without_failing_the_test() {
+
+        // GIVEN
+        Class<?> testClass = SameBooksSelectedSeveralTimes.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.ExpectBoundedSelects;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class ExpectBoundedSelectsTest {
+
+    public static class SqlTestBaseWithThreeBooks extends SqlTestBase {
+
+        void insertThreeBooks() {
+            executeInATransaction(entityManager -> {
+                for (int i = 0; i < 3; i++) {
+                    Book book = new Book();
+                    book.setTitle("Book " + i);
+                    entityManager.persist(book);
+                }
+            });
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodSelectingAllTheBooks extends SqlTestBaseWithThreeBooks {
+
+        @ExpectBoundedSelects(maxRowsWithoutLimit = 2)
+        @Test
+        public void select_all_the_books() {
+            insertThreeBooks();
+            EntityManager em = emf.createEntityManager();
+            em.createQuery("FROM Book").getResultList();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_a_select_without_row_limit_fetches_more_rows_than_expected() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodSelectingAllTheBooks.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("You may think that the selects fetching more than <2> rows have a row limit.")
+                .contains("But <1> selects have no LIMIT, FETCH FIRST, TOP or ROWNUM clause...")
+                .contains("<3> fetched rows");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodSelectingAPageOfBooks extends SqlTestBaseWithThreeBooks {
+
+        @ExpectBoundedSelects(maxRowsWithoutLimit = 2)
+        @Test
+        public void select_a_page_of_books() {
+            insertThreeBooks();
+            EntityManager em = emf.createEntityManager();
+            em.createQuery("FROM Book").setMaxResults(3).getResultList();
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_the_select_has_a_row_limit() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodSelectingAPageOfBooks.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.jvm.allocation.AllocationUnit;
+import org.quickperf.jvm.annotations.HeapSize;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.ExpectIndexedPredicates;
+import org.quickperf.sql.annotation.ExpectSelect;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class ExpectIndexedPredicatesTest {
+
+    public static class SqlTestBaseSelectingBooksByTitle extends SqlTestBase {
+
+        void selectBooksByTitle() {
+            EntityManager em = emf.createEntityManager();
+            Query query = em.createQuery("FROM Book b WHERE b.title = :title");
+            query.setParameter("title", "Book");
+            query.getResultList();
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodSelectingOnANotIndexedColumn extends SqlTestBaseSelectingBooksByTitle {
+
+        @ExpectIndexedPredicates
+        @Test
+        public void select_books_by_title() {
+            selectBooksByTitle();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_a_predicate_column_is_not_indexed() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodSelectingOnANotIndexedColumn.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("You may think that the columns of the WHERE and JOIN predicates are indexed.")
+                .contains("But there are in fact 1 statement(s) comparing columns that are not the leading column of an index...")
+                .contains("unindexed columns: [Book.title]");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodSelectingOnANotIndexedColumnInASpecificJvm extends SqlTestBaseSelectingBooksByTitle {
+
+        @HeapSize(value = 20, unit = AllocationUnit.MEGA_BYTE)
+        @ExpectIndexedPredicates
+        @Test
+        public void select_books_by_title() {
+            selectBooksByTitle();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_a_predicate_column_is_not_indexed_in_a_specific_jvm() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodSelectingOnANotIndexedColumnInASpecificJvm.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString()).contains("unindexed columns: [Book.title]");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodSelectingByPrimaryKey extends SqlTestBase {
+
+        @ExpectIndexedPredicates
+        @ExpectSelect(1)
+        @Test
+        public void select_a_book_by_id() {
+            EntityManager em = emf.createEntityManager();
+            em.find(Book.class, 1L);
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_the_predicate_column_leads_the_primary_key_without_recording_the_metadata_queries() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodSelectingByPrimaryKey.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.jvm.allocation.AllocationUnit;
+import org.quickperf.jvm.annotations.HeapSize;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.ExpectJdbcBatching;
+import org.quickperf.sql.config.MemoryDatabaseHibernateDialect;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.quickperf.sql.config.HibernateConfigBuilder.anHibernateConfig;
+
+public class ExpectJdbcBatchingWithMinEfficiencyTest {
+
+    public static class SqlTestBaseWithBatchSize30 extends SqlTestBase {
+
+        private static final int BATCH_SIZE = 30;
+
+        @Override
+        protected Properties getHibernateProperties() {
+            String hibernateDialect = MemoryDatabaseHibernateDialect.INSTANCE.getHibernateDialect();
+            return   anHibernateConfig()
+                    .withBatchSize(BATCH_SIZE)
+                    .build(hibernateDialect);
+        }
+
+        void insertBooks(int numberOfBooks) {
+            executeInATransaction(entityManager -> {
+                for (int i = 0; i < numberOfBooks; i++) {
+                    Book newBook = new Book();
+                    newBook.setTitle("new book");
+                    if (i % BATCH_SIZE == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                    entityManager.persist(newBook);
+                }
+            });
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class SeventyInsertsInBatchesOf30 extends SqlTestBaseWithBatchSize30 {
+
+        @ExpectJdbcBatching(batchSize = 30, minEfficiencyPercent = 90)
+        @Test
+        public void insert_70_books() {
+            insertBooks(70);
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_the_batches_are_not_filled_enough() {
+
+        // GIVEN
+        Class<?> testClass = SeventyInsertsInBatchesOf30.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("You may think that the JDBC batch efficiency is at least <90%>.")
+                .contains("But it is <78%> for a batch size of <30>:")
+                .contains("<3> batches (rows per batch min/avg/max: 10/23.3/30), <0> executions out of batch, <0> batch breaks");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class SixtyInsertsInBatchesOf30 extends SqlTestBaseWithBatchSize30 {
+
+        @ExpectJdbcBatching(batchSize = 30, minEfficiencyPercent = 90)
+        @Test
+        public void insert_60_books() {
+            insertBooks(60);
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_the_batches_are_filled_enough() {
+
+        // GIVEN
+        Class<?> testClass = SixtyInsertsInBatchesOf30.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+    public static class SqlTestBaseWithInterleavedBatches extends SqlTestBase {
+
+        void insertThenUpdateThenInsertInBatches() throws SQLException {
+            Connection connection = getConnection();
+            try (PreparedStatement insert = connection.prepareStatement("insert into Book (id, title) values (?, ?)");
+                 PreparedStatement update = connection.prepareStatement("update Book set title = ? where id = ?")) {
+                addInsertToBatch(insert, 1L);
+                addInsertToBatch(insert, 2L);
+                insert.executeBatch();
+                update.setString(1, "updated title");
+                update.setLong(2, 1L);
+                update.addBatch();
+                update.executeBatch();
+                addInsertToBatch(insert, 3L);
+                addInsertToBatch(insert, 4L);
+                insert.executeBatch();
+            }
+        }
+
+        private void addInsertToBatch(PreparedStatement insert, long id) throws SQLException {
+            insert.setLong(1, id);
+            insert.setString(2, "title " + id);
+            insert.addBatch();
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class BatchBrokenByAnUpdateInASpecificJvm extends SqlTestBaseWithInterleavedBatches {
+
+        @HeapSize(value = 20, unit = AllocationUnit.MEGA_BYTE)
+        @ExpectJdbcBatching(batchSize = 2, minEfficiencyPercent = 90)
+        @Test
+        public void insert_then_update_then_insert() throws SQLException {
+            insertThenUpdateThenInsertInBatches();
+        }
+
+    }
+
+    @Test public void
+    should_report_batch_breaks_in_a_specific_jvm() {
+
+        // GIVEN
+        Class<?> testClass = BatchBrokenByAnUpdateInASpecificJvm.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("But it is <83%> for a batch size of <2>:")
+                .contains("<2> batches (rows per batch min/avg/max: 2/2.0/2), <0> executions out of batch, <1> batch breaks")
+                .contains("Some batches are broken by the execution of other insert, update or delete statements.");
+
+    }
+
+}
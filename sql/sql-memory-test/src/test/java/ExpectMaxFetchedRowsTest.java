@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.jvm.allocation.AllocationUnit;
+import org.quickperf.jvm.annotations.HeapSize;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.ExpectMaxFetchedRows;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class ExpectMaxFetchedRowsTest {
+
+    public static class SqlTestBaseWithThreeBooks extends SqlTestBase {
+
+        void insertThreeBooks() {
+            executeInATransaction(entityManager -> {
+                for (int i = 0; i < 3; i++) {
+                    Book book = new Book();
+                    book.setTitle("Book " + i);
+                    entityManager.persist(book);
+                }
+            });
+        }
+
+        void selectAllBooks() {
+            EntityManager em = emf.createEntityManager();
+            Query query = em.createQuery("FROM " + Book.class.getCanonicalName());
+            query.getResultList();
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class ThreeRowsFetchedButTwoExpected extends SqlTestBaseWithThreeBooks {
+
+        @ExpectMaxFetchedRows(2)
+        @Test
+        public void select_three_books() {
+            insertThreeBooks();
+            selectAllBooks();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_a_query_fetches_more_rows_than_expected() {
+
+        // GIVEN
+        Class<?> testClass = ThreeRowsFetchedButTwoExpected.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("You may think that at most <2> rows were fetched by a query.")
+                .contains("But <3> rows were fetched by:");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class ThreeRowsFetchedAndThreeExpected extends SqlTestBaseWithThreeBooks {
+
+        @ExpectMaxFetchedRows(3)
+        @Test
+        public void select_three_books() {
+            insertThreeBooks();
+            selectAllBooks();
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_queries_fetch_the_expected_rows() {
+
+        // GIVEN
+        Class<?> testClass = ThreeRowsFetchedAndThreeExpected.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class SixRowsFetchedButFiveExpectedInTotal extends SqlTestBaseWithThreeBooks {
+
+        @ExpectMaxFetchedRows(total = 5)
+        @Test
+        public void select_three_books_twice() {
+            insertThreeBooks();
+            selectAllBooks();
+            selectAllBooks();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_the_total_of_fetched_rows_is_greater_than_expected() {
+
+        // GIVEN
+        Class<?> testClass = SixRowsFetchedButFiveExpectedInTotal.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("You may think that at most <5> rows were fetched by all the queries.");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class ThreeRowsFetchedButTwoExpectedInASpecificJvm extends SqlTestBaseWithThreeBooks {
+
+        @HeapSize(value = 20, unit = AllocationUnit.MEGA_BYTE)
+        @ExpectMaxFetchedRows(2)
+        @Test
+        public void select_three_books() {
+            insertThreeBooks();
+            selectAllBooks();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_a_query_fetches_more_rows_than_expected_in_a_specific_jvm() {
+
+        // GIVEN
+        Class<?> testClass = ThreeRowsFetchedButTwoExpectedInASpecificJvm.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("But <3> rows were fetched by:");
+
+    }
+
+}
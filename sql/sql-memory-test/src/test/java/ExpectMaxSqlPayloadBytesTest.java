@@ -0,0 +1,168 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.jvm.allocation.AllocationUnit;
+import org.quickperf.jvm.annotations.HeapSize;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.ExpectMaxParameterBytes;
+import org.quickperf.sql.annotation.ExpectMaxSqlPayloadBytes;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class ExpectMaxSqlPayloadBytesTest {
+
+    public static class SqlTestBaseWithALongTitle extends SqlTestBase {
+
+        void insertABookWithATitleOf250Characters() {
+            executeInATransaction(entityManager -> {
+                Book book = new Book();
+                StringBuilder title = new StringBuilder();
+                for (int i = 0; i < 250; i++) {
+                    title.append('a');
+                }
+                book.setTitle(title.toString());
+                entityManager.persist(book);
+            });
+        }
+
+        void selectBooks() {
+            EntityManager em = emf.createEntityManager();
+            Query query = em.createQuery("FROM " + Book.class.getCanonicalName());
+            query.getResultList();
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class LongTitleBoundToAnInsert extends SqlTestBaseWithALongTitle {
+
+        @ExpectMaxParameterBytes(200)
+        @Test
+        public void insert_a_book_with_a_long_title() {
+            insertABookWithATitleOf250Characters();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_the_parameters_of_a_query_execution_have_more_bytes_than_expected() {
+
+        // GIVEN
+        Class<?> testClass = LongTitleBoundToAnInsert.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("You may think that at most <200> bytes of parameters were bound to a query execution.")
+                .contains("But about <258> bytes were bound to:")
+                .contains("insert");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class LongTitleReadFromTheDatabase extends SqlTestBaseWithALongTitle {
+
+        @ExpectMaxSqlPayloadBytes(received = 200)
+        @Test
+        public void insert_and_select_a_book_with_a_long_title() {
+            insertABookWithATitleOf250Characters();
+            selectBooks();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_more_bytes_are_received_than_expected() {
+
+        // GIVEN
+        Class<?> testClass = LongTitleReadFromTheDatabase.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("You may think that at most <200> bytes were received from the database.")
+                .contains("But there are in fact about <266>...")
+                .contains("<258> bytes received by <1> executions");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class PayloadWithinBudget extends SqlTestBaseWithALongTitle {
+
+        @ExpectMaxSqlPayloadBytes(2_000)
+        @Test
+        public void insert_and_select_a_book_with_a_long_title() {
+            insertABookWithATitleOf250Characters();
+            selectBooks();
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_the_payload_is_within_the_budget() {
+
+        // GIVEN
+        Class<?> testClass = PayloadWithinBudget.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class LongTitleBoundToAnInsertInASpecificJvm extends SqlTestBaseWithALongTitle {
+
+        @HeapSize(value = 20, unit = AllocationUnit.MEGA_BYTE)
+        @ExpectMaxParameterBytes(200)
+        @Test
+        public void insert_a_book_with_a_long_title() {
+            insertABookWithATitleOf250Characters();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_the_parameters_have_more_bytes_than_expected_in_a_specific_jvm() {
+
+        // GIVEN
+        Class<?> testClass = LongTitleBoundToAnInsertInASpecificJvm.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("But about <258> bytes were bound to:");
+
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.DisplaySqlTime;
+import org.quickperf.sql.annotation.ExpectMaxSqlTimeRatio;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class ExpectMaxSqlTimeRatioTest {
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class SelectsWithANullSqlTimeRatio extends SqlTestBase {
+
+        @ExpectMaxSqlTimeRatio(0)
+        @Test
+        public void execute_selects() {
+            EntityManager em = emf.createEntityManager();
+            Query query = em.createQuery("FROM " + Book.class.getCanonicalName());
+            query.getResultList();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_the_sql_time_ratio_exceeds_the_max() {
+
+        // GIVEN
+        Class<?> testClass = SelectsWithANullSqlTimeRatio.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+        assertThat(printableResult.toString())
+                .contains("You may think that at most 0.0% of the test method execution time is spent in JDBC calls.")
+                .contains("statement executions:")
+                .contains("(1 JDBC execution(s))")
+                .contains("(1 result set(s))")
+                .contains("connection acquisitions:");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class SelectsWithDisplayedSqlTime extends SqlTestBase {
+
+        @ExpectMaxSqlTimeRatio(1)
+        @DisplaySqlTime
+        @Test
+        public void execute_selects() {
+            EntityManager em = emf.createEntityManager();
+            Query query = em.createQuery("FROM " + Book.class.getCanonicalName());
+            query.getResultList();
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_the_sql_time_ratio_is_below_the_max() {
+
+        // GIVEN
+        Class<?> testClass = SelectsWithDisplayedSqlTime.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.jvm.allocation.AllocationUnit;
+import org.quickperf.jvm.annotations.HeapSize;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.ExpectMaxStatementPreparations;
+
+import javax.persistence.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class ExpectMaxStatementPreparationsTest {
+
+    public static class SqlTestBaseSelectingBooks extends SqlTestBase {
+
+        void selectBooksTwiceInATransaction() {
+            executeInATransaction(entityManager -> {
+                for (int i = 0; i < 2; i++) {
+                    Query query = entityManager.createQuery("FROM " + Book.class.getCanonicalName());
+                    query.getResultList();
+                }
+            });
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class SameSelectPreparedTwiceOnAConnection extends SqlTestBaseSelectingBooks {
+
+        @ExpectMaxStatementPreparations(1)
+        @Test
+        public void select_books_twice() {
+            selectBooksTwiceInATransaction();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_more_statements_are_prepared_than_expected() {
+
+        // GIVEN
+        Class<?> testClass = SameSelectPreparedTwiceOnAConnection.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("You may think that at most <1> statements were prepared.")
+                .contains("But there are in fact <2> for <2> executions...")
+                .contains("<2> preparations for <2> executions of <1> distinct SQL texts")
+                .contains("<1> preparations repeat the exact SQL text of a statement already prepared during the test.");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class SelectsDifferingByTheirLiterals extends SqlTestBase {
+
+        @ExpectMaxStatementPreparations(1)
+        @Test
+        public void select_books_with_literal_ids() {
+            executeInATransaction(entityManager -> {
+                entityManager.createNativeQuery("SELECT isbn FROM Book WHERE id = 1").getResultList();
+                entityManager.createNativeQuery("SELECT isbn FROM Book WHERE id = 2").getResultList();
+            });
+        }
+
+    }
+
+    @Test public void
+    should_not_count_sql_texts_differing_by_their_literals_as_repeated_preparations() {
+
+        // GIVEN
+        Class<?> testClass = SelectsDifferingByTheirLiterals.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("<2> preparations for <2> executions of <2> distinct SQL texts")
+                .doesNotContain("preparations repeat the exact SQL text");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class TwoStatementPreparationsExpected extends SqlTestBaseSelectingBooks {
+
+        @ExpectMaxStatementPreparations(2)
+        @Test
+        public void select_books_twice() {
+            selectBooksTwiceInATransaction();
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_statement_preparations_are_within_the_budget() {
+
+        // GIVEN
+        Class<?> testClass = TwoStatementPreparationsExpected.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class SameSelectPreparedTwiceInASpecificJvm extends SqlTestBaseSelectingBooks {
+
+        @HeapSize(value = 20, unit = AllocationUnit.MEGA_BYTE)
+        @ExpectMaxStatementPreparations(1)
+        @Test
+        public void select_books_twice() {
+            selectBooksTwiceInATransaction();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_more_statements_are_prepared_than_expected_in_a_specific_jvm() {
+
+        // GIVEN
+        Class<?> testClass = SameSelectPreparedTwiceInASpecificJvm.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("But there are in fact <2> for <2> executions...");
+
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.jvm.allocation.AllocationUnit;
+import org.quickperf.jvm.annotations.HeapSize;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.DisplayQueryPlans;
+import org.quickperf.sql.annotation.ExpectNoFullTableScan;
+import org.quickperf.sql.annotation.ExpectSelect;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class ExpectNoFullTableScanTest {
+
+    public static class SqlTestBaseSelectingBooksByTitle extends SqlTestBase {
+
+        void selectBooksByTitle() {
+            EntityManager em = emf.createEntityManager();
+            Query query = em.createQuery("FROM Book b WHERE b.title = :title");
+            query.setParameter("title", "Book");
+            query.getResultList();
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodSelectingOnANotIndexedColumn extends SqlTestBaseSelectingBooksByTitle {
+
+        @ExpectNoFullTableScan
+        @Test
+        public void select_books_by_title() {
+            selectBooksByTitle();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_a_table_is_fully_scanned() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodSelectingOnANotIndexedColumn.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("But the execution plans contain full table scans...")
+                .contains("fully scanned tables: [PUBLIC.BOOK]")
+                .contains("Perhaps an index is missing.");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodSelectingOnAnAllowedTableInASpecificJvm extends SqlTestBaseSelectingBooksByTitle {
+
+        @HeapSize(value = 20, unit = AllocationUnit.MEGA_BYTE)
+        @ExpectNoFullTableScan(allowedTables = "book")
+        @Test
+        public void select_books_by_title() {
+            selectBooksByTitle();
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_the_fully_scanned_table_is_allowed_in_a_specific_jvm() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodSelectingOnAnAllowedTableInASpecificJvm.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodSelectingByPrimaryKey extends SqlTestBase {
+
+        @ExpectNoFullTableScan
+        @ExpectSelect(1)
+        @DisplayQueryPlans
+        @Test
+        public void select_a_book_by_id() {
+            EntityManager em = emf.createEntityManager();
+            em.find(Book.class, 1L);
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_the_select_uses_an_index_without_recording_the_explain_statement() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodSelectingByPrimaryKey.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.ExpectNoPerfRegression;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.io.File;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class ExpectNoPerfRegressionTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class SelectsComparedToTheBaseline extends SqlTestBase {
+
+        static int selectCount;
+
+        @ExpectNoPerfRegression(tolerancePercent = 50)
+        @Test
+        public void execute_selects() {
+            EntityManager em = emf.createEntityManager();
+            for (int i = 0; i < selectCount; i++) {
+                Query query = em.createQuery("FROM " + Book.class.getCanonicalName());
+                query.getResultList();
+            }
+        }
+
+    }
+
+    private PrintableResult runWithSelects(int selectCount) {
+        SelectsComparedToTheBaseline.selectCount = selectCount;
+        return testResult(SelectsComparedToTheBaseline.class);
+    }
+
+    // A single test method, the test methods being executed in parallel and the baseline file being given by
+    // a system property
+    @Test public void
+    should_fail_if_a_metric_regressed_compared_to_the_baseline_until_the_baseline_is_rewritten() {
+
+        File baselineFile = new File(temporaryFolder.getRoot(), "quickperf-baselines.txt");
+        System.setProperty("quickPerfBaselineFile", baselineFile.getPath());
+
+        try {
+
+            // GIVEN
+            PrintableResult baselineResult = runWithSelects(1);
+
+            // WHEN
+            PrintableResult regressionResult = runWithSelects(3);
+
+            System.setProperty("updateQuickPerfBaselines", "true");
+            PrintableResult updateResult = runWithSelects(3);
+            System.clearProperty("updateQuickPerfBaselines");
+
+            PrintableResult resultAfterUpdate = runWithSelects(3);
+
+            // THEN
+            assertThat(baselineResult.failureCount()).isZero();
+            assertThat(baselineFile).exists();
+
+            assertThat(regressionResult.failureCount()).isOne();
+            assertThat(regressionResult.toString())
+                    .contains("You may think that the test performance has not regressed compared to its baseline (tolerance of 50%)")
+                    .contains("select statements: 1 -> 3 (+200%)")
+                    .contains("JDBC executions: 1 -> 3 (+200%)")
+                    .contains("-DupdateQuickPerfBaselines=true");
+
+            assertThat(updateResult.failureCount()).isZero();
+            assertThat(resultAfterUpdate.toString()) // The execution time can vary
+                    .doesNotContain("select statements:")
+                    .doesNotContain("JDBC executions:");
+
+        } finally {
+            System.clearProperty("updateQuickPerfBaselines");
+            System.clearProperty("quickPerfBaselineFile");
+        }
+
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.sql.annotation.ExpectMaxSelect;
+import org.quickperf.sql.annotation.ExpectSelect;
+import org.quickperf.sql.config.MemoryDataSourceBuilder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.quickperf.sql.config.QuickPerfSqlDataSourceBuilder.aDataSourceBuilder;
+
+public class ExpectSelectPerDataSourceTest {
+
+    private static void executeSelects(DataSource dataSource, int selectCount) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            for (int i = 0; i < selectCount; i++) {
+                try (PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+                    statement.executeQuery();
+                }
+            }
+        }
+    }
+
+    private static DataSource buildDataSource(String dataSourceName) {
+        DataSource baseDataSource = MemoryDataSourceBuilder.aDataSource().build();
+        return aDataSourceBuilder().buildProxy(baseDataSource, dataSourceName);
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class OneSelectOnTheExpectedDataSource {
+
+        private final DataSource orders = buildDataSource("orders");
+
+        private final DataSource audit = buildDataSource("audit");
+
+        @ExpectSelect(value = 1, dataSource = "orders")
+        @ExpectMaxSelect(value = 2, dataSource = "audit")
+        @Test
+        public void execute_selects_on_two_data_sources() throws SQLException {
+            executeSelects(orders, 1);
+            executeSelects(audit, 2);
+        }
+
+    }
+
+    @Test public void
+    should_count_the_selects_of_the_data_source_given_by_the_annotation() {
+
+        // GIVEN
+        Class<?> testClass = OneSelectOnTheExpectedDataSource.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class TwoSelectsOnADataSourceWithAMaxOfOne {
+
+        private final DataSource orders = buildDataSource("orders");
+
+        private final DataSource audit = buildDataSource("audit");
+
+        @ExpectMaxSelect(value = 1, dataSource = "orders")
+        @Test
+        public void execute_selects_on_two_data_sources() throws SQLException {
+            executeSelects(orders, 2);
+            executeSelects(audit, 5);
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_the_selects_of_the_data_source_exceed_the_budget() {
+
+        // GIVEN
+        Class<?> testClass = TwoSelectsOnADataSourceWithAMaxOfOne.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        String testResult = printableResult.toString();
+        assertThat(testResult)
+                .contains("You may think that at most <1> select statement was sent to the database")
+                .contains("But there are in fact <2>...")
+                .contains("(only the statements of the <orders> data source are counted)")
+                .contains("Name:orders");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class SelectsOnTwoDataSourcesWithoutDataSourceAttribute {
+
+        private final DataSource orders = buildDataSource("orders");
+
+        private final DataSource audit = buildDataSource("audit");
+
+        @ExpectSelect(3)
+        @Test
+        public void execute_selects_on_two_data_sources() throws SQLException {
+            executeSelects(orders, 1);
+            executeSelects(audit, 2);
+        }
+
+    }
+
+    @Test public void
+    should_count_the_selects_of_all_the_data_sources_if_no_data_source_is_given() {
+
+        // GIVEN
+        Class<?> testClass = SelectsOnTwoDataSourcesWithoutDataSourceAttribute.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.jvm.allocation.AllocationUnit;
+import org.quickperf.jvm.annotations.HeapSize;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.DisplaySqlLatency;
+import org.quickperf.sql.annotation.ExpectSqlLatencyPercentile;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class ExpectSqlLatencyPercentileTest {
+
+    public static class SqlTestBaseSelectingBooks extends SqlTestBase {
+
+        void selectTenBooks() {
+            EntityManager em = emf.createEntityManager();
+            for (long id = 1; id <= 10; id++) {
+                em.find(Book.class, id);
+            }
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodWithAnUnreachableLatency extends SqlTestBaseSelectingBooks {
+
+        @ExpectSqlLatencyPercentile(percentile = 50, maxMicros = 0)
+        @Test
+        public void select_books() {
+            selectTenBooks();
+        }
+
+    }
+
+    @Test public void
+    should_fail_if_the_percentile_latency_is_greater_than_expected() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodWithAnUnreachableLatency.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("You may think that the p50 SQL latency is at most 0.0")
+                .contains("over 10 execution(s).")
+                .contains("Shapes exceeding the latency:");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodWithAReachableLatencyInASpecificJvm extends SqlTestBaseSelectingBooks {
+
+        @HeapSize(value = 20, unit = AllocationUnit.MEGA_BYTE)
+        @ExpectSqlLatencyPercentile(maxMicros = 5_000_000)
+        @DisplaySqlLatency
+        @Test
+        public void select_books() {
+            selectTenBooks();
+        }
+
+    }
+
+    @Test public void
+    should_pass_if_the_percentile_latency_is_below_the_max_in_a_specific_jvm() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodWithAReachableLatencyInASpecificJvm.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+}
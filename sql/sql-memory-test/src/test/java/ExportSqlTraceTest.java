@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.sql.annotation.ExportSqlTrace;
+import org.quickperf.sql.config.MemoryDataSourceBuilder;
+import org.quickperf.sql.trace.SqlTraceEntry;
+import org.quickperf.sql.trace.SqlTraceFormat;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.quickperf.sql.config.QuickPerfSqlDataSourceBuilder.aDataSourceBuilder;
+
+public class ExportSqlTraceTest {
+
+    private static final String TRACE_DIRECTORY = "target/export-sql-trace-test";
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class SelectsWithBindValues {
+
+        private final DataSource dataSource = aDataSourceBuilder().buildProxy(MemoryDataSourceBuilder.aDataSource().build());
+
+        @ExportSqlTrace(directory = TRACE_DIRECTORY)
+        @Test
+        public void execute_selects() throws SQLException {
+            try (Connection connection = dataSource.getConnection()) {
+                for (int i = 0; i < 2; i++) {
+                    try (PreparedStatement statement = connection.prepareStatement("SELECT ?, ?")) {
+                        statement.setString(2, "title");
+                        statement.setInt(1, i);
+                        statement.executeQuery();
+                    }
+                }
+            }
+        }
+
+    }
+
+    @Test public void
+    should_export_the_executions_with_their_bind_values() throws IOException {
+
+        // GIVEN
+        Class<?> testClass = SelectsWithBindValues.class;
+        File traceFile = new File(TRACE_DIRECTORY, testClass.getName() + ".execute_selects.sqltrace");
+        traceFile.delete();
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+        List<SqlTraceEntry> entries = SqlTraceFormat.INSTANCE.read(traceFile);
+        assertThat(entries).hasSize(2);
+        SqlTraceEntry secondSelect = entries.get(1);
+        assertThat(secondSelect.getKind()).isEqualTo(SqlTraceEntry.Kind.PREPARED);
+        assertThat(secondSelect.getQueries().get(0).getSql()).isEqualTo("SELECT ?, ?");
+        assertThat(secondSelect.getQueries().get(0).getParameters()).containsExactly(1, "title");
+
+    }
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.jvm.allocation.AllocationUnit;
+import org.quickperf.jvm.annotations.HeapSize;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.ExpectMaxSelect;
+import org.quickperf.sql.annotation.FailFastSqlBudgets;
+
+import javax.persistence.EntityManager;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class FailFastSqlBudgetsTest {
+
+    public static class SqlTestBaseSelectingBooksInALoop extends SqlTestBase {
+
+        int executedSelects;
+
+        void selectBooksOneByOne(int bookNumber) {
+            EntityManager em = emf.createEntityManager();
+            for (long id = 1; id <= bookNumber; id++) {
+                em.find(Book.class, id);
+                executedSelects++;
+            }
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodExceedingTheSelectBudget extends SqlTestBaseSelectingBooksInALoop {
+
+        static int executedSelectsOfTestMethod;
+
+        @FailFastSqlBudgets(factor = 3)
+        @ExpectMaxSelect(5)
+        @Test
+        public void select_books_one_by_one() {
+            try {
+                selectBooksOneByOne(1_000);
+            } finally {
+                executedSelectsOfTestMethod = executedSelects;
+            }
+        }
+
+    }
+
+    @Test public void
+    should_stop_the_test_method_execution_once_the_budget_is_exceeded_by_the_factor() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodExceedingTheSelectBudget.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(AClassHavingAMethodExceedingTheSelectBudget.executedSelectsOfTestMethod).isEqualTo(15);
+
+        assertThat(printableResult.toString())
+                .contains("You may think that at most <5> select statements were sent to the database (@ExpectMaxSelect)")
+                .contains("But there are already <16>, more than 3 times the budget.")
+                .contains("The test method execution is stopped by @FailFastSqlBudgets after this statement:")
+                .contains("SqlTestBaseSelectingBooksInALoop.selectBooksOneByOne")
+                .contains("But there are in fact <16>...");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodExceedingTheSelectBudgetInASpecificJvm extends SqlTestBaseSelectingBooksInALoop {
+
+        @HeapSize(value = 20, unit = AllocationUnit.MEGA_BYTE)
+        @FailFastSqlBudgets
+        @ExpectMaxSelect(1)
+        @Test
+        public void select_books_one_by_one() {
+            selectBooksOneByOne(1_000);
+        }
+
+    }
+
+    @Test public void
+    should_stop_the_test_method_execution_in_a_specific_jvm() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodExceedingTheSelectBudgetInASpecificJvm.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("But there are already <11>, more than 10 times the budget.");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodWithinTheFailFastThreshold extends SqlTestBaseSelectingBooksInALoop {
+
+        @FailFastSqlBudgets(factor = 3)
+        @ExpectMaxSelect(5)
+        @Test
+        public void select_books_one_by_one() {
+            selectBooksOneByOne(10);
+        }
+
+    }
+
+    @Test public void
+    should_verify_the_budget_after_the_test_method_execution_if_the_fail_fast_threshold_is_not_reached() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodWithinTheFailFastThreshold.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("You may think that at most <5> select statements were sent to the database")
+                .doesNotContain("@FailFastSqlBudgets");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodExceedingTheSelectBudgetInAnotherThread extends SqlTestBaseSelectingBooksInALoop {
+
+        @FailFastSqlBudgets(factor = 3)
+        @ExpectMaxSelect(5)
+        @Test
+        public void select_books_one_by_one_in_another_thread() throws Exception {
+            ExecutorService executorService = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> selects = executorService.submit(() -> selectBooksOneByOne(1_000));
+                selects.get();
+            } finally {
+                executorService.shutdown();
+            }
+        }
+
+    }
+
+    @Test public void
+    should_stop_the_selects_of_a_thread_started_by_the_test_method() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodExceedingTheSelectBudgetInAnotherThread.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("But there are already <16>, more than 3 times the budget.");
+
+    }
+
+}
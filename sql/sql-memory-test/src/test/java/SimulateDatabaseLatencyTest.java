@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.annotation.ExpectMaxExecutionTime;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.jvm.allocation.AllocationUnit;
+import org.quickperf.jvm.annotations.HeapSize;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.SimulateDatabaseLatency;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class SimulateDatabaseLatencyTest {
+
+    public static class SqlTestBaseSelectingBooksOneByOne extends SqlTestBase {
+
+        void selectTenBooksOneByOne() {
+            EntityManager em = emf.createEntityManager();
+            for (long id = 1; id <= 10; id++) {
+                em.find(Book.class, id);
+            }
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodSelectingBooksOneByOne extends SqlTestBaseSelectingBooksOneByOne {
+
+        @SimulateDatabaseLatency(perRoundTripMicros = 200_000, jitter = 10_000)
+        @ExpectMaxExecutionTime(seconds = 1, milliSeconds = 500)
+        @Test
+        public void select_books_one_by_one() {
+            selectTenBooksOneByOne();
+        }
+
+    }
+
+    @Test public void
+    should_make_chatty_data_access_exceed_the_max_execution_time() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodSelectingBooksOneByOne.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString()).contains("Execution time of the test method expected to be less than");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodSelectingBooksOneByOneInASpecificJvm extends SqlTestBaseSelectingBooksOneByOne {
+
+        @HeapSize(value = 20, unit = AllocationUnit.MEGA_BYTE)
+        @SimulateDatabaseLatency(perRoundTripMicros = 500)
+        @Test
+        public void select_books_one_by_one() {
+            selectTenBooksOneByOne();
+        }
+
+    }
+
+    @Test public void
+    should_only_report_the_simulated_latency_in_a_specific_jvm() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodSelectingBooksOneByOneInASpecificJvm.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+}
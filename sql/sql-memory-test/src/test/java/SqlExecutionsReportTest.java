@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.jvm.allocation.AllocationUnit;
+import org.quickperf.jvm.annotations.HeapSize;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.ExpectSelect;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class SqlExecutionsReportTest {
+
+    public static class SqlTestBaseExecutingManySelects extends SqlTestBase {
+
+        void executeSeventyOneSelectsOfTwelveShapes() {
+            EntityManager em = emf.createEntityManager();
+            for (long id = 1; id <= 60; id++) {
+                em.find(Book.class, id);
+            }
+            for (int aliasIndex = 0; aliasIndex < 11; aliasIndex++) {
+                em.createNativeQuery("SELECT b.id AS alias" + aliasIndex + " FROM Book b").getResultList();
+            }
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodExecutingManySelects extends SqlTestBaseExecutingManySelects {
+
+        @ExpectSelect(1)
+        @Test
+        public void execute_many_selects() {
+            executeSeventyOneSelectsOfTwelveShapes();
+        }
+
+    }
+
+    @Test public void
+    should_group_the_executions_by_shape_and_write_the_full_listing_to_a_file() throws IOException {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodExecutingManySelects.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        String report = printableResult.toString();
+
+        assertThat(report)
+                .contains("71 executions of 12 SQL shape(s), the 10 most executed shape(s) being displayed")
+                .contains("60 execution(s), total time: ")
+                .contains("... and 2 other shape(s) for 2 execution(s)")
+                .doesNotContain("alias10");
+
+        String fullListing = readFullListing(report);
+        assertThat(fullListing).contains("alias0").contains("alias10");
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class AClassHavingAMethodExecutingManySelectsInASpecificJvm extends SqlTestBaseExecutingManySelects {
+
+        @HeapSize(value = 20, unit = AllocationUnit.MEGA_BYTE)
+        @ExpectSelect(1)
+        @Test
+        public void execute_many_selects() {
+            executeSeventyOneSelectsOfTwelveShapes();
+        }
+
+    }
+
+    @Test public void
+    should_group_the_executions_by_shape_in_a_specific_jvm() {
+
+        // GIVEN
+        Class<?> testClass = AClassHavingAMethodExecutingManySelectsInASpecificJvm.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isOne();
+
+        assertThat(printableResult.toString())
+                .contains("71 executions of 12 SQL shape(s), the 10 most executed shape(s) being displayed");
+
+    }
+
+    private String readFullListing(String report) throws IOException {
+        Matcher matcher = Pattern.compile("Full listing of the executions: (.*)").matcher(report);
+        assertThat(matcher.find()).isTrue();
+        Path listingFile = Paths.get(matcher.group(1).trim());
+        assertThat(listingFile.getParent()).isEqualTo(Paths.get("target", "quickperf").toAbsolutePath());
+        String fullListing = new String(Files.readAllBytes(listingFile), StandardCharsets.UTF_8);
+        Files.delete(listingFile);
+        return fullListing;
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.replay;
+
+import org.quickperf.sql.time.LatencyHistogram;
+import org.quickperf.sql.trace.SqlTraceEntry;
+import org.quickperf.sql.trace.SqlTraceFormat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Replays a SQL trace exported with <code>@ExportSqlTrace</code> against a database, with several concurrent threads,
+ * and measures the throughput and the latency percentiles of the executions.
+ * <br><br>
+ * Each thread replays the whole trace on its own connection, as many times as asked. The time between two
+ * executions of the trace is respected after having been multiplied by a time scale: 0 replays the trace as fast as
+ * possible, 2 replays it twice slower.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      java -cp quick-perf-sql-replay.jar:quick-perf-sql-annotations.jar:quick-perf-core.jar:&lt;jdbc driver jar&gt;
+ *           org.quickperf.sql.replay.SqlTraceReplay
+ *           --trace target/quickperf-sql-traces/org.acme.OrderTest.should_order.sqltrace
+ *           --url jdbc:postgresql://localhost/orders --user app --password secret
+ *           --threads 8 --iterations 100 --time-scale 0
+ * </pre>
+ */
+public class SqlTraceReplay {
+
+    private static final String USAGE =
+              "Usage: SqlTraceReplay --trace <trace file> --url <JDBC URL> [--user <user>] [--password <password>]"
+            + " [--threads <thread count, 1 by default>] [--iterations <iterations per thread, 1 by default>]"
+            + " [--time-scale <multiplier of the time between executions, 1 by default, 0 to ignore it>]";
+
+    private final String url;
+
+    private final String user;
+
+    private final String password;
+
+    public SqlTraceReplay(String url, String user, String password) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+    }
+
+    public SqlTraceReplayResult replay(List<SqlTraceEntry> trace, int threadCount, int iterations, double timeScale)
+            throws InterruptedException {
+
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<SqlTraceReplayWorker> workers = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            workers.add(new SqlTraceReplayWorker(url, user, password, trace, iterations, timeScale, startSignal));
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<SqlTraceReplayWorker>> futures = new ArrayList<>(threadCount);
+            for (SqlTraceReplayWorker worker : workers) {
+                futures.add(executorService.submit(worker));
+            }
+            long start = System.nanoTime();
+            startSignal.countDown();
+            for (Future<SqlTraceReplayWorker> future : futures) {
+                waitFor(future);
+            }
+            long elapsedInNs = System.nanoTime() - start;
+            return buildResult(workers, threadCount, iterations, elapsedInNs);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+    }
+
+    private void waitFor(Future<SqlTraceReplayWorker> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Unable to replay the SQL trace", e.getCause());
+        }
+    }
+
+    private SqlTraceReplayResult buildResult(List<SqlTraceReplayWorker> workers
+                                           , int threadCount
+                                           , int iterations
+                                           , long elapsedInNs) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long errorCount = 0;
+        String firstError = null;
+        for (SqlTraceReplayWorker worker : workers) {
+            histogram.add(worker.getHistogram());
+            errorCount += worker.getErrorCount();
+            if (firstError == null) {
+                firstError = worker.getFirstError();
+            }
+        }
+        return new SqlTraceReplayResult(threadCount, iterations, elapsedInNs, histogram, errorCount, firstError);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+
+        String traceFile = null;
+        String url = null;
+        String user = null;
+        String password = null;
+        int threadCount = 1;
+        int iterations = 1;
+        double timeScale = 1;
+
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                String option = args[i];
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException("No value for " + option);
+                }
+                String value = args[i + 1];
+                if ("--trace".equals(option)) {
+                    traceFile = value;
+                } else if ("--url".equals(option)) {
+                    url = value;
+                } else if ("--user".equals(option)) {
+                    user = value;
+                } else if ("--password".equals(option)) {
+                    password = value;
+                } else if ("--threads".equals(option)) {
+                    threadCount = Integer.parseInt(value);
+                } else if ("--iterations".equals(option)) {
+                    iterations = Integer.parseInt(value);
+                } else if ("--time-scale".equals(option)) {
+                    timeScale = Double.parseDouble(value);
+                } else {
+                    throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (traceFile == null || url == null) {
+                throw new IllegalArgumentException("The trace file and the JDBC URL are required");
+            }
+            if (threadCount < 1 || iterations < 1 || timeScale < 0) {
+                throw new IllegalArgumentException("The thread count and the iterations must be positive, the time scale can't be negative");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        List<SqlTraceEntry> trace = SqlTraceFormat.INSTANCE.read(new File(traceFile));
+        SqlTraceReplay sqlTraceReplay = new SqlTraceReplay(url, user, password);
+        SqlTraceReplayResult result = sqlTraceReplay.replay(trace, threadCount, iterations, timeScale);
+        System.out.println(result.format());
+
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.replay;
+
+import org.quickperf.sql.time.LatencyHistogram;
+
+import java.util.Locale;
+
+/**
+ * Throughput and latency percentiles of a SQL trace replay.
+ */
+public class SqlTraceReplayResult {
+
+    private final int threadCount;
+
+    private final int iterations;
+
+    private final long elapsedInNs;
+
+    private final LatencyHistogram histogram;
+
+    private final long errorCount;
+
+    private final String firstError;
+
+    SqlTraceReplayResult(int threadCount
+                       , int iterations
+                       , long elapsedInNs
+                       , LatencyHistogram histogram
+                       , long errorCount
+                       , String firstError) {
+        this.threadCount = threadCount;
+        this.iterations = iterations;
+        this.elapsedInNs = elapsedInNs;
+        this.histogram = histogram;
+        this.errorCount = errorCount;
+        this.firstError = firstError;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public long getElapsedInNs() {
+        return elapsedInNs;
+    }
+
+    /**
+     * @return the latencies of all the executions, the failed ones included
+     */
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    public long getExecutionCount() {
+        return histogram.getCount();
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * @return the message of the first failed execution, null if all the executions succeeded
+     */
+    public String getFirstError() {
+        return firstError;
+    }
+
+    public double getThroughputPerSecond() {
+        if (elapsedInNs == 0) {
+            return 0;
+        }
+        return histogram.getCount() * 1e9 / elapsedInNs;
+    }
+
+    public String format() {
+        String report = "[QUICK PERF] SQL trace replay: " + threadCount + " thread(s), "
+                      + iterations + " iteration(s) per thread"
+                      + System.lineSeparator()
+                      + String.format(Locale.ENGLISH, "executions: %d, errors: %d, elapsed: %.1f ms, throughput: %.1f executions/s"
+                                     , histogram.getCount(), errorCount, elapsedInNs / 1e6, getThroughputPerSecond())
+                      + System.lineSeparator()
+                      + "latency p50: " + formatLatency(histogram.findPercentileInNs(50))
+                      + ", p90: " + formatLatency(histogram.findPercentileInNs(90))
+                      + ", p99: " + formatLatency(histogram.findPercentileInNs(99))
+                      + ", max: " + formatLatency(histogram.getMaxInNs());
+        if (firstError != null) {
+            report += System.lineSeparator() + "first error: " + firstError;
+        }
+        return report;
+    }
+
+    private String formatLatency(long latencyInNs) {
+        return String.format(Locale.ENGLISH, "%.1f us", latencyInNs / 1000d);
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.replay;
+
+import org.quickperf.sql.time.LatencyHistogram;
+import org.quickperf.sql.trace.SqlNull;
+import org.quickperf.sql.trace.SqlTraceEntry;
+import org.quickperf.sql.trace.SqlTraceQuery;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays the trace on its own connection and records the latency of each execution. A failed execution is counted
+ * as an error and the replay goes on with the next one.
+ */
+class SqlTraceReplayWorker implements Callable<SqlTraceReplayWorker> {
+
+    private final String url;
+
+    private final String user;
+
+    private final String password;
+
+    private final List<SqlTraceEntry> trace;
+
+    private final int iterations;
+
+    private final double timeScale;
+
+    private final CountDownLatch startSignal;
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    private long errorCount;
+
+    private String firstError;
+
+    SqlTraceReplayWorker(String url
+                       , String user
+                       , String password
+                       , List<SqlTraceEntry> trace
+                       , int iterations
+                       , double timeScale
+                       , CountDownLatch startSignal) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.trace = trace;
+        this.iterations = iterations;
+        this.timeScale = timeScale;
+        this.startSignal = startSignal;
+    }
+
+    @Override
+    public SqlTraceReplayWorker call() throws SQLException, InterruptedException {
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            startSignal.await();
+            for (int iteration = 0; iteration < iterations; iteration++) {
+                replayTrace(connection);
+            }
+        }
+        return this;
+    }
+
+    private void replayTrace(Connection connection) {
+        // The executions are scheduled from the start of the iteration, so that the
+        // execution times don't delay the next executions
+        long iterationStart = System.nanoTime();
+        long gapsInMicros = 0;
+        for (SqlTraceEntry entry : trace) {
+            gapsInMicros += entry.getGapInMicros();
+            waitUntil(iterationStart + (long) (TimeUnit.MICROSECONDS.toNanos(gapsInMicros) * timeScale));
+            long start = System.nanoTime();
+            try {
+                execute(entry, connection);
+            } catch (SQLException e) {
+                recordError(entry, e);
+            }
+            histogram.record(System.nanoTime() - start);
+        }
+    }
+
+    private void waitUntil(long nanoTime) {
+        long remainingNanos;
+        while ((remainingNanos = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remainingNanos);
+        }
+    }
+
+    private void recordError(SqlTraceEntry entry, SQLException e) {
+        errorCount++;
+        if (firstError == null) {
+            firstError = e.getMessage() + " (" + entry.getQueries().get(0).getSql() + ")";
+        }
+    }
+
+    private void execute(SqlTraceEntry entry, Connection connection) throws SQLException {
+        List<SqlTraceQuery> queries = entry.getQueries();
+        if (entry.getKind() == SqlTraceEntry.Kind.STATEMENT) {
+            try (Statement statement = connection.createStatement()) {
+                if (entry.isBatch()) {
+                    for (SqlTraceQuery query : queries) {
+                        statement.addBatch(query.getSql());
+                    }
+                    statement.executeBatch();
+                } else {
+                    consumeResults(statement, statement.execute(queries.get(0).getSql()));
+                }
+            }
+            return;
+        }
+        String sql = queries.get(0).getSql();
+        try (PreparedStatement statement = entry.getKind() == SqlTraceEntry.Kind.CALLABLE
+                                         ? connection.prepareCall(sql)
+                                         : connection.prepareStatement(sql)) {
+            if (entry.isBatch()) {
+                for (SqlTraceQuery query : queries) {
+                    bind(query.getParameters(), statement);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            } else {
+                bind(queries.get(0).getParameters(), statement);
+                consumeResults(statement, statement.execute());
+            }
+        }
+    }
+
+    private void bind(List<Object> parameters, PreparedStatement statement) throws SQLException {
+        for (int i = 0; i < parameters.size(); i++) {
+            Object parameter = parameters.get(i);
+            int parameterIndex = i + 1;
+            if (parameter instanceof SqlNull) {
+                Integer sqlType = ((SqlNull) parameter).getSqlType();
+                if (sqlType == null) {
+                    statement.setObject(parameterIndex, null);
+                } else {
+                    statement.setNull(parameterIndex, sqlType);
+                }
+            } else if (parameter instanceof byte[]) {
+                statement.setBytes(parameterIndex, (byte[]) parameter);
+            } else {
+                statement.setObject(parameterIndex, parameter);
+            }
+        }
+    }
+
+    private void consumeResults(Statement statement, boolean resultSetIsReturned) throws SQLException {
+        boolean resultSet = resultSetIsReturned;
+        while (resultSet || statement.getUpdateCount() != -1) {
+            if (resultSet) {
+                try (ResultSet rows = statement.getResultSet()) {
+                    while (rows.next()) {
+                        // The rows are fetched as by the application
+                    }
+                }
+            }
+            resultSet = statement.getMoreResults();
+        }
+    }
+
+    LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    long getErrorCount() {
+        return errorCount;
+    }
+
+    String getFirstError() {
+        return firstError;
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.replay;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.quickperf.sql.trace.SqlTraceEntry;
+import org.quickperf.sql.trace.SqlTraceQuery;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlTraceReplayTest {
+
+    private static final String URL = "jdbc:h2:mem:replay;DB_CLOSE_DELAY=-1";
+
+    @BeforeClass
+    public static void create_table() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table book (id bigint, title varchar(255))");
+        }
+    }
+
+    @Test public void
+    should_replay_the_trace_with_each_thread() throws InterruptedException, SQLException {
+
+        // GIVEN
+        SqlTraceQuery firstInsert = new SqlTraceQuery("insert into book values (?, ?)", Arrays.<Object>asList(1L, "Book 1"));
+        SqlTraceQuery secondInsert = new SqlTraceQuery("insert into book values (?, ?)", Arrays.<Object>asList(2L, "Book 2"));
+        SqlTraceQuery select = new SqlTraceQuery("select * from book where id = ?", Arrays.<Object>asList(1L));
+        List<SqlTraceEntry> trace = Arrays.asList(
+                  new SqlTraceEntry(0, SqlTraceEntry.Kind.PREPARED, true, Arrays.asList(firstInsert, secondInsert))
+                , new SqlTraceEntry(100, SqlTraceEntry.Kind.PREPARED, false, Collections.singletonList(select)));
+        SqlTraceReplay sqlTraceReplay = new SqlTraceReplay(URL, "sa", "");
+
+        // WHEN
+        SqlTraceReplayResult result = sqlTraceReplay.replay(trace, 4, 5, 1);
+
+        // THEN
+        assertThat(result.getExecutionCount()).isEqualTo(4 * 5 * 2);
+        assertThat(result.getErrorCount()).isZero();
+        assertThat(result.getThroughputPerSecond()).isPositive();
+        assertThat(countBooks()).isEqualTo(4 * 5 * 2);
+        assertThat(result.format()).contains("executions: 40, errors: 0")
+                                   .contains("latency p50: ");
+
+    }
+
+    @Test public void
+    should_count_the_failed_executions() throws InterruptedException {
+
+        // GIVEN
+        SqlTraceQuery select = new SqlTraceQuery("select * from unknown_table", Collections.emptyList());
+        List<SqlTraceEntry> trace = Collections.singletonList(
+                new SqlTraceEntry(0, SqlTraceEntry.Kind.STATEMENT, false, Collections.singletonList(select)));
+        SqlTraceReplay sqlTraceReplay = new SqlTraceReplay(URL, "sa", "");
+
+        // WHEN
+        SqlTraceReplayResult result = sqlTraceReplay.replay(trace, 2, 3, 0);
+
+        // THEN
+        assertThat(result.getExecutionCount()).isEqualTo(6);
+        assertThat(result.getErrorCount()).isEqualTo(6);
+        assertThat(result.format()).contains("first error: ")
+                                   .contains("(select * from unknown_table)");
+
+    }
+
+    private long countBooks() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select count(*) from book")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+}
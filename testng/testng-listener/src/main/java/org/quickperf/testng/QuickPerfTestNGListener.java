@@ -77,9 +77,10 @@ public class QuickPerfTestNGListener implements IHookable {
     }
 
     private TestExecutionContext buildTestExecutionContext(ITestResult testResult) {
+        Class<?> testClass = testResult.getTestClass().getRealClass();
         Method testMethod = extractTestMethod(testResult);
         int testNGAllocationOffset = findTestNGAllocationOffset();
-        return TestExecutionContext.buildFrom(quickPerfConfigs, testMethod, testNGAllocationOffset);
+        return TestExecutionContext.buildFrom(quickPerfConfigs, testClass, testMethod, testNGAllocationOffset);
     }
 
     private int findTestNGAllocationOffset() {